@@ -0,0 +1,207 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.HrManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyHrManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.CommandHistoryStorage;
+import seedu.address.storage.HrManagerStorage;
+import seedu.address.storage.JsonHrManagerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.TextCommandHistoryStorage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Sets up the config, storage, model and logic components shared by every way of running the application.
+ * Nothing here depends on the JavaFX toolkit, so it can be used without a display.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+    private final CompletableFuture<ReadOnlyHrManager> initialData;
+
+    /**
+     * Initializes the components using the given {@code appParameters}, with the data loaded into the model.
+     */
+    public AppInitializer(AppParameters appParameters) {
+        this(appParameters, false);
+    }
+
+    /**
+     * Initializes the components using the given {@code appParameters}.
+     * If {@code isLoadingInBackground} is true, the model starts out empty and the data is read on background
+     * threads instead, to be put into the model once {@link #getInitialData()} completes.
+     */
+    public AppInitializer(AppParameters appParameters, boolean isLoadingInBackground) {
+        StartupTimer timer = StartupTimer.start("read config and prefs");
+        config = initConfig(appParameters.getConfigPath());
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        HrManagerStorage hrManagerStorage = new JsonHrManagerStorage(userPrefs.getHrManagerCandidatesFilePath(),
+                userPrefs.getHrManagerPositionsFilePath(), userPrefs.getHrManagerInterviewsFilePath());
+
+        CommandHistoryStorage commandHistoryStorage = new TextCommandHistoryStorage(
+                userPrefs.getHrManagerCandidatesFilePath().resolveSibling(TextCommandHistoryStorage.FILE_NAME));
+
+        storage = new StorageManager(hrManagerStorage, userPrefsStorage, commandHistoryStorage);
+
+        initLogging(config);
+        timer.done();
+
+        Storage dataStorage = storage;
+        if (isLoadingInBackground) {
+            initialData = CompletableFuture.supplyAsync(() -> readInitialData(dataStorage));
+            model = new ModelManager(new HrManager(), userPrefs);
+        } else {
+            initialData = CompletableFuture.completedFuture(readInitialData(dataStorage));
+            model = new ModelManager(initialData.join(), userPrefs);
+        }
+
+        logic = new LogicManager(model, storage);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns the data to start with, which is read on background threads if the data is loaded in the background.
+     */
+    public CompletableFuture<ReadOnlyHrManager> getInitialData() {
+        return initialData;
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private static ReadOnlyHrManager readInitialData(Storage storage) {
+        StartupTimer timer = StartupTimer.start("read data");
+        Optional<ReadOnlyHrManager> addressBookOptional;
+        ReadOnlyHrManager initialData;
+        try {
+            addressBookOptional = storage.readHrManager();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample HR Manager");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleHrManager);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty HR Manager");
+            initialData = new HrManager();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty HR Manager");
+            initialData = new HrManager();
+        }
+
+        timer.done();
+        return initialData;
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty HR Manager");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -14,9 +15,17 @@ import seedu.address.commons.util.FileUtil;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String BATCH_FLAG = "--batch";
+
+    private static final String PARAMETER_PREFIX = "--";
+    private static final int MAX_PORT = 65535;
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path scriptPath;
+    private Integer apiPort;
+    private boolean isBatch;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +35,64 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the port to serve the HTTP API on, or null if the API is not served.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
+    public boolean isBatch() {
+        return isBatch;
+    }
+
+    public void setBatch(boolean isBatch) {
+        this.isBatch = isBatch;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses raw command-line arguments without going through JavaFX, for running without a display.
+     * Arguments of the form {@code --name=value} are named parameters as in
+     * {@link #parse(Application.Parameters)}, and {@code --batch} turns on batch mode.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        boolean isBatch = false;
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith(PARAMETER_PREFIX) && separatorIndex > 0) {
+                namedParameters.put(arg.substring(PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            } else if (arg.equals(BATCH_FLAG)) {
+                isBatch = true;
+            }
+        }
+        AppParameters appParameters = parse(namedParameters);
+        appParameters.setBatch(isBatch);
+        return appParameters;
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,9 +101,32 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("run");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". No script will be run.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String apiPortParameter = namedParameters.get("api-port");
+        if (apiPortParameter != null && !isValidPort(apiPortParameter)) {
+            logger.warning("Invalid API port " + apiPortParameter + ". The API will not be served.");
+            apiPortParameter = null;
+        }
+        appParameters.setApiPort(apiPortParameter != null ? Integer.valueOf(apiPortParameter) : null);
+
         return appParameters;
     }
 
+    private static boolean isValidPort(String port) {
+        try {
+            int value = Integer.parseInt(port);
+            return value >= 0 && value <= MAX_PORT;
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +138,14 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getScriptPath(), otherAppParameters.getScriptPath())
+                && Objects.equals(getApiPort(), otherAppParameters.getApiPort())
+                && isBatch() == otherAppParameters.isBatch();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, apiPort, isBatch);
     }
 }
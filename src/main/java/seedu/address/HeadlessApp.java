@@ -0,0 +1,190 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.api.ApiServer;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.Logic;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.logic.general.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs the application without a GUI, reading commands from standard input and writing their results to standard
+ * output. The JavaFX toolkit is never started, so this works without a display.
+ *
+ * In interactive mode a prompt is shown and failed commands are reported on standard error.
+ * In batch mode, turned on by {@code --batch}, there is no prompt and the first failed command stops the app
+ * with a non-zero exit status.
+ */
+public class HeadlessApp {
+
+    public static final String PROMPT = "> ";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    /**
+     * Represents a function that can execute commands.
+     */
+    @FunctionalInterface
+    public interface CommandExecutor {
+        /**
+         * Executes the command and returns the result.
+         *
+         * @see Logic#execute(String)
+         */
+        CommandResult execute(String commandText) throws CommandException, ParseException;
+    }
+
+    private final CommandExecutor commandExecutor;
+    private final boolean isBatch;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}.
+     */
+    public HeadlessApp(Logic logic, boolean isBatch) {
+        this(requireNonNull(logic)::execute, isBatch);
+    }
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code commandExecutor}.
+     */
+    public HeadlessApp(CommandExecutor commandExecutor, boolean isBatch) {
+        requireNonNull(commandExecutor);
+        this.commandExecutor = commandExecutor;
+        this.isBatch = isBatch;
+    }
+
+    /**
+     * Starts the app with the given command-line arguments and exits with its exit status.
+     */
+    public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        AppInitializer initializer = new AppInitializer(appParameters);
+        ApiServer apiServer = startApiServer(initializer.getLogic(), appParameters.getApiPort());
+        // Commands typed in must wait their turn with those sent to the API.
+        HeadlessApp app = apiServer == null
+                ? new HeadlessApp(initializer.getLogic(), appParameters.isBatch())
+                : new HeadlessApp(apiServer::execute, appParameters.isBatch());
+
+        int status;
+        if (appParameters.getScriptPath() != null) {
+            status = app.execute(RunCommand.COMMAND_WORD + " " + appParameters.getScriptPath(), System.out,
+                    System.err);
+        } else {
+            BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            status = app.run(in, System.out, System.err);
+        }
+
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        savePrefs(initializer.getStorage(), initializer.getModel());
+        System.exit(status);
+    }
+
+    /**
+     * Starts serving the API at {@code apiPort} with a thread of its own to execute commands,
+     * or returns null if {@code apiPort} is null or the API cannot be served.
+     */
+    private static ApiServer startApiServer(Logic logic, Integer apiPort) {
+        if (apiPort == null) {
+            return null;
+        }
+        ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "api-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            ApiServer apiServer = new ApiServer(logic, writer, apiPort);
+            apiServer.start();
+            return apiServer;
+        } catch (IOException ioe) {
+            logger.severe("Failed to serve the API at port " + apiPort + " " + StringUtil.getDetails(ioe));
+            writer.shutdown();
+            return null;
+        }
+    }
+
+    /**
+     * Executes the commands read from {@code in}, one per line, until the input ends or an exit command is given.
+     *
+     * @return the exit status of the app.
+     */
+    public int run(BufferedReader in, PrintStream out, PrintStream err) {
+        try {
+            while (true) {
+                if (!isBatch) {
+                    out.print(PROMPT);
+                    out.flush();
+                }
+                String line = in.readLine();
+                if (line == null) {
+                    return EXIT_SUCCESS;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                CommandResult result = executeAndReport(line, out, err);
+                if (result == null && isBatch) {
+                    return EXIT_COMMAND_FAILED;
+                }
+                if (result != null && result.getCommandType() == CommandResult.CommandType.EXIT) {
+                    return EXIT_SUCCESS;
+                }
+            }
+        } catch (IOException ioe) {
+            err.println("Could not read commands: " + ioe.getMessage());
+            return EXIT_COMMAND_FAILED;
+        }
+    }
+
+    /**
+     * Executes {@code commandText}, writing its result to {@code out} or its error to {@code err}.
+     *
+     * @return the exit status of the command.
+     */
+    public int execute(String commandText, PrintStream out, PrintStream err) {
+        return executeAndReport(commandText, out, err) == null ? EXIT_COMMAND_FAILED : EXIT_SUCCESS;
+    }
+
+    /**
+     * Returns the result of executing {@code commandText}, or null if the command failed.
+     */
+    private CommandResult executeAndReport(String commandText, PrintStream out, PrintStream err) {
+        try {
+            CommandResult result = commandExecutor.execute(commandText);
+            out.println(result.getFeedbackToUser());
+            return result;
+        } catch (CommandException | ParseException e) {
+            err.println(e.getMessage());
+            return null;
+        }
+    }
+
+    private static void savePrefs(Storage storage, Model model) {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -19,7 +21,14 @@ import javafx.application.Application;
  * to be the entry point of the application, we avoid this issue.
  */
 public class Main {
+    /**
+     * Starts the GUI, or the headless app if {@code --headless} is given, which never starts the JavaFX toolkit.
+     */
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(AppParameters.HEADLESS_FLAG)) {
+            HeadlessApp.main(args);
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -2,32 +2,28 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandResult;
 import seedu.address.logic.Logic;
-import seedu.address.logic.LogicManager;
-import seedu.address.model.HrManager;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.logic.general.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyHrManager;
-import seedu.address.model.ReadOnlyUserPrefs;
-import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.HrManagerStorage;
-import seedu.address.storage.JsonHrManagerStorage;
-import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
-import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -38,6 +34,8 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 0, true);
 
+    public static final String MESSAGE_DATA_LOADED = "Loaded %1$d candidates, %2$d positions and %3$d interviews.";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -45,6 +43,13 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected volatile ApiServer apiServer;
+    /** The only thread that executes commands once the app has started, so commands never block the UI. */
+    protected ExecutorService commandWorker;
+
+    private CompletableFuture<ReadOnlyHrManager> initialData;
+    private Path scriptPath;
+    private Integer apiPort;
 
     @Override
     public void init() throws Exception {
@@ -52,130 +57,89 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        HrManagerStorage hrManagerStorage = new JsonHrManagerStorage(userPrefs.getHrManagerCandidatesFilePath(),
-                userPrefs.getHrManagerPositionsFilePath(), userPrefs.getHrManagerInterviewsFilePath());
-
-        storage = new StorageManager(hrManagerStorage, userPrefsStorage);
-
-        initLogging(config);
-
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
-
-        ui = new UiManager(logic);
+        // The data is read in the background while the window is shown, and put into the model by #loadData().
+        AppInitializer initializer = new AppInitializer(appParameters, true);
+        config = initializer.getConfig();
+        storage = initializer.getStorage();
+        model = initializer.getModel();
+        logic = initializer.getLogic();
+        initialData = initializer.getInitialData();
+
+        scriptPath = appParameters.getScriptPath();
+        apiPort = appParameters.getApiPort();
+        commandWorker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ui = new UiManager(logic, commandWorker, this::loadData);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Puts the data read in the background into the model, runs the script given by the {@code --run=FILE}
+     * parameter, if any, and starts serving the API. This is run on the command worker before any command.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyHrManager> addressBookOptional;
-        ReadOnlyHrManager initialData;
-        try {
-            addressBookOptional = storage.readHrManager();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample HR Manager");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleHrManager);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty HR Manager");
-            initialData = new HrManager();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty HR Manager");
-            initialData = new HrManager();
-        }
+    private CommandResult loadData() {
+        StartupTimer timer = StartupTimer.start("load data into model");
+        model.setHrManager(initialData.join());
+        timer.done();
 
-        return new ModelManager(initialData, userPrefs);
-    }
+        if (scriptPath != null) {
+            runScript(scriptPath);
+        }
+        startApiServer();
 
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
+        ReadOnlyHrManager data = model.getHrManager();
+        return new CommandResult(String.format(MESSAGE_DATA_LOADED, data.getPersonList().size(),
+                data.getPositionList().size(), data.getInterviewList().size()), CommandResult.CommandType.GENERAL);
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Runs the commands in the script at {@code scriptPath} before any command typed in.
+     * The app still starts if the script fails, with no changes made by the script.
      */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
+    private void runScript(Path scriptPath) {
         try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
+            CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+            logger.info(result.getFeedbackToUser());
+        } catch (CommandException | ParseException | CancellationException e) {
+            logger.warning("Script " + scriptPath + " was not run: " + e.getMessage());
         }
+    }
 
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+    @Override
+    public void start(Stage primaryStage) {
+        logger.info("Starting HR Manager " + MainApp.VERSION);
+        StartupTimer timer = StartupTimer.start("show main window");
+        // Commands run on the command worker, but the lists shown in the UI must only change on the UI thread.
+        model.setPageRefresher(Platform::runLater);
+        ui.start(primaryStage);
+        timer.done();
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Serves the API at the port given by the {@code --api-port=PORT} parameter, if any.
+     * Commands sent to the API are executed on the command worker, like those typed into the app.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                    + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty HR Manager");
-            initializedPrefs = new UserPrefs();
+    private void startApiServer() {
+        if (apiPort == null) {
+            return;
         }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
-            storage.saveUserPrefs(initializedPrefs);
+            apiServer = new ApiServer(logic, commandWorker, apiPort);
+            apiServer.start();
         } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            logger.severe("Failed to serve the API at port " + apiPort + " " + StringUtil.getDetails(e));
         }
-
-        return initializedPrefs;
-    }
-
-    @Override
-    public void start(Stage primaryStage) {
-        logger.info("Starting HR Manager " + MainApp.VERSION);
-        ui.start(primaryStage);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping HR Manager ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        commandWorker.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,40 @@
+package seedu.address;
+
+import java.lang.management.ManagementFactory;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Logs how long each stage of starting the app takes, and how long after the launch of the JVM it is done,
+ * to keep track of how soon the app can be used.
+ */
+class StartupTimer {
+
+    private static final Logger logger = LogsCenter.getLogger(StartupTimer.class);
+
+    private final String stage;
+    private final long startNanos;
+
+    private StartupTimer(String stage) {
+        this.stage = stage;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts timing {@code stage}.
+     */
+    static StartupTimer start(String stage) {
+        return new StartupTimer(stage);
+    }
+
+    /**
+     * Logs that the stage is done.
+     */
+    void done() {
+        long tookMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        long sinceLaunchMillis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        logger.info(String.format("Startup stage '%s' took %d ms, done %d ms after launch", stage, tookMillis,
+                sinceLaunchMillis));
+    }
+}
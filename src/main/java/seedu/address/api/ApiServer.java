@@ -0,0 +1,249 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.Logic;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ListType;
+import seedu.address.model.snapshot.HrManagerSnapshot;
+
+/**
+ * Serves the data of the HR Manager as JSON over HTTP, so that other programs can read and change it.
+ * The server only accepts connections from the local machine.
+ *
+ * <ul>
+ *     <li>{@code GET /candidates}, {@code GET /positions} and {@code GET /interviews} return the items of a list,
+ *     keeping only those whose name or title contains the {@code q} query parameter if it is given.</li>
+ *     <li>{@code POST /commands} executes the command in the request body, as if it was typed into the app.</li>
+ *     <li>{@code GET /metrics} returns the latency of the requests to each endpoint.</li>
+ * </ul>
+ *
+ * Commands are executed one at a time on the {@code writer}, which must be the only thread that executes commands,
+ * e.g. the JavaFX application thread. Reads are served concurrently from the latest immutable snapshot of the model
+ * and never wait for the writer.
+ */
+public class ApiServer {
+
+    public static final String COMMANDS_PATH = "/commands";
+    public static final String METRICS_PATH = "/metrics";
+    public static final String QUERY_PARAMETER = "q";
+
+    public static final int HTTP_OK = 200;
+    public static final int HTTP_BAD_REQUEST = 400;
+    public static final int HTTP_METHOD_NOT_ALLOWED = 405;
+    public static final int HTTP_INTERNAL_ERROR = 500;
+
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not supported by %2$s";
+    public static final String MESSAGE_WRITER_FAILED = "The command could not be run: ";
+
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final int READER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    /**
+     * Handles one request to an endpoint.
+     */
+    @FunctionalInterface
+    private interface Handler {
+        /**
+         * Returns the JSON body of the response to {@code exchange}.
+         */
+        String handle(HttpExchange exchange) throws Exception;
+    }
+
+    private final Logic logic;
+    private final Executor writer;
+    private final HttpServer server;
+    private final ExecutorService readers;
+    private final LatencyMetrics metrics = new LatencyMetrics();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates a server on the loopback address at {@code port}, or at any free port if {@code port} is 0,
+     * which executes commands with {@code logic} on {@code writer}. The server does not accept requests until
+     * {@link #start()} is called.
+     */
+    public ApiServer(Logic logic, Executor writer, int port) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(writer);
+        this.logic = logic;
+        this.writer = writer;
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        for (ListType type : ListType.values()) {
+            server.createContext("/" + type, exchange -> serve(exchange, GET, unused -> currentSnapshot()
+                    .toJson(type, getQueryParameter(exchange.getRequestURI(), QUERY_PARAMETER))));
+        }
+        server.createContext(COMMANDS_PATH, exchange -> serve(exchange, POST, this::handleCommand));
+        server.createContext(METRICS_PATH, exchange -> serve(exchange, GET, unused ->
+                JsonUtil.toJsonString(metrics.summarize())));
+
+        readers = Executors.newFixedThreadPool(READER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "api-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(readers);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the API at http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":"
+                + getPort());
+    }
+
+    /**
+     * Stops accepting requests, without waiting for the requests being handled.
+     */
+    public void stop() {
+        server.stop(0);
+        readers.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Executes {@code commandText} on the writer and waits for its result.
+     * Must not be called from the writer itself.
+     */
+    public CommandResult execute(String commandText) throws CommandException, ParseException {
+        try {
+            return callOnWriter(() -> logic.execute(commandText));
+        } catch (CommandException | ParseException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CommandException(MESSAGE_WRITER_FAILED + e.getMessage(), e);
+        }
+    }
+
+    private String handleCommand(HttpExchange exchange) throws Exception {
+        String commandText = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).trim();
+        CommandResult result = execute(commandText);
+        return JsonUtil.toJsonString(Map.of("feedback", result.getFeedbackToUser()));
+    }
+
+    /**
+     * Returns the items of the snapshot of the model taken after the latest command.
+     */
+    private Snapshot currentSnapshot() throws IOException {
+        Snapshot current = snapshot;
+        if (current != null && current.getSource() == logic.getSnapshot()) {
+            return current;
+        }
+        return refreshSnapshot();
+    }
+
+    /**
+     * Converts the latest snapshot of the model, unless another reader has just done so.
+     */
+    private synchronized Snapshot refreshSnapshot() throws IOException {
+        HrManagerSnapshot source = logic.getSnapshot();
+        if (snapshot == null || snapshot.getSource() != source) {
+            snapshot = Snapshot.of(source, snapshot);
+        }
+        return snapshot;
+    }
+
+    private <T> T callOnWriter(Callable<T> task) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        writer.execute(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void serve(HttpExchange exchange, String method, Handler handler) throws IOException {
+        long start = System.nanoTime();
+        String endpoint = method + " " + exchange.getHttpContext().getPath();
+        try {
+            if (!exchange.getRequestMethod().equalsIgnoreCase(method)) {
+                sendError(exchange, HTTP_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                        exchange.getRequestMethod(), exchange.getHttpContext().getPath()));
+                return;
+            }
+            send(exchange, HTTP_OK, handler.handle(exchange));
+        } catch (CommandException | ParseException e) {
+            sendError(exchange, HTTP_BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            logger.warning("Failed to serve " + endpoint + ": " + StringUtil.getDetails(e));
+            sendError(exchange, HTTP_INTERNAL_ERROR, e.toString());
+        } finally {
+            exchange.close();
+            metrics.record(endpoint, System.nanoTime() - start);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, JsonUtil.toJsonString(Map.of("error", message)));
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Returns the decoded value of the query parameter {@code name} in {@code uri}, or null if there is none.
+     */
+    static String getQueryParameter(URI uri, String name) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String parameter : query.split("&")) {
+            int separatorIndex = parameter.indexOf('=');
+            String key = separatorIndex < 0 ? parameter : parameter.substring(0, separatorIndex);
+            if (key.equals(name)) {
+                return separatorIndex < 0 ? "" : URLDecoder.decode(parameter.substring(separatorIndex + 1),
+                        StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how long the requests to each endpoint take.
+ * Only the latest {@code SAMPLE_CAPACITY} latencies of an endpoint are kept for its percentiles, so memory stays
+ * bounded however long the server runs, while its count, mean and maximum cover every request.
+ */
+class LatencyMetrics {
+
+    static final int SAMPLE_CAPACITY = 4096;
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * The latencies of one endpoint.
+     */
+    private static class Latencies {
+        private final long[] samples = new long[SAMPLE_CAPACITY];
+        private int sampleCount;
+        private int nextSample;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        synchronized void record(long nanos) {
+            samples[nextSample] = nanos;
+            nextSample = (nextSample + 1) % SAMPLE_CAPACITY;
+            sampleCount = Math.min(sampleCount + 1, SAMPLE_CAPACITY);
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        synchronized Map<String, Object> summarize() {
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", count);
+            summary.put("meanMs", count == 0 ? 0 : totalNanos / count / NANOS_PER_MILLI);
+            summary.put("p50Ms", percentile(sorted, 0.50) / NANOS_PER_MILLI);
+            summary.put("p99Ms", percentile(sorted, 0.99) / NANOS_PER_MILLI);
+            summary.put("maxMs", maxNanos / NANOS_PER_MILLI);
+            return summary;
+        }
+    }
+
+    private final Map<String, Latencies> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * Records a request to {@code endpoint} that took {@code nanos} nanoseconds.
+     */
+    void record(String endpoint, long nanos) {
+        requireNonNull(endpoint);
+        latencies.computeIfAbsent(endpoint, unused -> new Latencies()).record(nanos);
+    }
+
+    /**
+     * Returns the request count and the mean, median, 99th percentile and maximum latency in milliseconds of every
+     * endpoint, sorted by endpoint.
+     */
+    Map<String, Map<String, Object>> summarize() {
+        Map<String, Map<String, Object>> summaries = new TreeMap<>();
+        latencies.forEach((endpoint, endpointLatencies) -> summaries.put(endpoint, endpointLatencies.summarize()));
+        return summaries;
+    }
+
+    /**
+     * Returns the value in {@code sorted} below which {@code fraction} of the values fall, or 0 if it is empty.
+     */
+    static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ListType;
+import seedu.address.model.snapshot.HrManagerSnapshot;
+import seedu.address.model.snapshot.InterviewRecord;
+import seedu.address.model.snapshot.PersonRecord;
+import seedu.address.model.snapshot.PositionRecord;
+
+/**
+ * The items of an {@link HrManagerSnapshot}, already converted to JSON, so that any number of threads can serve reads
+ * from it. The JSON of a record is reused by the next snapshot if the record did not change in between, so only the
+ * items changed by the latest commands are converted again.
+ */
+class Snapshot {
+
+    /**
+     * One item of a list, with the text that queries are matched against.
+     */
+    private static class Entry {
+        private final String searchText;
+        private final String json;
+
+        Entry(String searchText, String json) {
+            this.searchText = searchText.toLowerCase();
+            this.json = json;
+        }
+    }
+
+    private final HrManagerSnapshot source;
+    private final Map<ListType, List<Entry>> entries = new EnumMap<>(ListType.class);
+    /** The entry of every record in {@code source}, for the next snapshot to reuse. */
+    private final Map<Object, Entry> entriesByRecord = new IdentityHashMap<>();
+
+    private Snapshot(HrManagerSnapshot source) {
+        this.source = source;
+    }
+
+    /**
+     * Returns the items of {@code source}, reusing the JSON of the records it shares with {@code previous},
+     * which may be null.
+     */
+    static Snapshot of(HrManagerSnapshot source, Snapshot previous) throws JsonProcessingException {
+        requireNonNull(source);
+        Map<Object, Entry> reusable = previous == null ? Collections.emptyMap() : previous.entriesByRecord;
+        Snapshot snapshot = new Snapshot(source);
+        snapshot.put(ListType.CANDIDATES, source.getPersons(), reusable, record -> record.getName().fullName,
+                Snapshot::toMap);
+        snapshot.put(ListType.POSITIONS, source.getPositions(), reusable, record -> record.getTitle().fullTitle,
+                Snapshot::toMap);
+        snapshot.put(ListType.INTERVIEWS, source.getInterviews(), reusable, Snapshot::searchTextOf,
+                Snapshot::toMap);
+        return snapshot;
+    }
+
+    /**
+     * Returns the HR Manager snapshot the items were taken from.
+     */
+    HrManagerSnapshot getSource() {
+        return source;
+    }
+
+    /**
+     * Returns a JSON array of the items in {@code type} whose name or title contains {@code query}, ignoring case.
+     * Every item is returned if {@code query} is null or blank.
+     */
+    String toJson(ListType type, String query) {
+        String lowerCaseQuery = query == null ? "" : query.trim().toLowerCase();
+        StringJoiner array = new StringJoiner(",", "[", "]");
+        for (Entry entry : entries.get(type)) {
+            if (entry.searchText.contains(lowerCaseQuery)) {
+                array.add(entry.json);
+            }
+        }
+        return array.toString();
+    }
+
+    private <R> void put(ListType type, List<R> records, Map<Object, Entry> reusable,
+            Function<R, String> searchText, Function<R, Map<String, Object>> toMap) throws JsonProcessingException {
+        List<Entry> list = new ArrayList<>(records.size());
+        for (R record : records) {
+            Entry entry = reusable.get(record);
+            if (entry == null) {
+                entry = new Entry(searchText.apply(record), JsonUtil.toCompactJsonString(toMap.apply(record)));
+            }
+            list.add(entry);
+            entriesByRecord.put(record, entry);
+        }
+        entries.put(type, Collections.unmodifiableList(list));
+    }
+
+    private static String searchTextOf(InterviewRecord record) {
+        return record.getPositionTitle().fullTitle;
+    }
+
+    private static Map<String, Object> toMap(PersonRecord record) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", record.getId());
+        map.put("name", record.getName().fullName);
+        map.put("phone", record.getPhone().value);
+        map.put("email", record.getEmail().value);
+        map.put("address", record.getAddress().value);
+        map.put("remark", record.getRemark().value);
+        map.put("tagged", sorted(record.getTags().stream().map(tag -> tag.tagName)));
+        map.put("status", record.getStatus().toString());
+        map.put("positions", sorted(record.getPositionTitles().stream().map(title -> title.fullTitle)));
+        return map;
+    }
+
+    private static Map<String, Object> toMap(PositionRecord record) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", record.getId());
+        map.put("title", record.getTitle().fullTitle);
+        map.put("positionStatus", record.getStatus().toString());
+        return map;
+    }
+
+    private static Map<String, Object> toMap(InterviewRecord record) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", record.getId());
+        map.put("position", record.getPositionTitle().fullTitle);
+        map.put("date", record.getDate().toString());
+        map.put("startTime", record.getStartTime().toString());
+        map.put("durationMinutes", record.getDuration().toMinutes());
+        map.put("status", record.getStatus().toString());
+        map.put("candidates", sorted(record.getCandidateEmails().stream().map(email -> email.value)));
+        return map;
+    }
+
+    private static List<String> sorted(Stream<String> values) {
+        return values.sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Finds whole-word occurrences of many keywords in a text in a single pass over the text, regardless of how many
+ * keywords there are. Matching is case-insensitive, and words are separated by whitespace, as in
+ * {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ */
+public class AhoCorasickAutomaton {
+
+    private static final int CACHE_CAPACITY = 16;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    /** Recently compiled automata, so that repeating a query does not rebuild its automaton. */
+    private static final Map<List<String>, AhoCorasickAutomaton> cache = new LinkedHashMap<>(
+            CACHE_CAPACITY, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<String>, AhoCorasickAutomaton> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private int[] failure;
+    /** Lengths of the keywords that end at each state, including those reached through failure links. */
+    private int[][] outputs;
+
+    private AhoCorasickAutomaton(Collection<String> keywords) {
+        List<List<Integer>> keywordLengths = new ArrayList<>();
+        newState(keywordLengths);
+        for (String keyword : keywords) {
+            String lowerCaseKeyword = keyword.trim().toLowerCase();
+            if (lowerCaseKeyword.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < lowerCaseKeyword.length(); i++) {
+                Integer next = transitions.get(state).get(lowerCaseKeyword.charAt(i));
+                if (next == null) {
+                    next = newState(keywordLengths);
+                    transitions.get(state).put(lowerCaseKeyword.charAt(i), next);
+                }
+                state = next;
+            }
+            keywordLengths.get(state).add(lowerCaseKeyword.length());
+        }
+        buildFailureLinks(keywordLengths);
+    }
+
+    /**
+     * Returns an automaton for {@code keywords}, reusing a recently compiled one for the same keywords.
+     */
+    public static AhoCorasickAutomaton of(List<String> keywords) {
+        requireNonNull(keywords);
+        synchronized (cache) {
+            return cache.computeIfAbsent(List.copyOf(keywords), AhoCorasickAutomaton::new);
+        }
+    }
+
+    /**
+     * Returns true if any keyword occurs in {@code text} as a whole word, ignoring case.
+     */
+    public boolean containsAnyWord(String text) {
+        requireNonNull(text);
+        String lowerCaseText = text.toLowerCase();
+        int state = 0;
+        for (int i = 0; i < lowerCaseText.length(); i++) {
+            char c = lowerCaseText.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            while (next == null && state != 0) {
+                state = failure[state];
+                next = transitions.get(state).get(c);
+            }
+            state = next == null ? 0 : next;
+
+            if (outputs[state].length > 0 && isWordEnd(lowerCaseText, i)) {
+                for (int length : outputs[state]) {
+                    if (isWordStart(lowerCaseText, i - length + 1)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private int newState(List<List<Integer>> keywordLengths) {
+        transitions.add(new HashMap<>());
+        keywordLengths.add(new ArrayList<>());
+        return transitions.size() - 1;
+    }
+
+    private void buildFailureLinks(List<List<Integer>> keywordLengths) {
+        failure = new int[transitions.size()];
+        outputs = new int[transitions.size()][];
+        outputs[0] = NO_OUTPUT;
+
+        // Breadth-first, so the failure target of every state is complete before the state itself is visited.
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(0).values()) {
+            failure[child] = 0;
+            outputs[child] = toArray(keywordLengths.get(child), NO_OUTPUT);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure[state];
+                while (fallback != 0 && !transitions.get(fallback).containsKey(edge.getKey())) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = transitions.get(fallback).getOrDefault(edge.getKey(), 0);
+                outputs[child] = toArray(keywordLengths.get(child), outputs[failure[child]]);
+                queue.add(child);
+            }
+        }
+    }
+
+    private static int[] toArray(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] merged = Arrays.copyOf(inherited, inherited.length + own.size());
+        for (int i = 0; i < own.size(); i++) {
+            merged[inherited.length + i] = own.get(i);
+        }
+        return merged;
+    }
+
+    private static boolean isWordStart(String text, int index) {
+        return index == 0 || Character.isWhitespace(text.charAt(index - 1));
+    }
+
+    private static boolean isWordEnd(String text, int index) {
+        return index == text.length() - 1 || Character.isWhitespace(text.charAt(index + 1));
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.commons.util;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that is changed by creating new versions of it, which share all but O(log n) of their structure
+ * with the version they were made from. Keeping an old version therefore costs O(1) time and memory, and a version
+ * can be read from any thread while newer versions are being made.
+ *
+ * Elements are stored in the leaves of a tree with up to 32 children per node, plus a tail of up to 32 elements that
+ * is not yet in the tree so that appending usually copies only the tail. Getting and setting an element cost
+ * O(log32 n), which is at most 7 levels for any list that fits in memory, and appending costs O(1) amortized.
+ *
+ * @param <E> the type of the elements in the list
+ */
+public final class PersistentVector<E> implements Iterable<E> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[0];
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, EMPTY_NODE);
+
+    private final int size;
+    /** The number of bits of an index used below the root, which is 5 times the height of the tree. */
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns an empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a vector of the elements of {@code elements}, in iteration order.
+     */
+    public static <E> PersistentVector<E> of(Iterable<? extends E> elements) {
+        PersistentVector<E> vector = empty();
+        for (E element : elements) {
+            vector = vector.append(element);
+        }
+        return vector;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in [0, size).
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns a vector with {@code element} at {@code index} instead of the element there in this vector.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in [0, size).
+     */
+    public PersistentVector<E> set(int index, E element) {
+        checkIndex(index);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, setInTree(shift, root, index, element), tail);
+    }
+
+    /**
+     * Returns a vector with {@code element} added after the elements of this vector.
+     */
+    public PersistentVector<E> append(E element) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+
+        // The tail is full, so it moves into the tree, which grows a level if its root is full too.
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[] {root, newPath(shift, tail)};
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] {element});
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0 || leaf == null) {
+                    leaf = leafFor(index);
+                }
+                return (E) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    /**
+     * Returns the index of the first element in the tail, as every element before it is in the tree.
+     */
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private Object[] leafFor(int index) {
+        checkIndex(index);
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private static Object[] setInTree(int level, Object[] node, int index, Object element) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int childIndex = (index >>> level) & MASK;
+            copy[childIndex] = setInTree(level - BITS, (Object[]) node[childIndex], index, element);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a copy of {@code node} at {@code level} with {@code tailNode} added as its last leaf.
+     */
+    private Object[] pushTail(int level, Object[] node, Object[] tailNode) {
+        int childIndex = ((size - 1) >>> level) & MASK;
+        Object[] copy = Arrays.copyOf(node, Math.max(node.length, childIndex + 1));
+        if (level == BITS) {
+            copy[childIndex] = tailNode;
+        } else if (childIndex < node.length) {
+            copy[childIndex] = pushTail(level - BITS, (Object[]) node[childIndex], tailNode);
+        } else {
+            copy[childIndex] = newPath(level - BITS, tailNode);
+        }
+        return copy;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        return level == 0 ? node : new Object[] {newPath(level - BITS, node)};
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Encodes words into phonetic keys so that names which sound alike, e.g. "Mohammed" and "Muhammad",
+ * share the same key. The encoding is a simplified form of Lawrence Philips' Metaphone.
+ */
+public class PhoneticUtil {
+
+    private static final String VOWELS = "AEIOU";
+    private static final String FRONT_VOWELS = "EIY";
+
+    /**
+     * Returns the phonetic key of {@code word}. Non-letters are ignored and the result is empty if
+     * {@code word} contains no letters.
+     *   <br>examples:<pre>
+     *       encode("Mohammed") == encode("Muhammad") == "MHMT"
+     *       encode("Catherine") == encode("Kathryn") == "K0RN"
+     *       </pre>
+     */
+    public static String encode(String word) {
+        requireNonNull(word);
+        String w = normalise(word);
+        if (w.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder key = new StringBuilder();
+        int i = skipSilentStart(w);
+        if (i < w.length() && isVowel(w.charAt(i))) {
+            key.append('A');
+            i++;
+        }
+
+        for (; i < w.length(); i++) {
+            char c = w.charAt(i);
+            if (c != 'C' && i > 0 && w.charAt(i - 1) == c) {
+                continue;
+            }
+            switch (c) {
+            case 'B':
+                if (!(i == w.length() - 1 && at(w, i - 1) == 'M')) {
+                    key.append('B');
+                }
+                break;
+            case 'C':
+                if (at(w, i - 1) == 'S' && isFrontVowel(at(w, i + 1))) {
+                    break;
+                }
+                if (w.startsWith("CIA", i) || at(w, i + 1) == 'H') {
+                    key.append('X');
+                    i += at(w, i + 1) == 'H' ? 1 : 0;
+                } else if (isFrontVowel(at(w, i + 1))) {
+                    key.append('S');
+                } else {
+                    key.append('K');
+                }
+                break;
+            case 'D':
+                if (at(w, i + 1) == 'G' && isFrontVowel(at(w, i + 2))) {
+                    key.append('J');
+                    i++;
+                } else {
+                    key.append('T');
+                }
+                break;
+            case 'G':
+                if (at(w, i + 1) == 'H' && !isVowel(at(w, i + 2))) {
+                    i++;
+                } else if (at(w, i + 1) == 'N' && (i + 2 == w.length() || w.startsWith("NED", i + 1))) {
+                    break;
+                } else if (isFrontVowel(at(w, i + 1))) {
+                    key.append('J');
+                } else {
+                    key.append('K');
+                }
+                break;
+            case 'H':
+                if (isVowel(at(w, i + 1)) && "CSPTG".indexOf(at(w, i - 1)) < 0) {
+                    key.append('H');
+                }
+                break;
+            case 'K':
+                if (at(w, i - 1) != 'C') {
+                    key.append('K');
+                }
+                break;
+            case 'P':
+                if (at(w, i + 1) == 'H') {
+                    key.append('F');
+                    i++;
+                } else {
+                    key.append('P');
+                }
+                break;
+            case 'Q':
+                key.append('K');
+                break;
+            case 'S':
+                if (at(w, i + 1) == 'H' || w.startsWith("IO", i + 1) || w.startsWith("IA", i + 1)) {
+                    key.append('X');
+                    i += at(w, i + 1) == 'H' ? 1 : 0;
+                } else {
+                    key.append('S');
+                }
+                break;
+            case 'T':
+                if (w.startsWith("IO", i + 1) || w.startsWith("IA", i + 1)) {
+                    key.append('X');
+                } else if (at(w, i + 1) == 'H') {
+                    key.append('0');
+                    i++;
+                } else if (!w.startsWith("CH", i + 1)) {
+                    key.append('T');
+                }
+                break;
+            case 'V':
+                key.append('F');
+                break;
+            case 'W':
+            case 'Y':
+                // Only a consonant before a vowel; after a vowel it is a glide, so "Meyer" sounds like "Meier".
+                if (isVowel(at(w, i + 1)) && !isVowel(at(w, i - 1))) {
+                    key.append(c);
+                }
+                break;
+            case 'X':
+                key.append("KS");
+                break;
+            case 'Z':
+                key.append('S');
+                break;
+            default:
+                if (!isVowel(c)) {
+                    key.append(c);
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    private static String normalise(String word) {
+        StringBuilder letters = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = Character.toUpperCase(word.charAt(i));
+            if (c >= 'A' && c <= 'Z') {
+                letters.append(c);
+            }
+        }
+        return letters.toString();
+    }
+
+    /**
+     * Returns the index of the first letter that is pronounced, skipping silent leading letters as in "Knight".
+     */
+    private static int skipSilentStart(String w) {
+        if (w.startsWith("AE") || w.startsWith("GN") || w.startsWith("KN") || w.startsWith("PN")
+                || w.startsWith("WR")) {
+            return 1;
+        }
+        return 0;
+    }
+
+    private static char at(String w, int i) {
+        return i >= 0 && i < w.length() ? w.charAt(i) : '\0';
+    }
+
+    private static boolean isVowel(char c) {
+        return c != '\0' && VOWELS.indexOf(c) >= 0;
+    }
+
+    private static boolean isFrontVowel(char c) {
+        return c != '\0' && FRONT_VOWELS.indexOf(c) >= 0;
+    }
+}
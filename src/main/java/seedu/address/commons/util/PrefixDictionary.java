@@ -0,0 +1,142 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * An immutable set of terms that can be looked up by prefix, ignoring case.
+ *
+ * The terms are kept in an array sorted by their lower-case form, so the terms starting with a prefix are next to
+ * each other and the first of them is found by binary search. A lookup therefore costs O(log n) plus the number of
+ * terms returned, which stays well under a millisecond for hundreds of thousands of terms. Being immutable, a
+ * dictionary can be read from any thread while a newer one is being made.
+ */
+public final class PrefixDictionary {
+
+    private static final PrefixDictionary EMPTY = new PrefixDictionary(new String[0], new String[0]);
+
+    /** The lower-case form of each term, sorted. */
+    private final String[] keys;
+    /** The terms, in the order of their keys. */
+    private final String[] terms;
+
+    private PrefixDictionary(String[] keys, String[] terms) {
+        this.keys = keys;
+        this.terms = terms;
+    }
+
+    /**
+     * Returns an empty dictionary.
+     */
+    public static PrefixDictionary empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a dictionary of the distinct {@code terms}.
+     */
+    public static PrefixDictionary of(Collection<String> terms) {
+        return EMPTY.merge(Collections.emptySet(), terms);
+    }
+
+    public int size() {
+        return terms.length;
+    }
+
+    /**
+     * Returns up to {@code limit} terms that start with {@code prefix}, ignoring case, in order of their lower-case
+     * form.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        String key = toKey(prefix);
+        List<String> completions = new ArrayList<>();
+        for (int i = lowerBound(keys, key); i < keys.length && completions.size() < limit; i++) {
+            if (!keys[i].startsWith(key)) {
+                break;
+            }
+            completions.add(terms[i]);
+        }
+        return completions;
+    }
+
+    /**
+     * Returns a dictionary of the terms of this dictionary without {@code removed} and with {@code added}.
+     * This costs O(n + k log k) for the k terms added, as the added terms are sorted and merged with the terms kept.
+     */
+    public PrefixDictionary merge(Set<String> removed, Collection<String> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        String[] addedTerms = added.stream()
+                .filter(term -> !contains(term) || removed.contains(term))
+                .distinct()
+                .sorted(Comparator.comparing(PrefixDictionary::toKey).thenComparing(Comparator.naturalOrder()))
+                .toArray(String[]::new);
+
+        int capacity = terms.length + addedTerms.length;
+        String[] newKeys = new String[capacity];
+        String[] newTerms = new String[capacity];
+        int size = 0;
+        int next = 0;
+        for (int i = 0; i <= terms.length; i++) {
+            // The added terms that sort before the next kept term go in first.
+            while (next < addedTerms.length && (i == terms.length || compare(addedTerms[next], i) < 0)) {
+                newKeys[size] = toKey(addedTerms[next]);
+                newTerms[size++] = addedTerms[next++];
+            }
+            if (i < terms.length && !removed.contains(terms[i])) {
+                newKeys[size] = keys[i];
+                newTerms[size++] = terms[i];
+            }
+        }
+        return new PrefixDictionary(Arrays.copyOf(newKeys, size), Arrays.copyOf(newTerms, size));
+    }
+
+    private boolean contains(String term) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(term, middle);
+            if (comparison == 0) {
+                return true;
+            } else if (comparison > 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return false;
+    }
+
+    private int compare(String term, int index) {
+        int byKey = toKey(term).compareTo(keys[index]);
+        return byKey != 0 ? byKey : term.compareTo(terms[index]);
+    }
+
+    private static int lowerBound(String[] sorted, String key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static String toKey(String term) {
+        return term.toLowerCase(Locale.ROOT);
+    }
+}
@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
 
 /**
@@ -12,6 +14,13 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    private static final Collator COLLATOR = Collator.getInstance();
+
+    static {
+        // Ignore case differences but keep accents significant, e.g. "alice" == "Alice" but "Zoe" != "Zoë".
+        COLLATOR.setStrength(Collator.SECONDARY);
+    }
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +47,17 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the locale-aware sort key of {@code s}.
+     * Comparing two keys is a plain byte comparison, so callers should compute the key once and reuse it.
+     */
+    public static CollationKey getCollationKey(String s) {
+        requireNonNull(s);
+        synchronized (COLLATOR) {
+            return COLLATOR.getCollationKey(s);
+        }
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
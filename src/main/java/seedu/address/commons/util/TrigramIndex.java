@@ -0,0 +1,101 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maps every 3-character substring (trigram) of some indexed text to the items whose text contains it, so that
+ * items containing a query string can be found by intersecting a few posting sets instead of scanning every item.
+ * Matching is case-insensitive. Items are tracked by reference.
+ *
+ * @param <T> the type of the indexed items
+ */
+public class TrigramIndex<T> {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<T>> postings = new HashMap<>();
+
+    /**
+     * Indexes {@code item} under the trigrams of {@code text}.
+     */
+    public void add(T item, String text) {
+        requireNonNull(item);
+        for (String gram : trigramsOf(text)) {
+            postings.computeIfAbsent(gram, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item}, which must have been indexed with the same {@code text}.
+     */
+    public void remove(T item, String text) {
+        requireNonNull(item);
+        for (String gram : trigramsOf(text)) {
+            Set<T> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(item);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns true if {@code query} is long enough to be looked up in this index.
+     */
+    public static boolean isIndexable(String query) {
+        return query.length() >= GRAM_LENGTH;
+    }
+
+    /**
+     * Returns the items whose text contains every trigram of {@code query}.
+     * This is a superset of the items containing {@code query} itself, so callers must verify each result.
+     * {@code query} must be {@link #isIndexable(String) indexable}.
+     */
+    public Set<T> candidates(String query) {
+        requireNonNull(query);
+        AppUtil.checkArgument(isIndexable(query), "Query is too short to be looked up");
+
+        List<Set<T>> matchingPostings = new ArrayList<>();
+        for (String gram : trigramsOf(query)) {
+            Set<T> posting = postings.get(gram);
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            matchingPostings.add(posting);
+        }
+
+        // Intersect from the rarest trigram so the working set is as small as possible from the start.
+        matchingPostings.sort(Comparator.comparingInt(Set::size));
+        Set<T> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        result.addAll(matchingPostings.get(0));
+        for (int i = 1; i < matchingPostings.size() && !result.isEmpty(); i++) {
+            result.retainAll(matchingPostings.get(i));
+        }
+        return result;
+    }
+
+    private static Set<String> trigramsOf(String text) {
+        String lowerCaseText = text.toLowerCase();
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseText.length(); i++) {
+            grams.add(lowerCaseText.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
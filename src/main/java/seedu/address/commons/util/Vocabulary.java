@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Counts how many times each term is in use, and gives the terms in use as a {@link PrefixDictionary}.
+ *
+ * Only the terms that came into use or went out of use since the last dictionary are merged into the next one, so
+ * making a dictionary after a few changes costs O(n) array copying instead of sorting every term again. No new
+ * dictionary is made if no term came into or went out of use.
+ */
+public class Vocabulary {
+
+    private final Map<String, Integer> counts = new HashMap<>();
+    private final Set<String> added = new HashSet<>();
+    private final Set<String> removed = new HashSet<>();
+    private PrefixDictionary dictionary = PrefixDictionary.empty();
+
+    /**
+     * Counts one more use of {@code term}.
+     */
+    public void add(String term) {
+        requireNonNull(term);
+        if (counts.merge(term, 1, Integer::sum) == 1 && !removed.remove(term)) {
+            added.add(term);
+        }
+    }
+
+    /**
+     * Counts one less use of {@code term}. Terms not in use are ignored.
+     */
+    public void remove(String term) {
+        requireNonNull(term);
+        if (!counts.containsKey(term)) {
+            return;
+        }
+        if (counts.computeIfPresent(term, (unused, count) -> count == 1 ? null : count - 1) == null
+                && !added.remove(term)) {
+            removed.add(term);
+        }
+    }
+
+    /**
+     * Returns the terms in use.
+     */
+    public PrefixDictionary getDictionary() {
+        if (!added.isEmpty() || !removed.isEmpty()) {
+            dictionary = dictionary.merge(removed, added);
+            added.clear();
+            removed.clear();
+        }
+        return dictionary;
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * The commands entered, oldest first, which can be searched backwards by the words in them.
+ *
+ * The commands saved before are only read when the history is first used. Each command is indexed by its words, so
+ * a search looks up the commands having each word typed instead of scanning every command, and stays instant with
+ * hundreds of thousands of commands. This can be used from any thread.
+ */
+public class CommandHistory {
+
+    /** Returned by {@link #search} when no command matches. */
+    public static final int NOT_FOUND = -1;
+
+    private static final String WORD_SEPARATOR = "[\\s=]+";
+
+    private final Supplier<List<String>> loader;
+    private boolean isLoaded;
+    private final List<String> commands = new ArrayList<>();
+    /** The indices of the commands having each lower-case word, sorted by word so words can be found by prefix. */
+    private final NavigableMap<String, Postings> index = new TreeMap<>();
+
+    /**
+     * Creates a history that starts with the commands given by {@code loader} when it is first used.
+     */
+    public CommandHistory(Supplier<List<String>> loader) {
+        requireNonNull(loader);
+        this.loader = loader;
+    }
+
+    /**
+     * Adds {@code commandText} as the latest command, unless it is blank or the same as the latest command.
+     *
+     * @return true if the command was added.
+     */
+    public synchronized boolean add(String commandText) {
+        requireNonNull(commandText);
+        load();
+        if (commandText.isBlank() || (!commands.isEmpty() && commands.get(commands.size() - 1).equals(commandText))) {
+            return false;
+        }
+        append(commandText);
+        return true;
+    }
+
+    /**
+     * Returns the number of commands in the history.
+     */
+    public synchronized int size() {
+        load();
+        return commands.size();
+    }
+
+    /**
+     * Returns the command at {@code index}, where 0 is the oldest command.
+     */
+    public synchronized String get(int index) {
+        load();
+        return commands.get(index);
+    }
+
+    /**
+     * Returns the index of the latest command before {@code before} having, for each word of {@code query}, a word
+     * starting with it, ignoring case, or {@link #NOT_FOUND} if there is none. A blank query matches nothing.
+     * Words are separated by spaces or {@code =}, so {@code name=ale} finds {@code find_c name=Alex}.
+     */
+    public synchronized int search(String query, int before) {
+        requireNonNull(query);
+        load();
+        String[] words = toWords(query);
+        if (words.length == 0) {
+            return NOT_FOUND;
+        }
+
+        // Steps back to the latest command that every word can agree on.
+        int candidate = Math.min(before, commands.size()) - 1;
+        while (candidate >= 0) {
+            int agreed = candidate;
+            for (String word : words) {
+                agreed = latestWithWordAtMost(word, agreed);
+                if (agreed < 0) {
+                    return NOT_FOUND;
+                }
+            }
+            if (agreed == candidate) {
+                return candidate;
+            }
+            candidate = agreed;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Returns the index of the latest command at or before {@code max} having a word starting with {@code prefix}.
+     */
+    private int latestWithWordAtMost(String prefix, int max) {
+        int latest = NOT_FOUND;
+        for (Postings postings : index.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            latest = Math.max(latest, postings.latestAtMost(max));
+            if (latest == max) {
+                break;
+            }
+        }
+        return latest;
+    }
+
+    private void load() {
+        if (isLoaded) {
+            return;
+        }
+        isLoaded = true;
+        for (String commandText : loader.get()) {
+            if (!commandText.isBlank()) {
+                append(commandText);
+            }
+        }
+    }
+
+    private void append(String commandText) {
+        int commandIndex = commands.size();
+        commands.add(commandText);
+        Set<String> words = new HashSet<>(Arrays.asList(toWords(commandText)));
+        for (String word : words) {
+            index.computeIfAbsent(word, unused -> new Postings()).add(commandIndex);
+        }
+    }
+
+    private static String[] toWords(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split(WORD_SEPARATOR))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * The indices of the commands having a word, in increasing order.
+     */
+    private static class Postings {
+        private int[] indices = new int[2];
+        private int size;
+
+        void add(int commandIndex) {
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, size * 2);
+            }
+            indices[size++] = commandIndex;
+        }
+
+        /**
+         * Returns the greatest index at most {@code max}, or {@link #NOT_FOUND} if there is none.
+         */
+        int latestAtMost(int max) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (indices[middle] <= max) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low == 0 ? NOT_FOUND : indices[low - 1];
+        }
+    }
+}
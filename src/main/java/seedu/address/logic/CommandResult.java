@@ -25,6 +25,8 @@ public class CommandResult {
         CANDIDATE,
         POSITION,
         INTERVIEW,
+        CALENDAR,
+        DASHBOARD,
     }
 
     /**
@@ -1,15 +1,19 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.candidate.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.PagedList;
 import seedu.address.model.ReadOnlyHrManager;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.InterviewCalendar;
 import seedu.address.model.person.Person;
 import seedu.address.model.position.Position;
+import seedu.address.model.snapshot.HrManagerSnapshot;
 
 /**
  * API of the Logic component
@@ -25,6 +29,14 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns an immutable snapshot of the HR Manager as it was after the latest command.
+     * Unlike the rest of this interface, this can be called from any thread.
+     *
+     * @see seedu.address.model.Model#getSnapshot()
+     */
+    HrManagerSnapshot getSnapshot();
+
     /**
      * Returns the HR Manager.
      *
@@ -47,6 +59,44 @@ public interface Logic {
      */
     ObservableList<Interview> getFilteredInterviewList();
 
+    /**
+     * Returns the pages of the filtered list of persons
+     */
+    PagedList<Person> getPagedPersonList();
+
+    /**
+     * Returns the pages of the filtered list of positions
+     */
+    PagedList<Position> getPagedPositionList();
+
+    /**
+     * Returns the pages of the filtered list of interviews
+     */
+    PagedList<Interview> getPagedInterviewList();
+
+    /**
+     * Returns the calendar of the interviews held in a day or a week.
+     */
+    InterviewCalendar getInterviewCalendar();
+
+    /**
+     * Returns ways to complete the partly typed {@code commandText}, each being the whole command text completed.
+     * This can be called from any thread, and does not wait for a running command.
+     */
+    List<String> complete(String commandText);
+
+    /**
+     * Returns the commands entered, including those saved in earlier sessions.
+     * This can be called from any thread.
+     */
+    CommandHistory getCommandHistory();
+
+    /**
+     * Returns the text of the command being executed or executed last, or an empty string if there is none.
+     * This can be called from any thread.
+     */
+    String getLatestCommandText();
+
     /**
      * Returns the user prefs' HR Manager candidate file path.
      *
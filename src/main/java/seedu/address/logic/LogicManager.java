@@ -2,19 +2,25 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.logic.parser.CommandCompleter;
 import seedu.address.logic.parser.HrManagerParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.PagedList;
 import seedu.address.model.ReadOnlyHrManager;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.InterviewCalendar;
 import seedu.address.model.person.Person;
 import seedu.address.model.position.Position;
+import seedu.address.model.snapshot.HrManagerSnapshot;
 import seedu.address.storage.Storage;
 
 /**
@@ -22,11 +28,17 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    /** Commands taking longer than this are logged with the time taken by each step, to find what is slow. */
+    private static final long SLOW_COMMAND_NANOS = 100_000_000;
+    private static final long NANOS_PER_MILLI = 1_000_000;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final HrManagerParser hrManagerParser;
+    private final CommandCompleter commandCompleter;
+    private final CommandHistory commandHistory;
+    private volatile String latestCommandText = "";
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -35,15 +47,39 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         hrManagerParser = new HrManagerParser();
+        commandCompleter = new CommandCompleter(() -> model.getSnapshot().getSuggestions());
+        commandHistory = new CommandHistory(this::readCommandHistory);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        latestCommandText = commandText;
+        addToHistory(commandText);
 
         CommandResult commandResult;
+        long startTime = System.nanoTime();
         Command command = hrManagerParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        long parsedTime = System.nanoTime();
+
+        // A command that fails part-way must not leave the cascades it already applied behind.
+        // Errors such as a failed assertion roll back too, or the batch would stay open for every later command.
+        model.beginBatch();
+        boolean isExecuted = false;
+        try {
+            commandResult = command.execute(model);
+            // A command that was cancelled without making any changes since, e.g. a find, is rolled back here.
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+            isExecuted = true;
+        } finally {
+            if (!isExecuted) {
+                model.rollback();
+            }
+        }
+        model.commit();
+        long executedTime = System.nanoTime();
 
         try {
             storage.saveHrManager(model.getHrManager());
@@ -51,9 +87,46 @@ public class LogicManager implements Logic {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
 
+        long savedTime = System.nanoTime();
+        if (savedTime - startTime > SLOW_COMMAND_NANOS) {
+            long parseMillis = (parsedTime - startTime) / NANOS_PER_MILLI;
+            long executeMillis = (executedTime - parsedTime) / NANOS_PER_MILLI;
+            long saveMillis = (savedTime - executedTime) / NANOS_PER_MILLI;
+            logger.info(String.format("Slow command \"%s\": parsed in %d ms, executed in %d ms, saved in %d ms",
+                    commandText, parseMillis, executeMillis, saveMillis));
+        }
         return commandResult;
     }
 
+    /**
+     * Adds {@code commandText} to the command history, and saves it if it was added.
+     * A command that cannot be saved is still run.
+     */
+    private void addToHistory(String commandText) {
+        if (!commandHistory.add(commandText)) {
+            return;
+        }
+        try {
+            storage.appendCommandHistory(commandText);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Could not save command to history file: " + e);
+        }
+    }
+
+    private List<String> readCommandHistory() {
+        try {
+            return storage.readCommandHistory();
+        } catch (IOException e) {
+            logger.warning("Could not read command history file, starting with an empty history: " + e);
+            return List.of();
+        }
+    }
+
+    @Override
+    public HrManagerSnapshot getSnapshot() {
+        return model.getSnapshot();
+    }
+
     @Override
     public ReadOnlyHrManager getHrManager() {
         return model.getHrManager();
@@ -74,6 +147,41 @@ public class LogicManager implements Logic {
         return model.getFilteredInterviewList();
     }
 
+    @Override
+    public PagedList<Person> getPagedPersonList() {
+        return model.getPagedPersonList();
+    }
+
+    @Override
+    public PagedList<Position> getPagedPositionList() {
+        return model.getPagedPositionList();
+    }
+
+    @Override
+    public PagedList<Interview> getPagedInterviewList() {
+        return model.getPagedInterviewList();
+    }
+
+    @Override
+    public InterviewCalendar getInterviewCalendar() {
+        return model.getInterviewCalendar();
+    }
+
+    @Override
+    public List<String> complete(String commandText) {
+        return commandCompleter.complete(commandText);
+    }
+
+    @Override
+    public CommandHistory getCommandHistory() {
+        return commandHistory;
+    }
+
+    @Override
+    public String getLatestCommandText() {
+        return latestCommandText;
+    }
+
     @Override
     public Path getHrManagerCandidatesFilePath() {
         return model.getHrManagerCandidatesFilePath();
@@ -0,0 +1,67 @@
+package seedu.address.logic.candidate;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_WHERE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.FindCandidateCommandPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Deletes every candidate matching the given conditions from the HR Manager.
+ */
+public class BulkDeleteCandidateCommand extends Command {
+
+    public static final String COMMAND_WORD = DeleteCandidateCommand.COMMAND_WORD;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + KEYWORD_WHERE
+            + ": Deletes every candidate that matches the conditions, which are given as for "
+            + FindCandidateCommand.COMMAND_WORD + ".\n"
+            + "Parameters: " + KEYWORD_WHERE + " CONDITIONS\n"
+            + "Example: " + COMMAND_WORD + " " + KEYWORD_WHERE + " "
+            + PREFIX_STATUS + "rejected "
+            + PREFIX_NAME + "Alex";
+
+    public static final String MESSAGE_DELETE_PERSONS_SUCCESS = "Deleted %1$d candidate(s): %2$s";
+    public static final String MESSAGE_NO_MATCHING_PERSONS = "No candidates match the conditions.";
+
+    private final FindCandidateCommandPredicate predicate;
+
+    /**
+     * Creates a BulkDeleteCandidateCommand to delete every candidate matching {@code predicate}.
+     */
+    public BulkDeleteCandidateCommand(FindCandidateCommandPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        predicate.setSearchIndex(model.getPersonSearchIndex());
+        List<Person> deletedPersons = model.deletePersons(predicate);
+        if (deletedPersons.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_MATCHING_PERSONS);
+        }
+
+        String names = deletedPersons.stream().map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, deletedPersons.size(), names),
+                CommandResult.CommandType.CANDIDATE);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BulkDeleteCandidateCommand // instanceof handles nulls
+                && predicate.equals(((BulkDeleteCandidateCommand) other).predicate)); // state check
+    }
+}
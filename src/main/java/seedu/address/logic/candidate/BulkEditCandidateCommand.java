@@ -0,0 +1,150 @@
+package seedu.address.logic.candidate;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_SET;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_WHERE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.model.position.Position.MESSAGE_POSITION_CLOSED;
+import static seedu.address.model.position.Position.MESSAGE_POSITION_DOES_NOT_EXIST;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.EditCandidateCommand.EditPersonDescriptor;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.person.FindCandidateCommandPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Status;
+import seedu.address.model.position.Position;
+
+/**
+ * Edits the details of every candidate matching the given conditions in the HR Manager.
+ */
+public class BulkEditCandidateCommand extends Command {
+
+    public static final String COMMAND_WORD = EditCandidateCommand.COMMAND_WORD;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + KEYWORD_WHERE
+            + ": Edits the details of every candidate that matches the conditions, which are given as for "
+            + FindCandidateCommand.COMMAND_WORD + ". "
+            + "Existing values will be overwritten by the values after " + KEYWORD_SET + ", which are given as for "
+            + COMMAND_WORD + " except that the email cannot be edited.\n"
+            + "Parameters: " + KEYWORD_WHERE + " CONDITIONS " + KEYWORD_SET + " FIELDS\n"
+            + "Example: " + COMMAND_WORD + " " + KEYWORD_WHERE + " "
+            + PREFIX_POSITION + "Accountant "
+            + KEYWORD_SET + " "
+            + PREFIX_STATUS + "rejected "
+            + PREFIX_TAG + "shortlisted";
+
+    public static final String MESSAGE_EDIT_PERSONS_SUCCESS = "Edited %1$d candidate(s): %2$s";
+
+    private final FindCandidateCommandPredicate predicate;
+    private final EditPersonDescriptor editPersonDescriptor;
+
+    /**
+     * @param predicate            to match the persons to edit
+     * @param editPersonDescriptor details to edit each person with
+     */
+    public BulkEditCandidateCommand(FindCandidateCommandPredicate predicate,
+            EditPersonDescriptor editPersonDescriptor) {
+        requireNonNull(predicate);
+        requireNonNull(editPersonDescriptor);
+
+        this.predicate = predicate;
+        this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        predicate.setSearchIndex(model.getPersonSearchIndex());
+        List<Person> personsToEdit = model.getHrManager().getPersonList().stream().filter(predicate)
+                .collect(Collectors.toList());
+        if (personsToEdit.isEmpty()) {
+            throw new CommandException(BulkDeleteCandidateCommand.MESSAGE_NO_MATCHING_PERSONS);
+        }
+
+        if (editPersonDescriptor.getStatus().orElse(null) == Status.APPLIED) {
+            for (Person person : personsToEdit) {
+                if (person.getInterviews().size() > 0) {
+                    throw new CommandException(String.format(EditCandidateCommand.MESSAGE_ILLEGAL_PERSON_STATUS,
+                            person.getName()));
+                }
+            }
+        }
+
+        Optional<Set<Position>> positionReferences = getPositionReferences(model);
+        Map<Person, Person> editedPersons = new LinkedHashMap<>();
+        for (Person personToEdit : personsToEdit) {
+            Person editedPerson = EditCandidateCommand.createEditedPerson(personToEdit, editPersonDescriptor);
+            if (positionReferences.isPresent()) {
+                editedPerson.setPositions(new HashSet<>(positionReferences.get()));
+                // The candidate leaves the interviews for positions they no longer apply to.
+                for (Interview interview : personToEdit.getInterviews()) {
+                    if (!positionReferences.get().contains(interview.getPosition())) {
+                        editedPerson.deleteInterview(interview);
+                    }
+                }
+            }
+            editedPersons.put(personToEdit, editedPerson);
+        }
+
+        model.replacePersons(editedPersons);
+        String names = editedPersons.values().stream().map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_EDIT_PERSONS_SUCCESS, editedPersons.size(), names),
+                CommandResult.CommandType.CANDIDATE);
+    }
+
+    /**
+     * Returns the positions in the HR Manager that the candidates are to apply for, if the positions are edited.
+     *
+     * @throws CommandException if a position does not exist or is closed.
+     */
+    private Optional<Set<Position>> getPositionReferences(Model model) throws CommandException {
+        if (editPersonDescriptor.getPositions().isEmpty()) {
+            return Optional.empty();
+        }
+        Set<Position> positionReferences = new HashSet<>();
+        for (Position p : editPersonDescriptor.getPositions().get()) {
+            if (!model.hasPosition(p)) {
+                throw new CommandException(String.format(MESSAGE_POSITION_DOES_NOT_EXIST, p.getTitle()));
+            }
+            if (model.isPositionClosed(p)) {
+                throw new CommandException(String.format(MESSAGE_POSITION_CLOSED,
+                        model.getPositionReference(p).getTitle()));
+            }
+            positionReferences.add(model.getPositionReference(p));
+        }
+        return Optional.of(positionReferences);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkEditCandidateCommand)) {
+            return false;
+        }
+
+        // state check
+        BulkEditCandidateCommand e = (BulkEditCandidateCommand) other;
+        return predicate.equals(e.predicate)
+                && editPersonDescriptor.equals(e.editPersonDescriptor);
+    }
+}
@@ -124,21 +124,21 @@ public class EditCandidateCommand extends Command {
         // Checks if positions was edited, remove from interviews for positions that candidate no longer applies to.
         if (editPersonDescriptor.isPositionEdited()) {
             for (Interview i : interviews) {
-                i.deleteCandidate(personToEdit);
+                model.removeCandidateFromInterview(i, personToEdit);
 
                 if (!newPositions.contains(i.getPosition())) {
                     // delete interview from candidate if they no longer apply to the position.
                     editedPerson.deleteInterview(i);
                 } else {
                     // add edited person to interview, if edited candidate still applies to the position.
-                    i.addCandidate(editedPerson);
+                    model.addCandidateToInterview(i, editedPerson);
                 }
             }
         } else {
             //Remove the old person and add the new one
             for (Interview i : interviews) {
-                i.deleteCandidate(personToEdit);
-                i.addCandidate(editedPerson);
+                model.removeCandidateFromInterview(i, personToEdit);
+                model.addCandidateToInterview(i, editedPerson);
             }
         }
 
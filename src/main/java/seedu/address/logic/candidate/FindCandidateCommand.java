@@ -3,6 +3,7 @@ package seedu.address.logic.candidate;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
@@ -32,7 +33,11 @@ public class FindCandidateCommand extends Command {
             + "[" + PREFIX_PHONE + "PHONE]... "
             + "[" + PREFIX_POSITION + "POSITION]... "
             + "[" + PREFIX_STATUS + "STATUS]... "
-            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_MATCH + "word|phonetic|substring]\n"
+            + "With " + PREFIX_MATCH + "phonetic, names that sound like the keywords are also found. "
+            + "With " + PREFIX_MATCH + "substring, names, phones, emails and addresses containing the keywords "
+            + "are found.\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alice bob charlie";
     public static final String MESSAGE_SUCCESS = "Listed all found candidates";
 
@@ -45,6 +50,7 @@ public class FindCandidateCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        predicate.setSearchIndex(model.getPersonSearchIndex());
         model.updateFilteredPersonList(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
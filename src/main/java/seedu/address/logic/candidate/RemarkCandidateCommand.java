@@ -63,8 +63,8 @@ public class RemarkCandidateCommand extends Command {
         Set<Interview> personInterviews = personToEdit.getInterviews();
         for (Interview i : personInterviews) {
             editedPerson.addInterview(i);
-            i.deleteCandidate(personToEdit);
-            i.addCandidate(editedPerson);
+            model.removeCandidateFromInterview(i, personToEdit);
+            model.addCandidateToInterview(i, editedPerson);
         }
 
         model.setPerson(personToEdit, editedPerson);
@@ -0,0 +1,51 @@
+package seedu.address.logic.candidate;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.SortOrder;
+import seedu.address.model.person.PersonNameComparator;
+
+/**
+ * Sorts the displayed candidates in the HR Manager by name.
+ */
+public class SortCandidateCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort_c";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed candidates by name. "
+            + "Use 'none' to restore the order in which they were added.\n"
+            + "Parameters: [asc|desc|none]\n"
+            + "Example: " + COMMAND_WORD + " desc";
+
+    public static final String MESSAGE_SUCCESS = "Sorted candidates by name (%s)";
+
+    public static final String MESSAGE_SUCCESS_UNSORTED = "Restored candidates to the order they were added";
+
+    private final SortOrder order;
+
+    /**
+     * Creates a SortCandidateCommand to sort the candidates in the given {@code order}.
+     */
+    public SortCandidateCommand(SortOrder order) {
+        requireNonNull(order);
+        this.order = order;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateSortedPersonList(order.apply(new PersonNameComparator()));
+        String message = order == SortOrder.NONE ? MESSAGE_SUCCESS_UNSORTED : String.format(MESSAGE_SUCCESS, order);
+        return new CommandResult(message, CommandResult.CommandType.GENERAL);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCandidateCommand // instanceof handles nulls
+                && order == ((SortCandidateCommand) other).order); // state check
+    }
+}
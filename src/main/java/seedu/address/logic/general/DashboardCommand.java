@@ -0,0 +1,24 @@
+package seedu.address.logic.general;
+
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.model.Model;
+
+/**
+ * Shows the hiring dashboard in place of the position list.
+ */
+public class DashboardCommand extends Command {
+
+    public static final String COMMAND_WORD = "dashboard";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the number of candidates of each position in "
+            + "each status, the number of interviews in each week and the time taken to schedule candidates.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Showing the hiring dashboard";
+
+    @Override
+    public CommandResult execute(Model model) {
+        return new CommandResult(MESSAGE_SUCCESS, CommandResult.CommandType.DASHBOARD);
+    }
+}
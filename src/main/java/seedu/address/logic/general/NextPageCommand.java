@@ -0,0 +1,53 @@
+package seedu.address.logic.general;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.ListType;
+import seedu.address.model.Model;
+import seedu.address.model.PagedList;
+
+/**
+ * Shows the next page of one of the displayed lists.
+ */
+public class NextPageCommand extends Command {
+
+    public static final String COMMAND_WORD = "next";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the next page of the candidate (c), "
+            + "position (p) or interview (i) list. The candidate list is used if no list is given.\n"
+            + "Parameters: [c|p|i]\n"
+            + "Example: " + COMMAND_WORD + " i";
+
+    public static final String MESSAGE_NO_NEXT_PAGE = "Already showing the last page of %1$s";
+
+    private final ListType listType;
+
+    /**
+     * Creates a NextPageCommand to show the next page of the list of the given {@code listType}.
+     */
+    public NextPageCommand(ListType listType) {
+        requireNonNull(listType);
+        this.listType = listType;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        PagedList<?> pagedList = listType.getPagedList(model);
+        if (!pagedList.hasNextPage()) {
+            throw new CommandException(String.format(MESSAGE_NO_NEXT_PAGE, listType));
+        }
+        pagedList.setPageIndex(pagedList.getPageIndex() + 1);
+        return new CommandResult(PageCommand.describePage(listType, pagedList), CommandResult.CommandType.GENERAL);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NextPageCommand // instanceof handles nulls
+                && listType == ((NextPageCommand) other).listType); // state check
+    }
+}
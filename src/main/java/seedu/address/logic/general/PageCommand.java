@@ -0,0 +1,77 @@
+package seedu.address.logic.general;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.ListType;
+import seedu.address.model.Model;
+import seedu.address.model.PagedList;
+
+/**
+ * Shows a page of one of the displayed lists.
+ * Indexes used by other commands still refer to the whole list, so they do not change with the page shown.
+ */
+public class PageCommand extends Command {
+
+    public static final String COMMAND_WORD = "page";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows a page of the candidate (c), position (p) "
+            + "or interview (i) list. The candidate list is used if no list is given.\n"
+            + "Parameters: [c|p|i] PAGE (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " p 2";
+
+    public static final String MESSAGE_SUCCESS = "Showing %1$s %2$d-%3$d of %4$d (page %5$d of %6$d)";
+
+    public static final String MESSAGE_EMPTY_LIST = "There are no %1$s to show";
+
+    public static final String MESSAGE_INVALID_PAGE = "The %1$s list only has %2$d page(s)";
+
+    private final ListType listType;
+    private final Index page;
+
+    /**
+     * Creates a PageCommand to show the given {@code page} of the list of the given {@code listType}.
+     */
+    public PageCommand(ListType listType, Index page) {
+        requireNonNull(listType);
+        requireNonNull(page);
+        this.listType = listType;
+        this.page = page;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        PagedList<?> pagedList = listType.getPagedList(model);
+        if (page.getZeroBased() >= pagedList.getPageCount()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_PAGE, listType, pagedList.getPageCount()));
+        }
+        pagedList.setPageIndex(page.getZeroBased());
+        return new CommandResult(describePage(listType, pagedList), CommandResult.CommandType.GENERAL);
+    }
+
+    /**
+     * Returns a message describing the page of {@code pagedList} that is currently shown.
+     */
+    static String describePage(ListType listType, PagedList<?> pagedList) {
+        if (pagedList.getTotalSize() == 0) {
+            return String.format(MESSAGE_EMPTY_LIST, listType);
+        }
+        int first = pagedList.getOffset() + 1;
+        // The page itself is only updated once the command is done, and maybe on another thread.
+        int last = Math.min(pagedList.getOffset() + pagedList.getPageSize(), pagedList.getTotalSize());
+        return String.format(MESSAGE_SUCCESS, listType, first, last, pagedList.getTotalSize(),
+                pagedList.getPageIndex() + 1, pagedList.getPageCount());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PageCommand // instanceof handles nulls
+                && listType == ((PageCommand) other).listType
+                && page.equals(((PageCommand) other).page)); // state check
+    }
+}
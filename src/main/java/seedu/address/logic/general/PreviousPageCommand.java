@@ -0,0 +1,53 @@
+package seedu.address.logic.general;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.ListType;
+import seedu.address.model.Model;
+import seedu.address.model.PagedList;
+
+/**
+ * Shows the previous page of one of the displayed lists.
+ */
+public class PreviousPageCommand extends Command {
+
+    public static final String COMMAND_WORD = "prev";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the previous page of the candidate (c), "
+            + "position (p) or interview (i) list. The candidate list is used if no list is given.\n"
+            + "Parameters: [c|p|i]\n"
+            + "Example: " + COMMAND_WORD + " i";
+
+    public static final String MESSAGE_NO_PREVIOUS_PAGE = "Already showing the first page of %1$s";
+
+    private final ListType listType;
+
+    /**
+     * Creates a PreviousPageCommand to show the previous page of the list of the given {@code listType}.
+     */
+    public PreviousPageCommand(ListType listType) {
+        requireNonNull(listType);
+        this.listType = listType;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        PagedList<?> pagedList = listType.getPagedList(model);
+        if (!pagedList.hasPreviousPage()) {
+            throw new CommandException(String.format(MESSAGE_NO_PREVIOUS_PAGE, listType));
+        }
+        pagedList.setPageIndex(pagedList.getPageIndex() - 1);
+        return new CommandResult(PageCommand.describePage(listType, pagedList), CommandResult.CommandType.GENERAL);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PreviousPageCommand // instanceof handles nulls
+                && listType == ((PreviousPageCommand) other).listType); // state check
+    }
+}
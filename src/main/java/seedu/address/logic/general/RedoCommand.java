@@ -0,0 +1,27 @@
+package seedu.address.logic.general;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Makes the changes of the latest undone command again.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redid the latest undone change";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is no undone change to redo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.redo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+        return new CommandResult(MESSAGE_SUCCESS, CommandResult.CommandType.GENERAL);
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.logic.general;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.logic.parser.HrManagerParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, one command per line, as a single change to the HR Manager.
+ * Either every command in the script succeeds, or none of them takes effect.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a text file, one per line. "
+            + "Blank lines and lines starting with # are ignored. "
+            + "If any command fails, none of the commands take effect.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/hiring_drive.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s in %3$d ms (%4$.0f commands/s)";
+
+    public static final String MESSAGE_SCRIPT_FAILED = "No changes were made, as %1$d of %2$d command(s) in %3$s "
+            + "failed:\n%4$s";
+
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+
+    public static final String MESSAGE_CANNOT_READ = "Could not read %1$s: %2$s";
+
+    public static final String MESSAGE_NESTED_RUN = "A script cannot run other scripts";
+
+    public static final String MESSAGE_HISTORY_IN_SCRIPT = "A script cannot undo or redo commands";
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private final Path scriptPath;
+
+    /**
+     * Creates a RunCommand to run the commands in the file at {@code scriptPath}.
+     */
+    public RunCommand(Path scriptPath) {
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        HrManagerParser parser = new HrManagerParser();
+        List<String> failures = new ArrayList<>();
+        int commandCount = 0;
+        long startTime = System.nanoTime();
+
+        model.beginBatch();
+        boolean isEveryLineRun = false;
+        // Lines are streamed rather than read up front, so scripts of any length use constant memory.
+        try (BufferedReader reader = Files.newBufferedReader(scriptPath)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (isIgnored(line)) {
+                    continue;
+                }
+                commandCount++;
+                try {
+                    runLine(parser, line, model);
+                } catch (ParseException | CommandException e) {
+                    failures.add(String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage()));
+                } catch (RuntimeException e) {
+                    // An unexpected failure is reported like any other, so the rest of the script is still checked.
+                    failures.add(String.format(MESSAGE_LINE_FAILED, lineNumber, e));
+                }
+            }
+            isEveryLineRun = failures.isEmpty();
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, scriptPath, ioe), ioe);
+        } finally {
+            // Anything thrown, even an error, rolls the whole script back.
+            if (!isEveryLineRun) {
+                model.rollback();
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_SCRIPT_FAILED, failures.size(), commandCount,
+                    scriptPath, String.join("\n", failures)));
+        }
+        model.commit();
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - startTime);
+        double commandsPerSecond = commandCount * 1e9 / elapsedNanos;
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, scriptPath, elapsedNanos / 1_000_000,
+                commandsPerSecond), CommandResult.CommandType.GENERAL);
+    }
+
+    private static boolean isIgnored(String line) {
+        String trimmedLine = line.trim();
+        return trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_PREFIX);
+    }
+
+    /**
+     * Runs the command on {@code line} in its own nested batch, so that a failing command leaves nothing behind
+     * for the commands after it to see.
+     */
+    private static void runLine(HrManagerParser parser, String line, Model model)
+            throws ParseException, CommandException {
+        Command command = parser.parseCommand(line.trim());
+        if (command instanceof RunCommand) {
+            throw new CommandException(MESSAGE_NESTED_RUN);
+        }
+        if (command instanceof UndoCommand || command instanceof RedoCommand) {
+            throw new CommandException(MESSAGE_HISTORY_IN_SCRIPT);
+        }
+
+        model.beginBatch();
+        boolean isExecuted = false;
+        try {
+            command.execute(model);
+            isExecuted = true;
+        } finally {
+            if (!isExecuted) {
+                model.rollback();
+            }
+        }
+        model.commit();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && scriptPath.equals(((RunCommand) other).scriptPath)); // state check
+    }
+}
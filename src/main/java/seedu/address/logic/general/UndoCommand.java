@@ -0,0 +1,27 @@
+package seedu.address.logic.general;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Reverts the changes made by the latest command that has not been undone.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_SUCCESS = "Undid the latest change";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is no change to undo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.undo()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+        return new CommandResult(MESSAGE_SUCCESS, CommandResult.CommandType.GENERAL);
+    }
+}
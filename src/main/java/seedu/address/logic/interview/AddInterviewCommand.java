@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEWER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEW_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROOM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.address.model.position.Position.MESSAGE_POSITION_CLOSED;
 import static seedu.address.model.position.Position.MESSAGE_POSITION_DOES_NOT_EXIST;
@@ -21,6 +23,7 @@ import seedu.address.logic.CommandResult;
 import seedu.address.logic.candidate.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Interviewer;
 import seedu.address.model.person.Person;
 import seedu.address.model.position.Position;
 
@@ -37,19 +40,26 @@ public class AddInterviewCommand extends Command {
             + PREFIX_DATE + "DD/MM/YYYY "
             + PREFIX_TIME + "HHMM "
             + PREFIX_DURATION + "MINUTES (must be a positive integer) \n"
-            + "[" + PREFIX_INTERVIEW_STATUS + "STATUS]\n"
+            + "[" + PREFIX_INTERVIEW_STATUS + "STATUS] "
+            + "[" + PREFIX_ROOM + "ROOM] "
+            + "[" + PREFIX_INTERVIEWER + "INTERVIEWER]...\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_POSITION + "Bookkeeper "
             + PREFIX_CANDIDATE_INDEX + "1 "
             + PREFIX_DATE + "15/10/2021 "
             + PREFIX_TIME + "1400 "
             + PREFIX_DURATION + "120 "
-            + PREFIX_INTERVIEW_STATUS + "pending";
+            + PREFIX_INTERVIEW_STATUS + "pending "
+            + PREFIX_ROOM + "Meeting Room 2 "
+            + PREFIX_INTERVIEWER + "Jane Tan";
 
     public static final String MESSAGE_SUCCESS = "New interview added: %1$s";
     public static final String MESSAGE_DUPLICATE_INTERVIEW = "This interview already exists in the HR Manager";
     public static final String MESSAGE_CANDIDATE_DID_NOT_APPLY = "Candidate %1$s did not apply for Position %2$s";
     public static final String MESSAGE_CANDIDATE_IS_NOT_VACANT = "Candidate %1$s is not available in this period";
+    public static final String MESSAGE_ROOM_IS_BOOKED = "Room %1$s is already booked in this period for %2$s";
+    public static final String MESSAGE_INTERVIEWER_IS_BOOKED = "Interviewer %1$s is already holding %2$s "
+            + "in this period";
 
     private final Interview toAdd;
     private final Set<Index> indexes;
@@ -99,10 +109,11 @@ public class AddInterviewCommand extends Command {
         if (model.hasInterview(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_INTERVIEW);
         }
+        checkResourcesFree(model, toAdd, null);
 
         for (Person p : model.getFilteredPersonList()) {
             if (toAdd.hasCandidate(p)) {
-                p.addInterview(toAdd);
+                model.addInterviewToPerson(p, toAdd);
             }
         }
 
@@ -111,6 +122,34 @@ public class AddInterviewCommand extends Command {
                 CommandResult.CommandType.INTERVIEW);
     }
 
+    /**
+     * Checks that the room and interviewers of {@code interview} are not booked for any interview other than
+     * {@code replaced} that overlaps it.
+     *
+     * @throws CommandException if the room or an interviewer would be over-booked.
+     */
+    static void checkResourcesFree(Model model, Interview interview, Interview replaced) throws CommandException {
+        if (interview.getRoom().isEmpty() && interview.getInterviewers().isEmpty()) {
+            return;
+        }
+        for (Interview other : model.getInterviewsDuring(interview.getDate(), interview.getStartTime(),
+                interview.getDuration())) {
+            if (other == replaced) {
+                continue;
+            }
+            if (interview.getRoom().isPresent() && interview.getRoom().equals(other.getRoom())) {
+                throw new CommandException(String.format(MESSAGE_ROOM_IS_BOOKED, interview.getRoom().get(),
+                        other.getDisplayStringWithoutNames()));
+            }
+            for (Interviewer interviewer : interview.getInterviewers()) {
+                if (other.getInterviewers().contains(interviewer)) {
+                    throw new CommandException(String.format(MESSAGE_INTERVIEWER_IS_BOOKED, interviewer,
+                            other.getDisplayStringWithoutNames()));
+                }
+            }
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,116 @@
+package seedu.address.logic.interview;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Room;
+import seedu.address.model.interview.RoomAllocator;
+import seedu.address.model.interview.RoomAllocator.Allocation;
+import seedu.address.model.person.Person;
+
+/**
+ * Gives a room to each interview in a date range that does not have one, and reports the fewest rooms needed and
+ * any over-booked rooms.
+ */
+public class AllocateRoomsCommand extends Command {
+    public static final String COMMAND_WORD = "rooms";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Gives a room to each interview from the first to "
+            + "the last day that does not have one. The rooms already used by interviews, and any rooms given, "
+            + "are used.\n"
+            + "Parameters: "
+            + PREFIX_FROM + "DD/MM/YYYY "
+            + PREFIX_TO + "DD/MM/YYYY "
+            + "[" + PREFIX_ROOM + "ROOM]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "15/10/2021 "
+            + PREFIX_TO + "19/10/2021 "
+            + PREFIX_ROOM + "Meeting Room 1 "
+            + PREFIX_ROOM + "Meeting Room 2";
+
+    public static final String MESSAGE_SUCCESS = "Gave rooms to %1$d of %2$d interview(s) without one. "
+            + "At least %3$d room(s) are needed at once.";
+    public static final String MESSAGE_ALLOCATED = "%1$d. %2$s: %3$s";
+    public static final String MESSAGE_UNALLOCATED = "No room is free for: %1$s";
+    public static final String MESSAGE_OVERBOOKED = "Over-booked: %1$s";
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Set<Room> rooms;
+
+    /**
+     * Creates an AllocateRoomsCommand for the interviews from {@code from} to {@code to}, which may also use
+     * {@code rooms}.
+     */
+    public AllocateRoomsCommand(LocalDate from, LocalDate to, Set<Room> rooms) {
+        requireAllNonNull(from, to, rooms);
+        this.from = from;
+        this.to = to;
+        this.rooms = new HashSet<>(rooms);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Interview> interviews = model.getHrManager().getInterviewList().stream()
+                .filter(interview -> !interview.getDate().isBefore(from) && !interview.getDate().isAfter(to))
+                .collect(Collectors.toList());
+        Set<Room> availableRooms = new HashSet<>(rooms);
+        availableRooms.addAll(model.getRooms());
+
+        Allocation allocation = RoomAllocator.allocate(interviews, availableRooms);
+
+        StringBuilder details = new StringBuilder();
+        int count = 1;
+        for (Map.Entry<Interview, Room> allocated : allocation.getAllocations().entrySet()) {
+            Interview interview = allocated.getKey();
+            Interview interviewWithRoom = interview.withRoom(allocated.getValue());
+            for (Person candidate : interview.getCandidates()) {
+                model.removeInterviewFromPerson(candidate, interview);
+                model.addInterviewToPerson(candidate, interviewWithRoom);
+            }
+            model.setInterview(interview, interviewWithRoom);
+
+            details.append("\n").append(String.format(MESSAGE_ALLOCATED, count, interview.getDisplayString(),
+                    allocated.getValue()));
+            count++;
+        }
+        if (!allocation.getUnallocated().isEmpty()) {
+            details.append("\n").append(String.format(MESSAGE_UNALLOCATED, describe(allocation.getUnallocated())));
+        }
+        if (!allocation.getOverbooked().isEmpty()) {
+            details.append("\n").append(String.format(MESSAGE_OVERBOOKED, describe(allocation.getOverbooked())));
+        }
+
+        int withoutRoomCount = allocation.getAllocations().size() + allocation.getUnallocated().size();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, allocation.getAllocations().size(), withoutRoomCount,
+                allocation.getMinimumRooms()) + details, CommandResult.CommandType.INTERVIEW);
+    }
+
+    private static String describe(List<Interview> interviews) {
+        return interviews.stream().map(Interview::getDisplayStringWithoutNames).collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AllocateRoomsCommand // instanceof handles nulls
+                && from.equals(((AllocateRoomsCommand) other).from) // state check
+                && to.equals(((AllocateRoomsCommand) other).to)
+                && rooms.equals(((AllocateRoomsCommand) other).rooms));
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEW_INDEX;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -68,7 +69,6 @@ public class AssignInterviewCommand extends Command {
         descriptor.setCandidateIndexes(candidateIndexes);
 
         Interview assignedInterview = EditInterviewCommand.createEditedInterview(interview, descriptor);
-        Set<Person> newCandidates = interview.getCandidates();
 
         StringBuilder candidatesAdded = new StringBuilder();
         candidatesAdded.append("\n");
@@ -97,18 +97,20 @@ public class AssignInterviewCommand extends Command {
         }
 
         //executing
+        // The candidates are only added to the new interview, as undo puts the unchanged interview back.
+        Set<Person> assignedCandidates = new HashSet<>(interview.getCandidates());
         int count = 1;
         for (Index candidateIndex : candidateIndexes) {
             Person candidate = lastShownCandidateList.get(candidateIndex.getZeroBased());
 
-            newCandidates.add(candidate);
-            candidate.addInterview(assignedInterview);
+            assignedCandidates.add(candidate);
+            model.addInterviewToPerson(candidate, assignedInterview);
 
             candidatesAdded.append(count + ". " + candidate.getName() + "\n");
             count++;
         }
 
-        assignedInterview.setCandidates(newCandidates);
+        assignedInterview.setCandidates(assignedCandidates);
         model.setInterview(interview, assignedInterview);
 
         result = new CommandResult(String.format(MESSAGE_SUCCESS, interview.getDisplayStringWithoutNames(),
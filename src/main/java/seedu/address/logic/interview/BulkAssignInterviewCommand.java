@@ -0,0 +1,165 @@
+package seedu.address.logic.interview;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEW_INDEX;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+import seedu.address.model.position.Title;
+
+/**
+ * Assigns each of many candidates to each of many interviews.
+ *
+ * Every pair is checked before any candidate is assigned, so that either all of them are assigned or none are.
+ * The positions each candidate applied for are put in a hash set, and their interviews, together with the ones they
+ * are being assigned to, in a tree keyed by start, so checking a pair costs O(log k) for a candidate with k
+ * interviews instead of a scan of all of their interviews and positions.
+ */
+public class BulkAssignInterviewCommand extends Command {
+    public static final String COMMAND_WORD = AssignInterviewCommand.COMMAND_WORD;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Assigns each of the candidates specified by their candidate index to each of the interviews "
+            + "specified by their interview index.\n"
+            + "Parameters: "
+            + PREFIX_INTERVIEW_INDEX + "INTERVIEW_INDEX (must be a positive integer)... "
+            + PREFIX_CANDIDATE_INDEX + "CANDIDATE_INDEX (must be a positive integer)...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_INTERVIEW_INDEX + "1 2 "
+            + PREFIX_CANDIDATE_INDEX + "1 3 ";
+
+    public static final String MESSAGE_SUCCESS = "Candidates added to %1$d interview(s):%2$s";
+    public static final String MESSAGE_INTERVIEW_ASSIGNED = "\n%1$s: %2$s";
+
+    private final Set<Index> interviewIndexes;
+    private final Set<Index> candidateIndexes;
+
+    /**
+     * Creates a BulkAssignInterviewCommand to assign the candidates at {@code candidates} to the interviews at
+     * {@code interviews}.
+     */
+    public BulkAssignInterviewCommand(Set<Index> interviews, Set<Index> candidates) {
+        requireNonNull(interviews);
+        requireNonNull(candidates);
+
+        interviewIndexes = new HashSet<>(interviews);
+        candidateIndexes = new HashSet<>(candidates);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Interview> interviews = getInterviews(model, interviewIndexes);
+        List<Index> sortedCandidateIndexes = sorted(candidateIndexes);
+        List<Person> candidates = new ArrayList<>();
+        for (Index candidateIndex : sortedCandidateIndexes) {
+            if (candidateIndex.getZeroBased() >= model.getFilteredPersonList().size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            candidates.add(model.getFilteredPersonList().get(candidateIndex.getZeroBased()));
+        }
+
+        //checking
+        for (int i = 0; i < candidates.size(); i++) {
+            Person candidate = candidates.get(i);
+            int oneBasedIndex = sortedCandidateIndexes.get(i).getOneBased();
+            Set<Title> appliedTitles = candidate.getPositions().stream().map(Position::getTitle)
+                    .collect(Collectors.toSet());
+            NavigableMap<Long, Interview> busy = new TreeMap<>();
+            candidate.getInterviews().forEach(interview -> busy.put(interview.getStartEpochMinute(), interview));
+
+            for (Interview interview : interviews) {
+                if (!appliedTitles.contains(interview.getPositionTitle())) {
+                    throw new CommandException(String.format(AssignInterviewCommand.MESSAGE_CANDIDATE_DID_NOT_APPLY,
+                            oneBasedIndex, candidate.getName(), interview.getPositionTitle()));
+                }
+                if (interview.hasCandidate(candidate)) {
+                    throw new CommandException(String.format(AssignInterviewCommand.MESSAGE_CANDIDATE_HAS_INTERVIEW,
+                            oneBasedIndex, candidate.getName(), interview.getDisplayStringWithoutNames()));
+                }
+                if (overlapsAny(busy, interview)) {
+                    throw new CommandException(String.format(AssignInterviewCommand.MESSAGE_CANDIDATE_IS_NOT_VACANT,
+                            candidate.getName()));
+                }
+                // The candidate is busy during the interviews they are about to be assigned to as well.
+                busy.put(interview.getStartEpochMinute(), interview);
+            }
+        }
+
+        //executing
+        StringBuilder assignments = new StringBuilder();
+        String names = candidates.stream().map(candidate -> candidate.getName().fullName)
+                .collect(Collectors.joining(", "));
+        for (Interview interview : interviews) {
+            // The candidates of each interview are set once, so the change is journaled once per interview.
+            Set<Person> assignedCandidates = new HashSet<>(interview.getCandidates());
+            assignedCandidates.addAll(candidates);
+            model.setInterviewCandidates(interview, assignedCandidates);
+            for (Person candidate : candidates) {
+                model.addInterviewToPerson(candidate, interview);
+            }
+            assignments.append(String.format(MESSAGE_INTERVIEW_ASSIGNED, interview.getDisplayStringWithoutNames(),
+                    names));
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, interviews.size(), assignments),
+                CommandResult.CommandType.INTERVIEW);
+    }
+
+    /**
+     * Returns the interviews at {@code indexes} in the displayed interview list, in order of their index.
+     *
+     * @throws CommandException if an index is not in the displayed list.
+     */
+    static List<Interview> getInterviews(Model model, Set<Index> indexes) throws CommandException {
+        List<Interview> interviews = new ArrayList<>();
+        for (Index index : sorted(indexes)) {
+            if (index.getZeroBased() >= model.getFilteredInterviewList().size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_INTERVIEW_DISPLAYED_INDEX);
+            }
+            interviews.add(model.getFilteredInterviewList().get(index.getZeroBased()));
+        }
+        return interviews;
+    }
+
+    static List<Index> sorted(Set<Index> indexes) {
+        return indexes.stream().sorted(Comparator.comparingInt(Index::getZeroBased)).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if {@code interview} overlaps any of {@code busy}, which do not overlap each other and are keyed
+     * by start. Only the interviews starting just before and just after it need to be checked.
+     */
+    private static boolean overlapsAny(NavigableMap<Long, Interview> busy, Interview interview) {
+        Map.Entry<Long, Interview> before = busy.floorEntry(interview.getStartEpochMinute());
+        Map.Entry<Long, Interview> after = busy.ceilingEntry(interview.getStartEpochMinute());
+        return (before != null && before.getValue().getEndEpochMinute() > interview.getStartEpochMinute())
+                || (after != null && after.getKey() < interview.getEndEpochMinute());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BulkAssignInterviewCommand // instanceof handles nulls
+                && interviewIndexes.equals(((BulkAssignInterviewCommand) other).interviewIndexes) // state check
+                && candidateIndexes.equals(((BulkAssignInterviewCommand) other).candidateIndexes));
+    }
+}
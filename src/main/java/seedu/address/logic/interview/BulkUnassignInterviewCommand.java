@@ -0,0 +1,124 @@
+package seedu.address.logic.interview;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEW_INDEX;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.person.Person;
+
+/**
+ * Unassigns each of many candidates, or all candidates, from each of many interviews.
+ *
+ * Every pair is checked against the candidates of the interview, which is a hash lookup, before any candidate is
+ * unassigned, so that either all of them are unassigned or none are.
+ */
+public class BulkUnassignInterviewCommand extends Command {
+    public static final String COMMAND_WORD = UnassignInterviewCommand.COMMAND_WORD;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Unassigns each of the candidates specified by their candidate index, or all candidates with *, "
+            + "from each of the interviews specified by their interview index.\n"
+            + "Parameters: "
+            + PREFIX_INTERVIEW_INDEX + "INTERVIEW_INDEX (must be a positive integer)... "
+            + PREFIX_CANDIDATE_INDEX + "CANDIDATE_INDEX (must be a positive integer)... or *\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_INTERVIEW_INDEX + "1 2 "
+            + PREFIX_CANDIDATE_INDEX + "1 3 ";
+
+    public static final String MESSAGE_SUCCESS = "Candidates removed from %1$d interview(s):%2$s";
+    public static final String MESSAGE_INTERVIEW_UNASSIGNED = "\n%1$s: %2$s";
+
+    private final Set<Index> interviewIndexes;
+    private final Set<Index> candidateIndexes;
+    private final boolean isTotalWipe;
+
+    /**
+     * Creates a BulkUnassignInterviewCommand to unassign the candidates at {@code candidates} from the interviews at
+     * {@code interviews}.
+     */
+    public BulkUnassignInterviewCommand(Set<Index> interviews, Set<Index> candidates) {
+        requireNonNull(interviews);
+        requireNonNull(candidates);
+
+        interviewIndexes = new HashSet<>(interviews);
+        candidateIndexes = new HashSet<>(candidates);
+        isTotalWipe = false;
+    }
+
+    /**
+     * Creates a BulkUnassignInterviewCommand to unassign all candidates from the interviews at {@code interviews}.
+     */
+    public BulkUnassignInterviewCommand(Set<Index> interviews) {
+        requireNonNull(interviews);
+
+        interviewIndexes = new HashSet<>(interviews);
+        candidateIndexes = new HashSet<>();
+        isTotalWipe = true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Interview> interviews = BulkAssignInterviewCommand.getInterviews(model, interviewIndexes);
+        List<Index> sortedCandidateIndexes = BulkAssignInterviewCommand.sorted(candidateIndexes);
+        List<Person> candidates = new ArrayList<>();
+        for (Index candidateIndex : sortedCandidateIndexes) {
+            if (candidateIndex.getZeroBased() >= model.getFilteredPersonList().size()) {
+                throw new CommandException(String.format(UnassignInterviewCommand.MESSAGE_CANDIDATE_INDEX_NOT_VALID,
+                        candidateIndex.getOneBased()));
+            }
+            candidates.add(model.getFilteredPersonList().get(candidateIndex.getZeroBased()));
+        }
+
+        //checking
+        for (Interview interview : interviews) {
+            for (int i = 0; i < candidates.size(); i++) {
+                if (!interview.hasCandidate(candidates.get(i))) {
+                    throw new CommandException(String.format(UnassignInterviewCommand.MESSAGE_CANDIDATE_DID_NOT_APPLY,
+                            sortedCandidateIndexes.get(i).getOneBased(), candidates.get(i).getName(),
+                            interview.getDisplayString()));
+                }
+            }
+        }
+
+        //executing
+        StringBuilder unassignments = new StringBuilder();
+        for (Interview interview : interviews) {
+            List<Person> toRemove = isTotalWipe ? new ArrayList<>(interview.getCandidates()) : candidates;
+            // The candidates of each interview are set once, so the change is journaled once per interview.
+            Set<Person> remainingCandidates = new HashSet<>(isTotalWipe ? Set.of() : interview.getCandidates());
+            toRemove.forEach(remainingCandidates::remove);
+            model.setInterviewCandidates(interview, remainingCandidates);
+            for (Person candidate : toRemove) {
+                model.removeInterviewFromPerson(candidate, interview);
+            }
+            unassignments.append(String.format(MESSAGE_INTERVIEW_UNASSIGNED, interview.getDisplayStringWithoutNames(),
+                    toRemove.stream().map(candidate -> candidate.getName().fullName)
+                            .collect(Collectors.joining(", "))));
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, interviews.size(), unassignments),
+                CommandResult.CommandType.INTERVIEW);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BulkUnassignInterviewCommand // instanceof handles nulls
+                && interviewIndexes.equals(((BulkUnassignInterviewCommand) other).interviewIndexes) // state check
+                && candidateIndexes.equals(((BulkUnassignInterviewCommand) other).candidateIndexes)
+                && isTotalWipe == ((BulkUnassignInterviewCommand) other).isTotalWipe);
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.logic.interview;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.interview.InterviewCalendar;
+
+/**
+ * Shows the interviews of a day or a week in a calendar.
+ */
+public class CalendarCommand extends Command {
+    public static final String COMMAND_WORD = "calendar";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the interviews of a week or a day in a "
+            + "calendar, or moves the calendar to the next or previous week or day. The week or day shown last is "
+            + "used if no date is given.\n"
+            + "Parameters: [week|day] [" + PREFIX_DATE + "DD/MM/YYYY] or next|prev\n"
+            + "Example: " + COMMAND_WORD + " week "
+            + PREFIX_DATE + "19/10/2021";
+
+    public static final String MESSAGE_SUCCESS = "Showing %1$d interview(s) from %2$s to %3$s";
+
+    private static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("EEE d MMM yyyy", Locale.ENGLISH);
+
+    /**
+     * What the calendar is made to show.
+     */
+    public enum Action {
+        WEEK("week"),
+        DAY("day"),
+        NEXT("next"),
+        PREVIOUS("prev");
+
+        private final String keyword;
+
+        Action(String keyword) {
+            this.keyword = keyword;
+        }
+
+        /**
+         * Returns the action given by {@code keyword}, if any.
+         */
+        public static Optional<Action> of(String keyword) {
+            for (Action action : values()) {
+                if (action.keyword.equals(keyword)) {
+                    return Optional.of(action);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private final Action action;
+    private final Optional<LocalDate> date;
+
+    /**
+     * Creates a CalendarCommand that shows the week or day of {@code date}, or the week or day shown last if
+     * {@code date} is empty. The date is ignored when moving to the next or previous week or day.
+     */
+    public CalendarCommand(Action action, Optional<LocalDate> date) {
+        requireNonNull(action);
+        requireNonNull(date);
+        this.action = action;
+        this.date = date;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        InterviewCalendar calendar = model.getInterviewCalendar();
+        switch (action) {
+        case DAY:
+            calendar.showDay(date.orElse(calendar.getStartDate()));
+            break;
+        case NEXT:
+            calendar.showNext();
+            break;
+        case PREVIOUS:
+            calendar.showPrevious();
+            break;
+        default:
+            calendar.showWeek(date.orElse(calendar.getStartDate()));
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, calendar.getInterviewCount(),
+                DATE_FORMATTER.format(calendar.getStartDate()), DATE_FORMATTER.format(calendar.getEndDate())),
+                CommandResult.CommandType.CALENDAR);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CalendarCommand // instanceof handles nulls
+                && action == ((CalendarCommand) other).action // state check
+                && date.equals(((CalendarCommand) other).date));
+    }
+}
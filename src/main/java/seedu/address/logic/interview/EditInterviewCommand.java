@@ -3,8 +3,10 @@ package seedu.address.logic.interview;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEWER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEW_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROOM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.address.model.position.Position.MESSAGE_POSITION_CLOSED;
 import static seedu.address.model.position.Position.MESSAGE_POSITION_DOES_NOT_EXIST;
@@ -27,6 +29,8 @@ import seedu.address.logic.candidate.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.interview.Interview;
 import seedu.address.model.interview.Interview.InterviewStatus;
+import seedu.address.model.interview.Interviewer;
+import seedu.address.model.interview.Room;
 import seedu.address.model.person.Person;
 import seedu.address.model.position.Position;
 
@@ -42,7 +46,9 @@ public class EditInterviewCommand extends Command {
             + "[" + PREFIX_DATE + "DATE] "
             + "[" + PREFIX_TIME + "TIME] "
             + "[" + PREFIX_DURATION + "DURATION] "
-            + "[" + PREFIX_INTERVIEW_STATUS + "STATUS]\n"
+            + "[" + PREFIX_INTERVIEW_STATUS + "STATUS] "
+            + "[" + PREFIX_ROOM + "ROOM] "
+            + "[" + PREFIX_INTERVIEWER + "INTERVIEWER]...\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_DATE + "15/10/2021 "
             + PREFIX_TIME + "1400 ";
@@ -99,9 +105,11 @@ public class EditInterviewCommand extends Command {
             }
         }
 
+        AddInterviewCommand.checkResourcesFree(model, editedInterview, interviewToEdit);
+
         for (Person candidate : interviewToEdit.getCandidates()) {
-            candidate.deleteInterview(interviewToEdit);
-            candidate.addInterview(editedInterview);
+            model.removeInterviewFromPerson(candidate, interviewToEdit);
+            model.addInterviewToPerson(candidate, editedInterview);
         }
 
         editedInterview.setPosition(model.getPositionReference(newPosition));
@@ -125,9 +133,13 @@ public class EditInterviewCommand extends Command {
         LocalTime updatedTime = editInterviewDescriptor.getStartTime().orElse(interviewToEdit.getStartTime());
         Duration updatedDuration = editInterviewDescriptor.getDuration().orElse(interviewToEdit.getDuration());
         InterviewStatus updatedStatus = editInterviewDescriptor.getStatus().orElse(interviewToEdit.getStatus());
+        Room updatedRoom = editInterviewDescriptor.getRoom().or(interviewToEdit::getRoom).orElse(null);
+        Set<Interviewer> updatedInterviewers =
+                editInterviewDescriptor.getInterviewers().orElse(interviewToEdit.getInterviewers());
 
+        //new interview with all fields except candidates updated
         return new Interview(updatedPosition, initialCandidates, updatedDate,
-                updatedTime, updatedDuration, updatedStatus); //new interview with all fields except candidates updated
+                updatedTime, updatedDuration, updatedStatus, updatedRoom, updatedInterviewers);
     }
 
     @Override
@@ -159,6 +171,8 @@ public class EditInterviewCommand extends Command {
         private LocalTime startTime;
         private Duration duration;
         private InterviewStatus status;
+        private Room room;
+        private Set<Interviewer> interviewers;
 
         public EditInterviewDescriptor() {
         }
@@ -174,13 +188,16 @@ public class EditInterviewCommand extends Command {
             setStartTime(toCopy.startTime);
             setDuration(toCopy.duration);
             setStatus(toCopy.status);
+            setRoom(toCopy.room);
+            setInterviewers(toCopy.interviewers);
         }
 
         /**
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(position, candidateIndexes, date, startTime, duration, status);
+            return CollectionUtil.isAnyNonNull(position, candidateIndexes, date, startTime, duration, status, room,
+                    interviewers);
         }
 
         public void setPosition(Position position) {
@@ -242,6 +259,31 @@ public class EditInterviewCommand extends Command {
             return Optional.ofNullable(status);
         }
 
+        public void setRoom(Room room) {
+            this.room = room;
+        }
+
+        public Optional<Room> getRoom() {
+            return Optional.ofNullable(room);
+        }
+
+        /**
+         * Sets {@code interviewers} to this object's {@code interviewers}.
+         * A defensive copy of {@code interviewers} is used internally.
+         */
+        public void setInterviewers(Set<Interviewer> interviewers) {
+            this.interviewers = (interviewers != null) ? new HashSet<>(interviewers) : null;
+        }
+
+        /**
+         * Returns an unmodifiable interviewer set, which throws {@code UnsupportedOperationException}
+         * if modification is attempted.
+         * Returns {@code Optional#empty()} if {@code interviewers} is null.
+         */
+        public Optional<Set<Interviewer>> getInterviewers() {
+            return (interviewers != null) ? Optional.of(Collections.unmodifiableSet(interviewers)) : Optional.empty();
+        }
+
         @Override
         public boolean equals(Object other) {
             // short circuit if same object
@@ -262,7 +304,9 @@ public class EditInterviewCommand extends Command {
                     && getDate().equals(e.getDate())
                     && getStartTime().equals(e.getStartTime())
                     && getDuration().equals(e.getDuration())
-                    && getStatus().equals(e.getStatus());
+                    && getStatus().equals(e.getStatus())
+                    && getRoom().equals(e.getRoom())
+                    && getInterviewers().equals(e.getInterviewers());
         }
     }
 }
@@ -0,0 +1,93 @@
+package seedu.address.logic.interview;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Interviewer;
+import seedu.address.model.interview.Room;
+
+/**
+ * Lists the interviewers and rooms that are not booked for any interview in a period.
+ */
+public class FreeResourcesCommand extends Command {
+    public static final String COMMAND_WORD = "free";
+
+    /** The period checked when no duration is given, which is the minute starting at the given time. */
+    public static final Duration DEFAULT_DURATION = Duration.ofMinutes(1);
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the interviewers and rooms that are free "
+            + "at the given time, or for the whole period if a duration is given.\n"
+            + "Parameters: "
+            + PREFIX_DATE + "DD/MM/YYYY "
+            + PREFIX_TIME + "HHMM "
+            + "[" + PREFIX_DURATION + "MINUTES]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DATE + "19/10/2021 "
+            + PREFIX_TIME + "1400";
+
+    public static final String MESSAGE_SUCCESS = "Free on %1$s from %2$s to %3$s:\nInterviewers: %4$s\nRooms: %5$s";
+    public static final String MESSAGE_NONE = "none";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy", Locale.ENGLISH);
+
+    private final LocalDate date;
+    private final LocalTime startTime;
+    private final Duration duration;
+
+    /**
+     * Creates a FreeResourcesCommand for the period of {@code duration} starting at {@code startTime} on
+     * {@code date}.
+     */
+    public FreeResourcesCommand(LocalDate date, LocalTime startTime, Duration duration) {
+        requireAllNonNull(date, startTime, duration);
+        this.date = date;
+        this.startTime = startTime;
+        this.duration = duration;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Interviewer> freeInterviewers = new TreeSet<>(model.getInterviewers());
+        Set<Room> freeRooms = new TreeSet<>(model.getRooms());
+        for (Interview interview : model.getInterviewsDuring(date, startTime, duration)) {
+            freeInterviewers.removeAll(interview.getInterviewers());
+            interview.getRoom().ifPresent(freeRooms::remove);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, DATE_FORMATTER.format(date), startTime,
+                startTime.plus(duration), join(freeInterviewers), join(freeRooms)),
+                CommandResult.CommandType.INTERVIEW);
+    }
+
+    private static String join(Set<?> resources) {
+        return resources.isEmpty()
+                ? MESSAGE_NONE
+                : resources.stream().map(Object::toString).collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FreeResourcesCommand // instanceof handles nulls
+                && date.equals(((FreeResourcesCommand) other).date) // state check
+                && startTime.equals(((FreeResourcesCommand) other).startTime)
+                && duration.equals(((FreeResourcesCommand) other).duration));
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.address.logic.interview;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.model.position.Position.MESSAGE_POSITION_CLOSED;
+import static seedu.address.model.position.Position.MESSAGE_POSITION_DOES_NOT_EXIST;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Interview.InterviewStatus;
+import seedu.address.model.interview.InterviewScheduler;
+import seedu.address.model.interview.InterviewScheduler.Schedule;
+import seedu.address.model.interview.InterviewScheduler.Slot;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+
+/**
+ * Adds an interview for each of the given candidates, at times that clash with none of their other interviews
+ * and with no other interview for the position.
+ */
+public class ScheduleInterviewCommand extends Command {
+    public static final String COMMAND_WORD = "schedule";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Schedules an interview for each candidate, "
+            + "one candidate at a time, within the working hours of the given days. "
+            + "If no candidates are given, every listed candidate who applied for the position and has no interview "
+            + "for it is scheduled.\n"
+            + "Parameters: "
+            + PREFIX_POSITION + "POSITION "
+            + "[" + PREFIX_CANDIDATE_INDEX + "INDEX (must be a positive integer)]... "
+            + PREFIX_FROM + "DD/MM/YYYY "
+            + PREFIX_TO + "DD/MM/YYYY "
+            + PREFIX_HOURS + "HHMM-HHMM "
+            + PREFIX_DURATION + "MINUTES (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_POSITION + "Bookkeeper "
+            + PREFIX_CANDIDATE_INDEX + "1 2 3 "
+            + PREFIX_FROM + "15/10/2021 "
+            + PREFIX_TO + "19/10/2021 "
+            + PREFIX_HOURS + "0900-1700 "
+            + PREFIX_DURATION + "30";
+
+    public static final String MESSAGE_SUCCESS = "Scheduled %1$d of %2$d candidate(s) for %3$s:\n%4$s";
+    public static final String MESSAGE_UNPLACED = "No free time was found for: %1$s";
+    public static final String MESSAGE_NO_CANDIDATES = "There are no candidates to schedule for %1$s";
+    public static final String MESSAGE_CANDIDATE_DID_NOT_APPLY = "Candidate %1$s did not apply for Position %2$s";
+
+    private final Position position;
+    private final Set<Index> indexes;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final LocalTime dayStart;
+    private final LocalTime dayEnd;
+    private final Duration duration;
+
+    /**
+     * Creates a ScheduleInterviewCommand to schedule the candidates at {@code indexes}, or every listed candidate for
+     * {@code position} if there are none, between {@code dayStart} and {@code dayEnd} from {@code from} to {@code to}.
+     */
+    public ScheduleInterviewCommand(Position position, Set<Index> indexes, LocalDate from, LocalDate to,
+            LocalTime dayStart, LocalTime dayEnd, Duration duration) {
+        requireAllNonNull(position, indexes, from, to, dayStart, dayEnd, duration);
+        this.position = position;
+        this.indexes = indexes;
+        this.from = from;
+        this.to = to;
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+        this.duration = duration;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasPosition(position)) {
+            throw new CommandException(String.format(MESSAGE_POSITION_DOES_NOT_EXIST, position.getTitle()));
+        }
+        if (model.isPositionClosed(position)) {
+            throw new CommandException(String.format(MESSAGE_POSITION_CLOSED, position.getTitle()));
+        }
+        Position positionReference = model.getPositionReference(position);
+
+        List<Interview> positionInterviews = model.getHrManager().getInterviewList().stream()
+                .filter(interview -> interview.getPositionTitle().equals(position.getTitle()))
+                .collect(Collectors.toList());
+        List<Person> candidates = getCandidates(model, positionInterviews);
+        if (candidates.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_CANDIDATES, position.getTitle()));
+        }
+
+        Schedule schedule = new InterviewScheduler(from, to, dayStart, dayEnd, duration, positionInterviews)
+                .schedule(candidates);
+
+        StringBuilder scheduled = new StringBuilder();
+        int count = 1;
+        for (Map.Entry<Person, Slot> placement : schedule.getPlacements().entrySet()) {
+            Person candidate = placement.getKey();
+            Slot slot = placement.getValue();
+            Interview interview = new Interview(positionReference, new HashSet<>(Set.of(candidate)),
+                    slot.getDate(), slot.getStartTime(), duration, InterviewStatus.PENDING);
+            model.addInterviewToPerson(candidate, interview);
+            model.addInterview(interview);
+
+            scheduled.append(count + ". " + candidate.getName() + ": " + interview.getDisplayDate() + " "
+                    + interview.getDisplayTimePeriod() + "\n");
+            count++;
+        }
+        if (!schedule.getUnplaced().isEmpty()) {
+            scheduled.append(String.format(MESSAGE_UNPLACED, schedule.getUnplaced().stream()
+                    .map(candidate -> candidate.getName().fullName)
+                    .collect(Collectors.joining(", "))));
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, schedule.getPlacements().size(), candidates.size(),
+                position.getTitle(), scheduled.toString().trim()), CommandResult.CommandType.INTERVIEW);
+    }
+
+    /**
+     * Returns the candidates at {@code indexes}, or every listed candidate who applied for the position and has
+     * none of {@code positionInterviews} if no indexes were given.
+     */
+    private List<Person> getCandidates(Model model, List<Interview> positionInterviews) throws CommandException {
+        List<Person> lastShownPersonList = model.getFilteredPersonList();
+        List<Person> candidates = new ArrayList<>();
+        if (indexes.isEmpty()) {
+            for (Person person : lastShownPersonList) {
+                if (person.appliedForPosition(position)
+                        && positionInterviews.stream().noneMatch(person::hasInterview)) {
+                    candidates.add(person);
+                }
+            }
+            return candidates;
+        }
+
+        List<Index> sortedIndexes = new ArrayList<>(indexes);
+        sortedIndexes.sort(Comparator.comparingInt(Index::getZeroBased));
+        for (Index index : sortedIndexes) {
+            if (index.getZeroBased() >= lastShownPersonList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            Person person = lastShownPersonList.get(index.getZeroBased());
+            if (!person.appliedForPosition(position)) {
+                throw new CommandException(String.format(MESSAGE_CANDIDATE_DID_NOT_APPLY,
+                        person.getName(), position));
+            }
+            candidates.add(person);
+        }
+        return candidates;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof ScheduleInterviewCommand)) { // instanceof handles nulls
+            return false;
+        }
+
+        // state check
+        ScheduleInterviewCommand otherCommand = (ScheduleInterviewCommand) other;
+        return position.equals(otherCommand.position)
+                && indexes.equals(otherCommand.indexes)
+                && from.equals(otherCommand.from)
+                && to.equals(otherCommand.to)
+                && dayStart.equals(otherCommand.dayStart)
+                && dayEnd.equals(otherCommand.dayEnd)
+                && duration.equals(otherCommand.duration);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.interview;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.SortOrder;
+import seedu.address.model.interview.InterviewTimeComparator;
+
+/**
+ * Sorts the displayed interviews in the HR Manager by date and time.
+ */
+public class SortInterviewCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort_i";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed interviews by date and time. "
+            + "Use 'none' to restore the order in which they were added.\n"
+            + "Parameters: [asc|desc|none]\n"
+            + "Example: " + COMMAND_WORD + " desc";
+
+    public static final String MESSAGE_SUCCESS = "Sorted interviews by date and time (%s)";
+
+    public static final String MESSAGE_SUCCESS_UNSORTED = "Restored interviews to the order they were added";
+
+    private final SortOrder order;
+
+    /**
+     * Creates a SortInterviewCommand to sort the interviews in the given {@code order}.
+     */
+    public SortInterviewCommand(SortOrder order) {
+        requireNonNull(order);
+        this.order = order;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateSortedInterviewList(order.apply(new InterviewTimeComparator()));
+        String message = order == SortOrder.NONE ? MESSAGE_SUCCESS_UNSORTED : String.format(MESSAGE_SUCCESS, order);
+        return new CommandResult(message, CommandResult.CommandType.GENERAL);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortInterviewCommand // instanceof handles nulls
+                && order == ((SortInterviewCommand) other).order); // state check
+    }
+}
@@ -96,7 +96,7 @@ public class UnassignInterviewCommand extends Command {
 
         if (isTotalWipe) {
             Set<Person> emptyCandidatesSet = new HashSet<>();
-            interviewToUnassign.setCandidates(emptyCandidatesSet);
+            model.setInterviewCandidates(interviewToUnassign, emptyCandidatesSet);
             model.deleteInterviewFromPerson(interviewToUnassign);
             result = new CommandResult(String.format(MESSAGE_ALL_CANDIDATES_REMOVED,
                     interviewToUnassign.getDisplayStringWithoutNames()),
@@ -108,8 +108,8 @@ public class UnassignInterviewCommand extends Command {
 
             for (Index candidateIndex : candidateIndexes) {
                 Person candidate = lastShownCandidateList.get(candidateIndex.getZeroBased());
-                interviewToUnassign.deleteCandidate(candidate);
-                candidate.deleteInterview(interviewToUnassign);
+                model.removeCandidateFromInterview(interviewToUnassign, candidate);
+                model.removeInterviewFromPerson(candidate, interviewToUnassign);
 
                 removedPersons.append(count + ". " + candidate.getName() + "\n");
                 count++;
@@ -4,8 +4,10 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEWER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEW_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROOM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 
 import java.time.Duration;
@@ -20,6 +22,8 @@ import seedu.address.logic.interview.AddInterviewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.interview.Interview;
 import seedu.address.model.interview.Interview.InterviewStatus;
+import seedu.address.model.interview.Interviewer;
+import seedu.address.model.interview.Room;
 import seedu.address.model.position.Position;
 
 public class AddInterviewCommandParser implements Parser<AddInterviewCommand> {
@@ -33,7 +37,7 @@ public class AddInterviewCommandParser implements Parser<AddInterviewCommand> {
     public AddInterviewCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_POSITION, PREFIX_CANDIDATE_INDEX, PREFIX_DATE, PREFIX_TIME,
-                        PREFIX_DURATION, PREFIX_INTERVIEW_STATUS);
+                        PREFIX_DURATION, PREFIX_INTERVIEW_STATUS, PREFIX_ROOM, PREFIX_INTERVIEWER);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_POSITION, PREFIX_DATE, PREFIX_TIME,
                 PREFIX_DURATION)
@@ -48,6 +52,11 @@ public class AddInterviewCommandParser implements Parser<AddInterviewCommand> {
         InterviewStatus interviewStatus = ParserUtil.parseInterviewStatus(argMultimap
                 .getValue(PREFIX_INTERVIEW_STATUS).orElse(""));
 
+        Room room = argMultimap.getValue(PREFIX_ROOM).isPresent()
+                ? ParserUtil.parseRoom(argMultimap.getValue(PREFIX_ROOM).get())
+                : null;
+        Set<Interviewer> interviewers = ParserUtil.parseInterviewers(argMultimap.getAllValues(PREFIX_INTERVIEWER));
+
         Set<Index> indexes;
         String candidateIndexes = argMultimap.getValue(PREFIX_CANDIDATE_INDEX).orElse("");
         if (candidateIndexes.equals("")) {
@@ -56,7 +65,8 @@ public class AddInterviewCommandParser implements Parser<AddInterviewCommand> {
             indexes = ParserUtil.parseCandidateIndexes(candidateIndexes);
         }
 
-        Interview interview = new Interview(position, new HashSet<>(), date, time, duration, interviewStatus);
+        Interview interview = new Interview(position, new HashSet<>(), date, time, duration, interviewStatus,
+                room, interviewers);
 
         return new AddInterviewCommand(interview, indexes);
     }
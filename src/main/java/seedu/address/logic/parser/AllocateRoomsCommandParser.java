@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.logic.interview.AllocateRoomsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.interview.Room;
+
+public class AllocateRoomsCommandParser implements Parser<AllocateRoomsCommand> {
+
+    public static final String MESSAGE_DATE_RANGE_CONSTRAINTS = "The last day should not be before the first day.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AllocateRoomsCommand
+     * and returns an AllocateRoomsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AllocateRoomsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO, PREFIX_ROOM);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_FROM, PREFIX_TO) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AllocateRoomsCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDate to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        if (to.isBefore(from)) {
+            throw new ParseException(MESSAGE_DATE_RANGE_CONSTRAINTS);
+        }
+        Set<Room> rooms = ParserUtil.parseRooms(argMultimap.getAllValues(PREFIX_ROOM));
+
+        return new AllocateRoomsCommand(from, to, rooms);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
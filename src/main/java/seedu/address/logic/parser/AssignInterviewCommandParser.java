@@ -8,19 +8,22 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Command;
 import seedu.address.logic.interview.AssignInterviewCommand;
+import seedu.address.logic.interview.BulkAssignInterviewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
-public class AssignInterviewCommandParser implements Parser<AssignInterviewCommand> {
+public class AssignInterviewCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the AssignInterviewCommand
-     * and returns an AssignInterviewCommand object for execution.
+     * and returns an AssignInterviewCommand object for execution, or a BulkAssignInterviewCommand if several
+     * interview indexes are given.
      *
      * @throws ParseException if the user input does not conform the expected format.
      */
     @Override
-    public AssignInterviewCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_CANDIDATE_INDEX, PREFIX_INTERVIEW_INDEX);
 
@@ -30,17 +33,23 @@ public class AssignInterviewCommandParser implements Parser<AssignInterviewComma
                     AssignInterviewCommand.MESSAGE_USAGE));
         }
 
-        Index interviewIndex;
+        Set<Index> interviewIndexes;
         try {
-            interviewIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INTERVIEW_INDEX).orElse(""));
+            interviewIndexes = ParserUtil.parseCandidateIndexes(
+                    argMultimap.getValue(PREFIX_INTERVIEW_INDEX).orElse(""));
         } catch (ParseException pe) {
             throw new ParseException(ParserUtil.MESSAGE_EMPTY_INTERVIEW_INDEXES);
         }
+        boolean isBulk = interviewIndexes.size() > 1;
+        Index interviewIndex = interviewIndexes.iterator().next();
 
         Set<Index> candidateIndexes;
         String candidateIndexInput = argMultimap.getValue(PREFIX_CANDIDATE_INDEX).orElse("");
 
         candidateIndexes = ParserUtil.parseCandidateIndexes(candidateIndexInput);
+        if (isBulk) {
+            return new BulkAssignInterviewCommand(interviewIndexes, candidateIndexes);
+        }
         return new AssignInterviewCommand(interviewIndex, candidateIndexes);
 
     }
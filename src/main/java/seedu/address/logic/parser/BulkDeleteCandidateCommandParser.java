@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_WHERE;
+
+import seedu.address.logic.candidate.BulkDeleteCandidateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.FindCandidateCommandPredicate;
+
+/**
+ * Parses input arguments and creates a new BulkDeleteCandidateCommand object
+ */
+public class BulkDeleteCandidateCommandParser implements Parser<BulkDeleteCandidateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BulkDeleteCandidateCommand
+     * and returns a BulkDeleteCandidateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BulkDeleteCandidateCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (!startsWithWhere(args)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    BulkDeleteCandidateCommand.MESSAGE_USAGE));
+        }
+
+        String conditions = " " + args.trim().substring(KEYWORD_WHERE.length());
+        FindCandidateCommandPredicate predicate = FindCandidateCommandParser.parsePredicate(conditions);
+        if (!predicate.isAnyField()
+                || !ArgumentTokenizer.tokenize(conditions, FindCandidateCommandParser.PREFIXES).getPreamble()
+                        .isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    BulkDeleteCandidateCommand.MESSAGE_USAGE));
+        }
+        return new BulkDeleteCandidateCommand(predicate);
+    }
+
+    /**
+     * Returns true if {@code args} start with the {@code where} keyword, which selects candidates by conditions
+     * instead of by index.
+     */
+    public static boolean startsWithWhere(String args) {
+        return args.trim().split("\\s+", 2)[0].equals(KEYWORD_WHERE);
+    }
+}
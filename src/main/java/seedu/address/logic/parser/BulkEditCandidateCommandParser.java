@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_SET;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_WHERE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.candidate.BulkEditCandidateCommand;
+import seedu.address.logic.candidate.EditCandidateCommand.EditPersonDescriptor;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.FindCandidateCommandPredicate;
+
+/**
+ * Parses input arguments and creates a new BulkEditCandidateCommand object
+ */
+public class BulkEditCandidateCommandParser implements Parser<BulkEditCandidateCommand> {
+
+    public static final String MESSAGE_EMAIL_NOT_EDITABLE = "The email of many candidates cannot be edited at once, "
+            + "as every candidate must have a different email.";
+
+    /** The conditions, then the first {@code set} keyword, then the fields to edit. */
+    private static final Pattern BULK_EDIT_FORMAT = Pattern.compile(
+            "\\s*" + KEYWORD_WHERE + "(?<conditions>\\s.*?)\\s" + KEYWORD_SET + "(?<fields>\\s.*)");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BulkEditCandidateCommand
+     * and returns a BulkEditCandidateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BulkEditCandidateCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        Matcher matcher = BULK_EDIT_FORMAT.matcher(args);
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    BulkEditCandidateCommand.MESSAGE_USAGE));
+        }
+
+        String conditions = matcher.group("conditions");
+        FindCandidateCommandPredicate predicate = FindCandidateCommandParser.parsePredicate(conditions);
+        ArgumentMultimap fieldsMultimap = ArgumentTokenizer.tokenize(matcher.group("fields"),
+                EditCandidateCommandParser.PREFIXES);
+        if (!predicate.isAnyField()
+                || !ArgumentTokenizer.tokenize(conditions, FindCandidateCommandParser.PREFIXES).getPreamble()
+                        .isEmpty()
+                || !fieldsMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    BulkEditCandidateCommand.MESSAGE_USAGE));
+        }
+        if (fieldsMultimap.getValue(PREFIX_EMAIL).isPresent()) {
+            throw new ParseException(MESSAGE_EMAIL_NOT_EDITABLE);
+        }
+
+        EditPersonDescriptor editPersonDescriptor =
+                new EditCandidateCommandParser().parseEditPersonDescriptor(fieldsMultimap);
+        return new BulkEditCandidateCommand(predicate, editPersonDescriptor);
+    }
+}
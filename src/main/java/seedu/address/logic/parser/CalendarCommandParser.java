@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.logic.interview.CalendarCommand;
+import seedu.address.logic.interview.CalendarCommand.Action;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CalendarCommandParser implements Parser<CalendarCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CalendarCommand
+     * and returns a CalendarCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CalendarCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE);
+
+        String preamble = argMultimap.getPreamble().trim().toLowerCase();
+        Optional<Action> action = preamble.isEmpty() ? Optional.of(Action.WEEK) : Action.of(preamble);
+        boolean isMove = action.isPresent() && (action.get() == Action.NEXT || action.get() == Action.PREVIOUS);
+        if (action.isEmpty() || (isMove && argMultimap.getValue(PREFIX_DATE).isPresent())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CalendarCommand.MESSAGE_USAGE));
+        }
+
+        Optional<LocalDate> date = argMultimap.getValue(PREFIX_DATE).isPresent()
+                ? Optional.of(ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get()))
+                : Optional.empty();
+        return new CalendarCommand(action.get(), date);
+    }
+}
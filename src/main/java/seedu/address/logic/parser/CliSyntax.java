@@ -1,5 +1,7 @@
 package seedu.address.logic.parser;
 
+import java.util.List;
+
 /**
  * Contains Command Line Interface (CLI) syntax definitions common to multiple commands
  */
@@ -21,5 +23,22 @@ public class CliSyntax {
     public static final Prefix PREFIX_TIME = new Prefix("time=");
     public static final Prefix PREFIX_DURATION = new Prefix("duration=");
     public static final Prefix PREFIX_INTERVIEW_STATUS = new Prefix("interviewed=");
+    public static final Prefix PREFIX_MATCH = new Prefix("match=");
+    public static final Prefix PREFIX_FROM = new Prefix("from=");
+    public static final Prefix PREFIX_TO = new Prefix("to=");
+    public static final Prefix PREFIX_HOURS = new Prefix("hours=");
+    public static final Prefix PREFIX_ROOM = new Prefix("room=");
+    public static final Prefix PREFIX_INTERVIEWER = new Prefix("interviewer=");
+
+    /** Every prefix, for suggesting them as commands are typed. Some prefixes are the same text. */
+    public static final List<Prefix> PREFIXES = List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+            PREFIX_TAG, PREFIX_REMARK, PREFIX_STATUS, PREFIX_TITLE, PREFIX_POSITION, PREFIX_POSITION_STATUS,
+            PREFIX_CANDIDATE_INDEX, PREFIX_INTERVIEW_INDEX, PREFIX_DATE, PREFIX_TIME, PREFIX_DURATION,
+            PREFIX_INTERVIEW_STATUS, PREFIX_MATCH, PREFIX_FROM, PREFIX_TO, PREFIX_HOURS, PREFIX_ROOM,
+            PREFIX_INTERVIEWER);
+
+    /* Keyword definitions */
+    public static final String KEYWORD_WHERE = "where";
+    public static final String KEYWORD_SET = "set";
 
 }
@@ -0,0 +1,94 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIXES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.PrefixDictionary;
+import seedu.address.model.snapshot.Suggestions;
+
+/**
+ * Suggests ways to complete a partly typed command: the command word, a prefix, or the value of a prefix taken
+ * from the candidate names, tags and position titles in the HR Manager.
+ *
+ * Values are looked up by prefix in the sorted dictionaries of the latest snapshot, which costs O(log n) and never
+ * waits for a command that is running, so suggestions can be made on the UI thread as each key is typed.
+ */
+public class CommandCompleter {
+
+    public static final int MAX_SUGGESTIONS = 8;
+
+    private static final PrefixDictionary COMMAND_WORDS = PrefixDictionary.of(HrManagerParser.COMMAND_WORDS);
+    private static final PrefixDictionary PREFIX_TEXTS = PrefixDictionary.of(PREFIXES.stream()
+            .map(Prefix::getPrefix)
+            .collect(Collectors.toList()));
+    private static final Map<Prefix, Function<Suggestions, PrefixDictionary>> VALUE_DICTIONARIES = Map.of(
+            PREFIX_NAME, Suggestions::getNames,
+            PREFIX_TAG, Suggestions::getTags,
+            PREFIX_POSITION, Suggestions::getPositionTitles,
+            PREFIX_TITLE, Suggestions::getPositionTitles);
+
+    private final Supplier<Suggestions> suggestions;
+
+    /**
+     * Creates a {@code CommandCompleter} that suggests the values in the latest of {@code suggestions}.
+     */
+    public CommandCompleter(Supplier<Suggestions> suggestions) {
+        this.suggestions = requireNonNull(suggestions);
+    }
+
+    /**
+     * Returns up to {@link #MAX_SUGGESTIONS} completions of {@code input}, each being the whole input completed.
+     * Values of the prefix being typed come first, then prefixes that the last word could be the start of.
+     */
+    public List<String> complete(String input) {
+        requireNonNull(input);
+        List<String> completions = new ArrayList<>();
+        int commandWordStart = input.length() - input.stripLeading().length();
+        int lastSpace = input.lastIndexOf(' ');
+        if (lastSpace < commandWordStart) {
+            String commandWord = input.substring(commandWordStart);
+            if (!commandWord.isEmpty()) {
+                addCompletions(completions, input.substring(0, commandWordStart), COMMAND_WORDS, commandWord, " ");
+            }
+            return completions;
+        }
+
+        Prefix lastPrefix = null;
+        int valueStart = -1;
+        for (Prefix prefix : PREFIXES) {
+            int index = input.lastIndexOf(" " + prefix.getPrefix());
+            if (index >= 0 && index + 1 + prefix.getPrefix().length() > valueStart) {
+                lastPrefix = prefix;
+                valueStart = index + 1 + prefix.getPrefix().length();
+            }
+        }
+        if (lastPrefix != null && VALUE_DICTIONARIES.containsKey(lastPrefix)) {
+            PrefixDictionary values = VALUE_DICTIONARIES.get(lastPrefix).apply(suggestions.get());
+            addCompletions(completions, input.substring(0, valueStart), values, input.substring(valueStart), "");
+        }
+
+        String lastWord = input.substring(lastSpace + 1);
+        if (!lastWord.contains("=")) {
+            addCompletions(completions, input.substring(0, lastSpace + 1), PREFIX_TEXTS, lastWord, "");
+        }
+        return completions;
+    }
+
+    private static void addCompletions(List<String> completions, String head, PrefixDictionary dictionary,
+            String typed, String tail) {
+        for (String term : dictionary.complete(typed, MAX_SUGGESTIONS - completions.size())) {
+            completions.add(head + term + tail);
+        }
+    }
+}
@@ -27,6 +27,9 @@ import seedu.address.model.tag.Tag;
  */
 public class EditCandidateCommandParser implements Parser<EditCandidateCommand> {
 
+    static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG,
+        PREFIX_STATUS, PREFIX_POSITION};
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -34,9 +37,7 @@ public class EditCandidateCommandParser implements Parser<EditCandidateCommand>
      */
     public EditCandidateCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG,
-                        PREFIX_STATUS, PREFIX_POSITION);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
         Index index;
 
         try {
@@ -46,6 +47,14 @@ public class EditCandidateCommandParser implements Parser<EditCandidateCommand>
                     + EditCandidateCommand.MESSAGE_USAGE, pe);
         }
 
+        return new EditCandidateCommand(index, parseEditPersonDescriptor(argMultimap));
+    }
+
+    /**
+     * Parses the fields in {@code argMultimap} into an {@code EditPersonDescriptor}.
+     * @throws ParseException if a field does not conform the expected format, or no field is given
+     */
+    EditPersonDescriptor parseEditPersonDescriptor(ArgumentMultimap argMultimap) throws ParseException {
         EditPersonDescriptor editPersonDescriptor = new EditPersonDescriptor();
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
             editPersonDescriptor.setName(ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get()));
@@ -70,7 +79,7 @@ public class EditCandidateCommandParser implements Parser<EditCandidateCommand>
             throw new ParseException(EditCandidateCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new EditCandidateCommand(index, editPersonDescriptor);
+        return editPersonDescriptor;
     }
 
     /**
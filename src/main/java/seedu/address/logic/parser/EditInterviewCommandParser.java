@@ -4,13 +4,21 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEWER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEW_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROOM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.interview.EditInterviewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.interview.Interviewer;
 
 public class EditInterviewCommandParser implements Parser<EditInterviewCommand> {
 
@@ -23,7 +31,7 @@ public class EditInterviewCommandParser implements Parser<EditInterviewCommand>
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_POSITION, PREFIX_DATE, PREFIX_TIME,
-                        PREFIX_DURATION, PREFIX_INTERVIEW_STATUS);
+                        PREFIX_DURATION, PREFIX_INTERVIEW_STATUS, PREFIX_ROOM, PREFIX_INTERVIEWER);
         Index index;
 
         try {
@@ -53,6 +61,11 @@ public class EditInterviewCommandParser implements Parser<EditInterviewCommand>
             editInterviewDescriptor.setStatus(ParserUtil
                     .parseInterviewStatus(argMultimap.getValue(PREFIX_INTERVIEW_STATUS).get()));
         }
+        if (argMultimap.getValue(PREFIX_ROOM).isPresent()) {
+            editInterviewDescriptor.setRoom(ParserUtil.parseRoom(argMultimap.getValue(PREFIX_ROOM).get()));
+        }
+        parseInterviewersForEdit(argMultimap.getAllValues(PREFIX_INTERVIEWER))
+                .ifPresent(editInterviewDescriptor::setInterviewers);
 
         if (!editInterviewDescriptor.isAnyFieldEdited()) {
             throw new ParseException(EditInterviewCommand.MESSAGE_NOT_EDITED);
@@ -61,4 +74,21 @@ public class EditInterviewCommandParser implements Parser<EditInterviewCommand>
         return new EditInterviewCommand(index, editInterviewDescriptor);
     }
 
+    /**
+     * Parses {@code Collection<String> interviewers} into a {@code Set<Interviewer>} if {@code interviewers} is
+     * non-empty. If {@code interviewers} contain only one element which is an empty string, it will be parsed into a
+     * {@code Set<Interviewer>} containing zero interviewers.
+     */
+    private Optional<Set<Interviewer>> parseInterviewersForEdit(Collection<String> interviewers)
+            throws ParseException {
+        assert interviewers != null;
+
+        if (interviewers.isEmpty()) {
+            return Optional.empty();
+        }
+        Collection<String> interviewerSet = interviewers.size() == 1 && interviewers.contains("")
+                ? Collections.emptySet() : interviewers;
+        return Optional.of(ParserUtil.parseInterviewers(interviewerSet));
+    }
+
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
@@ -19,16 +20,32 @@ import seedu.address.model.person.FindCandidateCommandPredicate;
  */
 public class FindCandidateCommandParser implements Parser<FindCandidateCommand> {
 
+    static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG,
+        PREFIX_STATUS, PREFIX_POSITION, PREFIX_MATCH};
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCandidateCommand parse(String args) throws ParseException {
+        FindCandidateCommandPredicate findCandidateCommandPredicate = parsePredicate(args);
+
+        if (!findCandidateCommandPredicate.isAnyField()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCandidateCommand.MESSAGE_USAGE));
+        }
+
+        return new FindCandidateCommand(findCandidateCommandPredicate);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments into the conditions of a {@code FindCandidateCommandPredicate},
+     * which has no conditions if none are given.
+     * @throws ParseException if a condition does not conform the expected format
+     */
+    static FindCandidateCommandPredicate parsePredicate(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG,
-                        PREFIX_STATUS, PREFIX_POSITION);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
 
         FindCandidateCommandPredicate findCandidateCommandPredicate = new FindCandidateCommandPredicate();
@@ -63,11 +80,12 @@ public class FindCandidateCommandParser implements Parser<FindCandidateCommand>
                     argMultimap.getValue(PREFIX_POSITION).get()));
         }
 
-        if (!findCandidateCommandPredicate.isAnyField()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCandidateCommand.MESSAGE_USAGE));
+        if (argMultimap.getValue(PREFIX_MATCH).isPresent()) {
+            findCandidateCommandPredicate.setMatchMode(ParserUtil.parseMatchMode(
+                    argMultimap.getValue(PREFIX_MATCH).get()));
         }
 
-        return new FindCandidateCommand(findCandidateCommandPredicate);
+        return findCandidateCommandPredicate;
     }
 
 }
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.stream.Stream;
+
+import seedu.address.logic.interview.FreeResourcesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class FreeResourcesCommandParser implements Parser<FreeResourcesCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeResourcesCommand
+     * and returns a FreeResourcesCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeResourcesCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_TIME, PREFIX_DURATION);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_DATE, PREFIX_TIME) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeResourcesCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        LocalTime time = ParserUtil.parseTime(argMultimap.getValue(PREFIX_TIME).get());
+        Duration duration = argMultimap.getValue(PREFIX_DURATION).isPresent()
+                ? ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get())
+                : FreeResourcesCommand.DEFAULT_DURATION;
+
+        return new FreeResourcesCommand(date, time, duration);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
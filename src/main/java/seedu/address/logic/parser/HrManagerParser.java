@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,15 +14,28 @@ import seedu.address.logic.candidate.EditCandidateCommand;
 import seedu.address.logic.candidate.FindCandidateCommand;
 import seedu.address.logic.candidate.ListCandidateCommand;
 import seedu.address.logic.candidate.RemarkCandidateCommand;
+import seedu.address.logic.candidate.SortCandidateCommand;
 import seedu.address.logic.general.ClearCommand;
+import seedu.address.logic.general.DashboardCommand;
 import seedu.address.logic.general.ExitCommand;
 import seedu.address.logic.general.HelpCommand;
+import seedu.address.logic.general.NextPageCommand;
+import seedu.address.logic.general.PageCommand;
+import seedu.address.logic.general.PreviousPageCommand;
+import seedu.address.logic.general.RedoCommand;
+import seedu.address.logic.general.RunCommand;
+import seedu.address.logic.general.UndoCommand;
 import seedu.address.logic.interview.AddInterviewCommand;
+import seedu.address.logic.interview.AllocateRoomsCommand;
 import seedu.address.logic.interview.AssignInterviewCommand;
+import seedu.address.logic.interview.CalendarCommand;
 import seedu.address.logic.interview.DeleteInterviewCommand;
 import seedu.address.logic.interview.EditInterviewCommand;
 import seedu.address.logic.interview.FindInterviewCommand;
+import seedu.address.logic.interview.FreeResourcesCommand;
 import seedu.address.logic.interview.ListInterviewCommand;
+import seedu.address.logic.interview.ScheduleInterviewCommand;
+import seedu.address.logic.interview.SortInterviewCommand;
 import seedu.address.logic.interview.UnassignInterviewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.position.AddPositionCommand;
@@ -29,12 +43,53 @@ import seedu.address.logic.position.DeletePositionCommand;
 import seedu.address.logic.position.EditPositionCommand;
 import seedu.address.logic.position.FindPositionCommand;
 import seedu.address.logic.position.ListPositionCommand;
+import seedu.address.logic.position.SortPositionCommand;
 
 /**
  * Parses user input.
  */
 public class HrManagerParser {
 
+    /**
+     * The words of every command, for suggesting them as commands are typed.
+     */
+    public static final List<String> COMMAND_WORDS = List.of(
+            AddCandidateCommand.COMMAND_WORD,
+            EditCandidateCommand.COMMAND_WORD,
+            DeleteCandidateCommand.COMMAND_WORD,
+            ClearCommand.COMMAND_WORD,
+            FindCandidateCommand.COMMAND_WORD,
+            ListCandidateCommand.COMMAND_WORD,
+            SortCandidateCommand.COMMAND_WORD,
+            ExitCommand.COMMAND_WORD,
+            HelpCommand.COMMAND_WORD,
+            DashboardCommand.COMMAND_WORD,
+            PageCommand.COMMAND_WORD,
+            NextPageCommand.COMMAND_WORD,
+            PreviousPageCommand.COMMAND_WORD,
+            RunCommand.COMMAND_WORD,
+            UndoCommand.COMMAND_WORD,
+            RedoCommand.COMMAND_WORD,
+            RemarkCandidateCommand.COMMAND_WORD,
+            AddPositionCommand.COMMAND_WORD,
+            DeletePositionCommand.COMMAND_WORD,
+            EditPositionCommand.COMMAND_WORD,
+            ListPositionCommand.COMMAND_WORD,
+            FindPositionCommand.COMMAND_WORD,
+            SortPositionCommand.COMMAND_WORD,
+            AddInterviewCommand.COMMAND_WORD,
+            EditInterviewCommand.COMMAND_WORD,
+            ListInterviewCommand.COMMAND_WORD,
+            SortInterviewCommand.COMMAND_WORD,
+            DeleteInterviewCommand.COMMAND_WORD,
+            FindInterviewCommand.COMMAND_WORD,
+            UnassignInterviewCommand.COMMAND_WORD,
+            AssignInterviewCommand.COMMAND_WORD,
+            ScheduleInterviewCommand.COMMAND_WORD,
+            AllocateRoomsCommand.COMMAND_WORD,
+            FreeResourcesCommand.COMMAND_WORD,
+            CalendarCommand.COMMAND_WORD);
+
     /**
      * Used for initial separation of command word and args.
      */
@@ -61,9 +116,15 @@ public class HrManagerParser {
             return new AddCandidateCommandParser().parse(arguments);
 
         case EditCandidateCommand.COMMAND_WORD:
+            if (BulkDeleteCandidateCommandParser.startsWithWhere(arguments)) {
+                return new BulkEditCandidateCommandParser().parse(arguments);
+            }
             return new EditCandidateCommandParser().parse(arguments);
 
         case DeleteCandidateCommand.COMMAND_WORD:
+            if (BulkDeleteCandidateCommandParser.startsWithWhere(arguments)) {
+                return new BulkDeleteCandidateCommandParser().parse(arguments);
+            }
             return new DeleteCandidateCommandParser().parse(arguments);
 
         case ClearCommand.COMMAND_WORD:
@@ -75,12 +136,36 @@ public class HrManagerParser {
         case ListCandidateCommand.COMMAND_WORD:
             return new ListCandidateCommand();
 
+        case SortCandidateCommand.COMMAND_WORD:
+            return new SortCandidateCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case DashboardCommand.COMMAND_WORD:
+            return new DashboardCommand();
+
+        case PageCommand.COMMAND_WORD:
+            return new PageCommandParser().parse(arguments);
+
+        case NextPageCommand.COMMAND_WORD:
+            return new NextPageCommandParser().parse(arguments);
+
+        case PreviousPageCommand.COMMAND_WORD:
+            return new PreviousPageCommandParser().parse(arguments);
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case RemarkCandidateCommand.COMMAND_WORD:
             return new RemarkCandidateCommandParser().parse(arguments);
 
@@ -99,6 +184,9 @@ public class HrManagerParser {
         case FindPositionCommand.COMMAND_WORD:
             return new FindPositionCommandParser().parse(arguments);
 
+        case SortPositionCommand.COMMAND_WORD:
+            return new SortPositionCommandParser().parse(arguments);
+
         case AddInterviewCommand.COMMAND_WORD:
             return new AddInterviewCommandParser().parse(arguments);
 
@@ -108,6 +196,9 @@ public class HrManagerParser {
         case ListInterviewCommand.COMMAND_WORD:
             return new ListInterviewCommand();
 
+        case SortInterviewCommand.COMMAND_WORD:
+            return new SortInterviewCommandParser().parse(arguments);
+
         case DeleteInterviewCommand.COMMAND_WORD:
             return new DeleteInterviewCommandParser().parse(arguments);
 
@@ -120,6 +211,18 @@ public class HrManagerParser {
         case AssignInterviewCommand.COMMAND_WORD:
             return new AssignInterviewCommandParser().parse(arguments);
 
+        case ScheduleInterviewCommand.COMMAND_WORD:
+            return new ScheduleInterviewCommandParser().parse(arguments);
+
+        case AllocateRoomsCommand.COMMAND_WORD:
+            return new AllocateRoomsCommandParser().parse(arguments);
+
+        case FreeResourcesCommand.COMMAND_WORD:
+            return new FreeResourcesCommandParser().parse(arguments);
+
+        case CalendarCommand.COMMAND_WORD:
+            return new CalendarCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
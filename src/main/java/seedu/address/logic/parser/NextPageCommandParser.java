@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.general.NextPageCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new NextPageCommand object
+ */
+public class NextPageCommandParser implements Parser<NextPageCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the NextPageCommand
+     * and returns a NextPageCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public NextPageCommand parse(String args) throws ParseException {
+        try {
+            return new NextPageCommand(ParserUtil.parseListType(args));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, pe.getMessage())
+                    + NextPageCommand.MESSAGE_USAGE, pe);
+        }
+    }
+
+}
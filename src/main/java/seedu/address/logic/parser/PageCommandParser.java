@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.general.PageCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ListType;
+
+/**
+ * Parses input arguments and creates a new PageCommand object
+ */
+public class PageCommandParser implements Parser<PageCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PageCommand
+     * and returns a PageCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PageCommand parse(String args) throws ParseException {
+        String[] tokens = args.trim().split("\\s+");
+        try {
+            if (tokens.length > 2) {
+                throw new ParseException("");
+            }
+            ListType listType = ParserUtil.parseListType(tokens.length == 2 ? tokens[0] : "");
+            Index page = ParserUtil.parseIndex(tokens[tokens.length - 1]);
+            return new PageCommand(listType, page);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, pe.getMessage())
+                    + PageCommand.MESSAGE_USAGE, pe);
+        }
+    }
+
+}
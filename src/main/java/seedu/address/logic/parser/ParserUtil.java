@@ -19,10 +19,15 @@ import java.util.stream.Collectors;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ListType;
+import seedu.address.model.SortOrder;
 import seedu.address.model.interview.Interview;
 import seedu.address.model.interview.Interview.InterviewStatus;
+import seedu.address.model.interview.Interviewer;
+import seedu.address.model.interview.Room;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.MatchMode;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Status;
@@ -287,6 +292,60 @@ public class ParserUtil {
         return positionSet;
     }
 
+    /**
+     * Parses a {@code String room} into a {@code Room}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @param room Input String.
+     * @return Room of an Interview.
+     * @throws ParseException If the given {@code room} is invalid.
+     */
+    public static Room parseRoom(String room) throws ParseException {
+        requireNonNull(room);
+        String trimmedRoom = room.trim();
+        if (!Room.isValidRoom(trimmedRoom)) {
+            throw new ParseException(Room.MESSAGE_CONSTRAINTS);
+        }
+        return new Room(trimmedRoom);
+    }
+
+    /**
+     * Parses {@code Collection<String> rooms} into a {@code Set<Room>}.
+     *
+     * @param rooms Input Strings.
+     * @return A Set of Rooms.
+     * @throws ParseException If any of the given {@code rooms} is invalid.
+     */
+    public static Set<Room> parseRooms(Collection<String> rooms) throws ParseException {
+        requireNonNull(rooms);
+        final Set<Room> roomSet = new HashSet<>();
+        for (String room : rooms) {
+            roomSet.add(parseRoom(room));
+        }
+        return roomSet;
+    }
+
+    /**
+     * Parses {@code Collection<String> interviewers} into a {@code Set<Interviewer>}.
+     * Leading and trailing whitespaces of each name will be trimmed.
+     *
+     * @param interviewers Input Strings.
+     * @return Interviewers of an Interview.
+     * @throws ParseException If any of the given {@code interviewers} is invalid.
+     */
+    public static Set<Interviewer> parseInterviewers(Collection<String> interviewers) throws ParseException {
+        requireNonNull(interviewers);
+        final Set<Interviewer> interviewerSet = new HashSet<>();
+        for (String interviewer : interviewers) {
+            String trimmedInterviewer = interviewer.trim();
+            if (!Interviewer.isValidInterviewer(trimmedInterviewer)) {
+                throw new ParseException(Interviewer.MESSAGE_CONSTRAINTS);
+            }
+            interviewerSet.add(new Interviewer(trimmedInterviewer));
+        }
+        return interviewerSet;
+    }
+
     /**
      * Parses {@code String positionStatus} into a {@code PositionStatus}.
      *
@@ -400,6 +459,61 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String mode} into a {@code MatchMode}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @param mode Input String.
+     * @return MatchMode of a search.
+     * @throws ParseException If the given {@code mode} is invalid
+     */
+    public static MatchMode parseMatchMode(String mode) throws ParseException {
+        requireNonNull(mode);
+        String trimmedMode = mode.trim();
+        if (!MatchMode.isValidMatchMode(trimmedMode)) {
+            throw new ParseException(MatchMode.MESSAGE_CONSTRAINTS);
+        }
+        return MatchMode.valueOf(trimmedMode.toUpperCase());
+    }
+
+    /**
+     * Parses a {@code String order} into a {@code SortOrder}.
+     * Leading and trailing whitespaces will be trimmed, and an empty string defaults to ascending order.
+     *
+     * @param order Input String.
+     * @return SortOrder of a list.
+     * @throws ParseException If the given {@code order} is invalid
+     */
+    public static SortOrder parseSortOrder(String order) throws ParseException {
+        requireNonNull(order);
+        String trimmedOrder = order.trim();
+        if (trimmedOrder.isEmpty()) {
+            return SortOrder.ASC;
+        }
+        if (!SortOrder.isValidSortOrder(trimmedOrder)) {
+            throw new ParseException(SortOrder.MESSAGE_CONSTRAINTS);
+        }
+        return SortOrder.valueOf(trimmedOrder.toUpperCase());
+    }
+
+    /**
+     * Parses a {@code String listType} into a {@code ListType}.
+     * Leading and trailing whitespaces will be trimmed. An empty {@code listType} refers to the candidate list.
+     *
+     * @throws ParseException if the given {@code listType} is invalid.
+     */
+    public static ListType parseListType(String listType) throws ParseException {
+        requireNonNull(listType);
+        String trimmedListType = listType.trim();
+        if (trimmedListType.isEmpty()) {
+            return ListType.CANDIDATES;
+        }
+        if (!ListType.isValidListType(trimmedListType)) {
+            throw new ParseException(ListType.MESSAGE_CONSTRAINTS);
+        }
+        return ListType.fromShortName(trimmedListType);
+    }
+
     /**
      * Parses {@code Collection<String> indexes} into a {@code Set<Index>}.
      *
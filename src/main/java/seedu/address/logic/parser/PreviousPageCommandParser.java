@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.general.PreviousPageCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new PreviousPageCommand object
+ */
+public class PreviousPageCommandParser implements Parser<PreviousPageCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PreviousPageCommand
+     * and returns a PreviousPageCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PreviousPageCommand parse(String args) throws ParseException {
+        try {
+            return new PreviousPageCommand(ParserUtil.parseListType(args));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, pe.getMessage())
+                    + PreviousPageCommand.MESSAGE_USAGE, pe);
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATE_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.interview.ScheduleInterviewCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.position.Position;
+
+public class ScheduleInterviewCommandParser implements Parser<ScheduleInterviewCommand> {
+
+    /** The most days interviews can be scheduled over at once, which keeps the number of slots manageable. */
+    public static final int MAX_DAYS = 366;
+
+    public static final String MESSAGE_HOURS_CONSTRAINTS = "Working hours should be in HHMM-HHMM format, "
+            + "and end after they start on the same day.";
+    public static final String MESSAGE_DATE_RANGE_CONSTRAINTS = "The last day should not be before the first day, "
+            + "and there should be at most " + MAX_DAYS + " days.";
+
+    private static final String HOURS_SEPARATOR = "-";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ScheduleInterviewCommand
+     * and returns a ScheduleInterviewCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ScheduleInterviewCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_POSITION, PREFIX_CANDIDATE_INDEX, PREFIX_FROM, PREFIX_TO,
+                        PREFIX_HOURS, PREFIX_DURATION);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_POSITION, PREFIX_FROM, PREFIX_TO, PREFIX_HOURS, PREFIX_DURATION)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ScheduleInterviewCommand.MESSAGE_USAGE));
+        }
+
+        Position position = ParserUtil.parsePosition(argMultimap.getValue(PREFIX_POSITION).get());
+        LocalDate from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDate to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new ParseException(MESSAGE_DATE_RANGE_CONSTRAINTS);
+        }
+
+        String[] hours = argMultimap.getValue(PREFIX_HOURS).get().split(HOURS_SEPARATOR, -1);
+        if (hours.length != 2) {
+            throw new ParseException(MESSAGE_HOURS_CONSTRAINTS);
+        }
+        LocalTime dayStart = ParserUtil.parseTime(hours[0].trim());
+        LocalTime dayEnd = ParserUtil.parseTime(hours[1].trim());
+        if (!dayStart.isBefore(dayEnd)) {
+            throw new ParseException(MESSAGE_HOURS_CONSTRAINTS);
+        }
+
+        Duration duration = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+
+        Set<Index> indexes;
+        String candidateIndexes = argMultimap.getValue(PREFIX_CANDIDATE_INDEX).orElse("");
+        if (candidateIndexes.equals("")) {
+            indexes = new HashSet<>();
+        } else {
+            indexes = ParserUtil.parseCandidateIndexes(candidateIndexes);
+        }
+
+        return new ScheduleInterviewCommand(position, indexes, from, to, dayStart, dayEnd, duration);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.candidate.SortCandidateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SortCandidateCommand object
+ */
+public class SortCandidateCommandParser implements Parser<SortCandidateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCandidateCommand
+     * and returns a SortCandidateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCandidateCommand parse(String args) throws ParseException {
+        try {
+            return new SortCandidateCommand(ParserUtil.parseSortOrder(args));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, pe.getMessage())
+                    + SortCandidateCommand.MESSAGE_USAGE, pe);
+        }
+    }
+
+}
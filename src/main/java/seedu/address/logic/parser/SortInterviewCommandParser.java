@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.interview.SortInterviewCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SortInterviewCommand object
+ */
+public class SortInterviewCommandParser implements Parser<SortInterviewCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortInterviewCommand
+     * and returns a SortInterviewCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortInterviewCommand parse(String args) throws ParseException {
+        try {
+            return new SortInterviewCommand(ParserUtil.parseSortOrder(args));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, pe.getMessage())
+                    + SortInterviewCommand.MESSAGE_USAGE, pe);
+        }
+    }
+
+}
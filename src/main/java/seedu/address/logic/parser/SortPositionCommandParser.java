@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.position.SortPositionCommand;
+
+/**
+ * Parses input arguments and creates a new SortPositionCommand object
+ */
+public class SortPositionCommandParser implements Parser<SortPositionCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortPositionCommand
+     * and returns a SortPositionCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortPositionCommand parse(String args) throws ParseException {
+        try {
+            return new SortPositionCommand(ParserUtil.parseSortOrder(args));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, pe.getMessage())
+                    + SortPositionCommand.MESSAGE_USAGE, pe);
+        }
+    }
+
+}
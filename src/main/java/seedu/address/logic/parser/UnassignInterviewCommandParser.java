@@ -8,18 +8,21 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Command;
+import seedu.address.logic.interview.BulkUnassignInterviewCommand;
 import seedu.address.logic.interview.UnassignInterviewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
-public class UnassignInterviewCommandParser implements Parser<UnassignInterviewCommand> {
+public class UnassignInterviewCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the UnassignInterviewCommand
-     * and returns a UnassignInterviewCommand object for execution.
+     * and returns a UnassignInterviewCommand object for execution, or a BulkUnassignInterviewCommand if several
+     * interview indexes are given.
      *
      * @throws ParseException if the user input does not conform the expected format.
      */
-    public UnassignInterviewCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_CANDIDATE_INDEX, PREFIX_INTERVIEW_INDEX);
 
@@ -29,20 +32,27 @@ public class UnassignInterviewCommandParser implements Parser<UnassignInterviewC
                     UnassignInterviewCommand.MESSAGE_USAGE));
         }
 
-        Index interviewIndex;
+        Set<Index> interviewIndexes;
         try {
-            interviewIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INTERVIEW_INDEX).orElse(""));
+            interviewIndexes = ParserUtil.parseCandidateIndexes(
+                    argMultimap.getValue(PREFIX_INTERVIEW_INDEX).orElse(""));
         } catch (ParseException pe) {
             throw new ParseException(ParserUtil.MESSAGE_EMPTY_INTERVIEW_INDEXES);
         }
+        boolean isBulk = interviewIndexes.size() > 1;
+        Index interviewIndex = interviewIndexes.iterator().next();
 
         Set<Index> candidateIndexes;
         String candidateIndexInput = argMultimap.getValue(PREFIX_CANDIDATE_INDEX).get();
         if (candidateIndexInput.equals("*")) {
-            return new UnassignInterviewCommand(interviewIndex, true);
+            return isBulk
+                    ? new BulkUnassignInterviewCommand(interviewIndexes)
+                    : new UnassignInterviewCommand(interviewIndex, true);
         } else {
             candidateIndexes = ParserUtil.parseCandidateIndexes(candidateIndexInput);
-            return new UnassignInterviewCommand(interviewIndex, candidateIndexes);
+            return isBulk
+                    ? new BulkUnassignInterviewCommand(interviewIndexes, candidateIndexes)
+                    : new UnassignInterviewCommand(interviewIndex, candidateIndexes);
         }
     }
 
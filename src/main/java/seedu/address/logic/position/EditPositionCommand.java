@@ -83,13 +83,13 @@ public class EditPositionCommand extends Command {
         for (Person person : lastShownPersonList) {
             Set<Position> positions = person.getPositions();
             if (positions.contains(positionToEdit)) {
-                person.deletePosition(positionToEdit);
+                model.removePositionFromPerson(person, positionToEdit);
 
                 // if closing position, deletes position from candidate and
                 // does not add edited position back to candidate's positions
                 if (!editPositionDescriptor.getTitle().equals(Optional.empty())
                         && !editPositionDescriptor.getPositionStatus().equals(Optional.of(PositionStatus.CLOSED))) {
-                    person.addPosition(editedPosition);
+                    model.addPositionToPerson(person, editedPosition);
                 }
             }
         }
@@ -97,7 +97,7 @@ public class EditPositionCommand extends Command {
         for (Interview interview : lastShownInterviewList) {
             Position interviewPosition = interview.getPosition();
             if (interviewPosition.isSamePosition(positionToEdit)) {
-                interview.setPosition(editedPosition);
+                model.setInterviewPosition(interview, editedPosition);
             }
         }
 
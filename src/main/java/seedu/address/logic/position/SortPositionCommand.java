@@ -0,0 +1,51 @@
+package seedu.address.logic.position;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.Command;
+import seedu.address.logic.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.SortOrder;
+import seedu.address.model.position.PositionTitleComparator;
+
+/**
+ * Sorts the displayed positions in the HR Manager by title.
+ */
+public class SortPositionCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort_p";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed positions by title. "
+            + "Use 'none' to restore the order in which they were added.\n"
+            + "Parameters: [asc|desc|none]\n"
+            + "Example: " + COMMAND_WORD + " desc";
+
+    public static final String MESSAGE_SUCCESS = "Sorted positions by title (%s)";
+
+    public static final String MESSAGE_SUCCESS_UNSORTED = "Restored positions to the order they were added";
+
+    private final SortOrder order;
+
+    /**
+     * Creates a SortPositionCommand to sort the positions in the given {@code order}.
+     */
+    public SortPositionCommand(SortOrder order) {
+        requireNonNull(order);
+        this.order = order;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateSortedPositionList(order.apply(new PositionTitleComparator()));
+        String message = order == SortOrder.NONE ? MESSAGE_SUCCESS_UNSORTED : String.format(MESSAGE_SUCCESS, order);
+        return new CommandResult(message, CommandResult.CommandType.GENERAL);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortPositionCommand // instanceof handles nulls
+                && order == ((SortPositionCommand) other).order); // state check
+    }
+}
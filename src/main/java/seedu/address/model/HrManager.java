@@ -2,29 +2,114 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.InterviewResourceIndex;
+import seedu.address.model.interview.Interviewer;
+import seedu.address.model.interview.Room;
 import seedu.address.model.interview.UniqueInterviewList;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.Status;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.position.Position;
 import seedu.address.model.position.UniquePositionList;
+import seedu.address.model.snapshot.HiringAggregates;
+import seedu.address.model.snapshot.HrManagerSnapshot;
+import seedu.address.model.snapshot.InterviewRecord;
+import seedu.address.model.snapshot.PersonRecord;
+import seedu.address.model.snapshot.PositionRecord;
+import seedu.address.model.snapshot.RecordTable;
+import seedu.address.model.snapshot.SuggestionIndex;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Mutations made between {@link #beginBatch()} and {@link #commitBatch()} can be reverted with
+ * {@link #rollbackBatch()}. Every mutation records its inverse in a journal while a batch is open, so rolling back
+ * costs time proportional to the number of mutations made in the batch rather than to the size of the data.
+ * The inverses of the latest {@code HISTORY_LIMIT} outermost batches are kept afterwards, so that they can be
+ * undone and redone in the same way, using memory proportional to the number of mutations rather than to the size
+ * of the data. Every inverse is itself a mutation that records its own inverse, which is what makes redo possible.
+ *
+ * An immutable {@link HrManagerSnapshot} of the data is published after every mutation made outside a batch, and
+ * when the outermost batch is closed, so other threads only ever see the data between batches.
  */
 public class HrManager implements ReadOnlyHrManager {
 
+    /** The number of batches that can be undone. */
+    public static final int HISTORY_LIMIT = 100;
+
+    /**
+     * An undo or redo made in a batch that is still open.
+     */
+    private static class Replay {
+        private final List<Runnable> inverses;
+        private final Deque<List<Runnable>> source;
+        private final Deque<List<Runnable>> destination;
+
+        Replay(List<Runnable> inverses, Deque<List<Runnable>> source, Deque<List<Runnable>> destination) {
+            this.inverses = inverses;
+            this.source = source;
+            this.destination = destination;
+        }
+    }
+
     private final UniquePersonList persons;
 
     private final UniquePositionList positions;
 
     private final UniqueInterviewList interviews;
 
+    private final RecordTable<Person, PersonRecord> personRecords;
+
+    private final RecordTable<Position, PositionRecord> positionRecords;
+
+    private final RecordTable<Interview, InterviewRecord> interviewRecords;
+
+    private final HiringAggregates hiringAggregates;
+
+    private final SuggestionIndex suggestionIndex;
+
+    private volatile HrManagerSnapshot snapshot;
+
+    private final InterviewResourceIndex interviewResources;
+
+    /** Inverses of the mutations made since the outermost open batch began, oldest first. */
+    private final List<Runnable> journal = new ArrayList<>();
+
+    /** Journal sizes at which the open batches began, innermost first. */
+    private final Deque<Integer> savepoints = new ArrayDeque<>();
+
+    /** Inverses of the mutations of each committed outermost batch, latest first. */
+    private final Deque<List<Runnable>> undoHistory = new ArrayDeque<>();
+
+    /** Inverses of the mutations made by each undo, latest first. */
+    private final Deque<List<Runnable>> redoHistory = new ArrayDeque<>();
+
+    /** The undo or redo made in the open batch, if any. */
+    private Replay pendingReplay;
+
+    private boolean isRollingBack;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -37,6 +122,16 @@ public class HrManager implements ReadOnlyHrManager {
         persons = new UniquePersonList();
         positions = new UniquePositionList();
         interviews = new UniqueInterviewList();
+        hiringAggregates = new HiringAggregates(Clock.systemDefaultZone());
+        suggestionIndex = new SuggestionIndex();
+        personRecords = new RecordTable<>(persons.asUnmodifiableObservableList(), PersonRecord::of,
+                this::onPersonRecordChanged);
+        positionRecords = new RecordTable<>(positions.asUnmodifiableObservableList(), PositionRecord::of,
+                suggestionIndex::onPositionChanged);
+        interviewRecords = new RecordTable<>(interviews.asUnmodifiableObservableList(), InterviewRecord::of,
+                hiringAggregates::onInterviewChanged);
+        interviewResources = new InterviewResourceIndex(interviews.asUnmodifiableObservableList());
+        publish();
     }
 
     public HrManager() {
@@ -57,7 +152,9 @@ public class HrManager implements ReadOnlyHrManager {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        List<Person> previousPersons = new ArrayList<>(this.persons.asUnmodifiableObservableList());
         this.persons.setPersons(persons);
+        record(() -> setPersons(previousPersons));
     }
 
     /**
@@ -65,7 +162,9 @@ public class HrManager implements ReadOnlyHrManager {
      * {@code positions} must not contain duplicate positions.
      */
     public void setPositions(List<Position> positions) {
+        List<Position> previousPositions = new ArrayList<>(this.positions.asUnmodifiableObservableList());
         this.positions.setPositions(positions);
+        record(() -> setPositions(previousPositions));
     }
 
     /**
@@ -73,7 +172,9 @@ public class HrManager implements ReadOnlyHrManager {
      * {@code interviews} must not contain duplicate interviews.
      */
     public void setInterviews(List<Interview> interviews) {
+        List<Interview> previousInterviews = new ArrayList<>(this.interviews.asUnmodifiableObservableList());
         this.interviews.setInterviews(interviews);
+        record(() -> setInterviews(previousInterviews));
     }
 
     /**
@@ -103,6 +204,12 @@ public class HrManager implements ReadOnlyHrManager {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        record(() -> removePerson(p));
+    }
+
+    private void addPerson(int index, Person p) {
+        persons.add(index, p);
+        record(() -> removePerson(p));
     }
 
     /**
@@ -114,6 +221,7 @@ public class HrManager implements ReadOnlyHrManager {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        record(() -> setPerson(editedPerson, target));
     }
 
     /**
@@ -121,7 +229,99 @@ public class HrManager implements ReadOnlyHrManager {
      * {@code key} must exist in the HR Manager.
      */
     public void removePerson(Person key) {
+        int index = persons.asUnmodifiableObservableList().indexOf(key);
         persons.remove(key);
+        record(() -> addPerson(index, key));
+    }
+
+    /**
+     * Removes every person matching {@code predicate} from this {@code HrManager} and from the interviews they are
+     * candidates of, and returns the removed persons.
+     */
+    public List<Person> removePersons(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        List<Integer> indices = new ArrayList<>();
+        ObservableList<Person> personList = persons.asUnmodifiableObservableList();
+        for (int i = 0; i < personList.size(); i++) {
+            if (predicate.test(personList.get(i))) {
+                indices.add(i);
+            }
+        }
+        List<Person> removed = removePersonsAt(indices);
+        if (removed.isEmpty()) {
+            return removed;
+        }
+
+        Map<Email, Person> removedByEmail = new HashMap<>();
+        removed.forEach(person -> removedByEmail.put(person.getEmail(), null));
+        relinkCandidates(removedByEmail);
+        return removed;
+    }
+
+    /**
+     * Removes the persons at {@code indices}, which must be increasing, leaving the interviews as they are.
+     * Only the removed persons and their indices are journaled, so undoing costs memory proportional to them.
+     */
+    private List<Person> removePersonsAt(List<Integer> indices) {
+        List<Person> removed = persons.removeAt(indices);
+        if (!removed.isEmpty()) {
+            record(() -> insertPersonsAt(indices, removed));
+        }
+        return removed;
+    }
+
+    private void insertPersonsAt(List<Integer> indices, List<Person> toInsert) {
+        persons.insertAt(indices, toInsert);
+        record(() -> removePersonsAt(indices));
+    }
+
+    /**
+     * Replaces each person that is a key of {@code editedPersons} with its value, and replaces the person in the
+     * interviews the edited person still has. The persons must exist in the HR Manager.
+     */
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        replacePersonsOnly(editedPersons);
+
+        Map<Email, Person> editedByEmail = new HashMap<>();
+        editedPersons.forEach((person, editedPerson) -> editedByEmail.put(person.getEmail(), editedPerson));
+        relinkCandidates(editedByEmail);
+    }
+
+    /**
+     * Replaces each person that is a key of {@code editedPersons} with its value, leaving the interviews as they are.
+     * Only the replaced and edited persons are journaled.
+     */
+    private void replacePersonsOnly(Map<Person, Person> editedPersons) {
+        persons.replacePersons(editedPersons);
+        Map<Person, Person> previousPersons = new HashMap<>();
+        editedPersons.forEach((person, editedPerson) -> previousPersons.put(editedPerson, person));
+        record(() -> replacePersonsOnly(previousPersons));
+    }
+
+    /**
+     * Replaces each candidate whose email is a key of {@code replacements} with its value in every interview, in one
+     * pass over the interviews. A candidate is dropped if its value is null or no longer has the interview.
+     */
+    private void relinkCandidates(Map<Email, Person> replacements) {
+        for (Interview interview : interviews) {
+            Set<Person> candidates = new HashSet<>();
+            boolean isChanged = false;
+            for (Person candidate : interview.getCandidates()) {
+                if (!replacements.containsKey(candidate.getEmail())) {
+                    candidates.add(candidate);
+                    continue;
+                }
+                isChanged = true;
+                Person replacement = replacements.get(candidate.getEmail());
+                if (replacement != null && replacement.hasInterview(interview)) {
+                    candidates.add(replacement);
+                }
+            }
+            if (isChanged) {
+                setInterviewCandidates(interview, candidates);
+            }
+        }
     }
 
     //// position-level operations
@@ -144,6 +344,12 @@ public class HrManager implements ReadOnlyHrManager {
      */
     public void addPosition(Position p) {
         positions.add(p);
+        record(() -> removePosition(p));
+    }
+
+    private void addPosition(int index, Position p) {
+        positions.add(index, p);
+        record(() -> removePosition(p));
     }
 
     /**
@@ -156,6 +362,7 @@ public class HrManager implements ReadOnlyHrManager {
         requireNonNull(editedPosition);
 
         positions.setPosition(target, editedPosition);
+        record(() -> setPosition(editedPosition, target));
     }
 
     /**
@@ -163,7 +370,9 @@ public class HrManager implements ReadOnlyHrManager {
      * {@code key} must exist in the HR Manager.
      */
     public void removePosition(Position key) {
+        int index = positions.asUnmodifiableObservableList().indexOf(key);
         positions.remove(key);
+        record(() -> addPosition(index, key));
     }
 
     /**
@@ -174,7 +383,7 @@ public class HrManager implements ReadOnlyHrManager {
     public void deletePositionFromPerson(Position p) {
         for (Person person : persons) {
             if (person.appliedForPosition(p)) {
-                person.deletePosition(p);
+                removePositionFromPerson(person, p);
             }
         }
     }
@@ -199,6 +408,12 @@ public class HrManager implements ReadOnlyHrManager {
      */
     public void addInterview(Interview interview) {
         interviews.add(interview);
+        record(() -> removeInterview(interview));
+    }
+
+    private void addInterview(int index, Interview interview) {
+        interviews.add(index, interview);
+        record(() -> removeInterview(interview));
     }
 
     /**
@@ -211,6 +426,7 @@ public class HrManager implements ReadOnlyHrManager {
         requireNonNull(editedInterview);
 
         interviews.setInterview(target, editedInterview);
+        record(() -> setInterview(editedInterview, target));
     }
 
     /**
@@ -218,7 +434,9 @@ public class HrManager implements ReadOnlyHrManager {
      * {@code key} must exist in the HR Manager.
      */
     public void removeInterview(Interview key) {
+        int index = interviews.asUnmodifiableObservableList().indexOf(key);
         interviews.remove(key);
+        record(() -> addInterview(index, key));
     }
 
     /**
@@ -227,7 +445,7 @@ public class HrManager implements ReadOnlyHrManager {
     public void deleteInterviewFromPerson(Interview interview) {
         for (Person person : persons) {
             if (person.hasInterview(interview)) {
-                person.deleteInterview(interview);
+                removeInterviewFromPerson(person, interview);
             }
         }
     }
@@ -238,11 +456,322 @@ public class HrManager implements ReadOnlyHrManager {
     public void deletePersonFromInterview(Person person) {
         for (Interview interview : interviews) {
             if (interview.hasCandidate(person)) {
-                interview.deleteCandidate(person);
+                removeCandidateFromInterview(interview, person);
+            }
+        }
+    }
+
+    //// link-level operations
+
+    /**
+     * Adds {@code position} to the positions {@code person} applied for.
+     */
+    public void addPositionToPerson(Person person, Position position) {
+        requireNonNull(position);
+        Set<Position> previousPositions = new HashSet<>(person.getPositions());
+        person.addPosition(position);
+        personRecords.update(person);
+        record(() -> setPersonPositions(person, previousPositions));
+    }
+
+    /**
+     * Removes {@code position} from the positions {@code person} applied for.
+     */
+    public void removePositionFromPerson(Person person, Position position) {
+        requireNonNull(position);
+        Set<Position> previousPositions = new HashSet<>(person.getPositions());
+        person.deletePosition(position);
+        personRecords.update(person);
+        record(() -> setPersonPositions(person, previousPositions));
+    }
+
+    /**
+     * Adds {@code interview} to the interviews of {@code person}, which may update the status of {@code person}.
+     */
+    public void addInterviewToPerson(Person person, Interview interview) {
+        requireNonNull(interview);
+        boolean hadInterview = person.getInterviews().contains(interview);
+        Status previousStatus = person.getStatus();
+        person.addInterview(interview);
+        personRecords.update(person);
+        record(() -> setPersonInterview(person, interview, hadInterview, previousStatus));
+    }
+
+    /**
+     * Removes {@code interview} from the interviews of {@code person}, which may update the status of {@code person}.
+     */
+    public void removeInterviewFromPerson(Person person, Interview interview) {
+        requireNonNull(interview);
+        boolean hadInterview = person.getInterviews().contains(interview);
+        Status previousStatus = person.getStatus();
+        person.deleteInterview(interview);
+        personRecords.update(person);
+        record(() -> setPersonInterview(person, interview, hadInterview, previousStatus));
+    }
+
+    private void setPersonPositions(Person person, Set<Position> positions) {
+        Set<Position> previousPositions = new HashSet<>(person.getPositions());
+        person.setPositions(new HashSet<>(positions));
+        personRecords.update(person);
+        record(() -> setPersonPositions(person, previousPositions));
+    }
+
+    /**
+     * Adds {@code interview} to or removes it from the interviews of {@code person}, as given by {@code hasInterview},
+     * and sets the status of {@code person} to {@code status}.
+     */
+    private void setPersonInterview(Person person, Interview interview, boolean hasInterview, Status status) {
+        boolean hadInterview = person.getInterviews().contains(interview);
+        Status previousStatus = person.getStatus();
+        if (hasInterview) {
+            person.addInterview(interview);
+        } else {
+            person.deleteInterview(interview);
+        }
+        person.setStatus(status);
+        personRecords.update(person);
+        record(() -> setPersonInterview(person, interview, hadInterview, previousStatus));
+    }
+
+    /**
+     * Adds {@code person} to the candidates of {@code interview}.
+     */
+    public void addCandidateToInterview(Interview interview, Person person) {
+        requireNonNull(person);
+        Set<Person> previousCandidates = new HashSet<>(interview.getCandidates());
+        interview.addCandidate(person);
+        interviewRecords.update(interview);
+        record(() -> setInterviewCandidates(interview, previousCandidates));
+    }
+
+    /**
+     * Removes {@code person} from the candidates of {@code interview}.
+     */
+    public void removeCandidateFromInterview(Interview interview, Person person) {
+        requireNonNull(person);
+        Set<Person> previousCandidates = new HashSet<>(interview.getCandidates());
+        interview.deleteCandidate(person);
+        interviewRecords.update(interview);
+        record(() -> setInterviewCandidates(interview, previousCandidates));
+    }
+
+    /**
+     * Replaces the candidates of {@code interview} with {@code candidates}.
+     */
+    public void setInterviewCandidates(Interview interview, Set<Person> candidates) {
+        requireNonNull(candidates);
+        Set<Person> previousCandidates = new HashSet<>(interview.getCandidates());
+        interview.setCandidates(candidates);
+        interviewRecords.update(interview);
+        record(() -> setInterviewCandidates(interview, previousCandidates));
+    }
+
+    /**
+     * Replaces the position of {@code interview} with {@code position}.
+     */
+    public void setInterviewPosition(Interview interview, Position position) {
+        requireNonNull(position);
+        Position previousPosition = interview.getPosition();
+        interview.setPosition(position);
+        interviewRecords.update(interview);
+        record(() -> setInterviewPosition(interview, previousPosition));
+    }
+
+    //// batch operations
+
+    /**
+     * Opens a batch. Batches may be nested; an inner batch can be rolled back without affecting the mutations made
+     * earlier in its enclosing batch.
+     */
+    public void beginBatch() {
+        savepoints.push(journal.size());
+    }
+
+    /**
+     * Closes the innermost open batch, keeping its mutations.
+     * The mutations can still be rolled back with an enclosing batch.
+     * Once the outermost batch is closed, its mutations can be undone with {@link #undo()}.
+     */
+    public void commitBatch() {
+        checkBatchOpen();
+        savepoints.pop();
+        if (savepoints.isEmpty()) {
+            List<Runnable> inverses = new ArrayList<>(journal);
+            journal.clear();
+            if (pendingReplay != null) {
+                push(pendingReplay.destination, inverses);
+            } else if (!inverses.isEmpty()) {
+                push(undoHistory, inverses);
+                redoHistory.clear();
             }
+            pendingReplay = null;
+            publish();
         }
     }
 
+    /**
+     * Closes the innermost open batch, reverting every mutation made since it was opened, most recent first.
+     */
+    public void rollbackBatch() {
+        checkBatchOpen();
+        int savepoint = savepoints.pop();
+        // The inverses record their own inverses, which are not wanted when rolling back.
+        isRollingBack = true;
+        try {
+            while (journal.size() > savepoint) {
+                journal.remove(journal.size() - 1).run();
+            }
+        } finally {
+            isRollingBack = false;
+        }
+        if (savepoints.isEmpty()) {
+            if (pendingReplay != null) {
+                pendingReplay.source.push(pendingReplay.inverses);
+                pendingReplay = null;
+            }
+            publish();
+        }
+    }
+
+    public boolean isInBatch() {
+        return !savepoints.isEmpty();
+    }
+
+    private void checkBatchOpen() {
+        if (savepoints.isEmpty()) {
+            throw new IllegalStateException("No batch is open");
+        }
+    }
+
+    /**
+     * Records {@code inverse} as the way to revert the mutation just made, if a batch is open.
+     * Otherwise the mutation is published right away.
+     */
+    private void record(Runnable inverse) {
+        if (isRollingBack) {
+            return;
+        }
+        if (!savepoints.isEmpty()) {
+            journal.add(inverse);
+            // A command is cancelled by interrupting the thread executing it, and its batch is then rolled back.
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+        } else {
+            publish();
+        }
+    }
+
+    //// undo and redo
+
+    /**
+     * Reverts the mutations of the latest outermost batch that has not been undone, returning false if there is none.
+     * This can be called in a batch of its own, or in an outermost batch with no other mutations, which then
+     * decides whether the undo is kept.
+     */
+    public boolean undo() {
+        return replay(undoHistory, redoHistory);
+    }
+
+    /**
+     * Makes the mutations of the latest undone batch again, returning false if there is none.
+     * The same conditions as for {@link #undo()} apply.
+     */
+    public boolean redo() {
+        return replay(redoHistory, undoHistory);
+    }
+
+    public boolean canUndo() {
+        return !undoHistory.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoHistory.isEmpty();
+    }
+
+    /**
+     * Runs the latest inverses in {@code source}. Each inverse records its own inverse, so the journal then holds
+     * the way back, which goes to {@code destination} when the outermost batch is committed.
+     */
+    private boolean replay(Deque<List<Runnable>> source, Deque<List<Runnable>> destination) {
+        if (savepoints.size() > 1 || !journal.isEmpty() || pendingReplay != null) {
+            throw new IllegalStateException("Cannot undo or redo in a batch that made other changes");
+        }
+        if (source.isEmpty()) {
+            return false;
+        }
+
+        List<Runnable> inverses = source.pop();
+        pendingReplay = new Replay(inverses, source, destination);
+        boolean isOwnBatch = savepoints.isEmpty();
+        if (isOwnBatch) {
+            beginBatch();
+        }
+        for (int i = inverses.size() - 1; i >= 0; i--) {
+            inverses.get(i).run();
+        }
+        if (isOwnBatch) {
+            commitBatch();
+        }
+        return true;
+    }
+
+    private void push(Deque<List<Runnable>> history, List<Runnable> inverses) {
+        history.push(inverses);
+        if (history.size() > HISTORY_LIMIT) {
+            history.removeLast();
+        }
+    }
+
+    /**
+     * Makes the current data visible to {@link #getSnapshot()}.
+     * Removed items can no longer be put back once no batch is open, so their ids are forgotten.
+     */
+    private void publish() {
+        personRecords.forgetRemoved().forEach(hiringAggregates::forgetCandidate);
+        positionRecords.forgetRemoved();
+        interviewRecords.forgetRemoved();
+        snapshot = new HrManagerSnapshot(personRecords.getRecords(), positionRecords.getRecords(),
+                interviewRecords.getRecords(), hiringAggregates.getFunnel(), suggestionIndex.getSuggestions());
+    }
+
+    private void onPersonRecordChanged(PersonRecord before, PersonRecord after) {
+        hiringAggregates.onPersonChanged(before, after);
+        suggestionIndex.onPersonChanged(before, after);
+    }
+
+    /**
+     * Returns the data as it was after the latest mutation made outside a batch, or when the latest outermost batch
+     * was closed. This costs O(1) and can be called from any thread.
+     */
+    public HrManagerSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    //// interviewer and room methods
+
+    /**
+     * Returns the interviews that overlap the period of {@code duration} starting at {@code startTime} on
+     * {@code date}, without scanning every interview.
+     */
+    public List<Interview> getInterviewsDuring(LocalDate date, LocalTime startTime, Duration duration) {
+        return interviewResources.getInterviewsDuring(date, startTime, duration);
+    }
+
+    /**
+     * Returns the interviewers of all interviews, sorted by name.
+     */
+    public Set<Interviewer> getInterviewers() {
+        return interviewResources.getInterviewers();
+    }
+
+    /**
+     * Returns the rooms of all interviews, sorted by name.
+     */
+    public Set<Room> getRooms() {
+        return interviewResources.getRooms();
+    }
+
     //// util methods
 
     @Override
@@ -284,4 +813,8 @@ public class HrManager implements ReadOnlyHrManager {
     public Person getPerson(Index index) {
         return persons.getPerson(index);
     }
+
+    public PersonSearchIndex getPersonSearchIndex() {
+        return persons.getSearchIndex();
+    }
 }
@@ -0,0 +1,56 @@
+package seedu.address.model;
+
+import java.util.function.Function;
+
+/**
+ * Represents one of the lists displayed by the HR Manager.
+ */
+public enum ListType {
+    CANDIDATES("c", Model::getPagedPersonList),
+    POSITIONS("p", Model::getPagedPositionList),
+    INTERVIEWS("i", Model::getPagedInterviewList);
+
+    public static final String MESSAGE_CONSTRAINTS = "List can only take the values:\n"
+            + "c (candidates)\n"
+            + "p (positions)\n"
+            + "i (interviews)\n";
+
+    private final String shortName;
+    private final Function<Model, PagedList<?>> pagedListGetter;
+
+    ListType(String shortName, Function<Model, PagedList<?>> pagedListGetter) {
+        this.shortName = shortName;
+        this.pagedListGetter = pagedListGetter;
+    }
+
+    /**
+     * Returns true if a given string is the short name of a list, ignoring case.
+     */
+    public static boolean isValidListType(String test) {
+        return fromShortName(test) != null;
+    }
+
+    /**
+     * Returns the list with the given short name, ignoring case, or null if there is none.
+     */
+    public static ListType fromShortName(String shortName) {
+        for (ListType type : values()) {
+            if (type.shortName.equalsIgnoreCase(shortName)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the pages of this list in {@code model}.
+     */
+    public PagedList<?> getPagedList(Model model) {
+        return pagedListGetter.apply(model);
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase();
+    }
+}
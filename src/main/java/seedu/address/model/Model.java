@@ -1,14 +1,27 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.InterviewCalendar;
+import seedu.address.model.interview.Interviewer;
+import seedu.address.model.interview.Room;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.position.Position;
+import seedu.address.model.snapshot.HrManagerSnapshot;
 
 /**
  * The API of the Model component.
@@ -81,6 +94,7 @@ public interface Model {
 
     /**
      * Replaces HR Manager data with the data in {@code addressBook}.
+     * Outside a batch, the change is not recorded and cannot be undone.
      */
     void setHrManager(ReadOnlyHrManager addressBook);
 
@@ -89,6 +103,12 @@ public interface Model {
      */
     ReadOnlyHrManager getHrManager();
 
+    /**
+     * Returns an immutable snapshot of the HR Manager as it was after the latest command.
+     * Unlike the rest of this interface, this can be called from any thread.
+     */
+    HrManagerSnapshot getSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the HR Manager.
      */
@@ -113,6 +133,18 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Deletes every person matching {@code predicate}, removes them from their interviews, and returns them.
+     */
+    List<Person> deletePersons(Predicate<Person> predicate);
+
+    /**
+     * Replaces each person that is a key of {@code editedPersons} with its value, in the HR Manager and in the
+     * interviews the edited person still has.
+     * The person identities of the edited persons must not be the same as those of other persons in the HR Manager.
+     */
+    void replacePersons(Map<Person, Person> editedPersons);
+
     /**
      * Returns an unmodifiable view of the filtered person list
      */
@@ -125,6 +157,17 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the order of the filtered person list to follow the given {@code comparator}.
+     * A null {@code comparator} restores the order in which persons were added.
+     */
+    void updateSortedPersonList(Comparator<Person> comparator);
+
+    /**
+     * Returns the pages of the filtered person list. Only the current page is materialized for display.
+     */
+    PagedList<Person> getPagedPersonList();
+
     /**
      * Returns true if a position with the same identity as {@code position} exists in the HR Manager.
      */
@@ -167,10 +210,26 @@ public interface Model {
      */
     void updateFilteredPositionList(Predicate<Position> predicate);
 
+    /**
+     * Updates the order of the filtered position list to follow the given {@code comparator}.
+     * A null {@code comparator} restores the order in which positions were added.
+     */
+    void updateSortedPositionList(Comparator<Position> comparator);
+
+    /**
+     * Returns the pages of the filtered position list. Only the current page is materialized for display.
+     */
+    PagedList<Position> getPagedPositionList();
+
     void deletePositionFromPerson(Position p);
 
     Person getPerson(Index index);
 
+    /**
+     * Returns the search index over all persons in the HR Manager.
+     */
+    PersonSearchIndex getPersonSearchIndex();
+
     boolean isPositionClosed(Position toCheck);
 
     /**
@@ -210,6 +269,22 @@ public interface Model {
      */
     void updateFilteredInterviewList(Predicate<Interview> predicate);
 
+    /**
+     * Updates the order of the filtered interview list to follow the given {@code comparator}.
+     * A null {@code comparator} restores the order in which interviews were added.
+     */
+    void updateSortedInterviewList(Comparator<Interview> comparator);
+
+    /**
+     * Returns the pages of the filtered interview list. Only the current page is materialized for display.
+     */
+    PagedList<Interview> getPagedInterviewList();
+
+    /**
+     * Returns the calendar of the interviews held in a day or a week.
+     */
+    InterviewCalendar getInterviewCalendar();
+
     /**
      * Deletes Interview from a Person's interviewList.
      */
@@ -219,4 +294,103 @@ public interface Model {
      * Deletes Person from an Interview's personList.
      */
     void deletePersonFromInterview(Person person);
+
+    /**
+     * Adds {@code position} to the positions {@code person} applied for.
+     */
+    void addPositionToPerson(Person person, Position position);
+
+    /**
+     * Removes {@code position} from the positions {@code person} applied for.
+     */
+    void removePositionFromPerson(Person person, Position position);
+
+    /**
+     * Adds {@code interview} to the interviews of {@code person}.
+     */
+    void addInterviewToPerson(Person person, Interview interview);
+
+    /**
+     * Removes {@code interview} from the interviews of {@code person}.
+     */
+    void removeInterviewFromPerson(Person person, Interview interview);
+
+    /**
+     * Adds {@code person} to the candidates of {@code interview}.
+     */
+    void addCandidateToInterview(Interview interview, Person person);
+
+    /**
+     * Removes {@code person} from the candidates of {@code interview}.
+     */
+    void removeCandidateFromInterview(Interview interview, Person person);
+
+    /**
+     * Replaces the candidates of {@code interview} with {@code candidates}.
+     */
+    void setInterviewCandidates(Interview interview, Set<Person> candidates);
+
+    /**
+     * Replaces the position of {@code interview} with {@code position}.
+     */
+    void setInterviewPosition(Interview interview, Position position);
+
+    /**
+     * Returns the interviews that overlap the period of {@code duration} starting at {@code startTime} on
+     * {@code date}.
+     */
+    List<Interview> getInterviewsDuring(LocalDate date, LocalTime startTime, Duration duration);
+
+    /**
+     * Returns the interviewers of all interviews, sorted by name.
+     */
+    Set<Interviewer> getInterviewers();
+
+    /**
+     * Returns the rooms of all interviews, sorted by name.
+     */
+    Set<Room> getRooms();
+
+    /**
+     * Opens a batch of mutations. Until the batch is committed, the displayed pages are not refreshed and the
+     * mutations can be reverted together with {@link #rollback()}. Batches may be nested.
+     */
+    void beginBatch();
+
+    /**
+     * Closes the innermost open batch, keeping its mutations.
+     * The displayed pages are refreshed once when the outermost batch is closed.
+     */
+    void commit();
+
+    /**
+     * Closes the innermost open batch, reverting every mutation made since it was opened.
+     */
+    void rollback();
+
+    /**
+     * Returns true if a batch is open.
+     */
+    boolean isInBatch();
+
+    /**
+     * Makes the paged lists and the interview calendar take in the changes of each outermost batch on
+     * {@code executor}, instead of on the thread that closed the batch. Their contents are copied on the thread
+     * that closed the batch and only the copies are handed to {@code executor}, so commands can run on a worker
+     * thread while the lists shown by the UI only change on the UI thread, without the UI thread reading the
+     * lists the worker thread changes.
+     */
+    void setPageRefresher(Executor executor);
+
+    /**
+     * Reverts the changes made by the latest command that has not been undone.
+     * Returns false if there is no such command.
+     */
+    boolean undo();
+
+    /**
+     * Makes the changes of the latest undone command again.
+     * Returns false if no command has been undone since the latest change.
+     */
+    boolean redo();
 }
@@ -4,17 +4,31 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.InterviewCalendar;
+import seedu.address.model.interview.Interviewer;
+import seedu.address.model.interview.Room;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.position.Position;
+import seedu.address.model.snapshot.HrManagerSnapshot;
 
 /**
  * Represents the in-memory model of the HR Manager data.
@@ -27,6 +41,13 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Position> filteredPositions;
     private final FilteredList<Interview> filteredInterviews;
+    private final SortedList<Person> sortedPersons;
+    private final SortedList<Position> sortedPositions;
+    private final SortedList<Interview> sortedInterviews;
+    private final PagedList<Person> pagedPersons;
+    private final PagedList<Position> pagedPositions;
+    private final PagedList<Interview> pagedInterviews;
+    private final InterviewCalendar interviewCalendar;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -42,6 +63,14 @@ public class ModelManager implements Model {
         filteredPersons = new FilteredList<>(this.hrManager.getPersonList());
         filteredPositions = new FilteredList<>(this.hrManager.getPositionList());
         filteredInterviews = new FilteredList<>(this.hrManager.getInterviewList());
+        sortedPersons = new SortedList<>(filteredPersons);
+        sortedPositions = new SortedList<>(filteredPositions);
+        sortedInterviews = new SortedList<>(filteredInterviews);
+        pagedPersons = new PagedList<>(sortedPersons, this.userPrefs.getPageSize());
+        pagedPositions = new PagedList<>(sortedPositions, this.userPrefs.getPageSize());
+        pagedInterviews = new PagedList<>(sortedInterviews, this.userPrefs.getPageSize());
+        interviewCalendar = new InterviewCalendar(this.hrManager.getInterviewList(),
+                this.hrManager::getInterviewsDuring, LocalDate.now());
     }
 
     public ModelManager() {
@@ -54,6 +83,9 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        pagedPersons.setPageSize(this.userPrefs.getPageSize());
+        pagedPositions.setPageSize(this.userPrefs.getPageSize());
+        pagedInterviews.setPageSize(this.userPrefs.getPageSize());
     }
 
     @Override
@@ -109,7 +141,10 @@ public class ModelManager implements Model {
 
     @Override
     public void setHrManager(ReadOnlyHrManager hrManager) {
+        // Outside a batch, e.g. when the data is first loaded, the pages are still only refreshed once.
+        deferRefreshIfOpening();
         this.hrManager.resetData(hrManager);
+        resumeRefreshIfClosed();
     }
 
     @Override
@@ -117,6 +152,11 @@ public class ModelManager implements Model {
         return hrManager;
     }
 
+    @Override
+    public HrManagerSnapshot getSnapshot() {
+        return hrManager.getSnapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -128,6 +168,11 @@ public class ModelManager implements Model {
         return hrManager.getPerson(index);
     }
 
+    @Override
+    public PersonSearchIndex getPersonSearchIndex() {
+        return hrManager.getPersonSearchIndex();
+    }
+
     @Override
     public void deletePerson(Person target) {
         hrManager.removePerson(target);
@@ -145,6 +190,18 @@ public class ModelManager implements Model {
         hrManager.setPerson(target, editedPerson);
     }
 
+    @Override
+    public List<Person> deletePersons(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return hrManager.removePersons(predicate);
+    }
+
+    @Override
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        hrManager.replacePersons(editedPersons);
+    }
+
     @Override
     public boolean hasPosition(Position position) {
         requireNonNull(position);
@@ -212,53 +269,212 @@ public class ModelManager implements Model {
         hrManager.deletePersonFromInterview(person);
     }
 
+    @Override
+    public void addPositionToPerson(Person person, Position position) {
+        hrManager.addPositionToPerson(person, position);
+    }
+
+    @Override
+    public void removePositionFromPerson(Person person, Position position) {
+        hrManager.removePositionFromPerson(person, position);
+    }
+
+    @Override
+    public void addInterviewToPerson(Person person, Interview interview) {
+        hrManager.addInterviewToPerson(person, interview);
+    }
+
+    @Override
+    public void removeInterviewFromPerson(Person person, Interview interview) {
+        hrManager.removeInterviewFromPerson(person, interview);
+    }
+
+    @Override
+    public void addCandidateToInterview(Interview interview, Person person) {
+        hrManager.addCandidateToInterview(interview, person);
+    }
+
+    @Override
+    public void removeCandidateFromInterview(Interview interview, Person person) {
+        hrManager.removeCandidateFromInterview(interview, person);
+    }
+
+    @Override
+    public void setInterviewCandidates(Interview interview, Set<Person> candidates) {
+        hrManager.setInterviewCandidates(interview, candidates);
+    }
+
+    @Override
+    public void setInterviewPosition(Interview interview, Position position) {
+        hrManager.setInterviewPosition(interview, position);
+    }
+
+    @Override
+    public List<Interview> getInterviewsDuring(LocalDate date, LocalTime startTime, Duration duration) {
+        return hrManager.getInterviewsDuring(date, startTime, duration);
+    }
+
+    @Override
+    public Set<Interviewer> getInterviewers() {
+        return hrManager.getInterviewers();
+    }
+
+    @Override
+    public Set<Room> getRooms() {
+        return hrManager.getRooms();
+    }
+
+    //=========== Batches ====================================================================================
+
+    @Override
+    public void beginBatch() {
+        deferRefreshIfOpening();
+        hrManager.beginBatch();
+    }
+
+    @Override
+    public void commit() {
+        hrManager.commitBatch();
+        resumeRefreshIfClosed();
+    }
+
+    @Override
+    public void rollback() {
+        hrManager.rollbackBatch();
+        resumeRefreshIfClosed();
+    }
+
+    @Override
+    public boolean isInBatch() {
+        return hrManager.isInBatch();
+    }
+
+    @Override
+    public boolean undo() {
+        return hrManager.undo();
+    }
+
+    @Override
+    public boolean redo() {
+        return hrManager.redo();
+    }
+
+    @Override
+    public void setPageRefresher(Executor executor) {
+        requireNonNull(executor);
+        pagedPersons.setRefresher(executor);
+        pagedPositions.setRefresher(executor);
+        pagedInterviews.setRefresher(executor);
+        interviewCalendar.setRefresher(executor);
+    }
+
+    private void deferRefreshIfOpening() {
+        if (!hrManager.isInBatch()) {
+            pagedPersons.deferRefresh();
+            pagedPositions.deferRefresh();
+            pagedInterviews.deferRefresh();
+            interviewCalendar.deferRefresh();
+        }
+    }
+
+    private void resumeRefreshIfClosed() {
+        if (!hrManager.isInBatch()) {
+            // The pages are copied here, on the thread that closed the batch, and only the copies are handed over.
+            pagedPersons.resumeRefresh();
+            pagedPositions.resumeRefresh();
+            pagedInterviews.resumeRefresh();
+            interviewCalendar.resumeRefresh();
+        }
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
-     * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
+     * Returns an unmodifiable, sorted view of the list of {@code Person} backed by the internal list of
      * {@code versionedHrManager}
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     /**
-     * Returns an unmodifiable view of the list of {@code Position} backed by the internal list of
+     * Returns an unmodifiable, sorted view of the list of {@code Position} backed by the internal list of
      * {@code versionedHrManager}
      */
     @Override
     public ObservableList<Position> getFilteredPositionList() {
-        return filteredPositions;
+        return sortedPositions;
     }
 
     /**
-     * Returns an unmodifiable view of the list of {@code Interview} backed by the internal list of
+     * Returns an unmodifiable, sorted view of the list of {@code Interview} backed by the internal list of
      * {@code versionedHrManager}
      */
     @Override
     public ObservableList<Interview> getFilteredInterviewList() {
-        return filteredInterviews;
+        return sortedInterviews;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        pagedPersons.setPageIndex(0);
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateSortedPersonList(Comparator<Person> comparator) {
+        pagedPersons.setPageIndex(0);
+        sortedPersons.setComparator(comparator);
+    }
+
+    @Override
+    public PagedList<Person> getPagedPersonList() {
+        return pagedPersons;
+    }
+
     @Override
     public void updateFilteredPositionList(Predicate<Position> predicate) {
         requireNonNull(predicate);
+        pagedPositions.setPageIndex(0);
         filteredPositions.setPredicate(predicate);
     }
 
+    @Override
+    public void updateSortedPositionList(Comparator<Position> comparator) {
+        pagedPositions.setPageIndex(0);
+        sortedPositions.setComparator(comparator);
+    }
+
+    @Override
+    public PagedList<Position> getPagedPositionList() {
+        return pagedPositions;
+    }
+
     @Override
     public void updateFilteredInterviewList(Predicate<Interview> predicate) {
         requireNonNull(predicate);
+        pagedInterviews.setPageIndex(0);
         filteredInterviews.setPredicate(predicate);
     }
 
+    @Override
+    public void updateSortedInterviewList(Comparator<Interview> comparator) {
+        pagedInterviews.setPageIndex(0);
+        sortedInterviews.setComparator(comparator);
+    }
+
+    @Override
+    public PagedList<Interview> getPagedInterviewList() {
+        return pagedInterviews;
+    }
+
+    @Override
+    public InterviewCalendar getInterviewCalendar() {
+        return interviewCalendar;
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -275,9 +491,9 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return hrManager.equals(other.hrManager)
                 && userPrefs.equals(other.userPrefs)
-                && filteredPersons.equals(other.filteredPersons)
-                && filteredPositions.equals(other.filteredPositions)
-                && filteredInterviews.equals(other.filteredInterviews);
+                && sortedPersons.equals(other.sortedPersons)
+                && sortedPositions.equals(other.sortedPositions)
+                && sortedInterviews.equals(other.sortedInterviews);
     }
 
 }
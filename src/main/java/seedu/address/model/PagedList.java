@@ -0,0 +1,205 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A window of at most {@code pageSize} consecutive elements of a source list.
+ * Only the elements of the current page are copied into the observable page list, so listeners of the page,
+ * such as a {@code ListView}, never handle more than one page of elements, however large the source list is.
+ * Changing pages, and every change of the source list, costs O(page size).
+ * While refreshes are deferred, changes are collected and the page is updated once when refreshes resume.
+ * The elements of the page are copied on the thread that changed the source, and only the copy is handed to the
+ * refresher, so the page can be updated on another thread without reading the source while it is being changed.
+ * Where the elements themselves can be changed in place, {@link #getPageCopies} gives copies of them made the same
+ * way, so they can be read on another thread as well.
+ *
+ * @param <E> the type of the elements in the list
+ */
+public class PagedList<E> {
+
+    public static final String MESSAGE_PAGE_SIZE_CONSTRAINTS = "Page size should be a positive integer.";
+
+    private final ObservableList<E> source;
+    private final ObservableList<E> page = FXCollections.observableArrayList();
+    private final ObservableList<E> unmodifiablePage = FXCollections.unmodifiableObservableList(page);
+
+    private int pageSize;
+    private int pageIndex;
+    /** The number of times refreshes were deferred and not yet resumed. */
+    private final AtomicInteger deferrals = new AtomicInteger();
+    private volatile boolean isStale;
+    private Executor refresher = Runnable::run;
+    private final List<CopiedPage<E, ?>> copiedPages = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a {@code PagedList} over {@code source} showing its first page.
+     */
+    public PagedList(ObservableList<E> source, int pageSize) {
+        requireNonNull(source);
+        checkArgument(pageSize > 0, MESSAGE_PAGE_SIZE_CONSTRAINTS);
+        this.source = source;
+        this.pageSize = pageSize;
+        source.addListener((ListChangeListener<E>) change -> refresh());
+        refresh();
+    }
+
+    /**
+     * Returns an unmodifiable view of the elements in the current page.
+     */
+    public ObservableList<E> getPage() {
+        return unmodifiablePage;
+    }
+
+    /**
+     * Returns an unmodifiable list of the copy made by {@code copier} of each element in the current page.
+     * The copies are made along with the copy of the page, on the thread that changed the source, and handed to the
+     * refresher with it. As elements can be changed in place without the source changing, they are also copied again
+     * whenever refreshes resume, i.e. once after each batch of changes.
+     */
+    public <V> ObservableList<V> getPageCopies(Function<? super E, ? extends V> copier) {
+        requireNonNull(copier);
+        CopiedPage<E, V> copiedPage = new CopiedPage<>(copier);
+        copiedPage.copy(page).run();
+        copiedPages.add(copiedPage);
+        return copiedPage.unmodifiableCopies;
+    }
+
+    /**
+     * Returns the zero-based index of the current page.
+     */
+    public int getPageIndex() {
+        return pageIndex;
+    }
+
+    /**
+     * Returns the number of pages, which is at least 1 even if the source list is empty.
+     */
+    public int getPageCount() {
+        return Math.max(1, (source.size() + pageSize - 1) / pageSize);
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the position in the source list of the first element in the current page.
+     */
+    public int getOffset() {
+        return pageIndex * pageSize;
+    }
+
+    /**
+     * Returns the number of elements in the source list.
+     */
+    public int getTotalSize() {
+        return source.size();
+    }
+
+    public boolean hasNextPage() {
+        return pageIndex + 1 < getPageCount();
+    }
+
+    public boolean hasPreviousPage() {
+        return pageIndex > 0;
+    }
+
+    /**
+     * Shows the page with the zero-based {@code pageIndex}, which must be less than {@link #getPageCount()}.
+     */
+    public void setPageIndex(int pageIndex) {
+        checkArgument(pageIndex >= 0 && pageIndex < getPageCount(), "Page index out of range");
+        this.pageIndex = pageIndex;
+        refresh();
+    }
+
+    /**
+     * Changes the number of elements per page, keeping the first element of the current page visible.
+     */
+    public void setPageSize(int pageSize) {
+        checkArgument(pageSize > 0, MESSAGE_PAGE_SIZE_CONSTRAINTS);
+        int offset = getOffset();
+        this.pageSize = pageSize;
+        this.pageIndex = offset / pageSize;
+        refresh();
+    }
+
+    /**
+     * Makes the page take in each copy of its elements on {@code executor}, instead of on the thread that changed
+     * the source.
+     */
+    public void setRefresher(Executor executor) {
+        requireNonNull(executor);
+        refresher = executor;
+    }
+
+    /**
+     * Stops updating the page until {@link #resumeRefresh()} is called as many times as this is.
+     */
+    public void deferRefresh() {
+        deferrals.incrementAndGet();
+    }
+
+    /**
+     * Updates the page once with every change made since {@link #deferRefresh()} was first called,
+     * unless refreshes are still deferred by another call.
+     */
+    public void resumeRefresh() {
+        if (deferrals.decrementAndGet() == 0 && (isStale || !copiedPages.isEmpty())) {
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        if (deferrals.get() > 0) {
+            isStale = true;
+            return;
+        }
+        isStale = false;
+        // The source may have shrunk below the current page.
+        pageIndex = Math.min(pageIndex, getPageCount() - 1);
+        int from = getOffset();
+        int to = Math.min(from + pageSize, source.size());
+        List<E> elements = new ArrayList<>(source.subList(from, to));
+        List<Runnable> copyUpdates = new ArrayList<>(copiedPages.size());
+        copiedPages.forEach(copiedPage -> copyUpdates.add(copiedPage.copy(elements)));
+        refresher.execute(() -> {
+            page.setAll(elements);
+            copyUpdates.forEach(Runnable::run);
+        });
+    }
+
+    /**
+     * The copies of the elements in the page made by one copier.
+     */
+    private static class CopiedPage<E, V> {
+        private final Function<? super E, ? extends V> copier;
+        private final ObservableList<V> copies = FXCollections.observableArrayList();
+        private final ObservableList<V> unmodifiableCopies = FXCollections.unmodifiableObservableList(copies);
+
+        CopiedPage(Function<? super E, ? extends V> copier) {
+            this.copier = copier;
+        }
+
+        /**
+         * Copies {@code elements} now, and returns the update that shows the copies.
+         */
+        Runnable copy(List<E> elements) {
+            List<V> copied = new ArrayList<>(elements.size());
+            elements.forEach(element -> copied.add(copier.apply(element)));
+            return () -> copies.setAll(copied);
+        }
+    }
+}
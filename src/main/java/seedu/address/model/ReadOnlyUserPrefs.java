@@ -16,4 +16,6 @@ public interface ReadOnlyUserPrefs {
     Path getHrManagerPositionsFilePath();
 
     Path getHrManagerInterviewsFilePath();
+
+    int getPageSize();
 }
@@ -0,0 +1,48 @@
+package seedu.address.model;
+
+import java.util.Comparator;
+
+/**
+ * Represents the direction in which a list in the HR Manager is sorted.
+ */
+public enum SortOrder {
+    ASC,
+    DESC,
+    NONE;
+
+    public static final String MESSAGE_CONSTRAINTS = "Sort order can only take the values:\n"
+            + "asc\n"
+            + "desc\n"
+            + "none\n";
+
+    /**
+     * Returns true if a given string is a valid sort order, ignoring case.
+     */
+    public static boolean isValidSortOrder(String test) {
+        for (SortOrder order : values()) {
+            if (order.name().equalsIgnoreCase(test)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code comparator} adjusted to this order, or null if the list should keep insertion order.
+     */
+    public <T> Comparator<T> apply(Comparator<T> comparator) {
+        switch (this) {
+        case ASC:
+            return comparator;
+        case DESC:
+            return comparator.reversed();
+        default:
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase();
+    }
+}
@@ -13,10 +13,13 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path hrManagerCandidatesFilePath = Paths.get("data" , "candidates.json");
     private Path hrManagerPositionsFilePath = Paths.get("data" , "positions.json");
     private Path hrManagerInterviewsFilePath = Paths.get("data" , "interviews.json");
+    private int pageSize = DEFAULT_PAGE_SIZE;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +43,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setHrManagerCandidatesFilePath(newUserPrefs.getHrManagerCandidatesFilePath());
         setHrManagerPositionsFilePath(newUserPrefs.getHrManagerPositionsFilePath());
         setHrManagerInterviewsFilePath(newUserPrefs.getHrManagerInterviewsFilePath());
+        setPageSize(newUserPrefs.getPageSize());
     }
 
     public GuiSettings getGuiSettings() {
@@ -78,6 +82,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.hrManagerInterviewsFilePath = hrManagerInterviewsFilePath;
     }
 
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Sets the number of items shown per page of a list. Non-positive values fall back to the default.
+     */
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+    }
 
     @Override
     public boolean equals(Object other) {
@@ -93,12 +107,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return guiSettings.equals(o.guiSettings)
                 && hrManagerCandidatesFilePath.equals(o.hrManagerCandidatesFilePath)
                 && hrManagerPositionsFilePath.equals(o.hrManagerPositionsFilePath)
-                && hrManagerInterviewsFilePath.equals(o.hrManagerInterviewsFilePath);
+                && hrManagerInterviewsFilePath.equals(o.hrManagerInterviewsFilePath)
+                && pageSize == o.pageSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, hrManagerCandidatesFilePath, hrManagerPositionsFilePath);
+        return Objects.hash(guiSettings, hrManagerCandidatesFilePath, hrManagerPositionsFilePath, pageSize);
     }
 
     @Override
@@ -108,6 +123,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("\nLocal candidates data file location : " + hrManagerCandidatesFilePath);
         sb.append("\nLocal positions data file location : " + hrManagerPositionsFilePath);
         sb.append("\nLocal interviews data file location : " + hrManagerInterviewsFilePath);
+        sb.append("\nPage size : " + pageSize);
         return sb.toString();
     }
 }
@@ -10,9 +10,11 @@ import java.time.LocalTime;
 import java.time.Month;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -35,6 +37,8 @@ public class Interview {
     public static final String MESSAGE_DURATION_CONSTRAINTS_INVALID_NUMBER = "Duration is in minutes, "
             + "it should be more than 0 and less than 1440.";
 
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
     private Position position;
 
     private InterviewStatus status;
@@ -47,8 +51,26 @@ public class Interview {
 
     private final Duration duration;
 
+    private final long startEpochMinute;
+
     private final Set<Integer> candidateIDs = new HashSet<>();
 
+    private Room room;
+
+    private Set<Interviewer> interviewers = Collections.emptySet();
+
+    // Display strings derived from the fields above, computed when first asked for and cleared by the mutators of
+    // the fields they are derived from, so that rendering and searching read a field instead of rebuilding them.
+    private String dateInFormattedString;
+    private String timeInFormattedString;
+    private String durationInFormattedString;
+    private String displayDate;
+    private String displayTimePeriod;
+    private String displayStringWithoutNames;
+    private String candidatesNames;
+    private String candidateNameString;
+    private String displayString;
+
     public enum InterviewStatus {
         PENDING,
         COMPLETED;
@@ -86,10 +108,12 @@ public class Interview {
                      LocalTime startTime, Duration duration) {
         requireAllNonNull(position, candidates, startTime, duration);
         this.position = position;
-        this.candidates = candidates;
+        this.candidates = new HashSet<>(candidates);
         this.date = date;
         this.startTime = startTime;
         this.duration = duration;
+        this.startEpochMinute = date == null ? Long.MIN_VALUE
+                : date.toEpochDay() * MINUTES_PER_DAY + startTime.toSecondOfDay() / 60;
     }
 
     /**
@@ -110,6 +134,27 @@ public class Interview {
         }
     }
 
+    /**
+     * Constructs a {@code Interview}.
+     *
+     * @param position     A position for the interview.
+     * @param candidates   A list of names of the candidates attending the interview.
+     * @param date         The date of the interview.
+     * @param startTime    The start time of the interview.
+     * @param duration     The duration of the interview.
+     * @param status       The interview status.
+     * @param room         The room the interview is held in, or null if it has none yet.
+     * @param interviewers The interviewers holding the interview.
+     */
+    public Interview(Position position, Set<Person> candidates, LocalDate date,
+                     LocalTime startTime, Duration duration, InterviewStatus status,
+                     Room room, Set<Interviewer> interviewers) {
+        this(position, candidates, date, startTime, duration, status);
+        requireNonNull(interviewers);
+        this.room = room;
+        this.interviewers = Collections.unmodifiableSet(new HashSet<>(interviewers));
+    }
+
     /**
      * Returns true if both interviews have the same position, candidates, start time, and duration.
      * This defines a weaker notion of equality between two interviews.
@@ -133,17 +178,23 @@ public class Interview {
 
     public void setPosition(Position newPosition) {
         position = newPosition;
+        clearDisplayStrings();
     }
 
+    /**
+     * Returns an immutable candidate set, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
     public Set<Person> getCandidates() {
         assert this.candidates != null : "Interview candidate names set is non-null.";
-        return this.candidates;
+        return Collections.unmodifiableSet(this.candidates);
     }
 
     public void setCandidates(Set<Person> personSet) {
         assert this.candidates != null : "Interview candidate names set is non-null.";
         this.candidates = new HashSet<>();
         this.candidates.addAll(personSet);
+        clearCandidateStrings();
     }
 
     public LocalDate getDate() {
@@ -153,8 +204,11 @@ public class Interview {
 
     public String getDateInFormattedString() {
         assert this.date != null : "Interview date is non-null.";
-        String[] temp = this.date.toString().split("-");
-        return temp[2] + "/" + temp[1] + "/" + temp[0];
+        if (dateInFormattedString == null) {
+            String[] temp = this.date.toString().split("-");
+            dateInFormattedString = temp[2] + "/" + temp[1] + "/" + temp[0];
+        }
+        return dateInFormattedString;
     }
 
     public LocalTime getStartTime() {
@@ -162,9 +216,26 @@ public class Interview {
         return this.startTime;
     }
 
+    /**
+     * Returns the start of this interview as minutes since the epoch, for cheap chronological comparisons.
+     */
+    public long getStartEpochMinute() {
+        return startEpochMinute;
+    }
+
+    /**
+     * Returns the end of this interview as minutes since the epoch.
+     */
+    public long getEndEpochMinute() {
+        return startEpochMinute + duration.toMinutes();
+    }
+
     public String getTimeInFormattedString() {
         assert this.startTime != null : "Interview start time is non-null.";
-        return this.startTime.toString().replace(":", "");
+        if (timeInFormattedString == null) {
+            timeInFormattedString = this.startTime.toString().replace(":", "");
+        }
+        return timeInFormattedString;
     }
 
     public Duration getDuration() {
@@ -174,16 +245,10 @@ public class Interview {
 
     public String getDurationInFormattedString() {
         assert this.duration != null : "Interview duration is non-null.";
-        String temp = this.duration.toString().replace("PT", "");
-        if (temp.contains("H") && temp.contains("M")) {
-            int endHourIndex = temp.indexOf("H");
-            return String.valueOf(Integer.parseInt(temp.substring(0, endHourIndex)) * 60
-                    + Integer.parseInt(temp.substring(endHourIndex + 1, temp.length() - 1)));
-        } else if (temp.contains("H")) {
-            return String.valueOf(Integer.parseInt(temp.substring(0, temp.length() - 1)) * 60);
-        } else {
-            return temp.substring(0, temp.length() - 1);
+        if (durationInFormattedString == null) {
+            durationInFormattedString = String.valueOf(this.duration.toMinutes());
         }
+        return durationInFormattedString;
     }
 
     public Title getPositionTitle() {
@@ -191,6 +256,26 @@ public class Interview {
         return this.position.getTitle();
     }
 
+    public Optional<Room> getRoom() {
+        return Optional.ofNullable(room);
+    }
+
+    /**
+     * Returns an immutable interviewer set, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
+    public Set<Interviewer> getInterviewers() {
+        return interviewers;
+    }
+
+    /**
+     * Returns a copy of this interview held in {@code room}, with the same candidates.
+     */
+    public Interview withRoom(Room room) {
+        return new Interview(position, new HashSet<>(candidates), date, startTime, duration, status, room,
+                interviewers);
+    }
+
     public InterviewStatus getStatus() {
         assert this.status != null : "Interview status is non-null.";
         return this.status;
@@ -204,6 +289,7 @@ public class Interview {
     public void setStatus(InterviewStatus status) {
         requireNonNull(status);
         this.status = status;
+        clearDisplayStrings();
     }
 
     /**
@@ -243,7 +329,9 @@ public class Interview {
                 && date.equals(((Interview) other).date)
                 && startTime.equals(((Interview) other).startTime) // startTime check
                 && duration.equals(((Interview) other).duration)
-                && status.equals(((Interview) other).status)); // status check
+                && status.equals(((Interview) other).status) // status check
+                && Objects.equals(room, ((Interview) other).room)
+                && interviewers.equals(((Interview) other).interviewers));
     }
 
     public void setCandidateIDs(Set<Integer> candidateIDs) {
@@ -259,12 +347,34 @@ public class Interview {
         return candidates.contains(person);
     }
 
+    /**
+     * Removes {@code person} from the candidates of this interview.
+     */
     public void deleteCandidate(Person person) {
         candidates.remove(person);
+        clearCandidateStrings();
     }
 
+    /**
+     * Adds {@code person} to the candidates of this interview.
+     */
     public void addCandidate(Person person) {
         candidates.add(person);
+        clearCandidateStrings();
+    }
+
+    /**
+     * Clears the display strings that show the position or status, which are all but the date and time.
+     */
+    private void clearDisplayStrings() {
+        displayStringWithoutNames = null;
+        displayString = null;
+    }
+
+    private void clearCandidateStrings() {
+        candidatesNames = null;
+        candidateNameString = null;
+        displayString = null;
     }
 
     @Override
@@ -290,42 +400,59 @@ public class Interview {
     }
 
     public String getDisplayDate() {
-        String month = Month.of(date.getMonthValue()).toString();
-        month = month.charAt(0) + month.substring(1, 3).toLowerCase();
-        return date.getDayOfMonth() + " " + month + " " + date.getYear();
+        if (displayDate == null) {
+            String month = Month.of(date.getMonthValue()).toString();
+            month = month.charAt(0) + month.substring(1, 3).toLowerCase();
+            displayDate = date.getDayOfMonth() + " " + month + " " + date.getYear();
+        }
+        return displayDate;
     }
 
     public String getCandidatesNames() {
-        Set<String> names = candidates.stream().map(c -> c.getName().fullName).collect(Collectors.toSet());
-        return names.toString();
+        if (candidatesNames == null) {
+            Set<String> names = candidates.stream().map(c -> c.getName().fullName).collect(Collectors.toSet());
+            candidatesNames = names.toString();
+        }
+        return candidatesNames;
     }
 
     public String getCandidateNameString() {
         assert this.candidates != null;
-        Set<String> names = candidates.stream().map(c -> c.getName().fullName).collect(Collectors.toSet());
-        return names.toString().replace("[", "").replace("]", " ")
-                .replace(",", "");
+        if (candidateNameString == null) {
+            candidateNameString = getCandidatesNames().replace("[", "").replace("]", " ")
+                    .replace(",", "");
+        }
+        return candidateNameString;
     }
 
 
     public String getDisplayString() {
-        return "[" + getPositionTitle().toString() + " "
-                + getCandidatesNames() + " "
-                + getDisplayDate() + " "
-                + getStartTime() + " - "
-                + getEndTime() + " "
-                + getStatusInString() + "]";
+        if (displayString == null) {
+            displayString = "[" + getPositionTitle().toString() + " "
+                    + getCandidatesNames() + " "
+                    + getDisplayDate() + " "
+                    + getStartTime() + " - "
+                    + getEndTime() + " "
+                    + getStatusInString() + "]";
+        }
+        return displayString;
     }
 
     public String getDisplayTimePeriod() {
-        return getStartTime() + " ~ " + getEndTime();
+        if (displayTimePeriod == null) {
+            displayTimePeriod = getStartTime() + " ~ " + getEndTime();
+        }
+        return displayTimePeriod;
     }
 
     public String getDisplayStringWithoutNames() {
-        return "[" + getPositionTitle().toString() + " "
-                + getDisplayDate() + " "
-                + getDisplayTimePeriod() + " "
-                + getStatusInString() + "]";
+        if (displayStringWithoutNames == null) {
+            displayStringWithoutNames = "[" + getPositionTitle().toString() + " "
+                    + getDisplayDate() + " "
+                    + getDisplayTimePeriod() + " "
+                    + getStatusInString() + "]";
+        }
+        return displayStringWithoutNames;
     }
 }
 
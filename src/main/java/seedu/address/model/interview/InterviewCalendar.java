@@ -0,0 +1,172 @@
+package seedu.address.model.interview;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * The interviews held during a day or a week, as shown by a calendar, kept up to date as the interviews change.
+ *
+ * The interviews of the period are looked up in the index of interviews by start time, so showing a period, or
+ * moving to the next one, costs O(log n) plus the number of interviews in the period instead of O(n).
+ * Like a {@code PagedList}, updates can be deferred so that the period is looked up once per batch of changes.
+ */
+public class InterviewCalendar {
+
+    public static final int DAYS_PER_WEEK = 7;
+
+    /**
+     * Finds the interviews overlapping a period.
+     */
+    @FunctionalInterface
+    public interface InterviewFinder {
+        /**
+         * Returns the interviews that overlap the period of {@code duration} starting at {@code startTime} on
+         * {@code date}.
+         */
+        List<Interview> find(LocalDate date, LocalTime startTime, Duration duration);
+    }
+
+    private final InterviewFinder finder;
+    private final ObservableList<Interview> interviews = FXCollections.observableArrayList();
+    private final ObservableList<Interview> unmodifiableInterviews =
+            FXCollections.unmodifiableObservableList(interviews);
+
+    private LocalDate startDate;
+    private int days;
+    /** The number of times updates were deferred and not yet resumed. */
+    private final AtomicInteger deferrals = new AtomicInteger();
+    private volatile boolean isStale;
+    private Executor refresher = Runnable::run;
+
+    /**
+     * Creates a calendar of the week of {@code date}, which finds the interviews of a period with {@code finder}
+     * and follows the changes to {@code source}.
+     */
+    public InterviewCalendar(ObservableList<Interview> source, InterviewFinder finder, LocalDate date) {
+        requireAllNonNull(source, finder, date);
+        this.finder = finder;
+        source.addListener((ListChangeListener<Interview>) change -> refresh());
+        showWeek(date);
+    }
+
+    /**
+     * Returns an unmodifiable view of the interviews overlapping the period shown, in order of their start.
+     */
+    public ObservableList<Interview> getInterviews() {
+        return unmodifiableInterviews;
+    }
+
+    /**
+     * Returns the number of interviews overlapping the period shown. Unlike {@link #getInterviews()}, this is up to
+     * date while updates are deferred, e.g. during the command that changed the period.
+     */
+    public int getInterviewCount() {
+        return finder.find(startDate, LocalTime.MIDNIGHT, Duration.ofDays(days)).size();
+    }
+
+    /**
+     * Returns the first day shown.
+     */
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    /**
+     * Returns the last day shown.
+     */
+    public LocalDate getEndDate() {
+        return startDate.plusDays(days - 1);
+    }
+
+    /**
+     * Returns the number of days shown, which is 1 for a day and 7 for a week.
+     */
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * Shows {@code date} only.
+     */
+    public void showDay(LocalDate date) {
+        show(date, 1);
+    }
+
+    /**
+     * Shows the week from Monday to Sunday that {@code date} is in.
+     */
+    public void showWeek(LocalDate date) {
+        requireNonNull(date);
+        show(date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), DAYS_PER_WEEK);
+    }
+
+    /**
+     * Shows the day or week after the one shown.
+     */
+    public void showNext() {
+        show(startDate.plusDays(days), days);
+    }
+
+    /**
+     * Shows the day or week before the one shown.
+     */
+    public void showPrevious() {
+        show(startDate.minusDays(days), days);
+    }
+
+    /**
+     * Makes the interviews shown take in each update on {@code executor}, instead of on the thread that made the
+     * change. The interviews are found on the thread that made the change, and only the result is handed over.
+     */
+    public void setRefresher(Executor executor) {
+        requireNonNull(executor);
+        refresher = executor;
+    }
+
+    /**
+     * Stops updating the interviews until {@link #resumeRefresh()} is called as many times as this is.
+     */
+    public void deferRefresh() {
+        deferrals.incrementAndGet();
+    }
+
+    /**
+     * Updates the interviews once with every change made since {@link #deferRefresh()} was first called,
+     * unless updates are still deferred by another call.
+     */
+    public void resumeRefresh() {
+        if (deferrals.decrementAndGet() == 0 && isStale) {
+            refresh();
+        }
+    }
+
+    private void show(LocalDate startDate, int days) {
+        requireNonNull(startDate);
+        this.startDate = startDate;
+        this.days = days;
+        refresh();
+    }
+
+    private void refresh() {
+        if (deferrals.get() > 0) {
+            isStale = true;
+            return;
+        }
+        isStale = false;
+        List<Interview> found = finder.find(startDate, LocalTime.MIDNIGHT, Duration.ofDays(days));
+        refresher.execute(() -> interviews.setAll(found));
+    }
+}
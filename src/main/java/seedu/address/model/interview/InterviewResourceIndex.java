@@ -0,0 +1,131 @@
+package seedu.address.model.interview;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Indexes a list of interviews by start time, and keeps count of the interviewers and rooms they use, updating
+ * itself as interviews are added to and removed from the list.
+ *
+ * An interview can only overlap a period if it starts before the period ends, and no earlier than the longest
+ * interview before the period starts. Finding the interviews overlapping a period therefore only looks at the
+ * interviews starting in that window, which costs O(log n) plus the number of interviews in the window, instead
+ * of scanning every interview. This answers questions such as who is free at 14:00 on Tuesday.
+ *
+ * The index assumes the time, room and interviewers of an interview do not change while it is in the list, which
+ * holds as interviews are edited by replacing them.
+ */
+public class InterviewResourceIndex {
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final NavigableMap<Long, List<Interview>> interviewsByStart = new TreeMap<>();
+    /** The number of interviews of each duration in minutes, to find the longest interview. */
+    private final NavigableMap<Long, Integer> durationCounts = new TreeMap<>();
+    private final Map<Interviewer, Integer> interviewerCounts = new HashMap<>();
+    private final Map<Room, Integer> roomCounts = new HashMap<>();
+
+    /**
+     * Creates an index of {@code interviews} that follows later changes to the list.
+     */
+    public InterviewResourceIndex(ObservableList<Interview> interviews) {
+        requireNonNull(interviews);
+        interviews.forEach(this::add);
+        interviews.addListener((ListChangeListener<Interview>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+    /**
+     * Returns the interviews that overlap the period of {@code duration} starting at {@code startTime} on
+     * {@code date}, in order of their start.
+     */
+    public List<Interview> getInterviewsDuring(LocalDate date, LocalTime startTime, Duration duration) {
+        long startMinute = date.toEpochDay() * MINUTES_PER_DAY + startTime.toSecondOfDay() / 60;
+        long endMinute = startMinute + duration.toMinutes();
+        List<Interview> overlapping = new ArrayList<>();
+        if (durationCounts.isEmpty()) {
+            return overlapping;
+        }
+
+        long earliestStart = startMinute - durationCounts.lastKey();
+        for (List<Interview> interviews : interviewsByStart.subMap(earliestStart, false, endMinute, false).values()) {
+            for (Interview interview : interviews) {
+                if (interview.getEndEpochMinute() > startMinute) {
+                    overlapping.add(interview);
+                }
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * Returns the interviewers of the indexed interviews, sorted by name.
+     */
+    public Set<Interviewer> getInterviewers() {
+        return Collections.unmodifiableSet(new TreeSet<>(interviewerCounts.keySet()));
+    }
+
+    /**
+     * Returns the rooms of the indexed interviews, sorted by name.
+     */
+    public Set<Room> getRooms() {
+        return Collections.unmodifiableSet(new TreeSet<>(roomCounts.keySet()));
+    }
+
+    private void add(Interview interview) {
+        interviewsByStart.computeIfAbsent(interview.getStartEpochMinute(), unused -> new ArrayList<>(1))
+                .add(interview);
+        durationCounts.merge(interview.getDuration().toMinutes(), 1, Integer::sum);
+        interview.getInterviewers().forEach(interviewer -> interviewerCounts.merge(interviewer, 1, Integer::sum));
+        interview.getRoom().ifPresent(room -> roomCounts.merge(room, 1, Integer::sum));
+    }
+
+    private void remove(Interview interview) {
+        List<Interview> sameStart = interviewsByStart.get(interview.getStartEpochMinute());
+        if (sameStart == null || !removeByIdentity(sameStart, interview)) {
+            return;
+        }
+        if (sameStart.isEmpty()) {
+            interviewsByStart.remove(interview.getStartEpochMinute());
+        }
+        decrement(durationCounts, interview.getDuration().toMinutes());
+        interview.getInterviewers().forEach(interviewer -> decrement(interviewerCounts, interviewer));
+        interview.getRoom().ifPresent(room -> decrement(roomCounts, room));
+    }
+
+    private static boolean removeByIdentity(List<Interview> interviews, Interview interview) {
+        for (int i = 0; i < interviews.size(); i++) {
+            if (interviews.get(i) == interview) {
+                interviews.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <K> void decrement(Map<K, Integer> counts, K key) {
+        counts.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1);
+    }
+}
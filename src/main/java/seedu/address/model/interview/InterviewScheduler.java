@@ -0,0 +1,249 @@
+package seedu.address.model.interview;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Places candidates into interview slots so that no two candidates share a slot and no candidate is given a slot
+ * that overlaps an interview they already have, or an interview already held for the position.
+ *
+ * The slots each candidate is free for are found by sweeping the sorted slots against the candidate's sorted
+ * interviews, which costs O(slots + interviews) per candidate. Candidates with the fewest free slots are placed
+ * first, each into their earliest free slot. A candidate left without a slot then searches for a chain of placed
+ * candidates that can each move to another of their free slots to make room (an augmenting path), skipping slots
+ * already tried in the same search. This places as many candidates as possible.
+ */
+public class InterviewScheduler {
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    /**
+     * A period of time in which one interview can be held.
+     */
+    public static class Slot {
+        private final LocalDate date;
+        private final LocalTime startTime;
+        private final long startMinute;
+        private final long endMinute;
+
+        Slot(LocalDate date, LocalTime startTime, Duration duration) {
+            this.date = date;
+            this.startTime = startTime;
+            this.startMinute = toEpochMinute(date, startTime);
+            this.endMinute = startMinute + duration.toMinutes();
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public LocalTime getStartTime() {
+            return startTime;
+        }
+
+        @Override
+        public String toString() {
+            return date + " " + startTime;
+        }
+    }
+
+    /**
+     * The slot given to each candidate that could be placed, and the candidates that could not.
+     */
+    public static class Schedule {
+        private final Map<Person, Slot> placements;
+        private final List<Person> unplaced;
+
+        Schedule(Map<Person, Slot> placements, List<Person> unplaced) {
+            this.placements = Collections.unmodifiableMap(placements);
+            this.unplaced = Collections.unmodifiableList(unplaced);
+        }
+
+        /**
+         * Returns the slot of every placed candidate, in the order the candidates were given.
+         */
+        public Map<Person, Slot> getPlacements() {
+            return placements;
+        }
+
+        /**
+         * Returns the candidates that could not be placed, in the order they were given.
+         */
+        public List<Person> getUnplaced() {
+            return unplaced;
+        }
+    }
+
+    private final List<Slot> slots;
+
+    /** The indexes of the slots each candidate is free for, in the order the candidates were given. */
+    private int[][] freeSlots;
+    /** The candidate placed in each slot, or -1. */
+    private int[] candidateInSlot;
+    /** The slot each candidate is placed in, or -1. */
+    private int[] slotOfCandidate;
+    /** The search in which each slot was last tried. */
+    private int[] triedInSearch;
+    private int search;
+
+    /**
+     * Creates a scheduler for the slots of {@code duration} that fit within {@code dayStart} and {@code dayEnd}
+     * on every day from {@code from} to {@code to}, leaving out the slots that overlap {@code busy}.
+     */
+    public InterviewScheduler(LocalDate from, LocalDate to, LocalTime dayStart, LocalTime dayEnd, Duration duration,
+            Collection<Interview> busy) {
+        requireAllNonNull(from, to, dayStart, dayEnd, duration, busy);
+        List<Slot> allSlots = new ArrayList<>();
+        long minutesPerDay = dayEnd.toSecondOfDay() / 60 - dayStart.toSecondOfDay() / 60;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            for (long offset = 0; offset + duration.toMinutes() <= minutesPerDay; offset += duration.toMinutes()) {
+                allSlots.add(new Slot(date, dayStart.plusMinutes(offset), duration));
+            }
+        }
+        slots = new ArrayList<>();
+        for (int index : freeSlotsAround(allSlots, busy)) {
+            slots.add(allSlots.get(index));
+        }
+    }
+
+    /**
+     * Returns the number of slots that candidates can be placed in.
+     */
+    public int getSlotCount() {
+        return slots.size();
+    }
+
+    /**
+     * Places as many of {@code candidates} as possible, one per slot.
+     */
+    public Schedule schedule(List<Person> candidates) {
+        requireNonNull(candidates);
+        freeSlots = new int[candidates.size()][];
+        for (int i = 0; i < candidates.size(); i++) {
+            freeSlots[i] = freeSlotsAround(slots, candidates.get(i).getInterviews());
+        }
+        candidateInSlot = new int[slots.size()];
+        slotOfCandidate = new int[candidates.size()];
+        triedInSearch = new int[slots.size()];
+        Arrays.fill(candidateInSlot, -1);
+        Arrays.fill(slotOfCandidate, -1);
+        Arrays.fill(triedInSearch, -1);
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingInt(i -> freeSlots[i].length));
+
+        List<Integer> waiting = new ArrayList<>();
+        int placedCount = 0;
+        for (int candidate : order) {
+            if (placeInEarliestFreeSlot(candidate)) {
+                placedCount++;
+            } else {
+                waiting.add(candidate);
+            }
+        }
+        for (int candidate : waiting) {
+            // Once every slot is taken, no one else can be placed.
+            if (placedCount == slots.size()) {
+                break;
+            }
+            search++;
+            if (findRoomFor(candidate)) {
+                placedCount++;
+            }
+        }
+
+        Map<Person, Slot> placements = new LinkedHashMap<>();
+        List<Person> unplaced = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (slotOfCandidate[i] >= 0) {
+                placements.put(candidates.get(i), slots.get(slotOfCandidate[i]));
+            } else {
+                unplaced.add(candidates.get(i));
+            }
+        }
+        return new Schedule(placements, unplaced);
+    }
+
+    private boolean placeInEarliestFreeSlot(int candidate) {
+        for (int slot : freeSlots[candidate]) {
+            if (candidateInSlot[slot] < 0) {
+                place(candidate, slot);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Places {@code candidate} in one of their free slots, moving the candidates already in them along to other
+     * slots where needed. Returns false, having moved no one, if there is no way to do so.
+     */
+    private boolean findRoomFor(int candidate) {
+        for (int slot : freeSlots[candidate]) {
+            if (triedInSearch[slot] == search) {
+                continue;
+            }
+            triedInSearch[slot] = search;
+            if (candidateInSlot[slot] < 0 || findRoomFor(candidateInSlot[slot])) {
+                place(candidate, slot);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void place(int candidate, int slot) {
+        candidateInSlot[slot] = candidate;
+        slotOfCandidate[candidate] = slot;
+    }
+
+    /**
+     * Returns the indexes of the slots in {@code sortedSlots} that do not overlap any of {@code interviews}.
+     */
+    private static int[] freeSlotsAround(List<Slot> sortedSlots, Collection<Interview> interviews) {
+        long[][] busy = interviews.stream()
+                .map(interview -> new long[] {interview.getStartEpochMinute(),
+                    interview.getStartEpochMinute() + interview.getDuration().toMinutes()})
+                .sorted(Comparator.comparingLong(interval -> interval[0]))
+                .toArray(long[][]::new);
+
+        int[] free = new int[sortedSlots.size()];
+        int freeCount = 0;
+        int next = 0;
+        long latestEnd = Long.MIN_VALUE;
+        for (int i = 0; i < sortedSlots.size(); i++) {
+            Slot slot = sortedSlots.get(i);
+            // Intervals starting before the slot ends are the only ones that can overlap it, and they can also
+            // overlap every later slot, so only the latest end among them needs to be kept.
+            while (next < busy.length && busy[next][0] < slot.endMinute) {
+                latestEnd = Math.max(latestEnd, busy[next][1]);
+                next++;
+            }
+            if (latestEnd <= slot.startMinute) {
+                free[freeCount++] = i;
+            }
+        }
+        return Arrays.copyOf(free, freeCount);
+    }
+
+    private static long toEpochMinute(LocalDate date, LocalTime time) {
+        return date.toEpochDay() * MINUTES_PER_DAY + time.toSecondOfDay() / 60;
+    }
+}
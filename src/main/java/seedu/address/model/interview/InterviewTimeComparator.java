@@ -0,0 +1,27 @@
+package seedu.address.model.interview;
+
+import java.util.Comparator;
+
+/**
+ * Orders {@code Interview}s chronologically by their precomputed start minute.
+ * Interviews starting at the same time are ordered by position title.
+ */
+public class InterviewTimeComparator implements Comparator<Interview> {
+
+    @Override
+    public int compare(Interview first, Interview second) {
+        int result = Long.compare(first.getStartEpochMinute(), second.getStartEpochMinute());
+        return result != 0 ? result
+                : first.getPositionTitle().getCollationKey().compareTo(second.getPositionTitle().getCollationKey());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof InterviewTimeComparator;
+    }
+
+    @Override
+    public int hashCode() {
+        return InterviewTimeComparator.class.hashCode();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.interview;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents an Interviewer in the HR Manager.
+ * Guarantees: immutable; is valid as declared in {@link #isValidInterviewer(String)}
+ */
+public class Interviewer implements Comparable<Interviewer> {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Interviewer names should only contain alphanumeric characters and spaces, and it should not be blank";
+
+    /*
+     * The first character must not be a whitespace,
+     * otherwise " " (a blank string) becomes a valid input.
+     */
+    public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+
+    public final String fullName;
+
+    /**
+     * Constructs a {@code Interviewer}.
+     *
+     * @param name A valid name.
+     */
+    public Interviewer(String name) {
+        requireNonNull(name);
+        checkArgument(isValidInterviewer(name), MESSAGE_CONSTRAINTS);
+        fullName = name;
+    }
+
+    /**
+     * Returns true if a given string is a valid name.
+     */
+    public static boolean isValidInterviewer(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    @Override
+    public int compareTo(Interviewer other) {
+        return fullName.compareTo(other.fullName);
+    }
+
+    @Override
+    public String toString() {
+        return fullName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Interviewer // instanceof handles nulls
+                && fullName.equals(((Interviewer) other).fullName)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return fullName.hashCode();
+    }
+
+}
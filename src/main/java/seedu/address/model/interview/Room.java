@@ -0,0 +1,63 @@
+package seedu.address.model.interview;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents a Room in which interviews are held.
+ * Guarantees: immutable; is valid as declared in {@link #isValidRoom(String)}
+ */
+public class Room implements Comparable<Room> {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Room names should only contain alphanumeric characters, spaces and hyphens, and it should not be blank";
+
+    /*
+     * The first character must not be a whitespace,
+     * otherwise " " (a blank string) becomes a valid input.
+     */
+    public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} -]*";
+
+    public final String roomName;
+
+    /**
+     * Constructs a {@code Room}.
+     *
+     * @param roomName A valid room name.
+     */
+    public Room(String roomName) {
+        requireNonNull(roomName);
+        checkArgument(isValidRoom(roomName), MESSAGE_CONSTRAINTS);
+        this.roomName = roomName;
+    }
+
+    /**
+     * Returns true if a given string is a valid room name.
+     */
+    public static boolean isValidRoom(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    @Override
+    public int compareTo(Room other) {
+        return roomName.compareTo(other.roomName);
+    }
+
+    @Override
+    public String toString() {
+        return roomName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Room // instanceof handles nulls
+                && roomName.equals(((Room) other).roomName)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return roomName.hashCode();
+    }
+
+}
@@ -0,0 +1,169 @@
+package seedu.address.model.interview;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Gives rooms to interviews that do not have one, by interval partitioning.
+ *
+ * Interviews are visited in order of their start, with a min-heap of the end times of the interviews in progress.
+ * Before each interview, the interviews that have ended are popped off the heap and their rooms become free again,
+ * and the interview then takes a free room. The largest size the heap reaches is the minimum number of rooms needed
+ * to hold every interview, and the whole pass costs O(n log n).
+ *
+ * Interviews that already have a room keep it, and a free room is only given to an interview if no interview already
+ * booked into the room overlaps it. Interviews that share a room at the same time are reported as over-booked.
+ */
+public class RoomAllocator {
+
+    /**
+     * The rooms given to interviews, and the problems found.
+     */
+    public static class Allocation {
+        private final Map<Interview, Room> allocations;
+        private final List<Interview> overbooked;
+        private final List<Interview> unallocated;
+        private final int minimumRooms;
+
+        Allocation(Map<Interview, Room> allocations, List<Interview> overbooked, List<Interview> unallocated,
+                int minimumRooms) {
+            this.allocations = Collections.unmodifiableMap(allocations);
+            this.overbooked = Collections.unmodifiableList(overbooked);
+            this.unallocated = Collections.unmodifiableList(unallocated);
+            this.minimumRooms = minimumRooms;
+        }
+
+        /**
+         * Returns the room given to each interview that had none, in order of the interviews' start.
+         */
+        public Map<Interview, Room> getAllocations() {
+            return allocations;
+        }
+
+        /**
+         * Returns the interviews booked into a room that is already in use at the time.
+         */
+        public List<Interview> getOverbooked() {
+            return overbooked;
+        }
+
+        /**
+         * Returns the interviews without a room for which no room was free.
+         */
+        public List<Interview> getUnallocated() {
+            return unallocated;
+        }
+
+        /**
+         * Returns the most interviews held at the same time, which is the fewest rooms that can hold them all.
+         */
+        public int getMinimumRooms() {
+            return minimumRooms;
+        }
+    }
+
+    /**
+     * An interview in progress, with the room it is held in, if any.
+     */
+    private static class Booking {
+        private final long endMinute;
+        private final Room room;
+
+        Booking(long endMinute, Room room) {
+            this.endMinute = endMinute;
+            this.room = room;
+        }
+    }
+
+    private RoomAllocator() {}
+
+    /**
+     * Gives each of {@code interviews} without a room one of {@code rooms} or of the rooms the interviews already use.
+     */
+    public static Allocation allocate(Collection<Interview> interviews, Collection<Room> rooms) {
+        requireNonNull(interviews);
+        requireNonNull(rooms);
+        List<Interview> sorted = new ArrayList<>(interviews);
+        sorted.sort(Comparator.comparingLong(Interview::getStartEpochMinute));
+
+        TreeSet<Room> freeRooms = new TreeSet<>(rooms);
+        Map<Room, NavigableMap<Long, Long>> roomBookings = new HashMap<>();
+        for (Interview interview : sorted) {
+            interview.getRoom().ifPresent(room -> {
+                freeRooms.add(room);
+                roomBookings.computeIfAbsent(room, unused -> new TreeMap<>())
+                        .merge(interview.getStartEpochMinute(), interview.getEndEpochMinute(), Math::max);
+            });
+        }
+
+        Map<Interview, Room> allocations = new LinkedHashMap<>();
+        List<Interview> overbooked = new ArrayList<>();
+        List<Interview> unallocated = new ArrayList<>();
+        Map<Room, Integer> roomsInUse = new HashMap<>();
+        PriorityQueue<Booking> inProgress = new PriorityQueue<>(Comparator.comparingLong(booking -> booking.endMinute));
+        int minimumRooms = 0;
+
+        for (Interview interview : sorted) {
+            while (!inProgress.isEmpty() && inProgress.peek().endMinute <= interview.getStartEpochMinute()) {
+                Room room = inProgress.poll().room;
+                if (room != null && roomsInUse.merge(room, -1, Integer::sum) == 0) {
+                    roomsInUse.remove(room);
+                    freeRooms.add(room);
+                }
+            }
+
+            Room room = interview.getRoom().orElse(null);
+            if (room != null) {
+                if (roomsInUse.containsKey(room)) {
+                    overbooked.add(interview);
+                }
+                freeRooms.remove(room);
+            } else {
+                room = findFreeRoom(freeRooms, roomBookings, interview);
+                if (room == null) {
+                    unallocated.add(interview);
+                } else {
+                    allocations.put(interview, room);
+                }
+            }
+
+            if (room != null) {
+                roomsInUse.merge(room, 1, Integer::sum);
+            }
+            inProgress.add(new Booking(interview.getEndEpochMinute(), room));
+            minimumRooms = Math.max(minimumRooms, inProgress.size());
+        }
+        return new Allocation(allocations, overbooked, unallocated, minimumRooms);
+    }
+
+    /**
+     * Removes and returns the first of {@code freeRooms} in which no interview is booked during {@code interview},
+     * or returns null if there is none.
+     */
+    private static Room findFreeRoom(TreeSet<Room> freeRooms, Map<Room, NavigableMap<Long, Long>> roomBookings,
+            Interview interview) {
+        for (Room room : freeRooms) {
+            NavigableMap<Long, Long> bookings = roomBookings.get(room);
+            // A later booking into the room that starts before this interview ends would clash with it.
+            Map.Entry<Long, Long> nextBooking = bookings == null ? null
+                    : bookings.ceilingEntry(interview.getStartEpochMinute());
+            if (nextBooking == null || nextBooking.getKey() >= interview.getEndEpochMinute()) {
+                freeRooms.remove(room);
+                return room;
+            }
+        }
+        return null;
+    }
+}
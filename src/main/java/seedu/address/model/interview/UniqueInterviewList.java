@@ -49,6 +49,18 @@ public class UniqueInterviewList implements Iterable<Interview> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts an interview at {@code index} in the list, e.g. to restore a removed interview to its original place.
+     * The interview must not already exist in the list.
+     */
+    public void add(int index, Interview toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateInterviewException();
+        }
+        internalList.add(index, toAdd);
+    }
+
     /**
      * Replaces the interview {@code target} in the list with {@code editedInterview}.
      * {@code target} must exist in the list.
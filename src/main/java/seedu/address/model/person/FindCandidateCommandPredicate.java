@@ -1,17 +1,26 @@
 package seedu.address.model.person;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+import seedu.address.commons.util.AhoCorasickAutomaton;
+import seedu.address.commons.util.PhoneticUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.PersonSearchIndex.Field;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class FindCandidateCommandPredicate implements Predicate<Person> {
 
+    /** Keyword lists at least this long are matched with a single automaton pass instead of one scan each. */
+    public static final int AUTOMATON_KEYWORD_THRESHOLD = 8;
+
     private List<String> nameKeywords = new ArrayList<String>();
     private List<String> phoneKeywords = new ArrayList<String>();
     private List<String> emailKeywords = new ArrayList<String>();
@@ -19,6 +28,13 @@ public class FindCandidateCommandPredicate implements Predicate<Person> {
     private List<String> tagKeywords = new ArrayList<String>();
     private List<String> statusKeywords = new ArrayList<String>();
     private List<String> positionKeywords = new ArrayList<String>();
+    private MatchMode matchMode = MatchMode.WORD;
+
+    private PersonSearchIndex searchIndex;
+    private final Map<Field, Set<Person>> indexedMatches = new EnumMap<>(Field.class);
+    private long indexedMatchesVersion;
+    private AhoCorasickAutomaton tagAutomaton;
+    private AhoCorasickAutomaton positionAutomaton;
 
     public FindCandidateCommandPredicate() {
     }
@@ -56,30 +72,85 @@ public class FindCandidateCommandPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        boolean nameCheck = nameKeywords.isEmpty() || nameKeywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        boolean nameCheck = nameKeywords.isEmpty() || isNameMatch(person);
 
-        boolean phoneCheck = phoneKeywords.isEmpty() || phoneKeywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getPhone().value, keyword));
+        boolean phoneCheck = phoneKeywords.isEmpty() || isTextMatch(person, Field.PHONE, phoneKeywords);
 
-        boolean emailCheck = emailKeywords.isEmpty() || emailKeywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getEmail().value, keyword));
+        boolean emailCheck = emailKeywords.isEmpty() || isTextMatch(person, Field.EMAIL, emailKeywords);
 
-        boolean addressCheck = addressKeywords.isEmpty() || addressKeywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getAddress().value, keyword));
+        boolean addressCheck = addressKeywords.isEmpty() || isTextMatch(person, Field.ADDRESS, addressKeywords);
 
-        boolean tagCheck = tagKeywords.isEmpty() || tagKeywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getTagsString(), keyword));
+        if (tagAutomaton == null && tagKeywords.size() >= AUTOMATON_KEYWORD_THRESHOLD) {
+            tagAutomaton = AhoCorasickAutomaton.of(tagKeywords);
+        }
+        boolean tagCheck = tagKeywords.isEmpty()
+                || isAnyWordMatch(person.getTagsString(), tagKeywords, tagAutomaton);
 
         boolean statusCheck = statusKeywords.isEmpty() || statusKeywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getStatus().toString(), keyword));
 
-        boolean positionCheck = positionKeywords.isEmpty() || positionKeywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getPositionsString(), keyword));
+        if (positionAutomaton == null && positionKeywords.size() >= AUTOMATON_KEYWORD_THRESHOLD) {
+            positionAutomaton = AhoCorasickAutomaton.of(positionKeywords);
+        }
+        boolean positionCheck = positionKeywords.isEmpty()
+                || isAnyWordMatch(person.getPositionsString(), positionKeywords, positionAutomaton);
 
         return nameCheck && phoneCheck && emailCheck && addressCheck && tagCheck && statusCheck && positionCheck;
     }
 
+    private static boolean isAnyWordMatch(String text, List<String> keywords, AhoCorasickAutomaton automaton) {
+        if (automaton != null) {
+            return automaton.containsAnyWord(text);
+        }
+        return keywords.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(text, keyword));
+    }
+
+    private boolean isNameMatch(Person person) {
+        if (matchMode != MatchMode.PHONETIC) {
+            return isTextMatch(person, Field.NAME, nameKeywords);
+        }
+
+        if (searchIndex == null) {
+            Set<String> nameKeys = person.getName().getPhoneticKeys();
+            return nameKeywords.stream().map(PhoneticUtil::encode).anyMatch(nameKeys::contains);
+        }
+        return getIndexedMatches(Field.NAME, nameKeywords).contains(person);
+    }
+
+    private boolean isTextMatch(Person person, Field field, List<String> keywords) {
+        String value = field.valueOf(person);
+        if (matchMode != MatchMode.SUBSTRING) {
+            return keywords.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(value, keyword));
+        }
+
+        if (searchIndex == null) {
+            String lowerCaseValue = value.toLowerCase();
+            return keywords.stream().anyMatch(keyword -> lowerCaseValue.contains(keyword.toLowerCase()));
+        }
+        return getIndexedMatches(field, keywords).contains(person);
+    }
+
+    /**
+     * Returns the persons matching any of {@code keywords} in {@code field} according to the search index.
+     * Matches are resolved once per version of the index instead of once per tested person.
+     */
+    private Set<Person> getIndexedMatches(Field field, List<String> keywords) {
+        if (indexedMatchesVersion != searchIndex.getVersion()) {
+            indexedMatches.clear();
+            indexedMatchesVersion = searchIndex.getVersion();
+        }
+
+        return indexedMatches.computeIfAbsent(field, unused -> {
+            Set<Person> matches = PersonSearchIndex.newIdentitySet();
+            for (String keyword : keywords) {
+                matches.addAll(matchMode == MatchMode.PHONETIC
+                        ? searchIndex.lookupPhoneticName(keyword)
+                        : searchIndex.lookupSubstring(field, keyword));
+            }
+            return matches;
+        });
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -89,7 +160,8 @@ public class FindCandidateCommandPredicate implements Predicate<Person> {
                 && addressKeywords.equals(((FindCandidateCommandPredicate) other).addressKeywords)
                 && tagKeywords.equals(((FindCandidateCommandPredicate) other).tagKeywords)
                 && statusKeywords.equals(((FindCandidateCommandPredicate) other).statusKeywords)
-                && positionKeywords.equals(((FindCandidateCommandPredicate) other).positionKeywords));
+                && positionKeywords.equals(((FindCandidateCommandPredicate) other).positionKeywords)
+                && matchMode == ((FindCandidateCommandPredicate) other).matchMode);
     }
 
     public void setNameKeywords(List<String> name) {
@@ -114,10 +186,24 @@ public class FindCandidateCommandPredicate implements Predicate<Person> {
 
     public void setTagKeywords(List<String> tags) {
         this.tagKeywords = tags;
+        this.tagAutomaton = null;
     }
 
     public void setPositionKeywords(List<String> positionKeywords) {
         this.positionKeywords = positionKeywords;
+        this.positionAutomaton = null;
+    }
+
+    public void setMatchMode(MatchMode matchMode) {
+        this.matchMode = matchMode;
+    }
+
+    /**
+     * Sets the index used to look up matching persons instead of testing every person's fields.
+     */
+    public void setSearchIndex(PersonSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+        this.indexedMatches.clear();
     }
 
     /**
@@ -0,0 +1,27 @@
+package seedu.address.model.person;
+
+/**
+ * Represents how the keywords of a candidate search are matched against a {@code Person}'s fields.
+ */
+public enum MatchMode {
+    WORD,
+    PHONETIC,
+    SUBSTRING;
+
+    public static final String MESSAGE_CONSTRAINTS = "Match mode can only take the values:\n"
+            + "word\n"
+            + "phonetic\n"
+            + "substring\n";
+
+    /**
+     * Returns true if a given string is a valid match mode, ignoring case.
+     */
+    public static boolean isValidMatchMode(String test) {
+        for (MatchMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(test)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
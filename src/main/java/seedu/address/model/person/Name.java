@@ -3,6 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.PhoneticUtil;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the HR Manager.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +28,10 @@ public class Name {
 
     public final String fullName;
 
+    private CollationKey collationKey;
+
+    private Set<String> phoneticKeys;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -38,6 +50,28 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the sort key of this name, computed on first use.
+     */
+    public CollationKey getCollationKey() {
+        if (collationKey == null) {
+            collationKey = StringUtil.getCollationKey(fullName);
+        }
+        return collationKey;
+    }
+
+    /**
+     * Returns the phonetic keys of the words in this name, computed on first use.
+     */
+    public Set<String> getPhoneticKeys() {
+        if (phoneticKeys == null) {
+            phoneticKeys = Arrays.stream(fullName.split("\\s+"))
+                    .map(PhoneticUtil::encode)
+                    .filter(key -> !key.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+        return phoneticKeys;
+    }
 
     @Override
     public String toString() {
@@ -30,6 +30,10 @@ public class Person {
     private Set<Position> positions = new HashSet<>();
     private Set<Interview> interviews = new HashSet<>();
 
+    // Computed when first asked for; the tags never change, and the positions string is cleared when they do.
+    private String tagsString;
+    private String positionsString;
+
     /**
      * Every field must be present and not null. If status is null, defaults to applied
      */
@@ -70,6 +74,10 @@ public class Person {
         return status;
     }
 
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -82,8 +90,11 @@ public class Person {
      * Return a String representation of Tags without '[', ']' and ','
      */
     public String getTagsString() {
-        return tags.toString().replace("[", "")
-                .replace("]", "").replace(",", "");
+        if (tagsString == null) {
+            tagsString = tags.toString().replace("[", "")
+                    .replace("]", "").replace(",", "");
+        }
+        return tagsString;
     }
 
     /**
@@ -98,8 +109,11 @@ public class Person {
      * Return a String representation of Positions without '[', ']' and ','
      */
     public String getPositionsString() {
-        return positions.toString().replace("[", "")
-                .replace("]", "").replace(",", "");
+        if (positionsString == null) {
+            positionsString = positions.toString().replace("[", "")
+                    .replace("]", "").replace(",", "");
+        }
+        return positionsString;
     }
 
     public Set<Interview> getInterviews() {
@@ -114,12 +128,20 @@ public class Person {
         return interviews.stream().anyMatch(i::isSameInterview);
     }
 
+    /**
+     * Adds {@code p} to the positions this person applied for.
+     */
     public void addPosition(Position p) {
         positions.add(p);
+        positionsString = null;
     }
 
+    /**
+     * Removes {@code p} from the positions this person applied for.
+     */
     public void deletePosition(Position p) {
         positions.remove(p);
+        positionsString = null;
     }
 
     /**
@@ -251,6 +273,7 @@ public class Person {
     }
 
     public void setPositions(Set<Position> personPositions) {
-        positions = personPositions;
+        positions = new HashSet<>(personPositions);
+        positionsString = null;
     }
 }
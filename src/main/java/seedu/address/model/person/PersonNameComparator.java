@@ -0,0 +1,26 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+
+/**
+ * Orders {@code Person}s by name using each name's cached collation key.
+ * Ties are broken by email, which identifies a person uniquely.
+ */
+public class PersonNameComparator implements Comparator<Person> {
+
+    @Override
+    public int compare(Person first, Person second) {
+        int result = first.getName().getCollationKey().compareTo(second.getName().getCollationKey());
+        return result != 0 ? result : first.getEmail().value.compareTo(second.getEmail().value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof PersonNameComparator;
+    }
+
+    @Override
+    public int hashCode() {
+        return PersonNameComparator.class.hashCode();
+    }
+}
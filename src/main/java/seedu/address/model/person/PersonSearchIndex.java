@@ -0,0 +1,130 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.PhoneticUtil;
+import seedu.address.commons.util.TrigramIndex;
+
+/**
+ * Secondary indexes over the persons in a {@code UniquePersonList}, kept up to date as persons are added, replaced
+ * and removed so that lookups do not need to scan or re-encode every person.
+ * Persons are tracked by reference, since two distinct persons may compare equal while being edited.
+ */
+public class PersonSearchIndex {
+
+    /**
+     * The text fields of a {@code Person} that support substring lookups.
+     */
+    public enum Field {
+        NAME(person -> person.getName().fullName),
+        PHONE(person -> person.getPhone().value),
+        EMAIL(person -> person.getEmail().value),
+        ADDRESS(person -> person.getAddress().value);
+
+        private final Function<Person, String> extractor;
+
+        Field(Function<Person, String> extractor) {
+            this.extractor = extractor;
+        }
+
+        public String valueOf(Person person) {
+            return extractor.apply(person);
+        }
+    }
+
+    private final Set<Person> persons = newIdentitySet();
+    private final Map<String, Set<Person>> phoneticIndex = new HashMap<>();
+    private final Map<Field, TrigramIndex<Person>> substringIndexes = new EnumMap<>(Field.class);
+    private long version;
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonSearchIndex() {
+        for (Field field : Field.values()) {
+            substringIndexes.put(field, new TrigramIndex<>());
+        }
+    }
+
+    /**
+     * Returns the persons with a name word that sounds like {@code keyword}.
+     * The returned set is a read-only view and must not be retained across modifications of the index.
+     */
+    public Set<Person> lookupPhoneticName(String keyword) {
+        requireNonNull(keyword);
+        Set<Person> matches = phoneticIndex.get(PhoneticUtil.encode(keyword));
+        return matches == null ? Collections.emptySet() : Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Returns the persons whose {@code field} contains {@code keyword}, ignoring case.
+     * Keywords of at least three characters are narrowed down through the trigram index before being verified;
+     * shorter keywords match too many persons for the index to help, so every person is checked instead.
+     */
+    public Set<Person> lookupSubstring(Field field, String keyword) {
+        requireNonNull(field);
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        Set<Person> candidates = TrigramIndex.isIndexable(lowerCaseKeyword)
+                ? substringIndexes.get(field).candidates(lowerCaseKeyword)
+                : persons;
+
+        Set<Person> matches = newIdentitySet();
+        for (Person candidate : candidates) {
+            if (field.valueOf(candidate).toLowerCase().contains(lowerCaseKeyword)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a number that changes whenever the indexed persons change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    void add(Person person) {
+        persons.add(person);
+        for (String key : person.getName().getPhoneticKeys()) {
+            phoneticIndex.computeIfAbsent(key, unused -> newIdentitySet()).add(person);
+        }
+        substringIndexes.forEach((field, index) -> index.add(person, field.valueOf(person)));
+        version++;
+    }
+
+    void remove(Person person) {
+        persons.remove(person);
+        for (String key : person.getName().getPhoneticKeys()) {
+            Set<Person> bucket = phoneticIndex.get(key);
+            if (bucket != null) {
+                bucket.remove(person);
+                if (bucket.isEmpty()) {
+                    phoneticIndex.remove(key);
+                }
+            }
+        }
+        substringIndexes.forEach((field, index) -> index.remove(person, field.valueOf(person)));
+        version++;
+    }
+
+    void clear() {
+        persons.clear();
+        phoneticIndex.clear();
+        substringIndexes.values().forEach(TrigramIndex::clear);
+        version++;
+    }
+
+    static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -3,8 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -28,6 +33,7 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -46,9 +52,24 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        // Index first so that filtered views reacting to the list change already see the new person.
+        searchIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a person at {@code index} in the list, e.g. to restore a removed person to its original place.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        searchIndex.add(toAdd);
+        internalList.add(index, toAdd);
+    }
+
     public Person getPerson(Index index) {
         return internalList.get(index.getZeroBased());
     }
@@ -70,6 +91,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        searchIndex.remove(internalList.get(index));
+        searchIndex.add(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -79,13 +102,106 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        searchIndex.remove(internalList.remove(index));
+    }
+
+    /**
+     * Removes every person matching {@code predicate} from the list in one pass, and returns them in list order.
+     * Listeners are told of the removals in a single change.
+     */
+    public List<Person> removeIf(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            if (predicate.test(internalList.get(i))) {
+                indices.add(i);
+            }
+        }
+        return removeAt(indices);
+    }
+
+    /**
+     * Removes the persons at {@code indices}, which must be increasing, from the list in one pass, and returns them
+     * in list order. Listeners are told of the removals in a single change.
+     */
+    public List<Person> removeAt(List<Integer> indices) {
+        requireAllNonNull(indices);
+        List<Person> kept = new ArrayList<>(internalList.size());
+        List<Person> removed = new ArrayList<>(indices.size());
+        int next = 0;
+        for (int i = 0; i < internalList.size(); i++) {
+            if (next < indices.size() && indices.get(next) == i) {
+                removed.add(internalList.get(i));
+                next++;
+            } else {
+                kept.add(internalList.get(i));
+            }
+        }
+        if (!removed.isEmpty()) {
+            removed.forEach(searchIndex::remove);
+            internalList.setAll(kept);
+        }
+        return removed;
+    }
+
+    /**
+     * Inserts each person of {@code toInsert} at the index in the same place of {@code indices}, in one pass, e.g. to
+     * restore the persons removed by {@link #removeAt(List)} to their original places. The indices must be increasing
+     * and are those of the persons once inserted. Listeners are told of the insertions in a single change.
+     * The persons must not already exist in the list.
+     */
+    public void insertAt(List<Integer> indices, List<Person> toInsert) {
+        requireAllNonNull(indices, toInsert);
+        if (toInsert.isEmpty()) {
+            return;
+        }
+        List<Person> merged = new ArrayList<>(internalList.size() + toInsert.size());
+        Iterator<Person> existing = internalList.iterator();
+        int next = 0;
+        while (existing.hasNext() || next < toInsert.size()) {
+            if (next < toInsert.size() && indices.get(next) == merged.size()) {
+                merged.add(toInsert.get(next++));
+            } else {
+                merged.add(existing.next());
+            }
+        }
+        if (!personsAreUnique(merged)) {
+            throw new DuplicatePersonException();
+        }
+
+        toInsert.forEach(searchIndex::add);
+        internalList.setAll(merged);
+    }
+
+    /**
+     * Replaces each person that is a key of {@code editedPersons} with its value, in one pass.
+     * Listeners are told of the replacements in a single change.
+     * The person identities of the edited persons must not be the same as those of other persons in the list.
+     */
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        List<Person> edited = new ArrayList<>(internalList.size());
+        for (Person person : internalList) {
+            edited.add(editedPersons.getOrDefault(person, person));
+        }
+        if (!personsAreUnique(edited)) {
+            throw new DuplicatePersonException();
+        }
+
+        for (Map.Entry<Person, Person> entry : editedPersons.entrySet()) {
+            searchIndex.remove(entry.getKey());
+            searchIndex.add(entry.getValue());
+        }
+        internalList.setAll(edited);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildSearchIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -99,9 +215,22 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        rebuildSearchIndex(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Returns the search index over the persons in this list.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    private void rebuildSearchIndex(List<Person> persons) {
+        searchIndex.clear();
+        persons.forEach(searchIndex::add);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -130,11 +259,11 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        // Persons are the same person exactly when their emails are equal.
+        Set<Email> emails = new HashSet<>();
+        for (Person person : persons) {
+            if (!emails.add(person.getEmail())) {
+                return false;
             }
         }
         return true;
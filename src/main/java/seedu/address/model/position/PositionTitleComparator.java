@@ -0,0 +1,24 @@
+package seedu.address.model.position;
+
+import java.util.Comparator;
+
+/**
+ * Orders {@code Position}s by title using each title's cached collation key.
+ */
+public class PositionTitleComparator implements Comparator<Position> {
+
+    @Override
+    public int compare(Position first, Position second) {
+        return first.getTitle().getCollationKey().compareTo(second.getTitle().getCollationKey());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof PositionTitleComparator;
+    }
+
+    @Override
+    public int hashCode() {
+        return PositionTitleComparator.class.hashCode();
+    }
+}
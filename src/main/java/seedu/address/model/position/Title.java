@@ -3,6 +3,10 @@ package seedu.address.model.position;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Position's title in the HR Manager.
  * Guarantees: immutable; is valid as declared in {@link #isValidTitle(String)}
@@ -20,6 +24,8 @@ public class Title {
 
     public final String fullTitle;
 
+    private CollationKey collationKey;
+
     /**
      * Constructs a {@code Title}.
      *
@@ -38,6 +44,15 @@ public class Title {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the sort key of this title, computed on first use.
+     */
+    public CollationKey getCollationKey() {
+        if (collationKey == null) {
+            collationKey = StringUtil.getCollationKey(fullTitle);
+        }
+        return collationKey;
+    }
 
     @Override
     public String toString() {
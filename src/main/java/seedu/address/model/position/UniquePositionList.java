@@ -48,6 +48,18 @@ public class UniquePositionList implements Iterable<Position> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a position at {@code index} in the list, e.g. to restore a removed position to its original place.
+     * The position must not already exist in the list.
+     */
+    public void add(int index, Position toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePositionException();
+        }
+        internalList.add(index, toAdd);
+    }
+
     /**
      * Replaces the position {@code target} in the list with {@code editedPosition}.
      * {@code target} must exist in the list.
@@ -0,0 +1,238 @@
+package seedu.address.model.snapshot;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import seedu.address.model.person.Status;
+import seedu.address.model.position.Title;
+
+/**
+ * Counts the candidates of each position in each status, the interviews in each week and the time taken to schedule
+ * candidates, from the changes to the records of the candidates and interviews.
+ *
+ * Each change is applied by taking the record before the change out of the counts and putting the record after it
+ * in, which costs O(positions of the candidate) instead of counting every candidate and interview again.
+ * The counts are kept in arrays of ints, indexed by position and status, by week, and by the id of the candidate.
+ *
+ * The data has no dates of application, so the time to schedule a candidate is measured from when the candidate was
+ * first seen applying while the app runs to when the candidate becomes scheduled. Undoing the scheduling takes the
+ * time back out of the counts.
+ */
+public class HiringAggregates {
+
+    /** The upper bounds in minutes of each time-to-schedule bucket but the last. */
+    private static final long[] TIME_TO_SCHEDULE_BOUNDS = {60, 24 * 60, 7 * 24 * 60};
+    private static final int STATUS_COUNT = Status.values().length;
+    private static final long NOT_SEEN = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+    /** The epoch day 0 is a Thursday, so Monday-based weeks start 3 days before it. */
+    private static final long DAYS_FROM_MONDAY_TO_EPOCH = 3;
+
+    private final Clock clock;
+
+    /** The index of each position by lower-case title, as titles are told apart ignoring case. */
+    private final Map<String, Integer> positionIndexes = new HashMap<>();
+    private final List<Title> positionTitles = new ArrayList<>();
+    private int[] candidateCounts = new int[INITIAL_CAPACITY * STATUS_COUNT];
+    private final int[] statusTotals = new int[STATUS_COUNT];
+
+    private long firstWeek;
+    private int[] weekCounts = new int[0];
+
+    /** The epoch minute at which each candidate was first seen applying, by id. */
+    private long[] appliedAt = newAppliedAt(INITIAL_CAPACITY);
+    /** The time-to-schedule bucket each scheduled candidate was counted in, by id, or -1. */
+    private int[] scheduledBucket = newScheduledBucket(INITIAL_CAPACITY);
+    private final int[] timeToScheduleCounts = new int[TIME_TO_SCHEDULE_BOUNDS.length + 1];
+
+    private HiringFunnel funnel;
+
+    /**
+     * Creates empty counts, which take the time to schedule candidates from {@code clock}.
+     */
+    public HiringAggregates(Clock clock) {
+        this.clock = requireNonNull(clock);
+    }
+
+    /**
+     * Returns a copy of the current counts. The copy is only made again after the counts change.
+     */
+    public HiringFunnel getFunnel() {
+        if (funnel == null) {
+            List<Title> titles = new ArrayList<>();
+            int[] counts = new int[positionTitles.size() * STATUS_COUNT];
+            for (int i = 0; i < positionTitles.size(); i++) {
+                // Positions that no candidate applies for any more are left out.
+                if (isEmptyRow(i)) {
+                    continue;
+                }
+                System.arraycopy(candidateCounts, i * STATUS_COUNT, counts, titles.size() * STATUS_COUNT,
+                        STATUS_COUNT);
+                titles.add(positionTitles.get(i));
+            }
+            funnel = new HiringFunnel(titles, Arrays.copyOf(counts, titles.size() * STATUS_COUNT),
+                    statusTotals.clone(), firstWeek, weekCounts.clone(), timeToScheduleCounts.clone());
+        }
+        return funnel;
+    }
+
+    /**
+     * Counts the change of a candidate from {@code before} to {@code after}, either of which is null if the
+     * candidate was added or removed.
+     */
+    public void onPersonChanged(PersonRecord before, PersonRecord after) {
+        if (before != null) {
+            countCandidate(before, -1);
+        }
+        if (after != null) {
+            countCandidate(after, 1);
+            countTimeToSchedule(before == null ? null : before.getStatus(), after);
+        }
+        funnel = null;
+    }
+
+    /**
+     * Forgets when the candidate with {@code id} was first seen applying, as the id of a candidate removed is given
+     * to the next candidate added. The counts are unchanged.
+     */
+    public void forgetCandidate(int id) {
+        if (id < appliedAt.length) {
+            appliedAt[id] = NOT_SEEN;
+            scheduledBucket[id] = -1;
+        }
+    }
+
+    /**
+     * Counts the change of an interview from {@code before} to {@code after}, either of which is null if the
+     * interview was added or removed.
+     */
+    public void onInterviewChanged(InterviewRecord before, InterviewRecord after) {
+        if (before != null) {
+            countInterview(before.getDate(), -1);
+        }
+        if (after != null) {
+            countInterview(after.getDate(), 1);
+        }
+        funnel = null;
+    }
+
+    /**
+     * Returns the number of the Monday-based week that {@code date} is in, counted from the week of the epoch.
+     */
+    static long weekOf(LocalDate date) {
+        return Math.floorDiv(date.toEpochDay() + DAYS_FROM_MONDAY_TO_EPOCH, 7);
+    }
+
+    private void countCandidate(PersonRecord person, int delta) {
+        int status = person.getStatus().ordinal();
+        statusTotals[status] += delta;
+        for (Title title : person.getPositionTitles()) {
+            // The index is found first, as finding it may replace the array.
+            int index = indexOf(title) * STATUS_COUNT + status;
+            candidateCounts[index] += delta;
+        }
+    }
+
+    private int indexOf(Title title) {
+        String key = title.fullTitle.toLowerCase(Locale.ROOT);
+        Integer index = positionIndexes.get(key);
+        if (index != null) {
+            return index;
+        }
+        index = positionTitles.size();
+        positionIndexes.put(key, index);
+        positionTitles.add(title);
+        if ((index + 1) * STATUS_COUNT > candidateCounts.length) {
+            candidateCounts = Arrays.copyOf(candidateCounts, candidateCounts.length * 2);
+        }
+        return index;
+    }
+
+    private boolean isEmptyRow(int positionIndex) {
+        for (int i = positionIndex * STATUS_COUNT; i < (positionIndex + 1) * STATUS_COUNT; i++) {
+            if (candidateCounts[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void countTimeToSchedule(Status before, PersonRecord after) {
+        int id = after.getId();
+        ensureCandidateCapacity(id);
+        long now = clock.millis() / 60_000;
+        Status status = after.getStatus();
+        if (status == Status.APPLIED) {
+            if (appliedAt[id] == NOT_SEEN) {
+                appliedAt[id] = now;
+            }
+            if (scheduledBucket[id] >= 0) {
+                timeToScheduleCounts[scheduledBucket[id]]--;
+                scheduledBucket[id] = -1;
+            }
+        } else if (status == Status.SCHEDULED && before == Status.APPLIED && appliedAt[id] != NOT_SEEN
+                && scheduledBucket[id] < 0) {
+            scheduledBucket[id] = bucketOf(now - appliedAt[id]);
+            timeToScheduleCounts[scheduledBucket[id]]++;
+        }
+    }
+
+    private void ensureCandidateCapacity(int id) {
+        if (id < appliedAt.length) {
+            return;
+        }
+        int capacity = Math.max(appliedAt.length * 2, id + 1);
+        long[] newAppliedAt = newAppliedAt(capacity);
+        System.arraycopy(appliedAt, 0, newAppliedAt, 0, appliedAt.length);
+        appliedAt = newAppliedAt;
+        int[] newScheduledBucket = newScheduledBucket(capacity);
+        System.arraycopy(scheduledBucket, 0, newScheduledBucket, 0, scheduledBucket.length);
+        scheduledBucket = newScheduledBucket;
+    }
+
+    private static int bucketOf(long minutes) {
+        int bucket = 0;
+        while (bucket < TIME_TO_SCHEDULE_BOUNDS.length && minutes >= TIME_TO_SCHEDULE_BOUNDS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private void countInterview(LocalDate date, int delta) {
+        long week = weekOf(date);
+        if (weekCounts.length == 0) {
+            firstWeek = week;
+            weekCounts = new int[1];
+        } else if (week < firstWeek) {
+            // The weeks before the first are added at the front, with as many again to spare.
+            int shift = (int) (firstWeek - week) + weekCounts.length;
+            int[] newWeekCounts = new int[weekCounts.length + shift];
+            System.arraycopy(weekCounts, 0, newWeekCounts, shift, weekCounts.length);
+            weekCounts = newWeekCounts;
+            firstWeek -= shift;
+        } else if (week - firstWeek >= weekCounts.length) {
+            weekCounts = Arrays.copyOf(weekCounts, (int) (week - firstWeek) + weekCounts.length + 1);
+        }
+        weekCounts[(int) (week - firstWeek)] += delta;
+    }
+
+    private static long[] newAppliedAt(int capacity) {
+        long[] array = new long[capacity];
+        Arrays.fill(array, NOT_SEEN);
+        return array;
+    }
+
+    private static int[] newScheduledBucket(int capacity) {
+        int[] array = new int[capacity];
+        Arrays.fill(array, -1);
+        return array;
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.snapshot;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.person.Status;
+import seedu.address.model.position.Title;
+
+/**
+ * An immutable copy of the counts kept by {@link HiringAggregates} at one point in time.
+ * Every count is read from an array, so reading one costs O(1) however many candidates and interviews there are.
+ */
+public class HiringFunnel {
+
+    /** The labels of the time-to-schedule buckets, in the order of {@link #getTimeToScheduleCount(int)}. */
+    public static final List<String> TIME_TO_SCHEDULE_LABELS =
+            List.of("< 1 hour", "< 1 day", "< 1 week", "1 week +");
+
+    private static final int STATUS_COUNT = Status.values().length;
+
+    private final List<Title> positionTitles;
+    /** The number of candidates of each position in each status, as a row of statuses per position. */
+    private final int[] candidateCounts;
+    private final int[] statusTotals;
+    private final long firstWeek;
+    private final int[] weekCounts;
+    private final int[] timeToScheduleCounts;
+
+    /**
+     * Creates a funnel of the given counts, which must not be changed afterwards.
+     */
+    HiringFunnel(List<Title> positionTitles, int[] candidateCounts, int[] statusTotals, long firstWeek,
+            int[] weekCounts, int[] timeToScheduleCounts) {
+        this.positionTitles = Collections.unmodifiableList(requireNonNull(positionTitles));
+        this.candidateCounts = requireNonNull(candidateCounts);
+        this.statusTotals = requireNonNull(statusTotals);
+        this.firstWeek = firstWeek;
+        this.weekCounts = requireNonNull(weekCounts);
+        this.timeToScheduleCounts = requireNonNull(timeToScheduleCounts);
+    }
+
+    /**
+     * Returns the titles of the positions that candidates applied for, in the order they were first applied for.
+     */
+    public List<Title> getPositionTitles() {
+        return positionTitles;
+    }
+
+    /**
+     * Returns the number of candidates in {@code status} who applied for the position at {@code positionIndex} in
+     * {@link #getPositionTitles()}.
+     */
+    public int getCandidateCount(int positionIndex, Status status) {
+        return candidateCounts[positionIndex * STATUS_COUNT + status.ordinal()];
+    }
+
+    /**
+     * Returns the number of candidates in {@code status}, whatever positions they applied for.
+     */
+    public int getCandidateCount(Status status) {
+        return statusTotals[status.ordinal()];
+    }
+
+    /**
+     * Returns the number of interviews in the week, starting on Monday, that {@code date} is in.
+     */
+    public int getInterviewCount(LocalDate date) {
+        long index = HiringAggregates.weekOf(date) - firstWeek;
+        return index < 0 || index >= weekCounts.length ? 0 : weekCounts[(int) index];
+    }
+
+    /**
+     * Returns the number of candidates scheduled in the time-to-schedule bucket at {@code bucket} in
+     * {@link #TIME_TO_SCHEDULE_LABELS}.
+     */
+    public int getTimeToScheduleCount(int bucket) {
+        return timeToScheduleCounts[bucket];
+    }
+}
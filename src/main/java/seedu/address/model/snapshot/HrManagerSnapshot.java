@@ -0,0 +1,111 @@
+package seedu.address.model.snapshot;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.PersistentVector;
+
+/**
+ * An immutable, consistent copy of the data in the HR Manager at one point in time.
+ * A snapshot shares its structure with the HR Manager and with other snapshots, so taking one costs O(1), and it can
+ * be read from any thread, e.g. by a background save, a search or the HTTP API, while the HR Manager is changed.
+ */
+public class HrManagerSnapshot {
+
+    private final PersistentVector<PersonRecord> persons;
+    private final PersistentVector<PositionRecord> positions;
+    private final PersistentVector<InterviewRecord> interviews;
+    private final HiringFunnel hiringFunnel;
+    private final Suggestions suggestions;
+
+    /**
+     * Creates a snapshot of the given records, which are indexed by id, with null at unused ids, and of the
+     * {@code hiringFunnel} and {@code suggestions} taken from them.
+     */
+    public HrManagerSnapshot(PersistentVector<PersonRecord> persons, PersistentVector<PositionRecord> positions,
+            PersistentVector<InterviewRecord> interviews, HiringFunnel hiringFunnel, Suggestions suggestions) {
+        requireAllNonNull(persons, positions, interviews, hiringFunnel, suggestions);
+        this.persons = persons;
+        this.positions = positions;
+        this.interviews = interviews;
+        this.hiringFunnel = hiringFunnel;
+        this.suggestions = suggestions;
+    }
+
+    /**
+     * Returns the counts of candidates by position and status, of interviews by week and of the time to schedule
+     * candidates, which cost O(1) to read.
+     */
+    public HiringFunnel getHiringFunnel() {
+        return hiringFunnel;
+    }
+
+    /**
+     * Returns the candidate names, tags and position titles, which can be looked up by prefix.
+     */
+    public Suggestions getSuggestions() {
+        return suggestions;
+    }
+
+    /**
+     * Returns the persons, in the order of their ids.
+     */
+    public List<PersonRecord> getPersons() {
+        return present(persons);
+    }
+
+    /**
+     * Returns the positions, in the order of their ids.
+     */
+    public List<PositionRecord> getPositions() {
+        return present(positions);
+    }
+
+    /**
+     * Returns the interviews, in the order of their ids.
+     */
+    public List<InterviewRecord> getInterviews() {
+        return present(interviews);
+    }
+
+    /**
+     * Returns the person with the given {@code id}, if it was in the HR Manager when the snapshot was taken.
+     * The id of a person removed is given to a person added later, so an id only identifies a person within one
+     * snapshot and those taken while the person stays in the HR Manager.
+     */
+    public Optional<PersonRecord> getPerson(int id) {
+        return find(persons, id);
+    }
+
+    /**
+     * Returns the position with the given {@code id}, if it was in the HR Manager when the snapshot was taken.
+     */
+    public Optional<PositionRecord> getPosition(int id) {
+        return find(positions, id);
+    }
+
+    /**
+     * Returns the interview with the given {@code id}, if it was in the HR Manager when the snapshot was taken.
+     */
+    public Optional<InterviewRecord> getInterview(int id) {
+        return find(interviews, id);
+    }
+
+    private static <R> List<R> present(PersistentVector<R> records) {
+        List<R> present = new ArrayList<>(records.size());
+        for (R record : records) {
+            if (record != null) {
+                present.add(record);
+            }
+        }
+        return Collections.unmodifiableList(present);
+    }
+
+    private static <R> Optional<R> find(PersistentVector<R> records, int id) {
+        return id >= 0 && id < records.size() ? Optional.ofNullable(records.get(id)) : Optional.empty();
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.snapshot;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Interview.InterviewStatus;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Title;
+
+/**
+ * An immutable copy of an {@code Interview} at one point in time.
+ * The candidates of the interview are identified by their emails, as persons are told apart by email.
+ */
+public class InterviewRecord {
+
+    private final int id;
+    private final Title positionTitle;
+    private final LocalDate date;
+    private final LocalTime startTime;
+    private final Duration duration;
+    private final InterviewStatus status;
+    private final Set<Email> candidateEmails;
+
+    private InterviewRecord(int id, Interview interview) {
+        this.id = id;
+        positionTitle = interview.getPositionTitle();
+        date = interview.getDate();
+        startTime = interview.getStartTime();
+        duration = interview.getDuration();
+        status = interview.getStatus();
+        candidateEmails = interview.getCandidates().stream()
+                .map(Person::getEmail)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Returns a record of the current state of {@code interview}, which is identified by {@code id}.
+     */
+    public static InterviewRecord of(int id, Interview interview) {
+        return new InterviewRecord(id, interview);
+    }
+
+    /**
+     * Returns the number that identifies the interview while the app runs, even if the interview is edited.
+     */
+    public int getId() {
+        return id;
+    }
+
+    public Title getPositionTitle() {
+        return positionTitle;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public InterviewStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the immutable set of the emails of the candidates of the interview.
+     */
+    public Set<Email> getCandidateEmails() {
+        return candidateEmails;
+    }
+}
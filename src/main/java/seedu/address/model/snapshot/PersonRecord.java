@@ -0,0 +1,99 @@
+package seedu.address.model.snapshot;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Status;
+import seedu.address.model.position.Title;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable copy of a {@code Person} at one point in time.
+ * The positions of the person are identified by their titles, as positions are told apart by title.
+ */
+public class PersonRecord {
+
+    private final int id;
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
+    private final Address address;
+    private final Remark remark;
+    private final Set<Tag> tags;
+    private final Status status;
+    private final Set<Title> positionTitles;
+
+    private PersonRecord(int id, Person person) {
+        this.id = id;
+        name = person.getName();
+        phone = person.getPhone();
+        email = person.getEmail();
+        address = person.getAddress();
+        remark = person.getRemark();
+        tags = Collections.unmodifiableSet(new HashSet<>(person.getTags()));
+        status = person.getStatus();
+        positionTitles = person.getPositions().stream()
+                .map(position -> position.title)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Returns a record of the current state of {@code person}, which is identified by {@code id}.
+     */
+    public static PersonRecord of(int id, Person person) {
+        return new PersonRecord(id, person);
+    }
+
+    /**
+     * Returns the number that identifies the person while the app runs, even if the person is edited.
+     */
+    public int getId() {
+        return id;
+    }
+
+    public Name getName() {
+        return name;
+    }
+
+    public Phone getPhone() {
+        return phone;
+    }
+
+    public Email getEmail() {
+        return email;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public Remark getRemark() {
+        return remark;
+    }
+
+    /**
+     * Returns an immutable tag set.
+     */
+    public Set<Tag> getTags() {
+        return tags;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the immutable set of the titles of the positions the person applied for.
+     */
+    public Set<Title> getPositionTitles() {
+        return positionTitles;
+    }
+}
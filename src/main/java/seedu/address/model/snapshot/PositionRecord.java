@@ -0,0 +1,43 @@
+package seedu.address.model.snapshot;
+
+import seedu.address.model.position.Position;
+import seedu.address.model.position.Position.PositionStatus;
+import seedu.address.model.position.Title;
+
+/**
+ * An immutable copy of a {@code Position} at one point in time.
+ */
+public class PositionRecord {
+
+    private final int id;
+    private final Title title;
+    private final PositionStatus status;
+
+    private PositionRecord(int id, Position position) {
+        this.id = id;
+        title = position.getTitle();
+        status = position.getStatus();
+    }
+
+    /**
+     * Returns a record of the current state of {@code position}, which is identified by {@code id}.
+     */
+    public static PositionRecord of(int id, Position position) {
+        return new PositionRecord(id, position);
+    }
+
+    /**
+     * Returns the number that identifies the position while the app runs, even if the position is edited.
+     */
+    public int getId() {
+        return id;
+    }
+
+    public Title getTitle() {
+        return title;
+    }
+
+    public PositionStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.model.snapshot;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentVector;
+
+/**
+ * Keeps an immutable record of every item in an observable list, so that the records of all the items can be taken
+ * in O(1) at any time. The records are kept in a {@link PersistentVector} at the id of their item, so updating the
+ * record of one item costs O(log n).
+ *
+ * An item keeps its id when it is replaced in the list, e.g. by an edited copy. The slot of a removed item is left
+ * empty until {@link #forgetRemoved()} is called, so that an item put back by a rollback regains its id and its place
+ * among the records. The ids forgotten are then given to the items added next, so the records take space
+ * proportional to the most items ever in the list at once, rather than to the number of items ever added.
+ * Items are tracked by reference, since two distinct items may compare equal while being edited.
+ *
+ * Each change to a record can be passed on to a listener as the record before and after the change, so that
+ * aggregates over the records can be kept up to date from the changes alone.
+ *
+ * @param <T> the type of the items
+ * @param <R> the type of the records
+ */
+public class RecordTable<T, R> {
+
+    private final BiFunction<Integer, T, R> recorder;
+    private final BiConsumer<R, R> listener;
+    private final Map<T, Integer> ids = new IdentityHashMap<>();
+    private final Set<T> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** The ids forgotten and not yet given out again, whose slots are empty. */
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private PersistentVector<R> records = PersistentVector.empty();
+
+    /**
+     * Creates a table with a record of every item in {@code items}, made by {@code recorder} from the id and the
+     * item, which is kept up to date as items are added to, replaced in and removed from {@code items}.
+     */
+    public RecordTable(ObservableList<T> items, BiFunction<Integer, T, R> recorder) {
+        this(items, recorder, (before, after) -> {});
+    }
+
+    /**
+     * Creates a table as above, which passes each change to a record to {@code listener} as the record before and
+     * after the change, with null before an item is added and after it is removed.
+     */
+    public RecordTable(ObservableList<T> items, BiFunction<Integer, T, R> recorder, BiConsumer<R, R> listener) {
+        requireNonNull(items);
+        requireNonNull(recorder);
+        requireNonNull(listener);
+        this.recorder = recorder;
+        this.listener = listener;
+        items.forEach(this::add);
+        items.addListener((ListChangeListener<T>) this::onChanged);
+    }
+
+    /**
+     * Returns the records at their ids, with null at the ids of removed items.
+     */
+    public PersistentVector<R> getRecords() {
+        return records;
+    }
+
+    /**
+     * Records the current state of {@code item}, which must be called whenever an item in the list is changed in
+     * place. Items that are not in the list are ignored.
+     */
+    public void update(T item) {
+        Integer id = ids.get(item);
+        if (id != null && !removed.contains(item)) {
+            setRecord(id, recorder.apply(id, item));
+        }
+    }
+
+    /**
+     * Forgets the ids of the items removed so far, whose slots then stay empty until the ids are given to items
+     * added later, and returns the ids forgotten.
+     */
+    public List<Integer> forgetRemoved() {
+        List<Integer> forgotten = new ArrayList<>(removed.size());
+        for (T item : removed) {
+            forgotten.add(ids.remove(item));
+        }
+        removed.clear();
+        freeIds.addAll(forgotten);
+        return forgotten;
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasReplaced() && change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+                replace(change.getRemoved().get(0), change.getAddedSubList().get(0));
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(T item) {
+        Integer id = ids.get(item);
+        if (id == null && freeIds.isEmpty()) {
+            id = records.size();
+            ids.put(item, id);
+            R record = recorder.apply(id, item);
+            records = records.append(record);
+            listener.accept(null, record);
+            return;
+        }
+        if (id == null) {
+            id = freeIds.pop();
+            ids.put(item, id);
+        }
+        removed.remove(item);
+        setRecord(id, recorder.apply(id, item));
+    }
+
+    private void remove(T item) {
+        Integer id = ids.get(item);
+        if (id != null) {
+            setRecord(id, null);
+            removed.add(item);
+        }
+    }
+
+    private void replace(T target, T replacement) {
+        Integer id = ids.remove(target);
+        if (id == null) {
+            add(replacement);
+            return;
+        }
+        ids.put(replacement, id);
+        setRecord(id, recorder.apply(id, replacement));
+    }
+
+    private void setRecord(int id, R record) {
+        R previous = records.get(id);
+        records = records.set(id, record);
+        if (previous != null || record != null) {
+            listener.accept(previous, record);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.snapshot;
+
+import seedu.address.commons.util.Vocabulary;
+
+/**
+ * Keeps the candidate names, tags and position titles in use, from the changes to the records of the candidates and
+ * positions, so that they can be suggested as commands are typed without scanning every candidate.
+ */
+public class SuggestionIndex {
+
+    private final Vocabulary names = new Vocabulary();
+    private final Vocabulary tags = new Vocabulary();
+    private final Vocabulary positionTitles = new Vocabulary();
+    private Suggestions suggestions;
+
+    /**
+     * Returns the names, tags and titles in use. New dictionaries are only made for those that changed.
+     */
+    public Suggestions getSuggestions() {
+        if (suggestions == null) {
+            suggestions = new Suggestions(names.getDictionary(), tags.getDictionary(),
+                    positionTitles.getDictionary());
+        }
+        return suggestions;
+    }
+
+    /**
+     * Updates the names and tags in use after a candidate changed from {@code before} to {@code after}, either of
+     * which is null if the candidate was added or removed.
+     */
+    public void onPersonChanged(PersonRecord before, PersonRecord after) {
+        if (before != null) {
+            names.remove(before.getName().fullName);
+            before.getTags().forEach(tag -> tags.remove(tag.tagName));
+        }
+        if (after != null) {
+            names.add(after.getName().fullName);
+            after.getTags().forEach(tag -> tags.add(tag.tagName));
+        }
+        suggestions = null;
+    }
+
+    /**
+     * Updates the titles in use after a position changed from {@code before} to {@code after}, either of which is
+     * null if the position was added or removed.
+     */
+    public void onPositionChanged(PositionRecord before, PositionRecord after) {
+        if (before != null) {
+            positionTitles.remove(before.getTitle().fullTitle);
+        }
+        if (after != null) {
+            positionTitles.add(after.getTitle().fullTitle);
+        }
+        suggestions = null;
+    }
+}
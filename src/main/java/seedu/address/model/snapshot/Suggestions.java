@@ -0,0 +1,38 @@
+package seedu.address.model.snapshot;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.util.PrefixDictionary;
+
+/**
+ * The candidate names, tags and position titles in the HR Manager at one point in time, which can be looked up by
+ * prefix to suggest values as commands are typed.
+ */
+public class Suggestions {
+
+    private final PrefixDictionary names;
+    private final PrefixDictionary tags;
+    private final PrefixDictionary positionTitles;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Suggestions(PrefixDictionary names, PrefixDictionary tags, PrefixDictionary positionTitles) {
+        requireAllNonNull(names, tags, positionTitles);
+        this.names = names;
+        this.tags = tags;
+        this.positionTitles = positionTitles;
+    }
+
+    public PrefixDictionary getNames() {
+        return names;
+    }
+
+    public PrefixDictionary getTags() {
+        return tags;
+    }
+
+    public PrefixDictionary getPositionTitles() {
+        return positionTitles;
+    }
+}
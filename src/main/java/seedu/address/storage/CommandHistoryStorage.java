@@ -0,0 +1,31 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents a storage for the commands entered, which is only ever appended to.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns the commands entered, oldest first.
+     *   Returns an empty list if storage file is not found.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<String> readCommandHistory() throws IOException;
+
+    /**
+     * Adds {@code commandText} to the end of the storage.
+     * @param commandText cannot be null or span more than one line.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommandHistory(String commandText) throws IOException;
+
+}
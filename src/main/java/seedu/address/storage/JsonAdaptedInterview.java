@@ -4,7 +4,9 @@ import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -17,6 +19,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.interview.Interview;
 import seedu.address.model.interview.Interview.InterviewStatus;
+import seedu.address.model.interview.Interviewer;
+import seedu.address.model.interview.Room;
 import seedu.address.model.position.Position;
 import seedu.address.model.position.Title;
 
@@ -35,6 +39,10 @@ public class JsonAdaptedInterview {
 
     private final InterviewStatus status;
 
+    private final String room;
+
+    private final List<String> interviewers = new ArrayList<>();
+
     /**
      * Constructs a {@code JsonAdaptedInterview} with the given {@code positionName}.
      */
@@ -44,7 +52,9 @@ public class JsonAdaptedInterview {
                                 @JsonProperty("date") String date,
                                 @JsonProperty("startTime") String startTime,
                                 @JsonProperty("duration") String duration,
-                                @JsonProperty("status") InterviewStatus status) {
+                                @JsonProperty("status") InterviewStatus status,
+                                @JsonProperty("room") String room,
+                                @JsonProperty("interviewers") List<String> interviewers) {
         this.position = position;
         if (candidateIDs != null) {
             this.candidateIDs.addAll(candidateIDs);
@@ -53,6 +63,10 @@ public class JsonAdaptedInterview {
         this.startTime = startTime;
         this.duration = duration;
         this.status = status;
+        this.room = room;
+        if (interviewers != null) {
+            this.interviewers.addAll(interviewers);
+        }
     }
 
 
@@ -68,6 +82,11 @@ public class JsonAdaptedInterview {
         startTime = source.getTimeInFormattedString();
         duration = source.getDurationInFormattedString();
         status = source.getStatus();
+        room = source.getRoom().map(sourceRoom -> sourceRoom.roomName).orElse(null);
+        interviewers.addAll(source.getInterviewers().stream()
+                .map(interviewer -> interviewer.fullName)
+                .sorted()
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -188,8 +207,19 @@ public class JsonAdaptedInterview {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     InterviewStatus.class.getSimpleName()));
         }
+        if (room != null && !Room.isValidRoom(room)) {
+            throw new IllegalValueException(Room.MESSAGE_CONSTRAINTS);
+        }
+        final Set<Interviewer> modelInterviewers = new HashSet<>();
+        for (String interviewer : interviewers) {
+            if (!Interviewer.isValidInterviewer(interviewer)) {
+                throw new IllegalValueException(Interviewer.MESSAGE_CONSTRAINTS);
+            }
+            modelInterviewers.add(new Interviewer(interviewer));
+        }
         Interview interview = new Interview(new Position(new Title(position),
-                Position.PositionStatus.OPEN), new HashSet<>(), localDate, localTime, duration, status);
+                Position.PositionStatus.OPEN), new HashSet<>(), localDate, localTime, duration, status,
+                room == null ? null : new Room(room), modelInterviewers);
         interview.setCandidateIDs(personHashCodes);
         return interview;
     }
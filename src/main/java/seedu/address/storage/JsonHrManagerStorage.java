@@ -4,9 +4,15 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -72,40 +78,42 @@ public class JsonHrManagerStorage implements HrManagerStorage {
         requireNonNull(candidatesFilePath);
         requireNonNull(positionsFilePath);
 
-        Optional<JsonSerializableHrManagerCandidates> candidates = JsonUtil.readJsonFile(
-                candidatesFilePath, JsonSerializableHrManagerCandidates.class);
-
-        Optional<JsonSerializableHrManagerPositions> positions = JsonUtil.readJsonFile(
-                positionsFilePath, JsonSerializableHrManagerPositions.class);
-
-        Optional<JsonSerializableHrManagerInterviews> interviews = JsonUtil.readJsonFile(
-                interviewsFilePath, JsonSerializableHrManagerInterviews.class);
-
-        //merge data from all files
         try {
+            // The files do not depend on each other, so they are read and converted in parallel.
+            CompletableFuture<Optional<HrManager>> candidatesRead = readInBackground(candidatesFilePath,
+                    JsonSerializableHrManagerCandidates.class, JsonSerializableHrManagerCandidates::toModelType);
+            CompletableFuture<Optional<HrManager>> interviewsRead = readInBackground(interviewsFilePath,
+                    JsonSerializableHrManagerInterviews.class, JsonSerializableHrManagerInterviews::toModelType);
+            Optional<HrManager> positions = read(positionsFilePath, JsonSerializableHrManagerPositions.class,
+                    JsonSerializableHrManagerPositions::toModelType);
+            Optional<HrManager> candidates = join(candidatesRead);
+            Optional<HrManager> interviews = join(interviewsRead);
+
+            //merge data from all files
             HrManager merge = new HrManager();
             if (candidates.isPresent()) {
-                for (Person person : candidates.get().toModelType().getPersonList()) {
+                for (Person person : candidates.get().getPersonList()) {
                     merge.addPerson(person);
                 }
             }
             if (positions.isPresent()) {
-                for (Position position : positions.get().toModelType().getPositionList()) {
+                for (Position position : positions.get().getPositionList()) {
                     merge.addPosition(position);
                 }
             }
 
             //add candidate to interviews as well as add interview data
             if (interviews.isPresent()) {
-                for (Interview interview : interviews.get().toModelType().getInterviewList()) {
-                    Set<Integer> uniqueIds = interview.getCandidateIDs();
+                Map<Integer, List<Person>> personsById = new HashMap<>();
+                for (Person person : merge.getPersonList()) {
+                    personsById.computeIfAbsent(person.hashCode(), unused -> new ArrayList<>(1)).add(person);
+                }
+                for (Interview interview : interviews.get().getInterviewList()) {
                     Set<Person> candidateSet = new HashSet<>();
-                    for (Person person : merge.getPersonList()) {
-                        for (Integer integer : uniqueIds) {
-                            if (integer.equals(person.hashCode())) {
-                                candidateSet.add(person);
-                                person.addInterview(interview);
-                            }
+                    for (Integer id : interview.getCandidateIDs()) {
+                        for (Person person : personsById.getOrDefault(id, List.of())) {
+                            candidateSet.add(person);
+                            person.addInterview(interview);
                         }
                     }
                     interview.setCandidates(candidateSet);
@@ -124,6 +132,55 @@ public class JsonHrManagerStorage implements HrManagerStorage {
         }
     }
 
+    /**
+     * Converts a json file of type {@code T} to the data it holds.
+     */
+    @FunctionalInterface
+    private interface ModelConverter<T> {
+        HrManager toModelType(T jsonFile) throws IllegalValueException;
+    }
+
+    /**
+     * Returns the data in the file at {@code filePath}, or an empty {@code Optional} if there is no such file.
+     */
+    private static <T> Optional<HrManager> read(Path filePath, Class<T> classOfJsonFile,
+            ModelConverter<T> converter) throws DataConversionException, IllegalValueException {
+        Optional<T> jsonFile = JsonUtil.readJsonFile(filePath, classOfJsonFile);
+        return jsonFile.isPresent() ? Optional.of(converter.toModelType(jsonFile.get())) : Optional.empty();
+    }
+
+    /**
+     * Starts reading the data in the file at {@code filePath} on a background thread.
+     */
+    private static <T> CompletableFuture<Optional<HrManager>> readInBackground(Path filePath,
+            Class<T> classOfJsonFile, ModelConverter<T> converter) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return read(filePath, classOfJsonFile, converter);
+            } catch (DataConversionException | IllegalValueException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Waits for the data read by {@link #readInBackground}, rethrowing the exception that reading threw, if any.
+     */
+    private static Optional<HrManager> join(CompletableFuture<Optional<HrManager>> dataRead)
+            throws DataConversionException, IllegalValueException {
+        try {
+            return dataRead.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DataConversionException) {
+                throw (DataConversionException) e.getCause();
+            }
+            if (e.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     @Override
     public void saveHrManager(ReadOnlyHrManager hrManager) throws IOException {
         saveHrManager(hrManager, candidatesFilePath, positionsFilePath, interviewsFilePath);
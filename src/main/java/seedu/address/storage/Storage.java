@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
@@ -12,7 +13,7 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends HrManagerStorage, UserPrefsStorage {
+public interface Storage extends HrManagerStorage, UserPrefsStorage, CommandHistoryStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -29,4 +30,10 @@ public interface Storage extends HrManagerStorage, UserPrefsStorage {
     @Override
     void saveHrManager(ReadOnlyHrManager hrManager) throws IOException;
 
+    @Override
+    List<String> readCommandHistory() throws IOException;
+
+    @Override
+    void appendCommandHistory(String commandText) throws IOException;
+
 }
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -19,14 +20,18 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private HrManagerStorage hrManagerStorage;
     private UserPrefsStorage userPrefsStorage;
+    private CommandHistoryStorage commandHistoryStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code HrManagerStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code HrManagerStorage}, {@code UserPrefStorage} and
+     * {@code CommandHistoryStorage}.
      */
-    public StorageManager(HrManagerStorage hrManagerStorage, UserPrefsStorage userPrefsStorage) {
+    public StorageManager(HrManagerStorage hrManagerStorage, UserPrefsStorage userPrefsStorage,
+            CommandHistoryStorage commandHistoryStorage) {
         super();
         this.hrManagerStorage = hrManagerStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.commandHistoryStorage = commandHistoryStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -95,4 +100,22 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to interviews data file: " + interviewsFilePath);
         hrManagerStorage.saveHrManager(hrManager, candidatesFilePath, positionsFilePath, interviewsFilePath);
     }
+
+    // ================ Command history methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryStorage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public List<String> readCommandHistory() throws IOException {
+        logger.fine("Attempting to read command history from file: " + getCommandHistoryFilePath());
+        return commandHistoryStorage.readCommandHistory();
+    }
+
+    @Override
+    public void appendCommandHistory(String commandText) throws IOException {
+        commandHistoryStorage.appendCommandHistory(commandText);
+    }
 }
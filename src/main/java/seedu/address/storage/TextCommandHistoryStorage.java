@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A class to access the command history stored as a plain text file, one command per line.
+ * Each command is appended to the end of the file, so saving a command does not rewrite the commands before it.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+
+    public static final String FILE_NAME = "history.txt";
+
+    private final Path filePath;
+
+    public TextCommandHistoryStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<String> readCommandHistory() throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return List.of();
+        }
+        return Files.readAllLines(filePath, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void appendCommandHistory(String commandText) throws IOException {
+        requireNonNull(commandText);
+        checkArgument(commandText.indexOf('\n') < 0 && commandText.indexOf('\r') < 0,
+                "A command in the history must fit on one line.");
+        FileUtil.createIfMissing(filePath);
+        Files.writeString(filePath, commandText + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+    }
+}
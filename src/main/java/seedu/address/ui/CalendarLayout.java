@@ -0,0 +1,182 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+import seedu.address.model.interview.Interview;
+
+/**
+ * Lays out the interviews of a calendar period as blocks in columns of days, without drawing anything.
+ *
+ * Only the interviews in the period are laid out, so the cost depends on how many interviews are in view and not on
+ * how many interviews there are. Interviews that overlap on a day are placed side by side in lanes by interval
+ * partitioning: the blocks of a day are visited in order of their start, each taking the lowest lane that is free,
+ * and every block in a group of overlapping blocks is given the width of the number of lanes the group needs.
+ * The hours shown cover the working day and stretch to fit any interview outside it.
+ */
+public class CalendarLayout {
+
+    public static final int DEFAULT_FIRST_MINUTE = 9 * 60;
+    public static final int DEFAULT_LAST_MINUTE = 18 * 60;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    /**
+     * The part of an interview held on one day of the period, and where it is placed in the day's column.
+     */
+    public static class Block {
+        private final Interview interview;
+        private final int day;
+        private final int startMinute;
+        private final int endMinute;
+        private int lane;
+        private int laneCount;
+
+        Block(Interview interview, int day, int startMinute, int endMinute) {
+            this.interview = interview;
+            this.day = day;
+            this.startMinute = startMinute;
+            this.endMinute = endMinute;
+        }
+
+        public Interview getInterview() {
+            return interview;
+        }
+
+        /**
+         * Returns the index of the day of the block in the period.
+         */
+        public int getDay() {
+            return day;
+        }
+
+        /**
+         * Returns the minute of the day the block starts at.
+         */
+        public int getStartMinute() {
+            return startMinute;
+        }
+
+        /**
+         * Returns the minute of the day the block ends at, which is 1440 if the interview goes on past midnight.
+         */
+        public int getEndMinute() {
+            return endMinute;
+        }
+
+        /**
+         * Returns the lane of the block, counted from the left of the day's column.
+         */
+        public int getLane() {
+            return lane;
+        }
+
+        /**
+         * Returns the number of lanes the day's column is split into where the block is.
+         */
+        public int getLaneCount() {
+            return laneCount;
+        }
+    }
+
+    private final List<Block> blocks = new ArrayList<>();
+    private int firstMinute = DEFAULT_FIRST_MINUTE;
+    private int lastMinute = DEFAULT_LAST_MINUTE;
+
+    /**
+     * Lays out {@code interviews} in the {@code days} days from {@code startDate}.
+     * Interviews outside the period are left out.
+     */
+    public CalendarLayout(LocalDate startDate, int days, List<Interview> interviews) {
+        requireAllNonNull(startDate, interviews);
+        long periodStart = startDate.toEpochDay() * MINUTES_PER_DAY;
+        List<List<Block>> blocksByDay = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            blocksByDay.add(new ArrayList<>());
+        }
+
+        for (Interview interview : interviews) {
+            long start = Math.max(interview.getStartEpochMinute() - periodStart, 0);
+            long end = Math.min(interview.getEndEpochMinute() - periodStart, (long) days * MINUTES_PER_DAY);
+            // An interview that goes on past midnight is split into a block for each day it is held on.
+            for (long dayStart = start - start % MINUTES_PER_DAY; dayStart < end; dayStart += MINUTES_PER_DAY) {
+                int blockStart = (int) (Math.max(start, dayStart) - dayStart);
+                int blockEnd = (int) (Math.min(end, dayStart + MINUTES_PER_DAY) - dayStart);
+                blocksByDay.get((int) (dayStart / MINUTES_PER_DAY))
+                        .add(new Block(interview, (int) (dayStart / MINUTES_PER_DAY), blockStart, blockEnd));
+            }
+        }
+
+        for (List<Block> dayBlocks : blocksByDay) {
+            placeInLanes(dayBlocks);
+            blocks.addAll(dayBlocks);
+        }
+    }
+
+    /**
+     * Returns the blocks of the interviews, by day and then in order of their start.
+     */
+    public List<Block> getBlocks() {
+        return Collections.unmodifiableList(blocks);
+    }
+
+    /**
+     * Returns the minute of the day at the top of the calendar, which is on the hour.
+     */
+    public int getFirstMinute() {
+        return firstMinute;
+    }
+
+    /**
+     * Returns the minute of the day at the bottom of the calendar, which is on the hour.
+     */
+    public int getLastMinute() {
+        return lastMinute;
+    }
+
+    private void placeInLanes(List<Block> dayBlocks) {
+        dayBlocks.sort(Comparator.comparingInt(Block::getStartMinute).thenComparingInt(Block::getEndMinute));
+        PriorityQueue<Block> inProgress = new PriorityQueue<>(Comparator.comparingInt(Block::getEndMinute));
+        TreeSet<Integer> freeLanes = new TreeSet<>();
+        List<Block> group = new ArrayList<>();
+        int laneCount = 0;
+
+        for (Block block : dayBlocks) {
+            while (!inProgress.isEmpty() && inProgress.peek().endMinute <= block.startMinute) {
+                freeLanes.add(inProgress.poll().lane);
+            }
+            if (inProgress.isEmpty()) {
+                // Nothing overlaps this block, so it starts a new group with lanes of its own.
+                closeGroup(group, laneCount);
+                freeLanes.clear();
+                laneCount = 0;
+            }
+            block.lane = freeLanes.isEmpty() ? laneCount++ : freeLanes.pollFirst();
+            inProgress.add(block);
+            group.add(block);
+
+            firstMinute = Math.min(firstMinute, block.startMinute - block.startMinute % MINUTES_PER_HOUR);
+            lastMinute = Math.max(lastMinute, roundUpToHour(block.endMinute));
+        }
+        closeGroup(group, laneCount);
+    }
+
+    private static void closeGroup(List<Block> group, int laneCount) {
+        for (Block block : group) {
+            block.laneCount = laneCount;
+        }
+        group.clear();
+    }
+
+    private static int roundUpToHour(int minute) {
+        return (minute + MINUTES_PER_HOUR - 1) / MINUTES_PER_HOUR * MINUTES_PER_HOUR;
+    }
+}
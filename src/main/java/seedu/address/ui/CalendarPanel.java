@@ -0,0 +1,135 @@
+package seedu.address.ui;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import javafx.collections.ListChangeListener;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.InterviewCalendar;
+
+/**
+ * Panel showing the interviews of a day or a week as blocks in columns of days, drawn on a canvas.
+ *
+ * Drawing the blocks on a single canvas instead of creating nodes for them keeps a dense week of hundreds of
+ * interviews cheap to show and to redraw. The calendar is redrawn when its interviews or its size change.
+ */
+public class CalendarPanel implements DisplayListPanel<Node> {
+
+    private static final double HEADER_HEIGHT = 24;
+    private static final double TIME_AXIS_WIDTH = 48;
+    private static final double BLOCK_GAP = 2;
+    private static final double TEXT_PADDING = 3;
+    private static final double LINE_HEIGHT = 14;
+
+    private static final Color BACKGROUND_COLOR = Color.web("#383838");
+    private static final Color GRID_COLOR = Color.web("#555555");
+    private static final Color TEXT_COLOR = Color.WHITE;
+    private static final Color PENDING_COLOR = Color.web("#3e7b91");
+    private static final Color COMPLETED_COLOR = Color.web("#5a5a5a");
+
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("EEE d MMM", Locale.ENGLISH);
+
+    private final InterviewCalendar calendar;
+    private final Pane root = new Pane();
+    private final Canvas canvas = new Canvas();
+
+    /**
+     * Creates a {@code CalendarPanel} showing the period of {@code calendar}.
+     */
+    public CalendarPanel(InterviewCalendar calendar) {
+        this.calendar = calendar;
+        // The canvas takes the size of the panel, so it must not be what the panel is sized by.
+        canvas.setManaged(false);
+        canvas.widthProperty().bind(root.widthProperty());
+        canvas.heightProperty().bind(root.heightProperty());
+        canvas.widthProperty().addListener(unused -> refresh());
+        canvas.heightProperty().addListener(unused -> refresh());
+        calendar.getInterviews().addListener((ListChangeListener<Interview>) change -> refresh());
+        root.getChildren().add(canvas);
+    }
+
+    @Override
+    public Node getRoot() {
+        return root;
+    }
+
+    @Override
+    public void refresh() {
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.setFill(BACKGROUND_COLOR);
+        graphics.fillRect(0, 0, width, height);
+        if (width <= TIME_AXIS_WIDTH || height <= HEADER_HEIGHT) {
+            return;
+        }
+
+        CalendarLayout layout = new CalendarLayout(calendar.getStartDate(), calendar.getDays(),
+                calendar.getInterviews());
+        double dayWidth = (width - TIME_AXIS_WIDTH) / calendar.getDays();
+        double minuteHeight = (height - HEADER_HEIGHT) / (layout.getLastMinute() - layout.getFirstMinute());
+
+        drawGrid(graphics, layout, dayWidth, minuteHeight, height);
+        graphics.setTextBaseline(VPos.TOP);
+        graphics.setTextAlign(TextAlignment.LEFT);
+        for (CalendarLayout.Block block : layout.getBlocks()) {
+            double laneWidth = dayWidth / block.getLaneCount();
+            double x = TIME_AXIS_WIDTH + block.getDay() * dayWidth + block.getLane() * laneWidth;
+            double y = HEADER_HEIGHT + (block.getStartMinute() - layout.getFirstMinute()) * minuteHeight;
+            double blockWidth = Math.max(laneWidth - BLOCK_GAP, 1);
+            double blockHeight = Math.max((block.getEndMinute() - block.getStartMinute()) * minuteHeight - 1, 1);
+            drawBlock(graphics, block.getInterview(), x, y, blockWidth, blockHeight);
+        }
+    }
+
+    private void drawGrid(GraphicsContext graphics, CalendarLayout layout, double dayWidth, double minuteHeight,
+            double height) {
+        graphics.setStroke(GRID_COLOR);
+        graphics.setLineWidth(1);
+        graphics.setFill(TEXT_COLOR);
+        graphics.setTextBaseline(VPos.CENTER);
+
+        graphics.setTextAlign(TextAlignment.CENTER);
+        for (int day = 0; day < calendar.getDays(); day++) {
+            double x = TIME_AXIS_WIDTH + day * dayWidth;
+            LocalDate date = calendar.getStartDate().plusDays(day);
+            graphics.fillText(DAY_FORMATTER.format(date), x + dayWidth / 2, HEADER_HEIGHT / 2, dayWidth);
+            graphics.strokeLine(x, 0, x, height);
+        }
+
+        graphics.setTextAlign(TextAlignment.RIGHT);
+        for (int minute = layout.getFirstMinute(); minute <= layout.getLastMinute(); minute += 60) {
+            double y = HEADER_HEIGHT + (minute - layout.getFirstMinute()) * minuteHeight;
+            graphics.strokeLine(TIME_AXIS_WIDTH, y, TIME_AXIS_WIDTH + dayWidth * calendar.getDays(), y);
+            graphics.fillText(String.format("%02d:00", minute / 60 % 24), TIME_AXIS_WIDTH - TEXT_PADDING, y,
+                    TIME_AXIS_WIDTH);
+        }
+    }
+
+    private void drawBlock(GraphicsContext graphics, Interview interview, double x, double y, double width,
+            double height) {
+        graphics.setFill(interview.getStatus() == Interview.InterviewStatus.COMPLETED
+                ? COMPLETED_COLOR
+                : PENDING_COLOR);
+        graphics.fillRect(x, y, width, height);
+
+        // Text is only drawn in blocks large enough to hold it, so dense days stay readable.
+        double textWidth = width - 2 * TEXT_PADDING;
+        if (textWidth < LINE_HEIGHT || height < LINE_HEIGHT) {
+            return;
+        }
+        graphics.setFill(TEXT_COLOR);
+        graphics.fillText(interview.getPositionTitle().toString(), x + TEXT_PADDING, y + 1, textWidth);
+        if (height >= 2 * LINE_HEIGHT) {
+            graphics.fillText(interview.getDisplayTimePeriod(), x + TEXT_PADDING, y + 1 + LINE_HEIGHT, textWidth);
+        }
+    }
+}
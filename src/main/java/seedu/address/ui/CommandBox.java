@@ -1,34 +1,119 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import javafx.beans.binding.Bindings;
+import javafx.beans.value.ObservableBooleanValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import seedu.address.logic.CommandHistory;
 import seedu.address.logic.CommandResult;
-import seedu.address.logic.candidate.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * The command box cannot be edited while a command is running.
+ * Ways to complete the command are suggested below the box as it is typed, and Tab takes the first of them.
+ * Up and Down go through the commands entered before, and Ctrl-R searches them backwards as the search is typed.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final String SEARCH_PROMPT_TEXT = "Search commands entered before...";
+    private static final KeyCombination SEARCH_KEYS = new KeyCodeCombination(KeyCode.R, KeyCombination.CONTROL_DOWN);
+    private static final int NOT_BROWSING = -1;
 
     private final CommandExecutor commandExecutor;
+    private final CommandSuggester commandSuggester;
+    private final CommandHistory commandHistory;
+    private final ContextMenu suggestionMenu = new ContextMenu();
+    private List<String> suggestions = List.of();
+
+    /** The index in the history of the command shown, or {@link #NOT_BROWSING} if the command is being typed. */
+    private int historyIndex = NOT_BROWSING;
+    /** The command being typed before going through the history, shown again after the latest command. */
+    private String draft = "";
+    /** Whether the text is being set from the history, rather than typed. */
+    private boolean isRecalling;
+
+    private boolean isSearching;
+    private int searchMatch = CommandHistory.NOT_FOUND;
+    private String textBeforeSearch = "";
+    private final String defaultPromptText;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, {@code CommandSuggester} and
+     * {@code CommandHistory}, which cannot be edited while {@code isBusy} is true.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandSuggester commandSuggester,
+            CommandHistory commandHistory, ObservableBooleanValue isBusy) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandSuggester = commandSuggester;
+        this.commandHistory = commandHistory;
+        defaultPromptText = commandTextField.getPromptText();
+        commandTextField.editableProperty().bind(Bindings.not(isBusy));
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, text) -> handleTextChanged(text));
+        commandTextField.focusedProperty().addListener((unused1, unused2, isFocused) -> {
+            if (!isFocused) {
+                endSearch();
+                suggestionMenu.hide();
+            }
+        });
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
+    }
+
+    private void handleKeyPressed(KeyEvent event) {
+        if (!commandTextField.isEditable()) {
+            return;
+        }
+        KeyCode code = event.getCode();
+        if (SEARCH_KEYS.match(event)) {
+            searchOlder();
+        } else if (isSearching && code == KeyCode.TAB) {
+            acceptSearchMatch();
+        } else if (isSearching && code == KeyCode.ESCAPE) {
+            cancelSearch();
+        } else if (code == KeyCode.TAB && !suggestions.isEmpty()) {
+            acceptSuggestion(suggestions.get(0));
+        } else if (code == KeyCode.UP && !isSearching) {
+            showOlderCommand();
+        } else if (code == KeyCode.DOWN && !isSearching) {
+            showNewerCommand();
+        } else {
+            return;
+        }
+        event.consume();
+    }
+
+    private void handleTextChanged(String text) {
+        if (isRecalling) {
+            return;
+        }
+        if (isSearching) {
+            searchMatch = commandHistory.search(text, commandHistory.size());
+            showSearchMatch();
+            return;
+        }
+        historyIndex = NOT_BROWSING;
+        showSuggestions(text);
     }
 
     /**
@@ -36,17 +121,178 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        if (isSearching) {
+            acceptSearchMatch();
+            return;
+        }
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || !commandTextField.isEditable()) {
+            return;
+        }
+        hideSuggestions();
+        historyIndex = NOT_BROWSING;
+
+        commandExecutor.execute(commandText).whenComplete((result, error) -> {
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Shows the ways to complete {@code commandText} below the command box, if there are any.
+     */
+    private void showSuggestions(String commandText) {
+        if (commandText.isBlank() || !commandTextField.isEditable() || !commandTextField.isFocused()) {
+            hideSuggestions();
+            return;
+        }
+        suggestions = commandSuggester.suggest(commandText).stream()
+                .filter(suggestion -> !suggestion.equals(commandText))
+                .collect(Collectors.toList());
+        if (suggestions.isEmpty()) {
+            hideSuggestions();
+            return;
+        }
+
+        List<MenuItem> items = new ArrayList<>();
+        for (String suggestion : suggestions) {
+            items.add(createMenuItem(suggestion, () -> acceptSuggestion(suggestion)));
+        }
+        showMenu(items);
+    }
+
+    private MenuItem createMenuItem(String text, Runnable action) {
+        MenuItem item = new MenuItem(text);
+        // Command words contain underscores, which must not be read as mnemonics.
+        item.setMnemonicParsing(false);
+        item.setOnAction(unused -> action.run());
+        return item;
+    }
+
+    private void showMenu(List<MenuItem> items) {
+        suggestionMenu.getItems().setAll(items);
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    private void hideSuggestions() {
+        suggestions = List.of();
+        suggestionMenu.hide();
+    }
+
+    private void acceptSuggestion(String suggestion) {
+        commandTextField.setText(suggestion);
+        commandTextField.positionCaret(suggestion.length());
+    }
+
+    /**
+     * Shows the command entered before the one shown, keeping the command being typed to come back to.
+     */
+    private void showOlderCommand() {
+        hideSuggestions();
+        if (historyIndex == NOT_BROWSING) {
+            draft = commandTextField.getText();
+            historyIndex = commandHistory.size();
+        }
+        if (historyIndex > 0) {
+            historyIndex--;
+            recall(commandHistory.get(historyIndex));
+        }
+    }
+
+    /**
+     * Shows the command entered after the one shown, or the command being typed after the latest command.
+     */
+    private void showNewerCommand() {
+        if (historyIndex == NOT_BROWSING) {
             return;
         }
+        historyIndex++;
+        if (historyIndex < commandHistory.size()) {
+            recall(commandHistory.get(historyIndex));
+        } else {
+            historyIndex = NOT_BROWSING;
+            recall(draft);
+        }
+    }
+
+    /**
+     * Starts searching the commands entered before, or finds the next older match if already searching.
+     */
+    private void searchOlder() {
+        if (!isSearching) {
+            isSearching = true;
+            textBeforeSearch = commandTextField.getText();
+            hideSuggestions();
+            commandTextField.setPromptText(SEARCH_PROMPT_TEXT);
+            recall("");
+            searchMatch = CommandHistory.NOT_FOUND;
+            return;
+        }
+        if (searchMatch != CommandHistory.NOT_FOUND) {
+            int olderMatch = commandHistory.search(commandTextField.getText(), searchMatch);
+            // Like a shell, the oldest match stays shown when there is no older one.
+            searchMatch = olderMatch != CommandHistory.NOT_FOUND ? olderMatch : searchMatch;
+        }
+        showSearchMatch();
+    }
+
+    private void showSearchMatch() {
+        if (commandTextField.getText().isBlank()) {
+            hideSuggestions();
+            return;
+        }
+        MenuItem item;
+        if (searchMatch == CommandHistory.NOT_FOUND) {
+            item = createMenuItem("No command entered before matches", () -> { });
+            item.setDisable(true);
+        } else {
+            item = createMenuItem(commandHistory.get(searchMatch), this::acceptSearchMatch);
+        }
+        showMenu(List.of(item));
+    }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+    /**
+     * Puts the command found in the command box to be edited or run, and stops searching.
+     */
+    private void acceptSearchMatch() {
+        String text = searchMatch != CommandHistory.NOT_FOUND
+                ? commandHistory.get(searchMatch)
+                : commandTextField.getText();
+        endSearch();
+        recall(text);
+    }
+
+    /**
+     * Stops searching and puts back the command being typed before the search.
+     */
+    private void cancelSearch() {
+        endSearch();
+        recall(textBeforeSearch);
+    }
+
+    private void endSearch() {
+        if (!isSearching) {
+            return;
         }
+        isSearching = false;
+        searchMatch = CommandHistory.NOT_FOUND;
+        commandTextField.setPromptText(defaultPromptText);
+        hideSuggestions();
+    }
+
+    /**
+     * Sets the text of the command box to {@code text} from the history, without suggesting ways to complete it.
+     */
+    private void recall(String text) {
+        isRecalling = true;
+        commandTextField.setText(text);
+        commandTextField.positionCaret(text.length());
+        isRecalling = false;
     }
 
     /**
@@ -75,11 +321,25 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, which is completed on the UI thread,
+         * exceptionally if the command fails.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletionStage<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that suggests ways to complete a partly typed command.
+     */
+    @FunctionalInterface
+    public interface CommandSuggester {
+        /**
+         * Returns ways to complete {@code commandText}, each being the whole command text completed.
+         *
+         * @see seedu.address.logic.Logic#complete(String)
+         */
+        List<String> suggest(String commandText);
     }
 
 }
@@ -0,0 +1,144 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the commands entered into the UI on a worker thread, so that the window stays responsive while a command
+ * runs, and hands each result back to the UI thread.
+ *
+ * A command is cancelled by interrupting the worker thread, which makes the command stop at its next change to
+ * the model and roll back every change it made.
+ */
+public class CommandRunner {
+
+    public static final String MESSAGE_CANCELLED = "Command cancelled. No changes were made.";
+
+    /**
+     * Executes a command on the calling thread.
+     */
+    @FunctionalInterface
+    public interface CommandFunction {
+        /**
+         * Executes the command and returns the result.
+         *
+         * @see seedu.address.logic.Logic#execute(String)
+         */
+        CommandResult execute(String commandText) throws CommandException, ParseException;
+    }
+
+    private final CommandFunction commandFunction;
+    private final Executor worker;
+    private final Executor uiThread;
+    private final ReadOnlyBooleanWrapper running = new ReadOnlyBooleanWrapper(false);
+
+    /** The thread running the current command once it has started. Guarded by this. */
+    private Thread commandThread;
+    /** Whether the current command was cancelled, possibly before it started. Guarded by this. */
+    private boolean isCancelled;
+
+    /**
+     * Creates a {@code CommandRunner} that executes commands with {@code commandFunction} on {@code worker} and
+     * completes their results on {@code uiThread}.
+     */
+    public CommandRunner(CommandFunction commandFunction, Executor worker, Executor uiThread) {
+        requireNonNull(commandFunction);
+        requireNonNull(worker);
+        requireNonNull(uiThread);
+        this.commandFunction = commandFunction;
+        this.worker = worker;
+        this.uiThread = uiThread;
+    }
+
+    /**
+     * Returns whether a command is running. Only changes on the UI thread.
+     */
+    public ReadOnlyBooleanProperty runningProperty() {
+        return running.getReadOnlyProperty();
+    }
+
+    /**
+     * Starts executing {@code commandText}, which must be called on the UI thread while no other command is running.
+     * The returned stage is completed on the UI thread with the result of the command, or with the
+     * {@code CommandException}, {@code ParseException} or other {@code Throwable} it threw.
+     */
+    public CompletionStage<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        return submit(() -> commandFunction.execute(commandText));
+    }
+
+    /**
+     * Starts running {@code task} like a command, such as the loading of the data at startup.
+     *
+     * @see #submit(String)
+     */
+    public CompletionStage<CommandResult> submit(Callable<CommandResult> task) {
+        requireNonNull(task);
+        assert !running.get() : "Only one command runs at a time";
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        synchronized (this) {
+            isCancelled = false;
+        }
+        running.set(true);
+        worker.execute(() -> {
+            CommandResult commandResult = null;
+            Throwable error = null;
+            try {
+                startCommand();
+                commandResult = task.call();
+            } catch (CancellationException e) {
+                error = new CommandException(MESSAGE_CANCELLED);
+            } catch (Throwable e) {
+                // Errors such as a failed assertion must also reach the UI thread, or the command box stays locked.
+                error = e;
+            } finally {
+                endCommand();
+            }
+            CommandResult finalResult = commandResult;
+            Throwable finalError = error;
+            uiThread.execute(() -> {
+                running.set(false);
+                if (finalError == null) {
+                    result.complete(finalResult);
+                } else {
+                    result.completeExceptionally(finalError);
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Cancels the running command, if any.
+     */
+    public synchronized void cancel() {
+        isCancelled = true;
+        if (commandThread != null) {
+            commandThread.interrupt();
+        }
+    }
+
+    private synchronized void startCommand() {
+        commandThread = Thread.currentThread();
+        if (isCancelled) {
+            commandThread.interrupt();
+        }
+    }
+
+    private synchronized void endCommand() {
+        commandThread = null;
+        // Clears an interrupt that came too late to cancel the command, so that it does not cancel the next one.
+        Thread.interrupted();
+    }
+}
@@ -0,0 +1,183 @@
+package seedu.address.ui;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+import seedu.address.model.person.Status;
+import seedu.address.model.snapshot.HiringFunnel;
+import seedu.address.model.snapshot.HrManagerSnapshot;
+
+/**
+ * Panel showing the hiring funnel: the candidates of each position in each status, the interviews in each week
+ * around the current one, and the time taken to schedule candidates, drawn on a canvas.
+ *
+ * The panel draws from the counts in the latest snapshot, so a redraw costs the same however many candidates and
+ * interviews there are, and only as many positions are drawn as fit.
+ */
+public class DashboardPanel implements DisplayListPanel<Node> {
+
+    private static final int WEEKS_BEFORE = 3;
+    private static final int WEEKS_SHOWN = 8;
+
+    private static final double ROW_HEIGHT = 18;
+    private static final double CHART_HEIGHT = 110;
+    private static final double PADDING = 6;
+    private static final double LABEL_WIDTH_RATIO = 0.3;
+
+    private static final Color BACKGROUND_COLOR = Color.web("#383838");
+    private static final Color GRID_COLOR = Color.web("#555555");
+    private static final Color TEXT_COLOR = Color.WHITE;
+    private static final Color BAR_COLOR = Color.web("#3e7b91");
+    private static final Color CURRENT_BAR_COLOR = Color.web("#5fa8c2");
+
+    private static final DateTimeFormatter WEEK_FORMATTER = DateTimeFormatter.ofPattern("d MMM", Locale.ENGLISH);
+    private static final String[] STATUS_HEADERS = {"None", "Appl", "Sched", "Intvw", "Acc", "Rej", "Wdn"};
+
+    private final Supplier<HrManagerSnapshot> snapshots;
+    private final Pane root = new Pane();
+    private final Canvas canvas = new Canvas();
+
+    /**
+     * Creates a {@code DashboardPanel} drawing the hiring funnel of the snapshots given by {@code snapshots}.
+     */
+    public DashboardPanel(Supplier<HrManagerSnapshot> snapshots) {
+        this.snapshots = snapshots;
+        // The canvas takes the size of the panel, so it must not be what the panel is sized by.
+        canvas.setManaged(false);
+        canvas.widthProperty().bind(root.widthProperty());
+        canvas.heightProperty().bind(root.heightProperty());
+        canvas.widthProperty().addListener(unused -> refresh());
+        canvas.heightProperty().addListener(unused -> refresh());
+        root.getChildren().add(canvas);
+    }
+
+    @Override
+    public Node getRoot() {
+        return root;
+    }
+
+    @Override
+    public void refresh() {
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.setFill(BACKGROUND_COLOR);
+        graphics.fillRect(0, 0, width, height);
+        if (width <= 2 * PADDING || height <= 2 * ROW_HEIGHT) {
+            return;
+        }
+
+        HiringFunnel funnel = snapshots.get().getHiringFunnel();
+        graphics.setTextBaseline(VPos.CENTER);
+        double chartsHeight = Math.min(2 * CHART_HEIGHT, Math.max(height - 4 * ROW_HEIGHT, 0));
+        drawStatusTable(graphics, funnel, width, height - chartsHeight);
+        if (chartsHeight > 0) {
+            double chartWidth = (width - 3 * PADDING) / 2;
+            double y = height - chartsHeight + PADDING;
+            drawWeekChart(graphics, funnel, PADDING, y, chartWidth, chartsHeight - 2 * PADDING);
+            drawTimeToScheduleChart(graphics, funnel, 2 * PADDING + chartWidth, y, chartWidth,
+                    chartsHeight - 2 * PADDING);
+        }
+    }
+
+    /**
+     * Draws a row of counts by status for all candidates, then for as many positions as fit in {@code height}.
+     */
+    private void drawStatusTable(GraphicsContext graphics, HiringFunnel funnel, double width, double height) {
+        Status[] statuses = Status.values();
+        double labelWidth = width * LABEL_WIDTH_RATIO;
+        double columnWidth = (width - labelWidth - PADDING) / statuses.length;
+
+        graphics.setFill(TEXT_COLOR);
+        graphics.setTextAlign(TextAlignment.CENTER);
+        for (int i = 0; i < statuses.length; i++) {
+            graphics.fillText(STATUS_HEADERS[i], labelWidth + (i + 0.5) * columnWidth, ROW_HEIGHT / 2, columnWidth);
+        }
+
+        int rowCount = (int) Math.min(funnel.getPositionTitles().size() + 1, height / ROW_HEIGHT - 1);
+        graphics.setStroke(GRID_COLOR);
+        graphics.setLineWidth(1);
+        for (int row = 0; row < rowCount; row++) {
+            double y = (row + 1) * ROW_HEIGHT;
+            graphics.strokeLine(PADDING, y, width - PADDING, y);
+            String label = row == 0 ? "All candidates" : funnel.getPositionTitles().get(row - 1).toString();
+            graphics.setTextAlign(TextAlignment.LEFT);
+            graphics.fillText(label, PADDING, y + ROW_HEIGHT / 2, labelWidth - PADDING);
+            graphics.setTextAlign(TextAlignment.CENTER);
+            for (int i = 0; i < statuses.length; i++) {
+                int count = row == 0
+                        ? funnel.getCandidateCount(statuses[i])
+                        : funnel.getCandidateCount(row - 1, statuses[i]);
+                graphics.fillText(Integer.toString(count), labelWidth + (i + 0.5) * columnWidth,
+                        y + ROW_HEIGHT / 2, columnWidth);
+            }
+        }
+    }
+
+    private void drawWeekChart(GraphicsContext graphics, HiringFunnel funnel, double x, double y, double width,
+            double height) {
+        LocalDate currentWeek = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        String[] labels = new String[WEEKS_SHOWN];
+        int[] counts = new int[WEEKS_SHOWN];
+        for (int i = 0; i < WEEKS_SHOWN; i++) {
+            LocalDate week = currentWeek.plusWeeks(i - WEEKS_BEFORE);
+            labels[i] = WEEK_FORMATTER.format(week);
+            counts[i] = funnel.getInterviewCount(week);
+        }
+        drawBars(graphics, "Interviews per week", labels, counts, WEEKS_BEFORE, x, y, width, height);
+    }
+
+    private void drawTimeToScheduleChart(GraphicsContext graphics, HiringFunnel funnel, double x, double y,
+            double width, double height) {
+        String[] labels = HiringFunnel.TIME_TO_SCHEDULE_LABELS.toArray(new String[0]);
+        int[] counts = new int[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            counts[i] = funnel.getTimeToScheduleCount(i);
+        }
+        drawBars(graphics, "Time to schedule", labels, counts, -1, x, y, width, height);
+    }
+
+    /**
+     * Draws a bar chart of {@code counts} titled {@code title}, with the bar at {@code highlighted} drawn brighter.
+     */
+    private void drawBars(GraphicsContext graphics, String title, String[] labels, int[] counts, int highlighted,
+            double x, double y, double width, double height) {
+        graphics.setFill(TEXT_COLOR);
+        graphics.setTextAlign(TextAlignment.LEFT);
+        graphics.fillText(title, x, y + ROW_HEIGHT / 2, width);
+
+        int maxCount = 1;
+        for (int count : counts) {
+            maxCount = Math.max(maxCount, count);
+        }
+        double barTop = y + 2 * ROW_HEIGHT;
+        double barAreaHeight = height - 3 * ROW_HEIGHT;
+        double barWidth = width / counts.length;
+        if (barAreaHeight <= 0) {
+            return;
+        }
+        graphics.setTextAlign(TextAlignment.CENTER);
+        for (int i = 0; i < counts.length; i++) {
+            double barHeight = barAreaHeight * counts[i] / maxCount;
+            double barX = x + i * barWidth;
+            double centre = barX + barWidth / 2;
+            graphics.setFill(i == highlighted ? CURRENT_BAR_COLOR : BAR_COLOR);
+            graphics.fillRect(barX + 1, barTop + barAreaHeight - barHeight, Math.max(barWidth - 2, 1), barHeight);
+            graphics.setFill(TEXT_COLOR);
+            graphics.fillText(Integer.toString(counts[i]), centre, barTop + barAreaHeight - barHeight
+                    - ROW_HEIGHT / 2, barWidth);
+            graphics.fillText(labels[i], centre, barTop + barAreaHeight + ROW_HEIGHT / 2, barWidth);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.ui;
+
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * An overlay in the corner of the main window showing how smoothly the window is drawn and how often the UI thread
+ * was blocked, with the latest command.
+ *
+ * While the overlay is shown, the time between frames is measured by an {@code AnimationTimer}, and frames slower
+ * than {@link FrameStats#SLOW_FRAME_NANOS} are logged with the latest command. The timer makes the window be drawn
+ * on every pulse, so it only runs while the overlay is shown.
+ */
+public class DiagnosticsOverlay {
+
+    private static final Logger logger = LogsCenter.getLogger(DiagnosticsOverlay.class);
+    private static final long UPDATE_INTERVAL_NANOS = 500_000_000;
+    private static final String STYLE = "-fx-background-color: rgba(0, 0, 0, 0.7); -fx-text-fill: white;"
+            + " -fx-font-family: monospace; -fx-padding: 6;";
+
+    private final FrameStats frameStats = new FrameStats();
+    private final FxWatchdog watchdog;
+    private final Supplier<String> latestCommand;
+    private final Label label = new Label();
+    private final AnimationTimer timer = new AnimationTimer() {
+        private long lastFrame = -1;
+        private long lastUpdate;
+
+        @Override
+        public void handle(long now) {
+            if (lastFrame >= 0) {
+                recordFrame(now - lastFrame);
+            }
+            lastFrame = now;
+            if (now - lastUpdate >= UPDATE_INTERVAL_NANOS) {
+                lastUpdate = now;
+                updateText();
+            }
+        }
+
+        @Override
+        public void stop() {
+            super.stop();
+            lastFrame = -1;
+        }
+    };
+
+    /**
+     * Creates a hidden overlay showing the stalls found by {@code watchdog} and the command given by
+     * {@code latestCommand}.
+     */
+    public DiagnosticsOverlay(FxWatchdog watchdog, Supplier<String> latestCommand) {
+        this.watchdog = watchdog;
+        this.latestCommand = latestCommand;
+        label.setStyle(STYLE);
+        label.setMouseTransparent(true);
+        label.setVisible(false);
+        StackPane.setAlignment(label, Pos.TOP_RIGHT);
+    }
+
+    public Label getRoot() {
+        return label;
+    }
+
+    /**
+     * Shows the overlay if it is hidden, and hides it otherwise.
+     */
+    public void toggle() {
+        if (label.isVisible()) {
+            timer.stop();
+            label.setVisible(false);
+        } else {
+            updateText();
+            label.setVisible(true);
+            timer.start();
+        }
+    }
+
+    private void recordFrame(long frameNanos) {
+        frameStats.record(frameNanos);
+        if (frameNanos > FrameStats.SLOW_FRAME_NANOS) {
+            logger.info(String.format("Slow frame of %d ms while or after running \"%s\"", frameNanos / 1_000_000,
+                    latestCommand.get()));
+        }
+    }
+
+    private void updateText() {
+        label.setText(String.format("%.0f fps, frame avg %.1f ms, max %.1f ms%n"
+                        + "slow frames: %d, UI stalls: %d (longest %d ms)%n"
+                        + "latest command: %s",
+                frameStats.getFramesPerSecond(), frameStats.getAverageMillis(), frameStats.getMaxMillis(),
+                frameStats.getSlowFrameCount(), watchdog.getStallCount(), watchdog.getLongestStallMillis(),
+                latestCommand.get()));
+    }
+}
@@ -2,4 +2,9 @@ package seedu.address.ui;
 
 public interface DisplayListPanel<T> {
     public T getRoot();
+
+    /**
+     * Redraws the shown items, for when an item has changed without its list changing.
+     */
+    public void refresh();
 }
@@ -0,0 +1,72 @@
+package seedu.address.ui;
+
+/**
+ * Keeps the times between the latest frames drawn, to tell how smoothly the window is being drawn.
+ *
+ * The times are kept in a fixed ring buffer, so recording a frame costs O(1) and allocates nothing, and the
+ * figures are over the latest {@link #WINDOW_SIZE} frames only. Frames slower than {@link #SLOW_FRAME_NANOS} are
+ * also counted over all time.
+ */
+public class FrameStats {
+
+    public static final int WINDOW_SIZE = 120;
+    public static final long SLOW_FRAME_NANOS = 100_000_000;
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final long[] frameNanos = new long[WINDOW_SIZE];
+    private int next;
+    private int size;
+    private long totalNanos;
+    private long slowFrameCount;
+
+    /**
+     * Records a frame drawn {@code frameNanos} after the frame before it.
+     */
+    public void record(long frameNanos) {
+        if (size == WINDOW_SIZE) {
+            totalNanos -= this.frameNanos[next];
+        } else {
+            size++;
+        }
+        this.frameNanos[next] = frameNanos;
+        totalNanos += frameNanos;
+        next = (next + 1) % WINDOW_SIZE;
+        if (frameNanos > SLOW_FRAME_NANOS) {
+            slowFrameCount++;
+        }
+    }
+
+    /**
+     * Returns the number of frames drawn per second, or 0 if no frame was recorded.
+     */
+    public double getFramesPerSecond() {
+        return totalNanos == 0 ? 0 : size * NANOS_PER_SECOND / totalNanos;
+    }
+
+    /**
+     * Returns the average time between frames in milliseconds, or 0 if no frame was recorded.
+     */
+    public double getAverageMillis() {
+        return size == 0 ? 0 : totalNanos / NANOS_PER_MILLI / size;
+    }
+
+    /**
+     * Returns the longest time between frames in milliseconds, or 0 if no frame was recorded.
+     */
+    public double getMaxMillis() {
+        long max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, frameNanos[i]);
+        }
+        return max / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns the number of frames recorded that took longer than {@link #SLOW_FRAME_NANOS}.
+     */
+    public long getSlowFrameCount() {
+        return slowFrameCount;
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Watches the UI thread from a thread of its own, and logs what the UI thread is doing when it is blocked for
+ * longer than a threshold, so that freezes can be traced to their cause.
+ *
+ * The watchdog posts a task to the UI thread and checks on it every {@link #CHECK_INTERVAL_MILLIS}. If the task has
+ * not run after the threshold, the stack of the UI thread is sampled and logged together with the latest command,
+ * and the length of the stall is logged once the task runs. Posting a task costs nothing while the UI is idle,
+ * unlike redrawing the window on every pulse.
+ */
+public class FxWatchdog {
+
+    public static final long DEFAULT_THRESHOLD_MILLIS = 500;
+    public static final long CHECK_INTERVAL_MILLIS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(FxWatchdog.class);
+    private static final long NANOS_PER_MILLI = 1_000_000;
+    private static final long NOT_ANSWERED = Long.MIN_VALUE;
+
+    private final Executor uiThreadExecutor;
+    private final Thread uiThread;
+    private final Supplier<String> latestCommand;
+    private final long thresholdNanos;
+    private final LongSupplier nanoTime;
+    private ScheduledExecutorService scheduler;
+
+    /** When the task being waited for was posted, if there is one. Only used by the checking thread. */
+    private long postedAt = NOT_ANSWERED;
+    private final AtomicLong answeredAt = new AtomicLong(NOT_ANSWERED);
+    private boolean isStallReported;
+
+    private final AtomicLong stallCount = new AtomicLong();
+    private final AtomicLong longestStallNanos = new AtomicLong();
+
+    /**
+     * Creates a watchdog of {@code uiThread}, which runs the tasks given to {@code uiThreadExecutor}, that logs
+     * stalls longer than {@code thresholdMillis} with the command given by {@code latestCommand}, timed by
+     * {@code nanoTime}.
+     */
+    public FxWatchdog(Executor uiThreadExecutor, Thread uiThread, Supplier<String> latestCommand,
+            long thresholdMillis, LongSupplier nanoTime) {
+        requireAllNonNull(uiThreadExecutor, uiThread, latestCommand, nanoTime);
+        this.uiThreadExecutor = uiThreadExecutor;
+        this.uiThread = uiThread;
+        this.latestCommand = latestCommand;
+        this.thresholdNanos = thresholdMillis * NANOS_PER_MILLI;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Starts checking on the UI thread every {@link #CHECK_INTERVAL_MILLIS} from a daemon thread.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fx-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, CHECK_INTERVAL_MILLIS, CHECK_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops checking on the UI thread.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Checks once whether the UI thread ran the task posted last, and posts another if it did.
+     * Must only be called from one thread at a time.
+     */
+    void check() {
+        long now = nanoTime.getAsLong();
+        if (postedAt == NOT_ANSWERED) {
+            postedAt = now;
+            answeredAt.set(NOT_ANSWERED);
+            uiThreadExecutor.execute(() -> answeredAt.set(nanoTime.getAsLong()));
+            return;
+        }
+
+        long answered = answeredAt.get();
+        if (answered != NOT_ANSWERED) {
+            if (isStallReported) {
+                long stallNanos = answered - postedAt;
+                longestStallNanos.accumulateAndGet(stallNanos, Math::max);
+                logger.warning(String.format("UI thread was blocked for %d ms", stallNanos / NANOS_PER_MILLI));
+                isStallReported = false;
+            }
+            postedAt = NOT_ANSWERED;
+            return;
+        }
+
+        if (!isStallReported && now - postedAt > thresholdNanos) {
+            isStallReported = true;
+            stallCount.incrementAndGet();
+            long stallMillis = (now - postedAt) / NANOS_PER_MILLI;
+            logger.warning(String.format("UI thread blocked for over %d ms while or after running \"%s\" at:%s",
+                    stallMillis, latestCommand.get(), formatStack(uiThread.getStackTrace())));
+        }
+    }
+
+    /**
+     * Returns the number of times the UI thread was blocked for longer than the threshold.
+     */
+    public long getStallCount() {
+        return stallCount.get();
+    }
+
+    /**
+     * Returns the longest time in milliseconds that the UI thread was blocked for, among the stalls that ended.
+     */
+    public long getLongestStallMillis() {
+        return longestStallNanos.get() / NANOS_PER_MILLI;
+    }
+
+    private static String formatStack(StackTraceElement[] stack) {
+        StringBuilder builder = new StringBuilder();
+        for (StackTraceElement element : stack) {
+            builder.append(System.lineSeparator()).append("\tat ").append(element);
+        }
+        return builder.toString();
+    }
+}
@@ -1,79 +1,85 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
-import javafx.scene.layout.HBox;
-import javafx.scene.layout.Region;
 import seedu.address.model.interview.Interview;
-import seedu.address.model.person.Person;
+import seedu.address.model.interview.Interviewer;
 
 /**
  * A UI component that displays information of a {@code Interview}.
+ *
+ * The card shows a {@link Content} copied from the interview on the thread that changed it, rather than the
+ * interview itself, as its candidates may be changed by a command while the card is drawn.
  */
-public class InterviewCard extends UiPart<Region> {
+public class InterviewCard extends ListCard<InterviewCard.Content> {
 
-    private static final String FXML = "InterviewListCard.fxml";
+    private static final String CANDIDATE_SEPARATOR = " | ";
 
     /**
-     * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
-     * As a consequence, UI elements' variable names cannot be set to such keywords
-     * or an exception will be thrown by JavaFX during runtime.
-     *
-     * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
+     * status uses the tags format
      */
+    private final FlowPane tags = newFlowPane("tags");
+    private final Label date = newLabel("date", "cell_small_label", false);
+    private final Label time = newLabel("time", "cell_small_label", false);
+    private final Label duration = newLabel("duration", "cell_small_label", false);
+    private final Label venue = newLabel("venue", "cell_small_label", true);
+    private final FlowPane candidates = newFlowPane("candidates");
 
-    private final Interview interview;
-
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label id;
     /**
-     * status uses the FXML tags format
+     * Creates an empty {@code InterviewCard}, to be bound to the content of an {@code Interview}.
      */
-    @FXML
-    private FlowPane tags;
-    @FXML
-    private Label position;
-    @FXML
-    private Label time;
-    @FXML
-    private Label date;
-    @FXML
-    private Label duration;
-    @FXML
-    private FlowPane candidates;
+    public InterviewCard() {
+        super("position");
+        addDetails(tags, date, time, duration, venue, candidates);
+    }
 
     /**
      * Creates a {@code InterviewCard} with the given {@code Interview} and index to display.
      */
     public InterviewCard(Interview interview, int displayedIndex) {
-        super(FXML);
-        this.interview = interview;
-        id.setText(displayedIndex + ". ");
-        position.setText(interview.getPositionTitle().fullTitle);
-        date.setText("Date: " + interview.getDisplayDate());
-        time.setText("Time: " + interview.getDisplayTimePeriod());
-        duration.setText("Duration: " + interview.getDuration().toMinutes() + " min");
-        Interview.InterviewStatus status = interview.getStatus();
-        tags.getChildren().add(new Label(status.name()));
-
-        List<Person> processedCandidates = interview.getCandidates().stream()
-                .sorted(Comparator.comparing(candidate -> candidate.getName().fullName)).collect(Collectors.toList());
-
-        for (int i = 0; i < processedCandidates.size(); i++) {
-            Person c = processedCandidates.get(i);
-            if (i != processedCandidates.size() - 1) {
-                candidates.getChildren().add(new Label(c.getName().fullName + " | "));
-            } else {
-                candidates.getChildren().add(new Label(c.getName().fullName));
-            }
+        this();
+        bind(Content.of(interview), displayedIndex);
+    }
+
+    @Override
+    protected void show(Content content) {
+        setTitle(content.title);
+        setText(date, content.date);
+        setText(time, content.time);
+        setText(duration, content.duration);
+        setText(venue, content.venue);
+        venue.setManaged(!content.venue.isEmpty());
+        venue.setVisible(!content.venue.isEmpty());
+        setLabels(tags, Collections.singletonList(content.status));
+        setLabels(candidates, content.candidates);
+    }
+
+    private static String formatVenue(Interview interview) {
+        StringBuilder venueText = new StringBuilder();
+        interview.getRoom().ifPresent(room -> venueText.append("Room: ").append(room));
+        if (!interview.getInterviewers().isEmpty()) {
+            venueText.append(venueText.length() == 0 ? "" : " | ").append("Interviewers: ")
+                    .append(interview.getInterviewers().stream().sorted().map(Interviewer::toString)
+                            .collect(Collectors.joining(", ")));
+        }
+        return venueText.toString();
+    }
+
+    private static List<String> formatCandidates(Interview interview) {
+        List<String> names = interview.getCandidates().stream()
+                .map(candidate -> candidate.getName().fullName)
+                .sorted()
+                .collect(Collectors.toList());
+        List<String> candidateTexts = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            candidateTexts.add(i == names.size() - 1 ? names.get(i) : names.get(i) + CANDIDATE_SEPARATOR);
         }
+        return Collections.unmodifiableList(candidateTexts);
     }
 
     @Override
@@ -90,11 +96,37 @@ public class InterviewCard extends UiPart<Region> {
 
         // state check
         InterviewCard card = (InterviewCard) other;
-        return id.getText().equals(card.id.getText())
-                && position.equals(card.position)
-                && time.equals(card.time)
-                && date.equals(card.date)
-                && duration.equals(card.duration)
-                && tags.equals(card.tags);
+        return getDisplayedIndex().equals(card.getDisplayedIndex())
+                && getItem().equals(card.getItem());
+    }
+
+    /**
+     * The texts shown on an {@code InterviewCard}, copied from an {@code Interview} at one point in time.
+     */
+    public static final class Content {
+        private final String title;
+        private final String date;
+        private final String time;
+        private final String duration;
+        private final String venue;
+        private final String status;
+        private final List<String> candidates;
+
+        private Content(Interview interview) {
+            title = interview.getPositionTitle().fullTitle;
+            date = "Date: " + interview.getDisplayDate();
+            time = "Time: " + interview.getDisplayTimePeriod();
+            duration = "Duration: " + interview.getDuration().toMinutes() + " min";
+            venue = formatVenue(interview);
+            status = interview.getStatus().name();
+            candidates = formatCandidates(interview);
+        }
+
+        /**
+         * Returns the texts to show for {@code interview} as it is now.
+         */
+        public static Content of(Interview interview) {
+            return new Content(interview);
+        }
     }
 }
@@ -2,13 +2,13 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.PagedList;
 import seedu.address.model.interview.Interview;
 
 /**
@@ -19,31 +19,42 @@ public class InterviewListPanel extends UiPart<Region> implements DisplayListPan
     private final Logger logger = LogsCenter.getLogger(InterviewListPanel.class);
 
     @FXML
-    private ListView<Interview> interviewListView;
+    private ListView<InterviewCard.Content> interviewListView;
+
+    private final PagedList<Interview> interviewList;
 
     /**
-     * Creates a {@code InterviewListPanel} with the given {@code ObservableList}.
+     * Creates a {@code InterviewListPanel} showing the current page of the given {@code PagedList}.
      */
-    public InterviewListPanel(ObservableList<Interview> interviewList) {
+    public InterviewListPanel(PagedList<Interview> interviewList) {
         super(FXML);
-        interviewListView.setItems(interviewList);
+        this.interviewList = interviewList;
+        interviewListView.setItems(interviewList.getPageCopies(InterviewCard.Content::of));
         interviewListView.setCellFactory(listView -> new InterviewListPanel.InterviewListViewCell());
     }
 
+    @Override
+    public void refresh() {
+        interviewListView.refresh();
+    }
+
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Interview} using a {@code InterviewCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Interview} using a {@code InterviewCard}
+     * that is built once per cell and bound to each item the cell shows.
      */
-    class InterviewListViewCell extends ListCell<Interview> {
+    class InterviewListViewCell extends ListCell<InterviewCard.Content> {
+        private final InterviewCard card = new InterviewCard();
 
         @Override
-        protected void updateItem(Interview interview, boolean empty) {
-            super.updateItem(interview, empty);
+        protected void updateItem(InterviewCard.Content content, boolean empty) {
+            super.updateItem(content, empty);
 
-            if (empty || interview == null) {
+            if (empty || content == null) {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new InterviewCard(interview, getIndex() + 1).getRoot());
+                card.bind(content, interviewList.getOffset() + getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,151 @@
+package seedu.address.ui;
+
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+
+/**
+ * A card in a list panel, built in code once per list cell and then bound to whichever item the cell shows.
+ *
+ * List cells are reused as the list scrolls, so building the card once and only changing the text of its labels
+ * when the cell is given another item avoids parsing FXML and creating nodes on every scroll step.
+ * The nodes have the same ids and style classes they had in the FXML they replace, so the themes still apply.
+ *
+ * @param <T> the type of the items shown on the card
+ */
+public abstract class ListCard<T> {
+
+    private static final double MIN_HEIGHT = 105;
+    private static final double PREF_WIDTH = 150;
+
+    private final HBox cardPane = new HBox();
+    private final VBox details = new VBox();
+    private final Label id = newLabel("id", "cell_big_label", false);
+    private final Label title;
+    private T item;
+
+    /**
+     * Creates a card with a title labelled {@code titleId} beside the displayed index, above the rest of the details.
+     */
+    protected ListCard(String titleId) {
+        title = newLabel(titleId, "cell_big_label", true);
+        id.setMinWidth(Region.USE_PREF_SIZE);
+        HBox header = new HBox(5, id, title);
+        header.setAlignment(Pos.CENTER_LEFT);
+
+        details.setAlignment(Pos.CENTER_LEFT);
+        details.setMinHeight(MIN_HEIGHT);
+        details.setPadding(new Insets(5, 5, 5, 15));
+        details.getChildren().add(header);
+
+        ColumnConstraints column = new ColumnConstraints();
+        column.setHgrow(Priority.SOMETIMES);
+        column.setMinWidth(10);
+        column.setPrefWidth(PREF_WIDTH);
+        GridPane grid = new GridPane();
+        grid.getColumnConstraints().add(column);
+        grid.add(details, 0, 0);
+        HBox.setHgrow(grid, Priority.ALWAYS);
+
+        cardPane.setId("cardPane");
+        cardPane.getChildren().add(grid);
+    }
+
+    public Region getRoot() {
+        return cardPane;
+    }
+
+    public T getItem() {
+        return item;
+    }
+
+    /**
+     * Shows {@code newItem} on this card with {@code displayedIndex}.
+     */
+    public void bind(T newItem, int displayedIndex) {
+        item = newItem;
+        setText(id, displayedIndex + ". ");
+        show(newItem);
+    }
+
+    /**
+     * Updates the details of this card to show {@code item}.
+     */
+    protected abstract void show(T item);
+
+    /**
+     * Adds {@code nodes} below the details already on this card.
+     */
+    protected void addDetails(Region... nodes) {
+        details.getChildren().addAll(nodes);
+    }
+
+    protected void setTitle(String text) {
+        setText(title, text);
+    }
+
+    protected String getDisplayedIndex() {
+        return id.getText();
+    }
+
+    /**
+     * Returns a label with {@code id} and {@code styleClass}, which may be null.
+     */
+    protected static Label newLabel(String id, String styleClass, boolean isWrapped) {
+        Label label = new Label();
+        label.setId(id);
+        if (styleClass != null) {
+            label.getStyleClass().add(styleClass);
+        }
+        label.setWrapText(isWrapped);
+        return label;
+    }
+
+    /**
+     * Returns a flow pane with {@code id}, for a row of labels styled by the theme.
+     */
+    protected static FlowPane newFlowPane(String id) {
+        FlowPane flowPane = new FlowPane();
+        flowPane.setId(id);
+        return flowPane;
+    }
+
+    /**
+     * Sets the text of {@code label}, leaving it untouched if it already has that text so that it is not laid out
+     * again.
+     */
+    protected static void setText(Label label, String text) {
+        if (!text.equals(label.getText())) {
+            label.setText(text);
+        }
+    }
+
+    /**
+     * Shows one label for each of {@code texts} in {@code flowPane}, reusing the labels already in it and only
+     * adding or removing labels when the number of texts changes.
+     */
+    protected static void setLabels(FlowPane flowPane, List<String> texts) {
+        ObservableList<Node> labels = flowPane.getChildren();
+        if (labels.size() > texts.size()) {
+            labels.remove(texts.size(), labels.size());
+        }
+        for (int i = 0; i < texts.size(); i++) {
+            if (i < labels.size()) {
+                setText((Label) labels.get(i), texts.get(i));
+            } else {
+                labels.add(new Label(texts.get(i)));
+            }
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package seedu.address.ui;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
@@ -17,6 +23,7 @@ import seedu.address.logic.CommandResult;
 import seedu.address.logic.Logic;
 import seedu.address.logic.candidate.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.ui.ViewStateController.Panel;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -25,11 +32,14 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_LOADING = "Loading data...";
+    private static final String MESSAGE_COMMAND_FAILED = "The command failed unexpectedly: ";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandRunner commandRunner;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -37,6 +47,12 @@ public class MainWindow extends UiPart<Stage> {
     private InterviewListPanel interviewListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private ViewStateController viewState;
+    private FxWatchdog watchdog;
+    private DiagnosticsOverlay diagnosticsOverlay;
+
+    @FXML
+    private StackPane overlayPane;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -44,6 +60,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private MenuItem helpMenuItem;
 
+    @FXML
+    private MenuItem diagnosticsMenuItem;
+
     @FXML
     private Label personListLabel;
 
@@ -69,21 +88,21 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic},
+     * which executes commands on {@code commandWorker}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, Executor commandWorker) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandRunner = new CommandRunner(logic::execute, commandWorker, Platform::runLater);
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
 
         setAccelerators();
-
-        helpWindow = new HelpWindow();
     }
 
     public Stage getPrimaryStage() {
@@ -92,6 +111,13 @@ public class MainWindow extends UiPart<Stage> {
 
     private void setAccelerators() {
         setAccelerator(helpMenuItem, KeyCombination.valueOf("F1"));
+        setAccelerator(diagnosticsMenuItem, KeyCombination.valueOf("F12"));
+        getRoot().addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.ESCAPE && commandRunner.runningProperty().get()) {
+                commandRunner.cancel();
+                event.consume();
+            }
+        });
     }
 
     /**
@@ -129,27 +155,41 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
+        // This runs on the UI thread, which the watchdog then watches.
+        watchdog = new FxWatchdog(Platform::runLater, Thread.currentThread(), logic::getLatestCommandText,
+                FxWatchdog.DEFAULT_THRESHOLD_MILLIS, System::nanoTime);
+        watchdog.start();
+        diagnosticsOverlay = new DiagnosticsOverlay(watchdog, logic::getLatestCommandText);
+        overlayPane.getChildren().add(diagnosticsOverlay.getRoot());
+
+        viewState = new ViewStateController(logic.getHrManagerCandidatesFilePath(),
+                logic.getHrManagerPositionsFilePath(), logic.getHrManagerInterviewsFilePath());
 
-        positionListPanel = new PositionListPanel(logic.getFilteredPositionList());
-        positionListPanelPlaceholder.getChildren().add(positionListPanel.getRoot());
+        personListPanel = new PersonListPanel(logic.getPagedPersonList());
+        viewState.attach(Panel.CANDIDATES, personListPanel, personListPanelPlaceholder);
 
-        interviewListPanel = new InterviewListPanel(logic.getFilteredInterviewList());
-        interviewListPanelPlaceholder.getChildren().add(interviewListPanel.getRoot());
+        positionListPanel = new PositionListPanel(logic.getPagedPositionList());
+        viewState.attach(Panel.POSITIONS, positionListPanel, positionListPanelPlaceholder);
+
+        interviewListPanel = new InterviewListPanel(logic.getPagedInterviewList());
+        viewState.attach(Panel.INTERVIEWS, interviewListPanel, interviewListPanelPlaceholder);
+        viewState.attachCalendar(new CalendarPanel(logic.getInterviewCalendar()));
+        viewState.attachDashboard(new DashboardPanel(logic::getSnapshot));
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getHrManagerCandidatesFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(viewState.saveLocationProperty(),
+                commandRunner.runningProperty(), commandRunner::cancel);
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::complete, logic.getCommandHistory(),
+                commandRunner.runningProperty());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        personListLabel.setText("Candidates");
-        positionListLabel.setText("Positions");
-        interviewListLabel.setText("Interviews");
+        personListLabel.textProperty().bind(viewState.titleProperty(Panel.CANDIDATES));
+        positionListLabel.textProperty().bind(viewState.titleProperty(Panel.POSITIONS));
+        interviewListLabel.textProperty().bind(viewState.titleProperty(Panel.INTERVIEWS));
     }
 
     /**
@@ -169,6 +209,10 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
+        // The help window is only loaded once it is needed, so that it does not delay startup.
+        if (helpWindow == null) {
+            helpWindow = new HelpWindow();
+        }
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -176,6 +220,16 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Shows the diagnostics overlay, or hides it if it is shown.
+     */
+    @FXML
+    public void handleDiagnostics() {
+        if (diagnosticsOverlay != null) {
+            diagnosticsOverlay.toggle();
+        }
+    }
+
     void show() {
         primaryStage.show();
     }
@@ -188,110 +242,40 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
+        if (watchdog != null) {
+            watchdog.stop();
+        }
         primaryStage.hide();
     }
 
-    private void handleListC() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
-
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getHrManagerCandidatesFilePath());
-        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-
-        personListLabel.setText("Candidates");
-    }
-
-    private void handleListP() {
-        positionListPanel = new PositionListPanel(logic.getFilteredPositionList());
-        positionListPanelPlaceholder.getChildren().add(positionListPanel.getRoot());
-
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getHrManagerPositionsFilePath());
-        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-        positionListLabel.setText("Positions");
-    }
-
-    private void handleListI() {
-        interviewListPanel = new InterviewListPanel(logic.getFilteredInterviewList());
-        interviewListPanelPlaceholder.getChildren().add(interviewListPanel.getRoot());
-
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getHrManagerInterviewsFilePath());
-        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-        interviewListLabel.setText("Interviews");
-    }
-
-    private void handleFindC() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
-
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getHrManagerCandidatesFilePath());
-        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-
-        personListLabel.setText("Candidates (filtered)");
-    }
-
-    private void handleFindP() {
-        positionListPanel = new PositionListPanel(logic.getFilteredPositionList());
-        positionListPanelPlaceholder.getChildren().add(positionListPanel.getRoot());
-
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getHrManagerPositionsFilePath());
-        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-        positionListLabel.setText("Positions (filtered)");
-    }
-
-    private void handleFindI() {
-        interviewListPanel = new InterviewListPanel(logic.getFilteredInterviewList());
-        interviewListPanelPlaceholder.getChildren().add(interviewListPanel.getRoot());
-
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getHrManagerInterviewsFilePath());
-        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-        interviewListLabel.setText("Interviews (filtered)");
-    }
-
-    private void handleC() { //Update person and interview lists
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
-
-        interviewListPanel = new InterviewListPanel(logic.getFilteredInterviewList());
-        interviewListPanelPlaceholder.getChildren().add(interviewListPanel.getRoot());
-
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getHrManagerInterviewsFilePath());
-        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-    }
-
-    private void handleP() { //Update person and position lists
-        positionListPanel = new PositionListPanel(logic.getFilteredPositionList());
-        positionListPanelPlaceholder.getChildren().add(positionListPanel.getRoot());
-
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
-
-        interviewListPanel = new InterviewListPanel(logic.getFilteredInterviewList());
-        interviewListPanelPlaceholder.getChildren().add(interviewListPanel.getRoot());
-
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getHrManagerInterviewsFilePath());
-        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-    }
-
-    private void handleI() { //Update person and interview lists
-        interviewListPanel = new InterviewListPanel(logic.getFilteredInterviewList());
-        interviewListPanelPlaceholder.getChildren().add(interviewListPanel.getRoot());
-
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
-
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getHrManagerInterviewsFilePath());
-        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-    }
-
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command on the command worker and returns its result,
+     * which is shown once the command has finished.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletionStage<CommandResult> executeCommand(String commandText) {
+        return showResult(commandText, commandRunner.submit(commandText));
+    }
+
+    /**
+     * Runs {@code task}, which loads the data at startup, on the command worker, and shows its result once done.
+     * Commands cannot be entered until then.
+     */
+    void runStartupTask(Callable<CommandResult> task) {
+        resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+        showResult(MESSAGE_LOADING, commandRunner.submit(task));
+    }
+
+    private CompletionStage<CommandResult> showResult(String commandText, CompletionStage<CommandResult> result) {
+        return result.whenComplete((commandResult, error) -> {
+            if (error != null) {
+                handleCommandFailure(commandText, error);
+                return;
+            }
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -302,41 +286,21 @@ public class MainWindow extends UiPart<Stage> {
             case EXIT:
                 handleExit();
                 break;
-            case LIST_C:
-                handleListC();
-                break;
-            case LIST_P:
-                handleListP();
-                break;
-            case LIST_I:
-                handleListI();
-                break;
-            case FIND_C:
-                handleFindC();
-                break;
-            case FIND_P:
-                handleFindP();
-                break;
-            case FIND_I:
-                handleFindI();
-                break;
-            case CANDIDATE:
-                handleC();
-                break;
-            case POSITION:
-                handleP();
-                break;
-            case INTERVIEW:
-                handleI();
-                break;
             default:
+                viewState.handle(commandResult.getCommandType());
             }
+        });
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+    private void handleCommandFailure(String commandText, Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof CommandException || cause instanceof ParseException) {
             logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            resultDisplay.setFeedbackToUser(cause.getMessage());
+            return;
         }
+        logger.severe("Command failed: " + commandText + " " + cause);
+        // Unexpected errors such as a failed assertion may have no message.
+        resultDisplay.setFeedbackToUser(MESSAGE_COMMAND_FAILED + cause);
     }
 }
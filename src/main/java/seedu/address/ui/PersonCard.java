@@ -1,94 +1,81 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
-import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
-import javafx.scene.layout.HBox;
-import javafx.scene.layout.Region;
 import seedu.address.model.interview.Interview;
 import seedu.address.model.person.Person;
 
 /**
  * A UI component that displays information of a {@code Person}.
+ *
+ * The card shows a {@link Content} copied from the person on the thread that changed it, rather than the person
+ * itself, as the person and its interviews may be changed by a command while the card is drawn.
  */
-public class PersonCard extends UiPart<Region> {
+public class PersonCard extends ListCard<PersonCard.Content> {
 
-    private static final String FXML = "PersonListCard.fxml";
+    private static final int INTERVIEW_LINE_LENGTH = 60;
+    private static final String INTERVIEWS_STYLE = "-fx-text-fill: khaki;";
+
+    private final FlowPane tags = newFlowPane("tags");
+    private final FlowPane positions = newFlowPane("positions");
+    private final Label interviews = newLabel("interviews", null, true);
+    private final Label phone = newLabel("phone", "cell_small_label", true);
+    private final Label address = newLabel("address", "cell_small_label", true);
+    private final Label email = newLabel("email", "cell_small_label", true);
+    private final Label remark = newLabel("remark", "cell_small_label", true);
+    private final Label status = newLabel("status", "cell_small_label", true);
 
     /**
-     * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
-     * As a consequence, UI elements' variable names cannot be set to such keywords
-     * or an exception will be thrown by JavaFX during runtime.
-     *
-     * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
+     * Creates an empty {@code PersonCard}, to be bound to the content of a {@code Person}.
      */
-
-    public final Person person;
-
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label name;
-    @FXML
-    private Label id;
-    @FXML
-    private Label phone;
-    @FXML
-    private Label address;
-    @FXML
-    private Label email;
-    @FXML
-    private FlowPane tags;
-    @FXML
-    private Label remark;
-    @FXML
-    private Label status;
-    @FXML
-    private FlowPane positions;
-    @FXML
-    private Label interviews;
+    public PersonCard() {
+        super("name");
+        addDetails(tags, positions, interviews, phone, address, email, remark, status);
+    }
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCard} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
-        this.person = person;
-        id.setText(displayedIndex + ". ");
-        name.setText(person.getName().fullName);
-        phone.setText(person.getPhone().value);
-        address.setText(person.getAddress().value);
-        email.setText(person.getEmail().value);
-        remark.setText(person.getRemark().value);
-        status.setText(person.getStatus().toString());
+        this();
+        bind(Content.of(person), displayedIndex);
+    }
 
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        person.getPositions().stream()
-                .sorted(Comparator.comparing(position -> position.getTitle().fullTitle))
-                .forEach(position -> positions.getChildren().add(new Label(position.getTitle().fullTitle + " ")));
+    @Override
+    protected void show(Content content) {
+        setTitle(content.name);
+        setText(phone, content.phone);
+        setText(address, content.address);
+        setText(email, content.email);
+        setText(remark, content.remark);
+        setText(status, content.status);
+        setLabels(tags, content.tags);
+        setLabels(positions, content.positions);
+        setText(interviews, content.interviews);
+        interviews.setStyle(content.interviews.isEmpty() ? "" : INTERVIEWS_STYLE);
+    }
 
-        //instead of individual labels with wrap text, create one label with all interviews and then wrap
-        StringBuilder stringBuilder = new StringBuilder();
-        person.getInterviews().stream()
+    /**
+     * Returns the interviews of {@code person} by date, broken into lines of at most 60 characters, as one string
+     * so that a single label can wrap them.
+     */
+    private static String formatInterviews(Person person) {
+        List<String> displayStrings = person.getInterviews().stream()
                 .sorted(Comparator.comparing(Interview::getDate))
-                .forEach(interview -> {
-                    String temp = interview.getDisplayStringWithoutNames();
-                    for (int i = 0; i < temp.length(); i += 60) {
-                        if (i + 60 < temp.length()) {
-                            stringBuilder.append(temp.substring(i, i + 60) + "\n");
-                        } else {
-                            stringBuilder.append(temp.substring(i) + "\n");
-                        }
-                    }
-                });
-        if (!stringBuilder.toString().equals("")) {
-            interviews.setText(stringBuilder.toString());
-            interviews.setStyle("-fx-text-fill: khaki;");
+                .map(Interview::getDisplayStringWithoutNames)
+                .collect(Collectors.toList());
+        StringBuilder stringBuilder = new StringBuilder();
+        for (String displayString : displayStrings) {
+            for (int i = 0; i < displayString.length(); i += INTERVIEW_LINE_LENGTH) {
+                stringBuilder.append(displayString, i, Math.min(i + INTERVIEW_LINE_LENGTH, displayString.length()))
+                        .append('\n');
+            }
         }
+        return stringBuilder.toString();
     }
 
     @Override
@@ -105,7 +92,48 @@ public class PersonCard extends UiPart<Region> {
 
         // state check
         PersonCard card = (PersonCard) other;
-        return id.getText().equals(card.id.getText())
-                && person.equals(card.person);
+        return getDisplayedIndex().equals(card.getDisplayedIndex())
+                && getItem().equals(card.getItem());
+    }
+
+    /**
+     * The texts shown on a {@code PersonCard}, copied from a {@code Person} at one point in time.
+     */
+    public static final class Content {
+        private final String name;
+        private final String phone;
+        private final String address;
+        private final String email;
+        private final String remark;
+        private final String status;
+        private final List<String> tags;
+        private final List<String> positions;
+        private final String interviews;
+
+        private Content(Person person) {
+            name = person.getName().fullName;
+            phone = person.getPhone().value;
+            address = person.getAddress().value;
+            email = person.getEmail().value;
+            remark = person.getRemark().value;
+            status = person.getStatus().toString();
+            tags = person.getTags().stream()
+                    .map(tag -> tag.tagName)
+                    .sorted()
+                    .collect(Collectors.toUnmodifiableList());
+            positions = person.getPositions().stream()
+                    .map(position -> position.getTitle().fullTitle)
+                    .sorted()
+                    .map(title -> title + " ")
+                    .collect(Collectors.toUnmodifiableList());
+            interviews = formatInterviews(person);
+        }
+
+        /**
+         * Returns the texts to show for {@code person} as it is now.
+         */
+        public static Content of(Person person) {
+            return new Content(person);
+        }
     }
 }
@@ -2,13 +2,13 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.PagedList;
 import seedu.address.model.person.Person;
 
 /**
@@ -19,30 +19,42 @@ public class PersonListPanel extends UiPart<Region> implements DisplayListPanel<
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
     @FXML
-    private ListView<Person> personListView;
+    private ListView<PersonCard.Content> personListView;
+
+    private final PagedList<Person> personList;
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} showing the current page of the given {@code PagedList}.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(PagedList<Person> personList) {
         super(FXML);
-        personListView.setItems(personList);
+        this.personList = personList;
+        personListView.setItems(personList.getPageCopies(PersonCard.Content::of));
         personListView.setCellFactory(listView -> new PersonListViewCell());
     }
 
+    @Override
+    public void refresh() {
+        personListView.refresh();
+    }
+
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}
+     * that is built once per cell and bound to each item the cell shows.
      */
-    class PersonListViewCell extends ListCell<Person> {
+    class PersonListViewCell extends ListCell<PersonCard.Content> {
+        private final PersonCard card = new PersonCard();
+
         @Override
-        protected void updateItem(Person person, boolean empty) {
-            super.updateItem(person, empty);
+        protected void updateItem(PersonCard.Content content, boolean empty) {
+            super.updateItem(content, empty);
 
-            if (empty || person == null) {
+            if (empty || content == null) {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                card.bind(content, personList.getOffset() + getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
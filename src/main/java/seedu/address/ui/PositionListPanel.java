@@ -2,13 +2,13 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.PagedList;
 import seedu.address.model.position.Position;
 
 /**
@@ -21,15 +21,23 @@ public class PositionListPanel extends UiPart<Region> implements DisplayListPane
     @FXML
     private ListView<Position> positionListView;
 
+    private final PagedList<Position> positionList;
+
     /**
-     * Creates a {@code PositionListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PositionListPanel} showing the current page of the given {@code PagedList}.
      */
-    public PositionListPanel(ObservableList<Position> positionList) {
+    public PositionListPanel(PagedList<Position> positionList) {
         super(FXML);
-        positionListView.setItems(positionList);
+        this.positionList = positionList;
+        positionListView.setItems(positionList.getPage());
         positionListView.setCellFactory(listView -> new PositionListViewCell());
     }
 
+    @Override
+    public void refresh() {
+        positionListView.refresh();
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Position} using a {@code PositionCard}.
      */
@@ -42,7 +50,7 @@ public class PositionListPanel extends UiPart<Region> implements DisplayListPane
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PositionCard(position, getIndex() + 1).getRoot());
+                setGraphic(new PositionCard(position, positionList.getOffset() + getIndex() + 1).getRoot());
             }
         }
     }
@@ -1,10 +1,9 @@
 package seedu.address.ui;
 
-import java.nio.file.Path;
-import java.nio.file.Paths;
-
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 
 /**
@@ -14,15 +13,33 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
 
+    private final Runnable cancelAction;
+
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private HBox commandStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} that shows {@code saveLocation} as it changes, and shows a progress
+     * indicator and a cancel button that runs {@code cancelAction} while {@code commandRunning} is true.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(ObservableValue<String> saveLocation, ObservableValue<Boolean> commandRunning,
+            Runnable cancelAction) {
         super(FXML);
-        saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        this.cancelAction = cancelAction;
+        saveLocationStatus.textProperty().bind(saveLocation);
+        commandStatus.visibleProperty().bind(commandRunning);
+        commandStatus.managedProperty().bind(commandRunning);
+    }
+
+    /**
+     * Handles the cancel button pressed event.
+     */
+    @FXML
+    private void handleCancel() {
+        cancelAction.run();
     }
 
 }
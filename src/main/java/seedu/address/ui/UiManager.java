@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -10,6 +12,7 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandResult;
 import seedu.address.logic.Logic;
 
 /**
@@ -23,14 +26,20 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private Executor commandWorker;
+    private Callable<CommandResult> startupTask;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, which executes commands on {@code commandWorker}.
+     * The window is shown right away, and {@code startupTask}, which loads the data, is then run on
+     * {@code commandWorker} before any command.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, Executor commandWorker, Callable<CommandResult> startupTask) {
         super();
         this.logic = logic;
+        this.commandWorker = commandWorker;
+        this.startupTask = startupTask;
     }
 
     @Override
@@ -41,9 +50,10 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandWorker);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            mainWindow.runStartupTask(startupTask);
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
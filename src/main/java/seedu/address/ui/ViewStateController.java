@@ -0,0 +1,200 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import seedu.address.logic.CommandResult.CommandType;
+
+/**
+ * Keeps the list panels, list titles and status bar of the main window up to date after each command.
+ *
+ * Each panel is put into its placeholder once and stays bound to its live list, so a command only redraws the
+ * cells of the panels it affects and changes the titles and status bar text in place. No nodes are created per
+ * command, so the scene graph and the heap stay the same size however many commands are run.
+ * The interview calendar and the hiring dashboard, if attached, take the place of the interview list and the position
+ * list until those are listed again. The dashboard is redrawn after every command while it is shown.
+ */
+public class ViewStateController {
+
+    /**
+     * The list panels of the main window.
+     */
+    public enum Panel {
+        CANDIDATES("Candidates"),
+        POSITIONS("Positions"),
+        INTERVIEWS("Interviews");
+
+        private final String title;
+
+        Panel(String title) {
+            this.title = title;
+        }
+    }
+
+    private static final String FILTERED_SUFFIX = " (filtered)";
+    private static final String CALENDAR_TITLE = "Interview Calendar";
+    private static final String DASHBOARD_TITLE = "Hiring Dashboard";
+
+    private final Map<Panel, DisplayListPanel<Node>> panels = new EnumMap<>(Panel.class);
+    private final Map<Panel, Pane> placeholders = new EnumMap<>(Panel.class);
+    private final Map<Panel, StringProperty> titles = new EnumMap<>(Panel.class);
+    private final Map<Panel, Path> saveLocations = new EnumMap<>(Panel.class);
+    private final StringProperty saveLocation = new SimpleStringProperty("");
+    /** The panel shown in each placeholder, which is the list panel unless another view replaced it. */
+    private final Map<Panel, DisplayListPanel<Node>> shownPanels = new EnumMap<>(Panel.class);
+    private DisplayListPanel<Node> calendarPanel;
+    private DisplayListPanel<Node> dashboardPanel;
+
+    /**
+     * Creates a {@code ViewStateController} showing the save location of the candidates, positions and interviews
+     * in {@code candidatesFile}, {@code positionsFile} and {@code interviewsFile}.
+     */
+    public ViewStateController(Path candidatesFile, Path positionsFile, Path interviewsFile) {
+        requireNonNull(candidatesFile);
+        requireNonNull(positionsFile);
+        requireNonNull(interviewsFile);
+        saveLocations.put(Panel.CANDIDATES, candidatesFile);
+        saveLocations.put(Panel.POSITIONS, positionsFile);
+        saveLocations.put(Panel.INTERVIEWS, interviewsFile);
+        for (Panel panel : Panel.values()) {
+            titles.put(panel, new SimpleStringProperty(panel.title));
+        }
+        showSaveLocation(Panel.CANDIDATES);
+    }
+
+    /**
+     * Shows {@code listPanel} in {@code placeholder}, replacing whatever the placeholder held.
+     */
+    public void attach(Panel panel, DisplayListPanel<Node> listPanel, Pane placeholder) {
+        requireNonNull(listPanel);
+        panels.put(panel, listPanel);
+        placeholders.put(panel, placeholder);
+        placeholder.getChildren().setAll(listPanel.getRoot());
+        shownPanels.put(panel, listPanel);
+    }
+
+    /**
+     * Keeps {@code calendarPanel} to be shown in place of the interview list after a calendar command.
+     */
+    public void attachCalendar(DisplayListPanel<Node> calendarPanel) {
+        requireNonNull(calendarPanel);
+        this.calendarPanel = calendarPanel;
+    }
+
+    /**
+     * Keeps {@code dashboardPanel} to be shown in place of the position list after a dashboard command.
+     */
+    public void attachDashboard(DisplayListPanel<Node> dashboardPanel) {
+        requireNonNull(dashboardPanel);
+        this.dashboardPanel = dashboardPanel;
+    }
+
+    public ReadOnlyStringProperty titleProperty(Panel panel) {
+        return titles.get(panel);
+    }
+
+    public ReadOnlyStringProperty saveLocationProperty() {
+        return saveLocation;
+    }
+
+    /**
+     * Updates the view after a command of {@code commandType} has been executed.
+     */
+    public void handle(CommandType commandType) {
+        requireNonNull(commandType);
+        switch (commandType) {
+        case LIST_C:
+            showList(Panel.CANDIDATES, false);
+            break;
+        case LIST_P:
+            showList(Panel.POSITIONS, false);
+            break;
+        case LIST_I:
+            showList(Panel.INTERVIEWS, false);
+            break;
+        case FIND_C:
+            showList(Panel.CANDIDATES, true);
+            break;
+        case FIND_P:
+            showList(Panel.POSITIONS, true);
+            break;
+        case FIND_I:
+            showList(Panel.INTERVIEWS, true);
+            break;
+        case CANDIDATE:
+        case INTERVIEW:
+            // Candidates and their interviews show each other, so a change to one may change the other.
+            refresh(Panel.CANDIDATES);
+            refresh(Panel.INTERVIEWS);
+            showSaveLocation(Panel.INTERVIEWS);
+            break;
+        case POSITION:
+            // Renaming or closing a position changes the candidates who applied for it and its interviews.
+            refresh(Panel.POSITIONS);
+            refresh(Panel.CANDIDATES);
+            refresh(Panel.INTERVIEWS);
+            showSaveLocation(Panel.INTERVIEWS);
+            break;
+        case CALENDAR:
+            showView(Panel.INTERVIEWS, calendarPanel, CALENDAR_TITLE);
+            break;
+        case DASHBOARD:
+            showView(Panel.POSITIONS, dashboardPanel, DASHBOARD_TITLE);
+            return;
+        default:
+        }
+        // Any command may change the counts on the dashboard, which are cheap to redraw.
+        if (dashboardPanel != null && shownPanels.get(Panel.POSITIONS) == dashboardPanel) {
+            dashboardPanel.refresh();
+        }
+    }
+
+    private void showView(Panel panel, DisplayListPanel<Node> view, String title) {
+        if (view == null || !placeholders.containsKey(panel)) {
+            return;
+        }
+        show(panel, view);
+        view.refresh();
+        titles.get(panel).set(title);
+        showSaveLocation(panel);
+    }
+
+    private void showList(Panel panel, boolean isFiltered) {
+        if (panels.containsKey(panel)) {
+            show(panel, panels.get(panel));
+        }
+        refresh(panel);
+        titles.get(panel).set(isFiltered ? panel.title + FILTERED_SUFFIX : panel.title);
+        showSaveLocation(panel);
+    }
+
+    /**
+     * Puts {@code view} into the placeholder of {@code panel} if it is not already there.
+     */
+    private void show(Panel panel, DisplayListPanel<Node> view) {
+        if (shownPanels.get(panel) != view) {
+            placeholders.get(panel).getChildren().setAll(view.getRoot());
+            shownPanels.put(panel, view);
+        }
+    }
+
+    private void refresh(Panel panel) {
+        DisplayListPanel<Node> shownPanel = shownPanels.get(panel);
+        if (shownPanel != null) {
+            shownPanel.refresh();
+        }
+    }
+
+    private void showSaveLocation(Panel panel) {
+        saveLocation.set(Paths.get(".").resolve(saveLocations.get(panel)).toString());
+    }
+}
@@ -37,6 +37,48 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("run", "drive.txt");
+        expected.setScriptPath(Paths.get("drive.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_success() {
+        parametersStub.namedParameters.put("run", "a\0");
+        expected.setScriptPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validApiPort_success() {
+        parametersStub.namedParameters.put("api-port", "8080");
+        expected.setApiPort(8080);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidApiPort_success() {
+        parametersStub.namedParameters.put("api-port", "65536");
+        expected.setApiPort(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("api-port", "http");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(Paths.get("drive.txt"));
+        expected.setBatch(true);
+        assertEquals(expected, AppParameters.parse(new String[] {AppParameters.HEADLESS_FLAG,
+            "--config=config.json", "--run=drive.txt", AppParameters.BATCH_FLAG}));
+
+        assertEquals(new AppParameters(), AppParameters.parse(new String[] {AppParameters.HEADLESS_FLAG}));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,84 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.general.ExitCommand;
+import seedu.address.logic.position.ListPositionCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.position.Position;
+import seedu.address.model.position.Title;
+import seedu.address.storage.JsonHrManagerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.TextCommandHistoryStorage;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonHrManagerStorage hrManagerStorage =
+                new JsonHrManagerStorage(temporaryFolder.resolve("candidates.json"),
+                        temporaryFolder.resolve("positions.json"), temporaryFolder.resolve("interviews.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(hrManagerStorage, userPrefsStorage,
+                new TextCommandHistoryStorage(temporaryFolder.resolve("history.txt"))));
+    }
+
+    @Test
+    public void run_interactive_continuesAfterErrorsUntilExit() {
+        HeadlessApp app = new HeadlessApp(logic, false);
+        int status = run(app, ListPositionCommand.COMMAND_WORD, "unknown_command", ExitCommand.COMMAND_WORD,
+                "add_p title=Receptionist");
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, status);
+        assertTrue(out.toString().startsWith(HeadlessApp.PROMPT + ListPositionCommand.MESSAGE_SUCCESS));
+        assertTrue(err.toString().contains(Messages.MESSAGE_UNKNOWN_COMMAND));
+        assertFalse(model.hasPosition(new Position(new Title("Receptionist"))));
+    }
+
+    @Test
+    public void run_batch_stopsAtFirstFailure() {
+        HeadlessApp app = new HeadlessApp(logic, true);
+        int status = run(app, "add_p title=Receptionist", "", "delete_p 5", "add_p title=Driver");
+
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, status);
+        assertFalse(out.toString().contains(HeadlessApp.PROMPT));
+        assertTrue(model.hasPosition(new Position(new Title("Receptionist"))));
+        assertFalse(model.hasPosition(new Position(new Title("Driver"))));
+    }
+
+    @Test
+    public void run_batchEndOfInput_success() {
+        HeadlessApp app = new HeadlessApp(logic, true);
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(app, "add_p title=Receptionist"));
+        assertEquals("", err.toString());
+    }
+
+    private int run(HeadlessApp app, String... lines) {
+        BufferedReader in = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return app.run(in, new PrintStream(out), new PrintStream(err));
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalHrManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.position.Position;
+import seedu.address.model.position.Title;
+import seedu.address.storage.JsonHrManagerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.TextCommandHistoryStorage;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalHrManager(), new UserPrefs());
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+    private LogicManager logic;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        JsonHrManagerStorage hrManagerStorage =
+                new JsonHrManagerStorage(temporaryFolder.resolve("candidates.json"),
+                        temporaryFolder.resolve("positions.json"), temporaryFolder.resolve("interviews.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(hrManagerStorage, userPrefsStorage,
+                new TextCommandHistoryStorage(temporaryFolder.resolve("history.txt"))));
+        apiServer = new ApiServer(logic, writer, 0);
+        apiServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+        writer.shutdownNow();
+    }
+
+    @Test
+    public void get_candidates_returnsAllCandidates() throws IOException {
+        Response response = request("GET", "/candidates", null);
+        assertEquals(ApiServer.HTTP_OK, response.status);
+        assertTrue(response.body.contains(ALICE.getName().fullName));
+        assertTrue(response.body.contains(BENSON.getName().fullName));
+    }
+
+    @Test
+    public void get_candidatesWithQuery_returnsMatchingCandidates() throws IOException {
+        Response response = request("GET", "/candidates?q=alice%20PAUL", null);
+        assertEquals(ApiServer.HTTP_OK, response.status);
+        assertTrue(response.body.contains(ALICE.getName().fullName));
+        assertFalse(response.body.contains(BENSON.getName().fullName));
+
+        assertEquals("[]", request("GET", "/candidates?q=nobody", null).body);
+    }
+
+    @Test
+    public void post_validCommand_changeVisibleToReads() throws IOException {
+        assertFalse(request("GET", "/positions", null).body.contains("Receptionist"));
+
+        Response response = request("POST", ApiServer.COMMANDS_PATH, "add_p title=Receptionist");
+        assertEquals(ApiServer.HTTP_OK, response.status);
+        assertTrue(response.body.contains("feedback"));
+        assertTrue(model.hasPosition(new Position(new Title("Receptionist"))));
+
+        assertTrue(request("GET", "/positions?q=recep", null).body.contains("Receptionist"));
+    }
+
+    @Test
+    public void post_invalidCommand_badRequest() throws IOException {
+        Response response = request("POST", ApiServer.COMMANDS_PATH, "unknown_command");
+        assertEquals(ApiServer.HTTP_BAD_REQUEST, response.status);
+        assertTrue(response.body.contains(Messages.MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void request_wrongMethod_methodNotAllowed() throws IOException {
+        assertEquals(ApiServer.HTTP_METHOD_NOT_ALLOWED, request("POST", "/interviews", "").status);
+        assertEquals(ApiServer.HTTP_METHOD_NOT_ALLOWED, request("GET", ApiServer.COMMANDS_PATH, null).status);
+    }
+
+    @Test
+    public void get_metrics_reportsLatencyOfEachEndpoint() throws IOException {
+        request("GET", "/candidates", null);
+        request("GET", "/candidates", null);
+
+        Response response = request("GET", ApiServer.METRICS_PATH, null);
+        assertEquals(ApiServer.HTTP_OK, response.status);
+        assertTrue(response.body.contains("GET /candidates"));
+        assertTrue(response.body.contains("\"count\" : 2"));
+        assertTrue(response.body.contains("p99Ms"));
+    }
+
+    @Test
+    public void getQueryParameter() {
+        URI uri = URI.create("http://localhost/candidates?sort=name&q=Alice%20Pauline&empty");
+        assertEquals("Alice Pauline", ApiServer.getQueryParameter(uri, "q"));
+        assertEquals("", ApiServer.getQueryParameter(uri, "empty"));
+        assertNull(ApiServer.getQueryParameter(uri, "missing"));
+        assertNull(ApiServer.getQueryParameter(URI.create("http://localhost/candidates"), "q"));
+    }
+
+    private Response request(String method, String path, String body) throws IOException {
+        URL url = new URL("http://127.0.0.1:" + apiServer.getPort() + path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int status = connection.getResponseCode();
+        InputStream in = status < ApiServer.HTTP_BAD_REQUEST ? connection.getInputStream()
+                : connection.getErrorStream();
+        try (in) {
+            return new Response(status, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyMetricsTest {
+
+    @Test
+    public void percentile() {
+        assertEquals(0, LatencyMetrics.percentile(new long[0], 0.5));
+
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i + 1;
+        }
+        assertEquals(1, LatencyMetrics.percentile(sorted, 0));
+        assertEquals(50, LatencyMetrics.percentile(sorted, 0.50));
+        assertEquals(99, LatencyMetrics.percentile(sorted, 0.99));
+        assertEquals(100, LatencyMetrics.percentile(sorted, 1));
+    }
+
+    @Test
+    public void summarize_manyRequests_countsEveryRequest() {
+        LatencyMetrics metrics = new LatencyMetrics();
+        for (int i = 1; i <= LatencyMetrics.SAMPLE_CAPACITY + 10; i++) {
+            metrics.record("GET /candidates", 1_000_000L * i);
+        }
+        metrics.record("POST /commands", 2_000_000L);
+
+        Map<String, Map<String, Object>> summaries = metrics.summarize();
+        assertEquals(2, summaries.size());
+
+        Map<String, Object> candidates = summaries.get("GET /candidates");
+        assertEquals((long) LatencyMetrics.SAMPLE_CAPACITY + 10, candidates.get("count"));
+        assertEquals((double) LatencyMetrics.SAMPLE_CAPACITY + 10, candidates.get("maxMs"));
+        // Only the latest samples are kept, so the oldest, fastest requests no longer count towards the median.
+        assertTrue((double) candidates.get("p50Ms") > LatencyMetrics.SAMPLE_CAPACITY / 2.0);
+
+        assertEquals(2.0, summaries.get("POST /commands").get("p99Ms"));
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AhoCorasickAutomatonTest {
+
+    private static final List<String> KEYWORDS = Arrays.asList("java", "javascript", "sql", "he", "she", "hers");
+
+    @Test
+    public void of_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AhoCorasickAutomaton.of(null));
+    }
+
+    @Test
+    public void of_sameKeywords_reusesAutomaton() {
+        assertSame(AhoCorasickAutomaton.of(KEYWORDS), AhoCorasickAutomaton.of(Arrays.asList(KEYWORDS.toArray(
+                new String[0]))));
+    }
+
+    @Test
+    public void containsAnyWord_wholeWordMatch_returnsTrue() {
+        AhoCorasickAutomaton automaton = AhoCorasickAutomaton.of(KEYWORDS);
+        assertTrue(automaton.containsAnyWord("java"));
+        assertTrue(automaton.containsAnyWord("python SQL"));
+        assertTrue(automaton.containsAnyWord("rust  JavaScript go"));
+        assertTrue(automaton.containsAnyWord("ushers hers"));
+    }
+
+    @Test
+    public void containsAnyWord_partialWordMatch_returnsFalse() {
+        AhoCorasickAutomaton automaton = AhoCorasickAutomaton.of(KEYWORDS);
+        assertFalse(automaton.containsAnyWord(""));
+        assertFalse(automaton.containsAnyWord("javas mysql"));
+        assertFalse(automaton.containsAnyWord("ushers"));
+        assertFalse(automaton.containsAnyWord("python rust"));
+    }
+
+    @Test
+    public void containsAnyWord_noKeywords_returnsFalse() {
+        assertFalse(AhoCorasickAutomaton.of(Collections.emptyList()).containsAnyWord("java"));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    // Enough elements for the tree to grow to three levels below the root.
+    private static final int LARGE_SIZE = 40_000;
+
+    @Test
+    public void empty() {
+        PersistentVector<String> vector = PersistentVector.empty();
+        assertTrue(vector.isEmpty());
+        assertEquals(0, vector.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.set(0, "a"));
+    }
+
+    @Test
+    public void append_manyElements_getReturnsEveryElement() {
+        List<Integer> expected = IntStream.range(0, LARGE_SIZE).boxed().collect(Collectors.toList());
+        PersistentVector<Integer> vector = PersistentVector.of(expected);
+
+        assertEquals(LARGE_SIZE, vector.size());
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            assertEquals(i, vector.get(i));
+        }
+        List<Integer> iterated = new ArrayList<>();
+        vector.forEach(iterated::add);
+        assertEquals(expected, iterated);
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(LARGE_SIZE));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(-1));
+    }
+
+    @Test
+    public void set_doesNotChangeOtherVersions() {
+        PersistentVector<Integer> original = PersistentVector.of(
+                IntStream.range(0, LARGE_SIZE).boxed().collect(Collectors.toList()));
+
+        PersistentVector<Integer> changed = original;
+        for (int i = 0; i < LARGE_SIZE; i += 7) {
+            changed = changed.set(i, -i);
+        }
+
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            assertEquals(i, original.get(i));
+            assertEquals(i % 7 == 0 ? -i : i, changed.get(i));
+        }
+    }
+
+    @Test
+    public void append_doesNotChangeOtherVersions() {
+        PersistentVector<String> base = PersistentVector.<String>empty().append("a").append("b");
+        PersistentVector<String> first = base.append("c");
+        PersistentVector<String> second = base.append("d");
+
+        assertEquals(2, base.size());
+        assertEquals("c", first.get(2));
+        assertEquals("d", second.get(2));
+    }
+}
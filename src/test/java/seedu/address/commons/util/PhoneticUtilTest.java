@@ -0,0 +1,38 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PhoneticUtilTest {
+
+    @Test
+    public void encode_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PhoneticUtil.encode(null));
+    }
+
+    @Test
+    public void encode_noLetters_returnsEmptyString() {
+        assertEquals("", PhoneticUtil.encode(""));
+        assertEquals("", PhoneticUtil.encode("123 -"));
+    }
+
+    @Test
+    public void encode_similarSoundingWords_sameKey() {
+        assertEquals("MHMT", PhoneticUtil.encode("Mohammed"));
+        assertEquals(PhoneticUtil.encode("Mohammed"), PhoneticUtil.encode("Muhammad"));
+        assertEquals(PhoneticUtil.encode("Catherine"), PhoneticUtil.encode("Kathryn"));
+        assertEquals(PhoneticUtil.encode("Meier"), PhoneticUtil.encode("Meyer"));
+        assertEquals(PhoneticUtil.encode("Jon"), PhoneticUtil.encode("John"));
+        assertEquals(PhoneticUtil.encode("Philip"), PhoneticUtil.encode("Filip"));
+        assertEquals(PhoneticUtil.encode("Knight"), PhoneticUtil.encode("night"));
+    }
+
+    @Test
+    public void encode_differentWords_differentKey() {
+        assertNotEquals(PhoneticUtil.encode("Alice"), PhoneticUtil.encode("Alex"));
+        assertNotEquals(PhoneticUtil.encode("Benson"), PhoneticUtil.encode("Carl"));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixDictionaryTest {
+
+    private final PrefixDictionary dictionary = PrefixDictionary.of(
+            List.of("Alex Yeoh", "alice", "Bernice Yu", "Alexander", "alice"));
+
+    @Test
+    public void of_duplicateTerms_keptOnce() {
+        assertEquals(4, dictionary.size());
+    }
+
+    @Test
+    public void complete_ignoresCase_inOrderOfLowerCaseForm() {
+        assertEquals(List.of("Alex Yeoh", "Alexander", "alice"), dictionary.complete("AL", 10));
+        assertEquals(List.of("Alex Yeoh"), dictionary.complete("alex ", 10));
+        assertEquals(List.of(), dictionary.complete("Charlotte", 10));
+    }
+
+    @Test
+    public void complete_limit_returnsFirstTerms() {
+        assertEquals(List.of("Alex Yeoh", "Alexander"), dictionary.complete("a", 2));
+        assertEquals(4, dictionary.complete("", 10).size());
+    }
+
+    @Test
+    public void merge_addedAndRemovedTerms_keptSorted() {
+        PrefixDictionary merged = dictionary.merge(Set.of("Alexander", "Bernice Yu"), List.of("Alfred", "Bernice Yu",
+                "alex"));
+        assertEquals(List.of("alex", "Alex Yeoh", "Alfred", "alice", "Bernice Yu"), merged.complete("", 10));
+        // the dictionary merged from is unchanged
+        assertEquals(List.of("Alex Yeoh", "Alexander"), dictionary.complete("alex", 10));
+    }
+
+    @Test
+    public void complete_manyTerms_subMillisecondLookups() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            names.add("Candidate " + Integer.toString(i * 7919 % 100_000, 36));
+        }
+        PrefixDictionary large = PrefixDictionary.of(names);
+        assertEquals(100_000, large.size());
+
+        int lookups = 10_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            large.complete("candidate " + Integer.toString(i, 36), 8);
+        }
+        long nanosPerLookup = (System.nanoTime() - start) / lookups;
+        // Allows for a slow machine; a scan of every name would take far longer.
+        assertTrue(nanosPerLookup < 1_000_000, "lookup took " + nanosPerLookup + " ns");
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private static final String ALEXANDER = "Alexander";
+    private static final String ALEX = "Alex";
+    private static final String SANDRA = "Sandra";
+
+    private TrigramIndex<String> index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new TrigramIndex<>();
+        index.add(ALEXANDER, ALEXANDER);
+        index.add(ALEX, ALEX);
+        index.add(SANDRA, SANDRA);
+    }
+
+    @Test
+    public void isIndexable() {
+        assertFalse(TrigramIndex.isIndexable("ab"));
+        assertTrue(TrigramIndex.isIndexable("abc"));
+    }
+
+    @Test
+    public void candidates_tooShortQuery_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.candidates("al"));
+    }
+
+    @Test
+    public void candidates_ignoresCase() {
+        assertEquals(Set.of(ALEXANDER, ALEX), index.candidates("ALE"));
+        assertEquals(Set.of(ALEXANDER, SANDRA), index.candidates("and"));
+    }
+
+    @Test
+    public void candidates_missingTrigram_returnsEmptySet() {
+        assertTrue(index.candidates("xyz").isEmpty());
+    }
+
+    @Test
+    public void candidates_mayContainFalsePositives() {
+        TrigramIndex<String> anagrams = new TrigramIndex<>();
+        anagrams.add("abcXbcd", "abcXbcd");
+        // Every trigram of "abcd" occurs in the text, although "abcd" itself does not.
+        assertEquals(Set.of("abcXbcd"), anagrams.candidates("abcd"));
+    }
+
+    @Test
+    public void remove_itemNoLongerReturned() {
+        index.remove(ALEXANDER, ALEXANDER);
+        assertEquals(Set.of(ALEX), index.candidates("lex"));
+        assertEquals(Set.of(SANDRA), index.candidates("and"));
+    }
+}
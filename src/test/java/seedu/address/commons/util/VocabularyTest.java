@@ -0,0 +1,38 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class VocabularyTest {
+
+    private final Vocabulary vocabulary = new Vocabulary();
+
+    @Test
+    public void getDictionary_termUsedTwice_keptUntilBothUsesRemoved() {
+        vocabulary.add("friends");
+        vocabulary.add("friends");
+        vocabulary.add("owesMoney");
+        assertEquals(List.of("friends", "owesMoney"), vocabulary.getDictionary().complete("", 10));
+
+        vocabulary.remove("friends");
+        assertEquals(List.of("friends", "owesMoney"), vocabulary.getDictionary().complete("", 10));
+        vocabulary.remove("friends");
+        vocabulary.remove("colleagues");
+        assertEquals(List.of("owesMoney"), vocabulary.getDictionary().complete("", 10));
+    }
+
+    @Test
+    public void getDictionary_noTermAddedOrRemoved_sameDictionary() {
+        vocabulary.add("friends");
+        PrefixDictionary dictionary = vocabulary.getDictionary();
+        // removing and adding back a term within one change leaves the terms as they were
+        vocabulary.remove("friends");
+        vocabulary.add("friends");
+        vocabulary.add("friends");
+        assertSame(dictionary, vocabulary.getDictionary());
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandHistoryTest {
+
+    @Test
+    public void add_blankOrRepeated_notAdded() {
+        CommandHistory history = new CommandHistory(List::of);
+        assertTrue(history.add("list_c"));
+        assertFalse(history.add("list_c"));
+        assertFalse(history.add("  "));
+        assertTrue(history.add("list_p"));
+        assertTrue(history.add("list_c"));
+        assertEquals(3, history.size());
+        assertEquals("list_c", history.get(0));
+        assertEquals("list_c", history.get(2));
+    }
+
+    @Test
+    public void size_loadedOnceWhenFirstUsed() {
+        AtomicInteger loadCount = new AtomicInteger();
+        CommandHistory history = new CommandHistory(() -> {
+            loadCount.incrementAndGet();
+            return List.of("list_c", "", "list_p");
+        });
+        assertEquals(0, loadCount.get());
+
+        assertEquals(2, history.size());
+        history.add("list_i");
+        assertEquals("list_i", history.get(2));
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void search_wordPrefixes_latestMatchBefore() {
+        CommandHistory history = new CommandHistory(() -> List.of(
+                "find_c name=Alex Yeoh",
+                "add_i position=Cook date=22/10/2021",
+                "find_c name=Bernice",
+                "find_p title=Cook"));
+        assertEquals(3, history.search("cook", history.size()));
+        assertEquals(1, history.search("cook", 3));
+        assertEquals(CommandHistory.NOT_FOUND, history.search("cook", 1));
+
+        // every word must start a word of the command, in any order and case
+        assertEquals(0, history.search("YEO find_c", history.size()));
+        assertEquals(2, history.search("find_c name=", history.size()));
+        assertEquals(CommandHistory.NOT_FOUND, history.search("find_c cook", history.size()));
+        assertEquals(CommandHistory.NOT_FOUND, history.search("eoh", history.size()));
+        assertEquals(CommandHistory.NOT_FOUND, history.search(" ", history.size()));
+    }
+
+    @Test
+    public void search_manyCommands_fast() {
+        List<String> commands = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            commands.add("find_c name=Candidate" + i + " tag=t" + (i % 100));
+        }
+        CommandHistory history = new CommandHistory(() -> commands);
+        assertEquals(100_000, history.size());
+        assertEquals(99_999, history.search("find_c", history.size()));
+        assertEquals(12_300, history.search("candidate12300 t0", history.size()));
+
+        int searches = 1_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < searches; i++) {
+            history.search("name=candidate" + (i * 97) + " t", history.size());
+        }
+        long nanosPerSearch = (System.nanoTime() - start) / searches;
+        // Allows for a slow machine; a scan of every command would take far longer.
+        assertTrue(nanosPerSearch < 1_000_000, "search took " + nanosPerSearch + " ns");
+    }
+}
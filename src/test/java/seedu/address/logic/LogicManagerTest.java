@@ -13,6 +13,8 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +34,7 @@ import seedu.address.model.position.Title;
 import seedu.address.storage.JsonHrManagerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TextCommandHistoryStorage;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -50,7 +53,9 @@ public class LogicManagerTest {
                         temporaryFolder.resolve("HrManagerPositions.json"),
                         temporaryFolder.resolve("HrManagerInterViews.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(hrManagerStorage, userPrefsStorage);
+        TextCommandHistoryStorage commandHistoryStorage =
+                new TextCommandHistoryStorage(temporaryFolder.resolve("history.txt"));
+        StorageManager storage = new StorageManager(hrManagerStorage, userPrefsStorage, commandHistoryStorage);
         model.addPosition(new Position(new Title("HR Manager")));
         logic = new LogicManager(model, storage);
     }
@@ -73,6 +78,25 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCandidateCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void getLatestCommandText_afterExecute_commandText() throws Exception {
+        assertEquals("", logic.getLatestCommandText());
+        logic.execute(ListCandidateCommand.COMMAND_WORD);
+        assertEquals(ListCandidateCommand.COMMAND_WORD, logic.getLatestCommandText());
+    }
+
+    @Test
+    public void execute_anyCommand_addedToHistoryAndSaved() throws Exception {
+        logic.execute(ListCandidateCommand.COMMAND_WORD);
+        assertParseException("uicfhmowqewca", MESSAGE_UNKNOWN_COMMAND);
+
+        CommandHistory history = logic.getCommandHistory();
+        assertEquals(2, history.size());
+        assertEquals("uicfhmowqewca", history.get(1));
+        assertEquals(List.of(ListCandidateCommand.COMMAND_WORD, "uicfhmowqewca"),
+                new TextCommandHistoryStorage(temporaryFolder.resolve("history.txt")).readCommandHistory());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonHrManagerIoExceptionThrowingStub
@@ -82,7 +106,9 @@ public class LogicManagerTest {
                         temporaryFolder.resolve("ioExceptionHrManagerInterviews.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        TextCommandHistoryStorage commandHistoryStorage =
+                new TextCommandHistoryStorage(temporaryFolder.resolve("ioExceptionHistory.txt"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
         logic = new LogicManager(model, storage);
 
         // Execute add command
@@ -96,6 +122,23 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_interrupted_throwsCancellationExceptionAndRollsBack() {
+        String addCommand = AddCandidateCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + POSITION_HR_MANAGER;
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPosition(new Position(new Title("HR Manager")));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, () -> logic.execute(addCommand));
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals(expectedModel, model);
+        assertEquals(false, model.isInBatch());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -0,0 +1,77 @@
+package seedu.address.logic.candidate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.candidate.CommandTestUtil.assertCommandFailure;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.HrManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.person.FindCandidateCommandPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.InterviewBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BulkDeleteCandidateCommandTest {
+
+    private final Person amy = new PersonBuilder().withName("Amy Lee").withEmail("amy@example.com")
+            .withStatus("Rejected").build();
+    private final Person bob = new PersonBuilder().withName("Bob Lee").withEmail("bob@example.com")
+            .withStatus("Applied").build();
+    private final Person carl = new PersonBuilder().withName("Carl Tan").withEmail("carl@example.com")
+            .withStatus("Rejected").build();
+
+    @Test
+    public void execute_matchingPersons_deletedFromModelAndInterviews() throws Exception {
+        Interview interview = new InterviewBuilder().withCandidates(new HashSet<>(Arrays.asList(amy, bob))).build();
+        Model model = createModel(interview);
+
+        String feedback = new BulkDeleteCandidateCommand(predicateOf("rejected")).execute(model).getFeedbackToUser();
+
+        assertEquals(String.format(BulkDeleteCandidateCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 2, "Amy Lee, Carl Tan"),
+                feedback);
+        assertEquals(List.of(bob), model.getHrManager().getPersonList());
+        assertEquals(Set.of(bob), interview.getCandidates());
+    }
+
+    @Test
+    public void execute_noMatchingPersons_throwsCommandException() {
+        Model model = createModel(new InterviewBuilder().build());
+        assertCommandFailure(new BulkDeleteCandidateCommand(predicateOf("withdrawn")), model,
+                BulkDeleteCandidateCommand.MESSAGE_NO_MATCHING_PERSONS);
+    }
+
+    @Test
+    public void equals() {
+        BulkDeleteCandidateCommand command = new BulkDeleteCandidateCommand(predicateOf("rejected"));
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new BulkDeleteCandidateCommand(predicateOf("rejected"))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new BulkDeleteCandidateCommand(predicateOf("applied"))));
+    }
+
+    private Model createModel(Interview interview) {
+        HrManager hrManager = new HrManager();
+        hrManager.addPerson(amy);
+        hrManager.addPerson(bob);
+        hrManager.addPerson(carl);
+        hrManager.addInterview(interview);
+        return new ModelManager(hrManager, new UserPrefs());
+    }
+
+    private static FindCandidateCommandPredicate predicateOf(String status) {
+        FindCandidateCommandPredicate predicate = new FindCandidateCommandPredicate();
+        predicate.setStatusKeywords(List.of(status));
+        return predicate;
+    }
+}
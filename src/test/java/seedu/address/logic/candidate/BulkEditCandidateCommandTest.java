@@ -0,0 +1,93 @@
+package seedu.address.logic.candidate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.candidate.CommandTestUtil.assertCommandFailure;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.candidate.EditCandidateCommand.EditPersonDescriptor;
+import seedu.address.model.HrManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.person.FindCandidateCommandPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Status;
+import seedu.address.model.position.Position;
+import seedu.address.model.position.Title;
+import seedu.address.testutil.EditPersonDescriptorBuilder;
+import seedu.address.testutil.InterviewBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BulkEditCandidateCommandTest {
+
+    private final Position accountant = new Position(new Title("Accountant"));
+    private final Position clerk = new Position(new Title("Clerk"));
+    private final Person amy = new PersonBuilder().withName("Amy Lee").withEmail("amy@example.com")
+            .withPositions("Accountant", "Clerk").build();
+    private final Person bob = new PersonBuilder().withName("Bob Tan").withEmail("bob@example.com")
+            .withPositions("Clerk").build();
+    private final Interview clerkInterview = new InterviewBuilder().withPosition(clerk)
+            .withCandidates(Set.of(amy)).build();
+
+    @Test
+    public void execute_matchingPersons_editedAndRelinked() throws Exception {
+        Model model = createModel();
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withTags("shortlisted")
+                .withPositions("Accountant").build();
+
+        String feedback = new BulkEditCandidateCommand(predicateOf("Clerk"), descriptor).execute(model)
+                .getFeedbackToUser();
+
+        assertEquals(String.format(BulkEditCandidateCommand.MESSAGE_EDIT_PERSONS_SUCCESS, 2, "Amy Lee, Bob Tan"),
+                feedback);
+        List<Person> persons = model.getHrManager().getPersonList();
+        assertTrue(persons.stream().allMatch(person -> person.getTagsString().contains("shortlisted")
+                && person.getPositions().equals(Set.of(accountant))));
+        // Amy no longer applies to be a clerk, so she leaves the clerk interview
+        assertTrue(clerkInterview.getCandidates().isEmpty());
+        assertTrue(persons.get(0).getInterviews().isEmpty());
+    }
+
+    @Test
+    public void execute_appliedStatusForScheduledPerson_throwsCommandException() {
+        Model model = createModel();
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withStatus(Status.APPLIED).build();
+
+        assertCommandFailure(new BulkEditCandidateCommand(predicateOf("Clerk"), descriptor), model,
+                String.format(EditCandidateCommand.MESSAGE_ILLEGAL_PERSON_STATUS, amy.getName()));
+    }
+
+    @Test
+    public void equals() {
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withTags("shortlisted").build();
+        BulkEditCandidateCommand command = new BulkEditCandidateCommand(predicateOf("Clerk"), descriptor);
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new BulkEditCandidateCommand(predicateOf("Clerk"), descriptor)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new BulkEditCandidateCommand(predicateOf("Accountant"), descriptor)));
+    }
+
+    private Model createModel() {
+        HrManager hrManager = new HrManager();
+        hrManager.addPosition(accountant);
+        hrManager.addPosition(clerk);
+        amy.addInterview(clerkInterview);
+        hrManager.addPerson(amy);
+        hrManager.addPerson(bob);
+        hrManager.addInterview(clerkInterview);
+        return new ModelManager(hrManager, new UserPrefs());
+    }
+
+    private static FindCandidateCommandPredicate predicateOf(String position) {
+        FindCandidateCommandPredicate predicate = new FindCandidateCommandPredicate();
+        predicate.setPositionKeywords(List.of(position));
+        return predicate;
+    }
+}
@@ -4,9 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalHrManager;
 
 import java.util.ArrayList;
@@ -23,6 +27,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.FindCandidateCommandPredicate;
+import seedu.address.model.person.MatchMode;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -89,6 +96,71 @@ public class FindCandidateCommandTest {
         assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
     }
 
+    @Test
+    public void execute_phoneticMatch_similarSoundingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindCandidateCommandPredicate predicate = preparePredicate("Mayer");
+        predicate.setMatchMode(MatchMode.PHONETIC);
+        Command command = new FindCandidateCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), expectedModel.getFilteredPersonList());
+
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage,
+                CommandResult.CommandType.FIND_C);
+
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_phoneticMatchThenEdit_filterFollowsIndex() throws Exception {
+        FindCandidateCommandPredicate predicate = preparePredicate("Meier");
+        predicate.setMatchMode(MatchMode.PHONETIC);
+        new FindCandidateCommand(predicate).execute(model);
+
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carl Meyer").build();
+        model.setPerson(CARL, renamedCarl);
+        assertEquals(Arrays.asList(BENSON, renamedCarl, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_substringMatch_partialNamesFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindCandidateCommandPredicate predicate = preparePredicate("MEI");
+        predicate.setMatchMode(MatchMode.SUBSTRING);
+        Command command = new FindCandidateCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(BENSON, DANIEL), expectedModel.getFilteredPersonList());
+
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage,
+                CommandResult.CommandType.FIND_C);
+
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_substringMatchOnPhone_partialPhonesFound() throws Exception {
+        FindCandidateCommandPredicate predicate = new FindCandidateCommandPredicate();
+        predicate.setPhoneKeywords(Arrays.asList("948"));
+        predicate.setMatchMode(MatchMode.SUBSTRING);
+        new FindCandidateCommand(predicate).execute(model);
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+
+        // keywords too short for the trigram index are still matched
+        FindCandidateCommandPredicate shortPredicate = new FindCandidateCommandPredicate();
+        shortPredicate.setPhoneKeywords(Arrays.asList("53"));
+        shortPredicate.setMatchMode(MatchMode.SUBSTRING);
+        new FindCandidateCommand(shortPredicate).execute(model);
+        assertEquals(Arrays.asList(ALICE, CARL, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals_differentMatchMode_returnsFalse() {
+        FindCandidateCommandPredicate phoneticPredicate = preparePredicate("first");
+        phoneticPredicate.setMatchMode(MatchMode.PHONETIC);
+        assertFalse(new FindCandidateCommand(preparePredicate("first"))
+                .equals(new FindCandidateCommand(phoneticPredicate)));
+    }
 
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
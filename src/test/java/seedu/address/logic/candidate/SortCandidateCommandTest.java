@@ -0,0 +1,71 @@
+package seedu.address.logic.candidate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.candidate.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalHrManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.SortOrder;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonNameComparator;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortCandidateCommand}.
+ */
+public class SortCandidateCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalHrManager(), new UserPrefs());
+        expectedModel = new ModelManager(model.getHrManager(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_ascending_sortsByName() {
+        expectedModel.updateSortedPersonList(new PersonNameComparator());
+        CommandResult expectedResult = new CommandResult(
+                String.format(SortCandidateCommand.MESSAGE_SUCCESS, SortOrder.ASC), CommandResult.CommandType.GENERAL);
+        assertCommandSuccess(new SortCandidateCommand(SortOrder.ASC), model, expectedResult, expectedModel);
+        assertEquals(ALICE, model.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void execute_descending_sortsByNameReversed() {
+        expectedModel.updateSortedPersonList(new PersonNameComparator().reversed());
+        CommandResult expectedResult = new CommandResult(
+                String.format(SortCandidateCommand.MESSAGE_SUCCESS, SortOrder.DESC), CommandResult.CommandType.GENERAL);
+        assertCommandSuccess(new SortCandidateCommand(SortOrder.DESC), model, expectedResult, expectedModel);
+        assertEquals(GEORGE, model.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void execute_none_restoresInsertionOrder() {
+        model.updateSortedPersonList(new PersonNameComparator().reversed());
+        CommandResult expectedResult = new CommandResult(SortCandidateCommand.MESSAGE_SUCCESS_UNSORTED,
+                CommandResult.CommandType.GENERAL);
+        assertCommandSuccess(new SortCandidateCommand(SortOrder.NONE), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SortCandidateCommand ascCommand = new SortCandidateCommand(SortOrder.ASC);
+
+        assertTrue(ascCommand.equals(ascCommand));
+        assertTrue(ascCommand.equals(new SortCandidateCommand(SortOrder.ASC)));
+        assertFalse(ascCommand.equals(new SortCandidateCommand(SortOrder.DESC)));
+        assertFalse(ascCommand.equals(null));
+        assertFalse(ascCommand.equals(1));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.general;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.general.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalHrManager;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.ListType;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class NextPageCommandTest {
+
+    private final Model model = new ModelManager(getTypicalHrManager(), userPrefsWithPageSize());
+    private final Model expectedModel = new ModelManager(getTypicalHrManager(), userPrefsWithPageSize());
+
+    @Test
+    public void execute_hasNextPage_showsNextPage() {
+        model.getPagedPersonList().setPageIndex(0);
+        String expectedMessage = String.format(PageCommand.MESSAGE_SUCCESS, ListType.CANDIDATES, 4, 6, 7, 2, 3);
+        assertCommandSuccess(new NextPageCommand(ListType.CANDIDATES), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noNextPage_throwsCommandException() {
+        model.getPagedPersonList().setPageIndex(2);
+        assertThrows(CommandException.class, String.format(NextPageCommand.MESSAGE_NO_NEXT_PAGE,
+                ListType.CANDIDATES), () -> new NextPageCommand(ListType.CANDIDATES).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        NextPageCommand candidatesCommand = new NextPageCommand(ListType.CANDIDATES);
+
+        // same object -> returns true
+        assertTrue(candidatesCommand.equals(candidatesCommand));
+
+        // same values -> returns true
+        assertTrue(candidatesCommand.equals(new NextPageCommand(ListType.CANDIDATES)));
+
+        // different types -> returns false
+        assertFalse(candidatesCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(candidatesCommand.equals(null));
+
+        // different list -> returns false
+        assertFalse(candidatesCommand.equals(new NextPageCommand(ListType.POSITIONS)));
+    }
+
+    private static UserPrefs userPrefsWithPageSize() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setPageSize(3);
+        return userPrefs;
+    }
+}
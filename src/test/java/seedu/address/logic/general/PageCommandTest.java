@@ -0,0 +1,91 @@
+package seedu.address.logic.general;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.general.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalHrManager;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.ListType;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+public class PageCommandTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    private final Model model = new ModelManager(getTypicalHrManager(), userPrefsWithPageSize());
+    private final Model expectedModel = new ModelManager(getTypicalHrManager(), userPrefsWithPageSize());
+
+    @Test
+    public void execute_validPage_showsPage() {
+        String expectedMessage = String.format(PageCommand.MESSAGE_SUCCESS, ListType.CANDIDATES, 4, 6, 7, 2, 3);
+        assertCommandSuccess(new PageCommand(ListType.CANDIDATES, Index.fromOneBased(2)), model, expectedMessage,
+                expectedModel);
+
+        // the page shows the persons that follow the first page in the whole list
+        Person firstInPage = model.getPagedPersonList().getPage().get(0);
+        assertEquals(model.getFilteredPersonList().get(PAGE_SIZE), firstInPage);
+    }
+
+    @Test
+    public void execute_lastPage_showsRemainingItems() {
+        String expectedMessage = String.format(PageCommand.MESSAGE_SUCCESS, ListType.CANDIDATES, 7, 7, 7, 3, 3);
+        assertCommandSuccess(new PageCommand(ListType.CANDIDATES, Index.fromOneBased(3)), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_pageOutOfRange_throwsCommandException() {
+        PageCommand pageCommand = new PageCommand(ListType.POSITIONS, Index.fromOneBased(3));
+        int pageCount = model.getPagedPositionList().getPageCount();
+        assertThrows(CommandException.class, String.format(PageCommand.MESSAGE_INVALID_PAGE, ListType.POSITIONS,
+                pageCount), () -> pageCommand.execute(model));
+    }
+
+    @Test
+    public void execute_filterChanged_returnsToFirstPage() throws Exception {
+        new PageCommand(ListType.CANDIDATES, Index.fromOneBased(2)).execute(model);
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(0, model.getPagedPersonList().getPageIndex());
+    }
+
+    @Test
+    public void equals() {
+        PageCommand firstPageCommand = new PageCommand(ListType.CANDIDATES, INDEX_FIRST_PERSON);
+        PageCommand secondPageCommand = new PageCommand(ListType.CANDIDATES, INDEX_SECOND_PERSON);
+
+        // same object -> returns true
+        assertTrue(firstPageCommand.equals(firstPageCommand));
+
+        // same values -> returns true
+        assertTrue(firstPageCommand.equals(new PageCommand(ListType.CANDIDATES, INDEX_FIRST_PERSON)));
+
+        // different types -> returns false
+        assertFalse(firstPageCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPageCommand.equals(null));
+
+        // different page -> returns false
+        assertFalse(firstPageCommand.equals(secondPageCommand));
+
+        // different list -> returns false
+        assertFalse(firstPageCommand.equals(new PageCommand(ListType.INTERVIEWS, INDEX_FIRST_PERSON)));
+    }
+
+    private static UserPrefs userPrefsWithPageSize() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setPageSize(PAGE_SIZE);
+        return userPrefs;
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.general;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.general.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalHrManager;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.ListType;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class PreviousPageCommandTest {
+
+    private final Model model = new ModelManager(getTypicalHrManager(), userPrefsWithPageSize());
+    private final Model expectedModel = new ModelManager(getTypicalHrManager(), userPrefsWithPageSize());
+
+    @Test
+    public void execute_hasPreviousPage_showsPreviousPage() {
+        model.getPagedPersonList().setPageIndex(2);
+        String expectedMessage = String.format(PageCommand.MESSAGE_SUCCESS, ListType.CANDIDATES, 4, 6, 7, 2, 3);
+        assertCommandSuccess(new PreviousPageCommand(ListType.CANDIDATES), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noPreviousPage_throwsCommandException() {
+        model.getPagedPersonList().setPageIndex(0);
+        assertThrows(CommandException.class, String.format(PreviousPageCommand.MESSAGE_NO_PREVIOUS_PAGE,
+                ListType.CANDIDATES), () -> new PreviousPageCommand(ListType.CANDIDATES).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        PreviousPageCommand candidatesCommand = new PreviousPageCommand(ListType.CANDIDATES);
+
+        // same object -> returns true
+        assertTrue(candidatesCommand.equals(candidatesCommand));
+
+        // same values -> returns true
+        assertTrue(candidatesCommand.equals(new PreviousPageCommand(ListType.CANDIDATES)));
+
+        // different types -> returns false
+        assertFalse(candidatesCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(candidatesCommand.equals(null));
+
+        // different list -> returns false
+        assertFalse(candidatesCommand.equals(new PreviousPageCommand(ListType.POSITIONS)));
+    }
+
+    private static UserPrefs userPrefsWithPageSize() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setPageSize(3);
+        return userPrefs;
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.general;
+
+import static seedu.address.logic.general.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalHrManager;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalHrManager(), new UserPrefs());
+
+    @Test
+    public void execute_afterUndo_success() {
+        model.beginBatch();
+        model.deletePerson(ALICE);
+        model.commit();
+        model.undo();
+        Model expectedModel = new ModelManager(getTypicalHrManager(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() {
+        model.beginBatch();
+        model.deletePerson(ALICE);
+        model.commit();
+
+        assertThrows(CommandException.class, RedoCommand.MESSAGE_NOTHING_TO_REDO, () ->
+                new RedoCommand().execute(model));
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.logic.general;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalHrManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.HrManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.position.Position;
+import seedu.address.model.position.Title;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalHrManager(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_runsAllCommands() throws Exception {
+        Path script = writeScript("# positions for the spring drive",
+                "add_p title=Receptionist",
+                "",
+                "add_p title=Driver",
+                "delete_p 1");
+
+        CommandResult result = new RunCommand(script).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format("Ran %d command(s) from %s", 3, script)));
+        assertTrue(model.hasPosition(new Position(new Title("Receptionist"))));
+        assertTrue(model.hasPosition(new Position(new Title("Driver"))));
+        assertFalse(model.isInBatch());
+    }
+
+    @Test
+    public void execute_failingLines_noChangesMade() throws Exception {
+        Path script = writeScript("add_p title=Receptionist",
+                "delete_c 100",
+                "unknown_command");
+        HrManager expectedHrManager = new HrManager(model.getHrManager());
+
+        String message = getFailureMessage(new RunCommand(script));
+
+        assertTrue(message.startsWith(String.format(RunCommand.MESSAGE_SCRIPT_FAILED, 2, 3, script, "")));
+        assertTrue(message.contains("Line 2: "));
+        assertTrue(message.contains("Line 3: "));
+        assertEquals(expectedHrManager, new HrManager(model.getHrManager()));
+        assertFalse(model.isInBatch());
+    }
+
+    @Test
+    public void execute_nestedRun_fails() throws Exception {
+        Path script = writeScript("run other.txt");
+        assertTrue(getFailureMessage(new RunCommand(script)).contains(String.format(RunCommand.MESSAGE_LINE_FAILED, 1,
+                RunCommand.MESSAGE_NESTED_RUN)));
+    }
+
+    @Test
+    public void execute_undoInScript_fails() throws Exception {
+        Path script = writeScript("add_p title=Receptionist", "undo");
+        assertTrue(getFailureMessage(new RunCommand(script)).contains(String.format(RunCommand.MESSAGE_LINE_FAILED, 2,
+                RunCommand.MESSAGE_HISTORY_IN_SCRIPT)));
+        assertFalse(model.hasPosition(new Position(new Title("Receptionist"))));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        RunCommand runCommand = new RunCommand(temporaryFolder.resolve("missing.txt"));
+        assertThrows(CommandException.class, () -> runCommand.execute(model));
+        assertFalse(model.isInBatch());
+    }
+
+    @Test
+    public void execute_lineThrowsRuntimeException_reportedAndNoChangesMade() throws Exception {
+        Path script = writeScript("add_p title=Receptionist",
+                "add_p title=Driver",
+                "delete_c 100");
+        Model failingModel = new ModelManager(getTypicalHrManager(), new UserPrefs()) {
+            @Override
+            public void addPosition(Position position) {
+                if (position.getTitle().fullTitle.equals("Driver")) {
+                    throw new IllegalStateException("failed");
+                }
+                super.addPosition(position);
+            }
+        };
+        HrManager expectedHrManager = new HrManager(failingModel.getHrManager());
+
+        String message = getFailureMessage(new RunCommand(script), failingModel);
+
+        assertTrue(message.startsWith(String.format(RunCommand.MESSAGE_SCRIPT_FAILED, 2, 3, script, "")));
+        assertTrue(message.contains(String.format(RunCommand.MESSAGE_LINE_FAILED, 2,
+                new IllegalStateException("failed"))));
+        assertTrue(message.contains("Line 3: "));
+        assertEquals(expectedHrManager, new HrManager(failingModel.getHrManager()));
+        assertFalse(failingModel.isInBatch());
+    }
+
+    @Test
+    public void execute_lineThrowsError_batchRolledBack() throws Exception {
+        Path script = writeScript("add_p title=Receptionist");
+        Model failingModel = new ModelManager(getTypicalHrManager(), new UserPrefs()) {
+            @Override
+            public void addPosition(Position position) {
+                throw new AssertionError("failed");
+            }
+        };
+
+        assertThrows(AssertionError.class, () -> new RunCommand(script).execute(failingModel));
+        assertFalse(failingModel.isInBatch());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Path.of("a.txt"));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Path.of("a.txt"))));
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Path.of("b.txt"))));
+    }
+
+    private String getFailureMessage(RunCommand runCommand) {
+        return getFailureMessage(runCommand, model);
+    }
+
+    private String getFailureMessage(RunCommand runCommand, Model model) {
+        try {
+            runCommand.execute(model);
+        } catch (CommandException ce) {
+            return ce.getMessage();
+        }
+        throw new AssertionError("Execution of command should fail.");
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(lines));
+        return script;
+    }
+}
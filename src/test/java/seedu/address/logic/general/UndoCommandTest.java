@@ -0,0 +1,34 @@
+package seedu.address.logic.general;
+
+import static seedu.address.logic.general.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalHrManager;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalHrManager(), new UserPrefs());
+
+    @Test
+    public void execute_afterChange_success() {
+        model.beginBatch();
+        model.deletePerson(ALICE);
+        model.commit();
+        Model expectedModel = new ModelManager(getTypicalHrManager(), new UserPrefs());
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_noChange_throwsCommandException() {
+        assertThrows(CommandException.class, UndoCommand.MESSAGE_NOTHING_TO_UNDO, () ->
+                new UndoCommand().execute(model));
+    }
+}
@@ -326,6 +326,11 @@ class AddInterviewCommandTest {
             interviewsAdded.add(interview);
         }
 
+        @Override
+        public void addInterviewToPerson(Person person, Interview interview) {
+            person.addInterview(interview);
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             return personsList;
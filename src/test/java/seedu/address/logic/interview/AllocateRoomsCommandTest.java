@@ -0,0 +1,102 @@
+package seedu.address.logic.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.HrManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Room;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.InterviewBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPositions;
+
+public class AllocateRoomsCommandTest {
+
+    private static final LocalDate DAY = LocalDate.of(2021, 10, 15);
+    private static final Room ROOM_B = new Room("Room B");
+
+    @Test
+    public void execute_interviewsWithoutRooms_roomsGiven() {
+        Person amy = new PersonBuilder().withName("Amy").withEmail("amy@example.com").build();
+        Interview booked = interviewAt(LocalTime.of(9, 0)).withRoom("Room A").build();
+        Interview unbooked = interviewAt(LocalTime.of(9, 30)).withCandidates(Set.of(amy)).build();
+        Interview clashing = interviewAt(LocalTime.of(9, 30)).withPosition(TypicalPositions.ADMIN_ASSISTANT).build();
+        Interview outOfRange = interviewAt(LocalTime.of(9, 0)).withDate(DAY.plusDays(1)).build();
+        amy.addInterview(unbooked);
+        HrManager hrManager = new HrManager();
+        hrManager.addPerson(amy);
+        hrManager.addInterview(booked);
+        hrManager.addInterview(unbooked);
+        hrManager.addInterview(clashing);
+        hrManager.addInterview(outOfRange);
+        Model model = new ModelManager(hrManager, new UserPrefs());
+
+        CommandResult result = new AllocateRoomsCommand(DAY, DAY, Set.of(ROOM_B)).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(AllocateRoomsCommand.MESSAGE_SUCCESS, 1, 2,
+                3)));
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(AllocateRoomsCommand.MESSAGE_UNALLOCATED,
+                clashing.getDisplayStringWithoutNames())));
+        assertEquals(Optional.of(ROOM_B), model.getHrManager().getInterviewList().get(1).getRoom());
+        assertTrue(model.getHrManager().getInterviewList().get(3).getRoom().isEmpty());
+        assertTrue(amy.getInterviews().stream().allMatch(interview -> interview.getRoom().isPresent()));
+    }
+
+    @Test
+    public void execute_overbookedRoom_reported() {
+        HrManager hrManager = new HrManager();
+        hrManager.addInterview(interviewAt(LocalTime.of(9, 0)).withRoom("Room A").build());
+        Interview overbooked = interviewAt(LocalTime.of(9, 45)).withRoom("Room A")
+                .withPosition(TypicalPositions.ADMIN_ASSISTANT).build();
+        hrManager.addInterview(overbooked);
+        Model model = new ModelManager(hrManager, new UserPrefs());
+
+        assertTrue(new AllocateRoomsCommand(DAY, DAY, Set.of()).execute(model).getFeedbackToUser().endsWith(
+                String.format(AllocateRoomsCommand.MESSAGE_OVERBOOKED, overbooked.getDisplayStringWithoutNames())));
+    }
+
+    @Test
+    public void execute_roomBookedInAddInterview_throwsCommandException() {
+        HrManager hrManager = new HrManager();
+        hrManager.addPosition(TypicalPositions.HR_MANAGER);
+        hrManager.addInterview(interviewAt(LocalTime.of(9, 0)).withRoom("Room A").withInterviewers("Alice").build());
+        Model model = new ModelManager(hrManager, new UserPrefs());
+
+        Interview sameRoom = interviewAt(LocalTime.of(9, 30)).withRoom("Room A")
+                .withPosition(TypicalPositions.HR_MANAGER).build();
+        assertThrows(CommandException.class, () -> new AddInterviewCommand(sameRoom, Set.of()).execute(model));
+        Interview sameInterviewer = interviewAt(LocalTime.of(9, 30)).withInterviewers("Alice")
+                .withPosition(TypicalPositions.HR_MANAGER).build();
+        assertThrows(CommandException.class, () -> new AddInterviewCommand(sameInterviewer, Set.of())
+                .execute(model));
+    }
+
+    @Test
+    public void equals() {
+        AllocateRoomsCommand command = new AllocateRoomsCommand(DAY, DAY, Set.of(ROOM_B));
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new AllocateRoomsCommand(DAY, DAY, Set.of(ROOM_B))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new AllocateRoomsCommand(DAY, DAY, Set.of())));
+    }
+
+    private static InterviewBuilder interviewAt(LocalTime startTime) {
+        return new InterviewBuilder().withDate(DAY).withStartTime(startTime).withDuration(Duration.ofHours(1));
+    }
+}
@@ -1,5 +1,9 @@
 package seedu.address.logic.interview;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.interview.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.interview.CommandTestUtil.assertCommandFailureRepeatedAssign;
 import static seedu.address.logic.interview.CommandTestUtil.assertCommandSuccess;
@@ -72,12 +76,38 @@ public class AssignInterviewCommandTest {
         CommandResult expectedCommandResult = new CommandResult(expectedMessage, CommandResult.CommandType.INTERVIEW);
 
         Model expectedModel = new ModelManager(new HrManager(model.getHrManager()), new UserPrefs());
+        expectedModel.setInterview(model.getFilteredInterviewList().get(INDEX_FIRST_INTERVIEW.getZeroBased()),
+                assignedInterview);
         assertCommandSuccess(assignInterviewCommand, model, expectedCommandResult, expectedModel);
 
         alice.deleteInterview(assignedInterview);
         assignedInterview.deleteCandidate(alice);
     }
 
+    @Test
+    public void execute_thenUndo_linksRestoredBothWays() throws Exception {
+        Interview interview = model.getFilteredInterviewList().get(INDEX_FIRST_INTERVIEW.getZeroBased());
+        Person alice = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Set<Person> originalCandidates = new HashSet<>(interview.getCandidates());
+        Set<Interview> originalInterviews = new HashSet<>(alice.getInterviews());
+
+        model.beginBatch();
+        new AssignInterviewCommand(INDEX_FIRST_INTERVIEW, Set.of(INDEX_FIRST_PERSON)).execute(model);
+        model.commit();
+        Interview assignedInterview = model.getFilteredInterviewList().get(INDEX_FIRST_INTERVIEW.getZeroBased());
+        assertTrue(assignedInterview.getCandidates().contains(alice));
+        assertTrue(alice.hasInterview(assignedInterview));
+        // the interview that undo puts back is left as it was
+        assertEquals(originalCandidates, interview.getCandidates());
+
+        assertTrue(model.undo());
+        Interview restoredInterview = model.getFilteredInterviewList().get(INDEX_FIRST_INTERVIEW.getZeroBased());
+        assertSame(interview, restoredInterview);
+        assertEquals(originalCandidates, restoredInterview.getCandidates());
+        assertFalse(restoredInterview.getCandidates().contains(alice));
+        assertEquals(originalInterviews, new HashSet<>(alice.getInterviews()));
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Set<Index> indexes = new HashSet<>();
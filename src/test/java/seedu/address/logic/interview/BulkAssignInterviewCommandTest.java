@@ -0,0 +1,210 @@
+package seedu.address.logic.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.interview.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.HrManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+import seedu.address.model.position.Title;
+import seedu.address.testutil.InterviewBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BulkAssignInterviewCommandTest {
+
+    private Model model;
+    private Person amy;
+    private Person bob;
+    private Person carl;
+    private Interview accountantInterview;
+    private Interview bookkeeperInterview;
+    private Interview clashingInterview;
+
+    @BeforeEach
+    public void setUp() {
+        amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com")
+                .withPositions("Accountant", "Bookkeeper").build();
+        bob = new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com")
+                .withPositions("Accountant", "Bookkeeper").build();
+        carl = new PersonBuilder().withName("Carl Kurz").withEmail("carl@example.com")
+                .withPositions("HR Manager").build();
+        accountantInterview = interview("Accountant", LocalTime.of(14, 0));
+        bookkeeperInterview = interview("Bookkeeper", LocalTime.of(16, 0));
+        clashingInterview = interview("Bookkeeper", LocalTime.of(14, 30));
+
+        HrManager hrManager = new HrManager();
+        hrManager.addPerson(amy);
+        hrManager.addPerson(bob);
+        hrManager.addPerson(carl);
+        hrManager.addInterview(accountantInterview);
+        hrManager.addInterview(bookkeeperInterview);
+        hrManager.addInterview(clashingInterview);
+        model = new ModelManager(hrManager, new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullIndexes_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BulkAssignInterviewCommand(null, new HashSet<>()));
+        assertThrows(NullPointerException.class, () -> new BulkAssignInterviewCommand(new HashSet<>(), null));
+    }
+
+    @Test
+    public void execute_everyCandidateToEveryInterview_success() throws Exception {
+        BulkAssignInterviewCommand command = new BulkAssignInterviewCommand(
+                indexesOf(accountantInterview, bookkeeperInterview), indexesOf(amy, bob));
+
+        String feedback = command.execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(BulkAssignInterviewCommand.MESSAGE_SUCCESS, 2, "")));
+        for (Interview interview : new Interview[] {accountantInterview, bookkeeperInterview}) {
+            assertEquals(Set.of(amy, bob), interview.getCandidates());
+            assertTrue(amy.hasInterview(interview));
+            assertTrue(bob.hasInterview(interview));
+        }
+    }
+
+    @Test
+    public void execute_everyCandidateToEveryInterview_candidatesSetOncePerInterviewAndUndone() throws Exception {
+        int[] setCount = {0};
+        Model countingModel = new ModelManager(model.getHrManager(), new UserPrefs()) {
+            @Override
+            public void setInterviewCandidates(Interview interview, Set<Person> candidates) {
+                setCount[0]++;
+                super.setInterviewCandidates(interview, candidates);
+            }
+        };
+        BulkAssignInterviewCommand command = new BulkAssignInterviewCommand(
+                indexesOf(accountantInterview, bookkeeperInterview), indexesOf(amy, bob));
+
+        countingModel.beginBatch();
+        command.execute(countingModel);
+        countingModel.commit();
+        assertEquals(2, setCount[0]);
+
+        assertTrue(countingModel.undo());
+        for (Interview interview : new Interview[] {accountantInterview, bookkeeperInterview}) {
+            assertTrue(interview.getCandidates().isEmpty());
+            assertFalse(amy.hasInterview(interview));
+            assertFalse(bob.hasInterview(interview));
+        }
+    }
+
+    @Test
+    public void execute_candidateDidNotApply_assignsNoOne() {
+        BulkAssignInterviewCommand command = new BulkAssignInterviewCommand(
+                indexesOf(accountantInterview, bookkeeperInterview), indexesOf(amy, carl));
+
+        assertCommandFailure(command, model, String.format(AssignInterviewCommand.MESSAGE_CANDIDATE_DID_NOT_APPLY,
+                3, carl.getName(), accountantInterview.getPositionTitle()));
+        assertNoOneAssigned();
+    }
+
+    @Test
+    public void execute_candidateAlreadyAssigned_assignsNoOne() {
+        model.addCandidateToInterview(bookkeeperInterview, bob);
+        model.addInterviewToPerson(bob, bookkeeperInterview);
+        BulkAssignInterviewCommand command = new BulkAssignInterviewCommand(
+                indexesOf(accountantInterview, bookkeeperInterview), indexesOf(amy, bob));
+
+        assertCommandFailure(command, model, String.format(AssignInterviewCommand.MESSAGE_CANDIDATE_HAS_INTERVIEW,
+                2, bob.getName(), bookkeeperInterview.getDisplayStringWithoutNames()));
+        assertTrue(accountantInterview.getCandidates().isEmpty());
+        assertFalse(bookkeeperInterview.hasCandidate(amy));
+    }
+
+    @Test
+    public void execute_interviewsOverlapEachOther_assignsNoOne() {
+        BulkAssignInterviewCommand command = new BulkAssignInterviewCommand(
+                indexesOf(accountantInterview, clashingInterview), indexesOf(amy));
+
+        assertCommandFailure(command, model, String.format(AssignInterviewCommand.MESSAGE_CANDIDATE_IS_NOT_VACANT,
+                amy.getName()));
+        assertNoOneAssigned();
+    }
+
+    @Test
+    public void execute_candidateBusyDuringInterview_assignsNoOne() {
+        model.addCandidateToInterview(clashingInterview, amy);
+        model.addInterviewToPerson(amy, clashingInterview);
+        BulkAssignInterviewCommand command = new BulkAssignInterviewCommand(
+                indexesOf(accountantInterview, bookkeeperInterview), indexesOf(amy));
+
+        assertCommandFailure(command, model, String.format(AssignInterviewCommand.MESSAGE_CANDIDATE_IS_NOT_VACANT,
+                amy.getName()));
+        assertTrue(accountantInterview.getCandidates().isEmpty());
+        assertTrue(bookkeeperInterview.getCandidates().isEmpty());
+        assertEquals(Set.of(clashingInterview), amy.getInterviews());
+    }
+
+    @Test
+    public void execute_invalidInterviewIndex_throwsCommandException() {
+        Set<Index> interviewIndexes = indexesOf(accountantInterview);
+        interviewIndexes.add(Index.fromOneBased(model.getFilteredInterviewList().size() + 1));
+
+        assertCommandFailure(new BulkAssignInterviewCommand(interviewIndexes, indexesOf(amy)), model,
+                Messages.MESSAGE_INVALID_INTERVIEW_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        BulkAssignInterviewCommand command = new BulkAssignInterviewCommand(
+                indexesOf(accountantInterview, bookkeeperInterview), indexesOf(amy));
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new BulkAssignInterviewCommand(
+                indexesOf(bookkeeperInterview, accountantInterview), indexesOf(amy))));
+        assertFalse(command.equals(new BulkAssignInterviewCommand(
+                indexesOf(accountantInterview, bookkeeperInterview), indexesOf(bob))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+    }
+
+    private void assertNoOneAssigned() {
+        for (Interview interview : model.getFilteredInterviewList()) {
+            assertTrue(interview.getCandidates().isEmpty());
+        }
+        for (Person person : model.getFilteredPersonList()) {
+            assertTrue(person.getInterviews().isEmpty());
+        }
+    }
+
+    private Set<Index> indexesOf(Interview... interviews) {
+        Set<Index> indexes = new HashSet<>();
+        for (Interview interview : interviews) {
+            indexes.add(Index.fromZeroBased(model.getFilteredInterviewList().indexOf(interview)));
+        }
+        return indexes;
+    }
+
+    private Set<Index> indexesOf(Person... persons) {
+        Set<Index> indexes = new HashSet<>();
+        for (Person person : persons) {
+            indexes.add(Index.fromZeroBased(model.getFilteredPersonList().indexOf(person)));
+        }
+        return indexes;
+    }
+
+    static Interview interview(String title, LocalTime startTime) {
+        return new InterviewBuilder().withPosition(new Position(new Title(title))).withCandidates(new HashSet<>())
+                .withDate(LocalDate.of(2021, 10, 15)).withStartTime(startTime).withDuration(Duration.ofMinutes(60))
+                .withStatus(Interview.InterviewStatus.PENDING).build();
+    }
+}
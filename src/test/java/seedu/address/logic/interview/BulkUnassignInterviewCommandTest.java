@@ -0,0 +1,105 @@
+package seedu.address.logic.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.interview.BulkAssignInterviewCommandTest.interview;
+import static seedu.address.logic.interview.CommandTestUtil.assertCommandFailure;
+
+import java.time.LocalTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.HrManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BulkUnassignInterviewCommandTest {
+
+    private static final Set<Index> BOTH_INTERVIEWS = Set.of(Index.fromOneBased(1), Index.fromOneBased(2));
+
+    private Model model;
+    private Person amy;
+    private Person bob;
+    private Interview accountantInterview;
+    private Interview bookkeeperInterview;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        amy = new PersonBuilder().withName("Amy Bee").withEmail("amy@example.com")
+                .withPositions("Accountant", "Bookkeeper").build();
+        bob = new PersonBuilder().withName("Bob Choo").withEmail("bob@example.com")
+                .withPositions("Accountant", "Bookkeeper").build();
+        accountantInterview = interview("Accountant", LocalTime.of(14, 0));
+        bookkeeperInterview = interview("Bookkeeper", LocalTime.of(16, 0));
+
+        HrManager hrManager = new HrManager();
+        hrManager.addPerson(amy);
+        hrManager.addPerson(bob);
+        hrManager.addInterview(accountantInterview);
+        hrManager.addInterview(bookkeeperInterview);
+        model = new ModelManager(hrManager, new UserPrefs());
+        new BulkAssignInterviewCommand(BOTH_INTERVIEWS, Set.of(Index.fromOneBased(1), Index.fromOneBased(2)))
+                .execute(model);
+    }
+
+    @Test
+    public void execute_someCandidates_success() throws Exception {
+        new BulkUnassignInterviewCommand(BOTH_INTERVIEWS, Set.of(Index.fromOneBased(1))).execute(model);
+
+        assertEquals(Set.of(bob), accountantInterview.getCandidates());
+        assertEquals(Set.of(bob), bookkeeperInterview.getCandidates());
+        assertTrue(amy.getInterviews().isEmpty());
+        assertEquals(2, bob.getInterviews().size());
+    }
+
+    @Test
+    public void execute_allCandidates_success() throws Exception {
+        new BulkUnassignInterviewCommand(BOTH_INTERVIEWS).execute(model);
+
+        assertTrue(accountantInterview.getCandidates().isEmpty());
+        assertTrue(bookkeeperInterview.getCandidates().isEmpty());
+        assertTrue(amy.getInterviews().isEmpty());
+        assertTrue(bob.getInterviews().isEmpty());
+    }
+
+    @Test
+    public void execute_someCandidatesThenUndo_candidatesRestored() throws Exception {
+        model.beginBatch();
+        new BulkUnassignInterviewCommand(BOTH_INTERVIEWS, Set.of(Index.fromOneBased(1))).execute(model);
+        model.commit();
+
+        assertTrue(model.undo());
+        assertEquals(Set.of(amy, bob), accountantInterview.getCandidates());
+        assertEquals(Set.of(amy, bob), bookkeeperInterview.getCandidates());
+        assertEquals(2, amy.getInterviews().size());
+    }
+
+    @Test
+    public void execute_candidateNotInInterview_unassignsNoOne() throws Exception {
+        new UnassignInterviewCommand(Index.fromOneBased(2), Set.of(Index.fromOneBased(1))).execute(model);
+
+        assertCommandFailure(new BulkUnassignInterviewCommand(BOTH_INTERVIEWS, Set.of(Index.fromOneBased(1))), model,
+                String.format(UnassignInterviewCommand.MESSAGE_CANDIDATE_DID_NOT_APPLY, 1, amy.getName(),
+                        bookkeeperInterview.getDisplayString()));
+        assertEquals(Set.of(amy, bob), accountantInterview.getCandidates());
+        assertEquals(Set.of(bob), bookkeeperInterview.getCandidates());
+    }
+
+    @Test
+    public void equals() {
+        BulkUnassignInterviewCommand command = new BulkUnassignInterviewCommand(BOTH_INTERVIEWS);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new BulkUnassignInterviewCommand(BOTH_INTERVIEWS)));
+        assertFalse(command.equals(new BulkUnassignInterviewCommand(BOTH_INTERVIEWS, Set.of(Index.fromOneBased(1)))));
+        assertFalse(command.equals(null));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.interview.CalendarCommand.Action;
+import seedu.address.model.HrManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.InterviewBuilder;
+
+public class CalendarCommandTest {
+
+    private static final LocalDate DAY = LocalDate.of(2021, 10, 19);
+
+    @Test
+    public void execute_weekThenNext_showsInterviewsOfPeriod() {
+        HrManager hrManager = new HrManager();
+        hrManager.addInterview(new InterviewBuilder().withDate(DAY).withStartTime(LocalTime.of(14, 0))
+                .withDuration(Duration.ofHours(1)).build());
+        Model model = new ModelManager(hrManager, new UserPrefs());
+
+        CommandResult result = execute(new CalendarCommand(Action.WEEK, Optional.of(DAY)), model);
+        assertEquals(String.format(CalendarCommand.MESSAGE_SUCCESS, 1, "Mon 18 Oct 2021", "Sun 24 Oct 2021"),
+                result.getFeedbackToUser());
+        assertEquals(CommandResult.CommandType.CALENDAR, result.getCommandType());
+
+        assertEquals(String.format(CalendarCommand.MESSAGE_SUCCESS, 0, "Mon 25 Oct 2021", "Sun 31 Oct 2021"),
+                execute(new CalendarCommand(Action.NEXT, Optional.empty()), model).getFeedbackToUser());
+        // Without a date, the day is taken from the period shown last.
+        assertEquals(String.format(CalendarCommand.MESSAGE_SUCCESS, 0, "Mon 25 Oct 2021", "Mon 25 Oct 2021"),
+                execute(new CalendarCommand(Action.DAY, Optional.empty()), model).getFeedbackToUser());
+        assertEquals(String.format(CalendarCommand.MESSAGE_SUCCESS, 1, "Tue 19 Oct 2021", "Tue 19 Oct 2021"),
+                execute(new CalendarCommand(Action.DAY, Optional.of(DAY)), model).getFeedbackToUser());
+    }
+
+    /**
+     * Executes {@code command} in a batch, as {@code LogicManager} does, while the calendar defers its updates.
+     */
+    private static CommandResult execute(CalendarCommand command, Model model) {
+        model.beginBatch();
+        CommandResult result = command.execute(model);
+        model.commit();
+        return result;
+    }
+
+    @Test
+    public void equals() {
+        CalendarCommand command = new CalendarCommand(Action.DAY, Optional.of(DAY));
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new CalendarCommand(Action.DAY, Optional.of(DAY))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new CalendarCommand(Action.WEEK, Optional.of(DAY))));
+        assertFalse(command.equals(new CalendarCommand(Action.DAY, Optional.empty())));
+    }
+}
@@ -199,13 +199,13 @@ public class CommandTestUtil {
      * - a {@code CommandException} is thrown <br>
      * - the CommandException message matches {@code expectedMessage} <br>
      * - the HR Manager, filtered interview list and selected interview in {@code actualModel} remain unchanged
+     *   by the second execution
      */
     public static void assertCommandFailureRepeatedAssign(Command command, Model actualModel, String expectedMessage) {
-        HrManager expectedHrManager = new HrManager(actualModel.getHrManager());
-        List<Interview> expectedFilteredList = new ArrayList<>(actualModel.getFilteredInterviewList());
-
         try {
             command.execute(actualModel);
+            HrManager expectedHrManager = new HrManager(actualModel.getHrManager());
+            List<Interview> expectedFilteredList = new ArrayList<>(actualModel.getFilteredInterviewList());
             assertThrows(CommandException.class, expectedMessage, () -> command.execute(actualModel));
             assertEquals(expectedHrManager, actualModel.getHrManager());
             assertEquals(expectedFilteredList, actualModel.getFilteredInterviewList());
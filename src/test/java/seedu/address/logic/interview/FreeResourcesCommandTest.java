@@ -0,0 +1,50 @@
+package seedu.address.logic.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.HrManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.InterviewBuilder;
+
+public class FreeResourcesCommandTest {
+
+    private static final LocalDate DAY = LocalDate.of(2021, 10, 19);
+
+    @Test
+    public void execute_busyResourcesLeftOut() {
+        HrManager hrManager = new HrManager();
+        hrManager.addInterview(new InterviewBuilder().withDate(DAY).withStartTime(LocalTime.of(13, 30))
+                .withDuration(Duration.ofHours(1)).withRoom("Room A").withInterviewers("Alice").build());
+        hrManager.addInterview(new InterviewBuilder().withDate(DAY).withStartTime(LocalTime.of(15, 0))
+                .withDuration(Duration.ofHours(1)).withRoom("Room B").withInterviewers("Bob", "Carol").build());
+        Model model = new ModelManager(hrManager, new UserPrefs());
+
+        assertEquals(String.format(FreeResourcesCommand.MESSAGE_SUCCESS, "19 Oct 2021",
+                "14:00", "14:01", "Bob, Carol", "Room B"),
+                new FreeResourcesCommand(DAY, LocalTime.of(14, 0), FreeResourcesCommand.DEFAULT_DURATION)
+                        .execute(model).getFeedbackToUser());
+        assertEquals(String.format(FreeResourcesCommand.MESSAGE_SUCCESS, "19 Oct 2021", "14:00", "15:30",
+                FreeResourcesCommand.MESSAGE_NONE, FreeResourcesCommand.MESSAGE_NONE),
+                new FreeResourcesCommand(DAY, LocalTime.of(14, 0), Duration.ofMinutes(90))
+                        .execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        FreeResourcesCommand command = new FreeResourcesCommand(DAY, LocalTime.of(14, 0), Duration.ofMinutes(30));
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FreeResourcesCommand(DAY, LocalTime.of(14, 0), Duration.ofMinutes(30))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new FreeResourcesCommand(DAY, LocalTime.of(14, 0), Duration.ofMinutes(60))));
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.logic.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPositions.CLOSED_POSITION_CLERK;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.model.HrManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.interview.Interview;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+import seedu.address.model.position.Title;
+import seedu.address.testutil.InterviewBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ScheduleInterviewCommandTest {
+
+    private static final LocalDate DAY = LocalDate.of(2021, 10, 15);
+
+    private final Position bookkeeper = new Position(new Title("Bookkeeper"));
+    private final Person amy = new PersonBuilder().withName("Amy").withEmail("amy@example.com")
+            .withPositions("Bookkeeper").build();
+    private final Person bob = new PersonBuilder().withName("Bob").withEmail("bob@example.com")
+            .withPositions("Bookkeeper").build();
+    private final Person carl = new PersonBuilder().withName("Carl").withEmail("carl@example.com")
+            .withPositions("Bookkeeper").build();
+    private final Person dan = new PersonBuilder().withName("Dan").withEmail("dan@example.com")
+            .withPositions("Accountant").build();
+
+    @Test
+    public void execute_moreCandidatesThanSlots_schedulesAsManyAsPossible() throws Exception {
+        Model model = createModel();
+
+        // 0900-0930 is taken by the existing interview, leaving 0930 and 1000 free
+        CommandResult result = scheduleAll().execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(
+                String.format(ScheduleInterviewCommand.MESSAGE_SUCCESS, 2, 3, bookkeeper.getTitle(), "")));
+        assertTrue(result.getFeedbackToUser().contains(String.format(ScheduleInterviewCommand.MESSAGE_UNPLACED,
+                "Carl")));
+        assertEquals(3, model.getHrManager().getInterviewList().size());
+        assertEquals(Set.of(LocalTime.of(9, 30)), startTimesOf(amy));
+        assertEquals(Set.of(LocalTime.of(10, 0)), startTimesOf(bob));
+        assertTrue(carl.getInterviews().isEmpty());
+        assertFalse(model.getHrManager().getInterviewList().stream()
+                .anyMatch(interview -> interview.hasCandidate(dan)));
+    }
+
+    @Test
+    public void execute_candidatesWithInterviewForPosition_notScheduledAgain() throws Exception {
+        Model model = createModel();
+        scheduleAll().execute(model);
+
+        assertTrue(scheduleAll().execute(model).getFeedbackToUser().startsWith(
+                String.format(ScheduleInterviewCommand.MESSAGE_SUCCESS, 0, 1, bookkeeper.getTitle(), "")));
+    }
+
+    @Test
+    public void execute_invalidCandidateOrPosition_throwsCommandException() {
+        Model model = createModel();
+        Set<Interview> interviewsBefore = new HashSet<>(model.getHrManager().getInterviewList());
+
+        assertThrows(CommandException.class, () -> schedule(new Position(new Title("Driver")), Set.of())
+                .execute(model));
+        assertThrows(CommandException.class, () -> schedule(CLOSED_POSITION_CLERK, Set.of()).execute(model));
+        // Dan, at the fourth index, did not apply for the position
+        assertThrows(CommandException.class, () -> schedule(bookkeeper,
+                Set.of(INDEX_FIRST_PERSON, Index.fromOneBased(4))).execute(model));
+        assertEquals(interviewsBefore, new HashSet<>(model.getHrManager().getInterviewList()));
+    }
+
+    @Test
+    public void equals() {
+        ScheduleInterviewCommand command = scheduleAll();
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(scheduleAll()));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(schedule(bookkeeper, Set.of(INDEX_FIRST_PERSON))));
+    }
+
+    private Model createModel() {
+        HrManager hrManager = new HrManager();
+        hrManager.addPosition(bookkeeper);
+        hrManager.addPosition(CLOSED_POSITION_CLERK);
+        hrManager.addPerson(amy);
+        hrManager.addPerson(bob);
+        hrManager.addPerson(carl);
+        hrManager.addPerson(dan);
+        hrManager.addInterview(new InterviewBuilder().withPosition(bookkeeper).withDate(DAY)
+                .withStartTime(LocalTime.of(9, 0)).withDuration(Duration.ofMinutes(30)).build());
+        return new ModelManager(hrManager, new UserPrefs());
+    }
+
+    private ScheduleInterviewCommand scheduleAll() {
+        return schedule(bookkeeper, Set.of());
+    }
+
+    private ScheduleInterviewCommand schedule(Position position, Set<Index> indexes) {
+        return new ScheduleInterviewCommand(position, indexes, DAY, DAY, LocalTime.of(9, 0), LocalTime.of(10, 30),
+                Duration.ofMinutes(30));
+    }
+
+    private static Set<LocalTime> startTimesOf(Person person) {
+        Set<LocalTime> startTimes = new HashSet<>();
+        person.getInterviews().forEach(interview -> startTimes.add(interview.getStartTime()));
+        return startTimes;
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.interview.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalHrManager;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.SortOrder;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.interview.InterviewTimeComparator;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortInterviewCommand}.
+ */
+public class SortInterviewCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalHrManager(), new UserPrefs());
+        expectedModel = new ModelManager(model.getHrManager(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_ascending_sortsByStartTime() {
+        expectedModel.updateSortedInterviewList(new InterviewTimeComparator());
+        CommandResult expectedResult = new CommandResult(
+                String.format(SortInterviewCommand.MESSAGE_SUCCESS, SortOrder.ASC), CommandResult.CommandType.GENERAL);
+        assertCommandSuccess(new SortInterviewCommand(SortOrder.ASC), model, expectedResult, expectedModel);
+        assertEquals(LocalDate.of(2021, 10, 15), model.getFilteredInterviewList().get(0).getDate());
+    }
+
+    @Test
+    public void execute_descending_sortsByStartTimeReversed() {
+        expectedModel.updateSortedInterviewList(new InterviewTimeComparator().reversed());
+        CommandResult expectedResult = new CommandResult(
+                String.format(SortInterviewCommand.MESSAGE_SUCCESS, SortOrder.DESC), CommandResult.CommandType.GENERAL);
+        assertCommandSuccess(new SortInterviewCommand(SortOrder.DESC), model, expectedResult, expectedModel);
+        assertEquals(LocalDate.of(2021, 12, 15), model.getFilteredInterviewList().get(0).getDate());
+    }
+
+    @Test
+    public void execute_none_restoresInsertionOrder() {
+        model.updateSortedInterviewList(new InterviewTimeComparator().reversed());
+        CommandResult expectedResult = new CommandResult(SortInterviewCommand.MESSAGE_SUCCESS_UNSORTED,
+                CommandResult.CommandType.GENERAL);
+        assertCommandSuccess(new SortInterviewCommand(SortOrder.NONE), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SortInterviewCommand ascCommand = new SortInterviewCommand(SortOrder.ASC);
+
+        assertTrue(ascCommand.equals(ascCommand));
+        assertTrue(ascCommand.equals(new SortInterviewCommand(SortOrder.ASC)));
+        assertFalse(ascCommand.equals(new SortInterviewCommand(SortOrder.DESC)));
+        assertFalse(ascCommand.equals(null));
+        assertFalse(ascCommand.equals(1));
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.interview.AllocateRoomsCommand;
+import seedu.address.model.interview.Room;
+
+public class AllocateRoomsCommandParserTest {
+
+    private static final LocalDate FROM = LocalDate.of(2021, 10, 15);
+    private static final LocalDate TO = LocalDate.of(2021, 10, 19);
+
+    private AllocateRoomsCommandParser parser = new AllocateRoomsCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " from=15/10/2021 to=19/10/2021 room=Meeting Room 1 room=Room B",
+                new AllocateRoomsCommand(FROM, TO, Set.of(new Room("Meeting Room 1"), new Room("Room B"))));
+        assertParseSuccess(parser, " from=15/10/2021 to=19/10/2021", new AllocateRoomsCommand(FROM, TO, Set.of()));
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " from=15/10/2021", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AllocateRoomsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " from=19/10/2021 to=15/10/2021",
+                AllocateRoomsCommandParser.MESSAGE_DATE_RANGE_CONSTRAINTS);
+        assertParseFailure(parser, " from=15/10/2021 to=19/10/2021 room=Room #1", Room.MESSAGE_CONSTRAINTS);
+    }
+}
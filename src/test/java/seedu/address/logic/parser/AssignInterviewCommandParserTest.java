@@ -5,6 +5,7 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_INTERVIEW;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_INTERVIEW;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import java.util.HashSet;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.interview.AssignInterviewCommand;
+import seedu.address.logic.interview.BulkAssignInterviewCommand;
 
 public class AssignInterviewCommandParserTest {
 
@@ -28,6 +30,17 @@ public class AssignInterviewCommandParserTest {
         assertParseSuccess(parser, " i=1 c=1 2", new AssignInterviewCommand(INDEX_FIRST_INTERVIEW, indexes));
     }
 
+    @Test
+    public void parse_severalInterviews_returnsBulkAssignCommand() {
+        Set<Index> interviewIndexes = Set.of(INDEX_FIRST_INTERVIEW, INDEX_SECOND_INTERVIEW);
+        Set<Index> candidateIndexes = Set.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+
+        assertParseSuccess(parser, " i=1 2 c=1 2", new BulkAssignInterviewCommand(interviewIndexes, candidateIndexes));
+        // the same interview given twice is a single interview
+        assertParseSuccess(parser, " i=1 1 c=1 2", new AssignInterviewCommand(INDEX_FIRST_INTERVIEW,
+                candidateIndexes));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "i=a c=1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.candidate.BulkDeleteCandidateCommand;
+import seedu.address.model.person.FindCandidateCommandPredicate;
+
+public class BulkDeleteCandidateCommandParserTest {
+
+    private BulkDeleteCandidateCommandParser parser = new BulkDeleteCandidateCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsBulkDeleteCandidateCommand() {
+        FindCandidateCommandPredicate predicate = new FindCandidateCommandPredicate();
+        predicate.setStatusKeywords(List.of("rejected"));
+        predicate.setNameKeywords(List.of("Alex", "Bernice"));
+        assertParseSuccess(parser, " where status=rejected name=Alex Bernice",
+                new BulkDeleteCandidateCommand(predicate));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                BulkDeleteCandidateCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " where", expectedMessage);
+        assertParseFailure(parser, " where 1 status=rejected", expectedMessage);
+        assertParseFailure(parser, " wherever status=rejected", expectedMessage);
+    }
+}
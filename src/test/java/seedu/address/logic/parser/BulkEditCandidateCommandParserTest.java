@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.candidate.BulkEditCandidateCommand;
+import seedu.address.logic.candidate.EditCandidateCommand;
+import seedu.address.model.person.FindCandidateCommandPredicate;
+import seedu.address.model.person.Status;
+import seedu.address.testutil.EditPersonDescriptorBuilder;
+
+public class BulkEditCandidateCommandParserTest {
+
+    private BulkEditCandidateCommandParser parser = new BulkEditCandidateCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsBulkEditCandidateCommand() {
+        FindCandidateCommandPredicate predicate = new FindCandidateCommandPredicate();
+        predicate.setPositionKeywords(List.of("Accountant"));
+        assertParseSuccess(parser, " where position=Accountant set status=rejected tag=late",
+                new BulkEditCandidateCommand(predicate, new EditPersonDescriptorBuilder()
+                        .withStatus(Status.REJECTED).withTags("late").build()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkEditCandidateCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " where position=Accountant", expectedMessage);
+        assertParseFailure(parser, " where set status=rejected", expectedMessage);
+        assertParseFailure(parser, " where position=Accountant set 1 status=rejected", expectedMessage);
+        assertParseFailure(parser, " where position=Accountant set", expectedMessage);
+        assertParseFailure(parser, " where position=Accountant set email=a@example.com",
+                BulkEditCandidateCommandParser.MESSAGE_EMAIL_NOT_EDITABLE);
+        assertParseFailure(parser, " where position=Accountant set  ", EditCandidateCommand.MESSAGE_NOT_EDITED);
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.interview.CalendarCommand;
+import seedu.address.logic.interview.CalendarCommand.Action;
+
+public class CalendarCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, CalendarCommand.MESSAGE_USAGE);
+
+    private CalendarCommandParser parser = new CalendarCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsWeekOfPeriodShown() {
+        assertParseSuccess(parser, "  ", new CalendarCommand(Action.WEEK, Optional.empty()));
+    }
+
+    @Test
+    public void parse_actionAndDate_returnsCalendarCommand() {
+        assertParseSuccess(parser, " day date=19/10/2021",
+                new CalendarCommand(Action.DAY, Optional.of(LocalDate.of(2021, 10, 19))));
+        assertParseSuccess(parser, " date=19/10/2021",
+                new CalendarCommand(Action.WEEK, Optional.of(LocalDate.of(2021, 10, 19))));
+        assertParseSuccess(parser, " NEXT", new CalendarCommand(Action.NEXT, Optional.empty()));
+        assertParseSuccess(parser, " prev", new CalendarCommand(Action.PREVIOUS, Optional.empty()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " month", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " next date=19/10/2021", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.PrefixDictionary;
+import seedu.address.model.snapshot.Suggestions;
+
+public class CommandCompleterTest {
+
+    private final Suggestions suggestions = new Suggestions(
+            PrefixDictionary.of(List.of("Alex Yeoh", "Alexander Tan", "Bernice Yu")),
+            PrefixDictionary.of(List.of("friends", "family")),
+            PrefixDictionary.of(List.of("Software Engineer", "Sales Manager")));
+    private final CommandCompleter completer = new CommandCompleter(() -> suggestions);
+
+    @Test
+    public void complete_commandWord_completedWithSpace() {
+        assertEquals(List.of("list_c ", "list_i ", "list_p "), completer.complete("list"));
+        assertEquals(List.of("  dashboard "), completer.complete("  dash"));
+        assertEquals(List.of(), completer.complete(""));
+    }
+
+    @Test
+    public void complete_valueOfPrefix_completedFromSuggestions() {
+        assertEquals(List.of("find_c name=Alex Yeoh", "find_c name=Alexander Tan"),
+                completer.complete("find_c name=alex"));
+        assertEquals(List.of("find_c name=Alex Yeoh"), completer.complete("find_c name=Alex Y"));
+        assertEquals(List.of("add_c name=Bob position=Sales Manager", "add_c name=Bob position=Software Engineer"),
+                completer.complete("add_c name=Bob position=S"));
+        assertEquals(List.of("edit_c 1 tag=family", "edit_c 1 tag=friends"), completer.complete("edit_c 1 tag=f"));
+    }
+
+    @Test
+    public void complete_startOfPrefix_completedWithPrefix() {
+        assertEquals(List.of("add_c name=Bob phone="), completer.complete("add_c name=Bob ph"));
+        assertEquals(List.of("add_i position="), completer.complete("add_i pos"));
+        // a prefix whose values are not suggested ends the value of the prefix before it
+        assertEquals(List.of(), completer.complete("add_c name=Alex phone=9"));
+    }
+
+    @Test
+    public void complete_manySuggestions_atMostMaxSuggestions() {
+        assertTrue(completer.complete("add_c ").size() <= CommandCompleter.MAX_SUGGESTIONS);
+    }
+}
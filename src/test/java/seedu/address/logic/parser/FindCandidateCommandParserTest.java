@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.candidate.FindCandidateCommand;
 import seedu.address.model.person.FindCandidateCommandPredicate;
+import seedu.address.model.person.MatchMode;
 
 public class FindCandidateCommandParserTest {
 
@@ -102,4 +104,31 @@ public class FindCandidateCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_POSITION + BENSON.getPositionsString(),
                 expectedFindCandidateCommand);
     }
+
+    @Test
+    public void parse_matchMode_returnsFindCommand() {
+        FindCandidateCommandPredicate expectedPredicate =
+                new FindCandidateCommandPredicate(Arrays.asList("Muhammad"));
+        expectedPredicate.setMatchMode(MatchMode.PHONETIC);
+
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Muhammad " + PREFIX_MATCH + "Phonetic",
+                new FindCandidateCommand(expectedPredicate));
+
+        expectedPredicate = new FindCandidateCommandPredicate(Arrays.asList("Alex"));
+        expectedPredicate.setMatchMode(MatchMode.SUBSTRING);
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Alex " + PREFIX_MATCH + "substring",
+                new FindCandidateCommand(expectedPredicate));
+    }
+
+    @Test
+    public void parse_invalidMatchMode_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_NAME + "Muhammad " + PREFIX_MATCH + "fuzzy",
+                MatchMode.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_matchModeOnly_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_MATCH + "phonetic", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCandidateCommand.MESSAGE_USAGE));
+    }
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -24,6 +25,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_INTERVIEW;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_POSITION;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -33,20 +35,34 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Command;
 import seedu.address.logic.candidate.AddCandidateCommand;
+import seedu.address.logic.candidate.BulkDeleteCandidateCommand;
+import seedu.address.logic.candidate.BulkEditCandidateCommand;
 import seedu.address.logic.candidate.DeleteCandidateCommand;
 import seedu.address.logic.candidate.EditCandidateCommand;
 import seedu.address.logic.candidate.EditCandidateCommand.EditPersonDescriptor;
 import seedu.address.logic.candidate.FindCandidateCommand;
 import seedu.address.logic.candidate.ListCandidateCommand;
 import seedu.address.logic.candidate.RemarkCandidateCommand;
+import seedu.address.logic.candidate.SortCandidateCommand;
 import seedu.address.logic.general.ClearCommand;
+import seedu.address.logic.general.DashboardCommand;
 import seedu.address.logic.general.ExitCommand;
 import seedu.address.logic.general.HelpCommand;
+import seedu.address.logic.general.NextPageCommand;
+import seedu.address.logic.general.PageCommand;
+import seedu.address.logic.general.PreviousPageCommand;
+import seedu.address.logic.general.RedoCommand;
+import seedu.address.logic.general.RunCommand;
+import seedu.address.logic.general.UndoCommand;
 import seedu.address.logic.interview.AddInterviewCommand;
+import seedu.address.logic.interview.AllocateRoomsCommand;
 import seedu.address.logic.interview.DeleteInterviewCommand;
 import seedu.address.logic.interview.EditInterviewCommand;
 import seedu.address.logic.interview.EditInterviewCommand.EditInterviewDescriptor;
+import seedu.address.logic.interview.FreeResourcesCommand;
 import seedu.address.logic.interview.ListInterviewCommand;
+import seedu.address.logic.interview.ScheduleInterviewCommand;
+import seedu.address.logic.interview.SortInterviewCommand;
 import seedu.address.logic.interview.UnassignInterviewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.position.AddPositionCommand;
@@ -55,6 +71,9 @@ import seedu.address.logic.position.EditPositionCommand;
 import seedu.address.logic.position.EditPositionCommand.EditPositionDescriptor;
 import seedu.address.logic.position.FindPositionCommand;
 import seedu.address.logic.position.ListPositionCommand;
+import seedu.address.logic.position.SortPositionCommand;
+import seedu.address.model.ListType;
+import seedu.address.model.SortOrder;
 import seedu.address.model.interview.Interview;
 import seedu.address.model.person.FindCandidateCommandPredicate;
 import seedu.address.model.person.Person;
@@ -200,6 +219,22 @@ public class HrManagerParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void commandWords_everyWordParsed() {
+        for (String commandWord : HrManagerParser.COMMAND_WORDS) {
+            try {
+                parser.parseCommand(commandWord);
+            } catch (ParseException e) {
+                assertNotEquals(MESSAGE_UNKNOWN_COMMAND, e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void parseCommand_dashboard() throws Exception {
+        assertTrue(parser.parseCommand(DashboardCommand.COMMAND_WORD) instanceof DashboardCommand);
+    }
+
     @Test
     public void parseCommand_candidateList() throws Exception {
         assertTrue(parser.parseCommand(ListCandidateCommand.COMMAND_WORD) instanceof ListCandidateCommand);
@@ -214,6 +249,58 @@ public class HrManagerParserTest {
                 + " 3") instanceof ListPositionCommand);
     }
 
+    @Test
+    public void parseCommand_sort() throws Exception {
+        assertEquals(new SortCandidateCommand(SortOrder.ASC), parser.parseCommand(SortCandidateCommand.COMMAND_WORD));
+        assertEquals(new SortPositionCommand(SortOrder.DESC),
+                parser.parseCommand(SortPositionCommand.COMMAND_WORD + " desc"));
+        assertEquals(new SortInterviewCommand(SortOrder.NONE),
+                parser.parseCommand(SortInterviewCommand.COMMAND_WORD + " none"));
+    }
+
+    @Test
+    public void parseCommand_page() throws Exception {
+        assertEquals(new PageCommand(ListType.POSITIONS, INDEX_FIRST_POSITION),
+                parser.parseCommand(PageCommand.COMMAND_WORD + " p 1"));
+        assertEquals(new NextPageCommand(ListType.CANDIDATES), parser.parseCommand(NextPageCommand.COMMAND_WORD));
+        assertEquals(new PreviousPageCommand(ListType.INTERVIEWS),
+                parser.parseCommand(PreviousPageCommand.COMMAND_WORD + " i"));
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertEquals(new RunCommand(Paths.get("drive.txt")),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " drive.txt"));
+    }
+
+    @Test
+    public void parseCommand_schedule() throws Exception {
+        assertTrue(parser.parseCommand(ScheduleInterviewCommand.COMMAND_WORD + " position=Bookkeeper "
+                + "from=15/10/2021 to=19/10/2021 hours=0900-1700 duration=30") instanceof ScheduleInterviewCommand);
+    }
+
+    @Test
+    public void parseCommand_bulkDeleteAndEdit() throws Exception {
+        assertTrue(parser.parseCommand(DeleteCandidateCommand.COMMAND_WORD + " where status=rejected")
+                instanceof BulkDeleteCandidateCommand);
+        assertTrue(parser.parseCommand(EditCandidateCommand.COMMAND_WORD + " where status=rejected set tag=late")
+                instanceof BulkEditCandidateCommand);
+    }
+
+    @Test
+    public void parseCommand_freeAndRooms() throws Exception {
+        assertTrue(parser.parseCommand(FreeResourcesCommand.COMMAND_WORD + " date=19/10/2021 time=1400")
+                instanceof FreeResourcesCommand);
+        assertTrue(parser.parseCommand(AllocateRoomsCommand.COMMAND_WORD + " from=15/10/2021 to=19/10/2021 "
+                + "room=Meeting Room 1") instanceof AllocateRoomsCommand);
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.general.NextPageCommand;
+import seedu.address.logic.general.PageCommand;
+import seedu.address.logic.general.PreviousPageCommand;
+import seedu.address.model.ListType;
+
+public class PageCommandParserTest {
+
+    private PageCommandParser parser = new PageCommandParser();
+
+    @Test
+    public void parse_pageOnly_returnsCandidatePageCommand() {
+        assertParseSuccess(parser, " 2", new PageCommand(ListType.CANDIDATES, Index.fromOneBased(2)));
+    }
+
+    @Test
+    public void parse_listAndPage_returnsPageCommand() {
+        assertParseSuccess(parser, " p 3", new PageCommand(ListType.POSITIONS, Index.fromOneBased(3)));
+        assertParseSuccess(parser, "  I   1 ", new PageCommand(ListType.INTERVIEWS, Index.fromOneBased(1)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, "")
+                + PageCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " c 0", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ParserUtil.MESSAGE_INVALID_INDEX) + PageCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " x 1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ListType.MESSAGE_CONSTRAINTS) + PageCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " c 1 2", String.format(MESSAGE_INVALID_COMMAND_FORMAT, "")
+                + PageCommand.MESSAGE_USAGE);
+    }
+
+    @Test
+    public void parseNextAndPrevious_validArgs_returnsCommand() throws Exception {
+        assertParseSuccess(new NextPageCommandParser(), "", new NextPageCommand(ListType.CANDIDATES));
+        assertParseSuccess(new PreviousPageCommandParser(), " i", new PreviousPageCommand(ListType.INTERVIEWS));
+        assertParseFailure(new NextPageCommandParser(), " z", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ListType.MESSAGE_CONSTRAINTS) + NextPageCommand.MESSAGE_USAGE);
+    }
+}
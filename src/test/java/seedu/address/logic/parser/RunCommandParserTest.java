@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.general.RunCommand;
+
+public class RunCommandParserTest {
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, " data/drive.txt ", new RunCommand(Paths.get("data/drive.txt")));
+        assertParseSuccess(parser, " spring drive.txt", new RunCommand(Paths.get("spring drive.txt")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " a\0b", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RunCommandParser.MESSAGE_INVALID_PATH) + RunCommand.MESSAGE_USAGE);
+    }
+}
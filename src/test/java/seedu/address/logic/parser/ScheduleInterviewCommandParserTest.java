@@ -0,0 +1,62 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.interview.ScheduleInterviewCommand;
+import seedu.address.model.position.Position;
+import seedu.address.model.position.Title;
+
+public class ScheduleInterviewCommandParserTest {
+
+    private static final Position BOOKKEEPER = new Position(new Title("Bookkeeper"));
+    private static final LocalDate FROM = LocalDate.of(2021, 10, 15);
+    private static final LocalDate TO = LocalDate.of(2021, 10, 19);
+
+    private ScheduleInterviewCommandParser parser = new ScheduleInterviewCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " position=Bookkeeper c=1 2 from=15/10/2021 to=19/10/2021 hours=0900-1700 "
+                + "duration=30", new ScheduleInterviewCommand(BOOKKEEPER, Set.of(INDEX_FIRST_PERSON,
+                INDEX_SECOND_PERSON), FROM, TO, LocalTime.of(9, 0), LocalTime.of(17, 0), Duration.ofMinutes(30)));
+    }
+
+    @Test
+    public void parse_noCandidates_success() {
+        assertParseSuccess(parser, " position=Bookkeeper from=15/10/2021 to=15/10/2021 hours=0900 - 1200 "
+                + "duration=45", new ScheduleInterviewCommand(BOOKKEEPER, Set.of(), FROM, FROM, LocalTime.of(9, 0),
+                LocalTime.of(12, 0), Duration.ofMinutes(45)));
+    }
+
+    @Test
+    public void parse_missingField_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleInterviewCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " position=Bookkeeper from=15/10/2021 to=19/10/2021 duration=30",
+                expectedMessage);
+        assertParseFailure(parser, " position=Bookkeeper from=15/10/2021 hours=0900-1700 duration=30",
+                expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " position=Bookkeeper from=19/10/2021 to=15/10/2021 hours=0900-1700 duration=30",
+                ScheduleInterviewCommandParser.MESSAGE_DATE_RANGE_CONSTRAINTS);
+        assertParseFailure(parser, " position=Bookkeeper from=15/10/2021 to=16/10/2022 hours=0900-1700 duration=30",
+                ScheduleInterviewCommandParser.MESSAGE_DATE_RANGE_CONSTRAINTS);
+        assertParseFailure(parser, " position=Bookkeeper from=15/10/2021 to=19/10/2021 hours=1700-0900 duration=30",
+                ScheduleInterviewCommandParser.MESSAGE_HOURS_CONSTRAINTS);
+        assertParseFailure(parser, " position=Bookkeeper from=15/10/2021 to=19/10/2021 hours=0900 duration=30",
+                ScheduleInterviewCommandParser.MESSAGE_HOURS_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.candidate.SortCandidateCommand;
+import seedu.address.model.SortOrder;
+
+public class SortCandidateCommandParserTest {
+
+    private SortCandidateCommandParser parser = new SortCandidateCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsAscendingCommand() {
+        assertParseSuccess(parser, "  ", new SortCandidateCommand(SortOrder.ASC));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortCandidateCommand() {
+        assertParseSuccess(parser, " desc", new SortCandidateCommand(SortOrder.DESC));
+        assertParseSuccess(parser, " NONE ", new SortCandidateCommand(SortOrder.NONE));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " sideways", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SortOrder.MESSAGE_CONSTRAINTS) + SortCandidateCommand.MESSAGE_USAGE);
+    }
+}
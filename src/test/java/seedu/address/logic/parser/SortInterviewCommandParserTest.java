@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.interview.SortInterviewCommand;
+import seedu.address.model.SortOrder;
+
+public class SortInterviewCommandParserTest {
+
+    private SortInterviewCommandParser parser = new SortInterviewCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsAscendingCommand() {
+        assertParseSuccess(parser, "  ", new SortInterviewCommand(SortOrder.ASC));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortInterviewCommand() {
+        assertParseSuccess(parser, " desc", new SortInterviewCommand(SortOrder.DESC));
+        assertParseSuccess(parser, " NONE ", new SortInterviewCommand(SortOrder.NONE));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " sideways", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SortOrder.MESSAGE_CONSTRAINTS) + SortInterviewCommand.MESSAGE_USAGE);
+    }
+}
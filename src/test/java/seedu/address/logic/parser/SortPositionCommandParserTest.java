@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.position.SortPositionCommand;
+import seedu.address.model.SortOrder;
+
+public class SortPositionCommandParserTest {
+
+    private SortPositionCommandParser parser = new SortPositionCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsAscendingCommand() {
+        assertParseSuccess(parser, "  ", new SortPositionCommand(SortOrder.ASC));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortPositionCommand() {
+        assertParseSuccess(parser, " desc", new SortPositionCommand(SortOrder.DESC));
+        assertParseSuccess(parser, " NONE ", new SortPositionCommand(SortOrder.NONE));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " sideways", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SortOrder.MESSAGE_CONSTRAINTS) + SortPositionCommand.MESSAGE_USAGE);
+    }
+}
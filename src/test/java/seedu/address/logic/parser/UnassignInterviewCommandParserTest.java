@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_INTERVIEW;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_INTERVIEW;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import java.util.HashSet;
@@ -14,6 +15,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.interview.BulkUnassignInterviewCommand;
 import seedu.address.logic.interview.UnassignInterviewCommand;
 
 public class UnassignInterviewCommandParserTest {
@@ -38,6 +40,15 @@ public class UnassignInterviewCommandParserTest {
         assertParseSuccess(parser, " i=1 c=*", new UnassignInterviewCommand(INDEX_FIRST_INTERVIEW, true));
     }
 
+    @Test
+    public void parse_severalInterviews_returnsBulkUnassignCommand() {
+        Set<Index> interviewIndexes = Set.of(INDEX_FIRST_INTERVIEW, INDEX_SECOND_INTERVIEW);
+
+        assertParseSuccess(parser, " i=1 2 c=1 2", new BulkUnassignInterviewCommand(interviewIndexes,
+                Set.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)));
+        assertParseSuccess(parser, " i=1 2 c=*", new BulkUnassignInterviewCommand(interviewIndexes));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "i=a c=1", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -267,6 +267,21 @@ public class EditPositionCommandTest {
             positions.set(index, editedPosition);
         }
 
+        @Override
+        public void addPositionToPerson(Person person, Position position) {
+            person.addPosition(position);
+        }
+
+        @Override
+        public void removePositionFromPerson(Person person, Position position) {
+            person.deletePosition(position);
+        }
+
+        @Override
+        public void setInterviewPosition(Interview interview, Position position) {
+            interview.setPosition(position);
+        }
+
         @Override
         public Person getPerson(Index index) {
             return persons.get(index.getZeroBased());
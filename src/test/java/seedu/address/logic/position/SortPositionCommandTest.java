@@ -0,0 +1,71 @@
+package seedu.address.logic.position;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.position.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalHrManager;
+import static seedu.address.testutil.TypicalPositions.ACCOUNTANT;
+import static seedu.address.testutil.TypicalPositions.HR_MANAGER;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.SortOrder;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.position.PositionTitleComparator;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortPositionCommand}.
+ */
+public class SortPositionCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalHrManager(), new UserPrefs());
+        expectedModel = new ModelManager(model.getHrManager(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_ascending_sortsByTitle() {
+        expectedModel.updateSortedPositionList(new PositionTitleComparator());
+        CommandResult expectedResult = new CommandResult(
+                String.format(SortPositionCommand.MESSAGE_SUCCESS, SortOrder.ASC), CommandResult.CommandType.GENERAL);
+        assertCommandSuccess(new SortPositionCommand(SortOrder.ASC), model, expectedResult, expectedModel);
+        assertEquals(ACCOUNTANT, model.getFilteredPositionList().get(0));
+    }
+
+    @Test
+    public void execute_descending_sortsByTitleReversed() {
+        expectedModel.updateSortedPositionList(new PositionTitleComparator().reversed());
+        CommandResult expectedResult = new CommandResult(
+                String.format(SortPositionCommand.MESSAGE_SUCCESS, SortOrder.DESC), CommandResult.CommandType.GENERAL);
+        assertCommandSuccess(new SortPositionCommand(SortOrder.DESC), model, expectedResult, expectedModel);
+        assertEquals(HR_MANAGER, model.getFilteredPositionList().get(0));
+    }
+
+    @Test
+    public void execute_none_restoresInsertionOrder() {
+        model.updateSortedPositionList(new PositionTitleComparator().reversed());
+        CommandResult expectedResult = new CommandResult(SortPositionCommand.MESSAGE_SUCCESS_UNSORTED,
+                CommandResult.CommandType.GENERAL);
+        assertCommandSuccess(new SortPositionCommand(SortOrder.NONE), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SortPositionCommand ascCommand = new SortPositionCommand(SortOrder.ASC);
+
+        assertTrue(ascCommand.equals(ascCommand));
+        assertTrue(ascCommand.equals(new SortPositionCommand(SortOrder.ASC)));
+        assertFalse(ascCommand.equals(new SortPositionCommand(SortOrder.DESC)));
+        assertFalse(ascCommand.equals(null));
+        assertFalse(ascCommand.equals(1));
+    }
+}
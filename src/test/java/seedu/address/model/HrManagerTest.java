@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.candidate.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.candidate.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -9,14 +10,19 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalInterviews.ASSISTANT_INTERVIEW;
 import static seedu.address.testutil.TypicalInterviews.HR_MANAGER_INTERVIEW;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalHrManager;
 import static seedu.address.testutil.TypicalPositions.ADMIN_ASSISTANT;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,10 +31,15 @@ import javafx.collections.ObservableList;
 import seedu.address.model.interview.Interview;
 import seedu.address.model.interview.exceptions.DuplicateInterviewException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Status;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.position.Position;
 import seedu.address.model.position.Title;
 import seedu.address.model.position.exceptions.DuplicatePositionException;
+import seedu.address.model.snapshot.HiringFunnel;
+import seedu.address.model.snapshot.HrManagerSnapshot;
+import seedu.address.model.snapshot.PersonRecord;
+import seedu.address.model.snapshot.Suggestions;
 import seedu.address.testutil.InterviewBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PositionBuilder;
@@ -198,6 +209,444 @@ public class HrManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> hrManager.getInterviewList().remove(0));
     }
 
+    //// batches
+
+    @Test
+    public void rollbackBatch_revertsListMutations() {
+        HrManager typicalHrManager = new HrManager(getTypicalHrManager());
+        HrManager expectedHrManager = new HrManager(getTypicalHrManager());
+
+        typicalHrManager.beginBatch();
+        typicalHrManager.addPerson(new PersonBuilder().withName("Zed").withEmail("zed@example.com").build());
+        typicalHrManager.removePerson(ALICE);
+        typicalHrManager.setPerson(BENSON, new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build());
+        typicalHrManager.addPosition(new PositionBuilder().withTitle("Receptionist").build());
+        typicalHrManager.removeInterview(typicalHrManager.getInterviewList().get(0));
+        typicalHrManager.rollbackBatch();
+
+        // same persons, positions and interviews in the same order
+        assertEquals(expectedHrManager, typicalHrManager);
+        assertFalse(typicalHrManager.isInBatch());
+    }
+
+    @Test
+    public void rollbackBatch_revertsCascades() {
+        Person person = new PersonBuilder().build();
+        Position position = person.getPositions().iterator().next();
+        Interview interview = new InterviewBuilder().withPosition(position).build();
+        hrManager.addPerson(person);
+        hrManager.addPosition(position);
+        hrManager.addInterview(interview);
+        hrManager.addInterviewToPerson(person, interview);
+        hrManager.addCandidateToInterview(interview, person);
+
+        hrManager.beginBatch();
+        hrManager.deletePersonFromInterview(person);
+        hrManager.deleteInterviewFromPerson(interview);
+        hrManager.deletePositionFromPerson(position);
+        hrManager.removePosition(position);
+        assertTrue(person.getPositions().isEmpty());
+        assertEquals(Status.APPLIED, person.getStatus());
+        hrManager.rollbackBatch();
+
+        assertTrue(person.appliedForPosition(position));
+        assertTrue(person.hasInterview(interview));
+        assertEquals(Status.SCHEDULED, person.getStatus());
+        assertTrue(interview.hasCandidate(person));
+        assertTrue(hrManager.hasPosition(position));
+    }
+
+    @Test
+    public void rollbackBatch_nestedBatch_revertsInnerBatchOnly() {
+        hrManager.beginBatch();
+        hrManager.addPerson(ALICE);
+        hrManager.beginBatch();
+        hrManager.addPerson(BENSON);
+        hrManager.rollbackBatch();
+        assertTrue(hrManager.isInBatch());
+        hrManager.commitBatch();
+
+        assertEquals(List.of(ALICE), hrManager.getPersonList());
+        assertFalse(hrManager.isInBatch());
+    }
+
+    @Test
+    public void commitBatch_keepsMutations() {
+        hrManager.beginBatch();
+        hrManager.addPerson(ALICE);
+        hrManager.addPosition(ADMIN_ASSISTANT);
+        hrManager.commitBatch();
+
+        assertTrue(hrManager.hasPerson(ALICE));
+        assertTrue(hrManager.hasPosition(ADMIN_ASSISTANT));
+    }
+
+    @Test
+    public void commitBatch_noOpenBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, hrManager::commitBatch);
+        assertThrows(IllegalStateException.class, hrManager::rollbackBatch);
+    }
+
+    //// undo and redo
+
+    @Test
+    public void undo_revertsLatestBatch() {
+        hrManager.beginBatch();
+        hrManager.addPerson(ALICE);
+        hrManager.commitBatch();
+        hrManager.beginBatch();
+        hrManager.addPerson(BENSON);
+        hrManager.addPosition(ADMIN_ASSISTANT);
+        hrManager.commitBatch();
+
+        assertTrue(hrManager.undo());
+        assertEquals(List.of(ALICE), hrManager.getPersonList());
+        assertFalse(hrManager.hasPosition(ADMIN_ASSISTANT));
+
+        assertTrue(hrManager.undo());
+        assertTrue(hrManager.getPersonList().isEmpty());
+        assertFalse(hrManager.undo());
+    }
+
+    @Test
+    public void redo_remakesUndoneBatches() {
+        HrManager typicalHrManager = new HrManager(getTypicalHrManager());
+        HrManager expectedHrManager = new HrManager(getTypicalHrManager());
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        typicalHrManager.beginBatch();
+        typicalHrManager.setPerson(ALICE, editedAlice);
+        typicalHrManager.commitBatch();
+        typicalHrManager.beginBatch();
+        typicalHrManager.removePerson(BENSON);
+        typicalHrManager.commitBatch();
+
+        assertTrue(typicalHrManager.undo());
+        assertTrue(typicalHrManager.undo());
+        assertEquals(expectedHrManager, typicalHrManager);
+        assertFalse(typicalHrManager.canUndo());
+
+        assertTrue(typicalHrManager.redo());
+        assertTrue(typicalHrManager.redo());
+        assertFalse(typicalHrManager.redo());
+        assertTrue(typicalHrManager.hasPerson(editedAlice));
+        assertEquals(editedAlice.getAddress(), typicalHrManager.getPersonList().get(0).getAddress());
+        assertFalse(typicalHrManager.hasPerson(BENSON));
+    }
+
+    @Test
+    public void removePersons_candidatesOfInterviews_removedFromInterviewsAndUndone() {
+        Person amy = new PersonBuilder().withName("Amy").withEmail("amy@example.com").build();
+        Person bob = new PersonBuilder().withName("Bob").withEmail("bob@example.com").build();
+        Interview interview = new InterviewBuilder().withCandidates(new HashSet<>(Arrays.asList(amy, bob))).build();
+        hrManager.addPerson(amy);
+        hrManager.addPerson(bob);
+        hrManager.addInterview(interview);
+
+        hrManager.beginBatch();
+        assertEquals(List.of(amy), hrManager.removePersons(person -> person == amy));
+        hrManager.commitBatch();
+        assertEquals(List.of(bob), hrManager.getPersonList());
+        assertEquals(Set.of(bob), interview.getCandidates());
+
+        assertTrue(hrManager.undo());
+        assertEquals(List.of(amy, bob), hrManager.getPersonList());
+        assertEquals(Set.of(amy, bob), interview.getCandidates());
+    }
+
+    @Test
+    public void removePersons_thenUndoRedo_personsRestoredToTheirPlaces() {
+        Person amy = new PersonBuilder().withName("Amy").withEmail("amy@example.com").build();
+        Person bob = new PersonBuilder().withName("Bob").withEmail("bob@example.com").build();
+        Person carl = new PersonBuilder().withName("Carl").withEmail("carl@example.com").build();
+        Person dan = new PersonBuilder().withName("Dan").withEmail("dan@example.com").build();
+        hrManager.setPersons(List.of(amy, bob, carl, dan));
+
+        hrManager.beginBatch();
+        hrManager.removePersons(person -> person == amy || person == carl);
+        hrManager.commitBatch();
+        assertEquals(List.of(bob, dan), hrManager.getPersonList());
+
+        assertTrue(hrManager.undo());
+        assertEquals(List.of(amy, bob, carl, dan), hrManager.getPersonList());
+        assertTrue(hrManager.redo());
+        assertEquals(List.of(bob, dan), hrManager.getPersonList());
+    }
+
+    @Test
+    public void replacePersons_thenUndoRedo_personsRestoredInPlace() {
+        Person amy = new PersonBuilder().withName("Amy").withEmail("amy@example.com").build();
+        Person bob = new PersonBuilder().withName("Bob").withEmail("bob@example.com").build();
+        hrManager.setPersons(List.of(amy, bob));
+        Person editedBob = new PersonBuilder(bob).withPhone("88888888").build();
+
+        hrManager.beginBatch();
+        hrManager.replacePersons(Map.of(bob, editedBob));
+        hrManager.commitBatch();
+
+        assertTrue(hrManager.undo());
+        assertEquals(List.of(amy, bob), hrManager.getPersonList());
+        assertTrue(hrManager.redo());
+        assertEquals(List.of(amy, editedBob), hrManager.getPersonList());
+    }
+
+    @Test
+    public void replacePersons_candidatesOfInterviews_relinked() {
+        Person amy = new PersonBuilder().withName("Amy").withEmail("amy@example.com").build();
+        Person bob = new PersonBuilder().withName("Bob").withEmail("bob@example.com").build();
+        Interview interview = new InterviewBuilder().withCandidates(new HashSet<>(Arrays.asList(amy, bob))).build();
+        amy.addInterview(interview);
+        bob.addInterview(interview);
+        hrManager.addPerson(amy);
+        hrManager.addPerson(bob);
+        hrManager.addInterview(interview);
+
+        Person editedAmy = new PersonBuilder(amy).withPhone("99999999").build();
+        editedAmy.addInterview(interview);
+        // Bob no longer has the interview, so he leaves it
+        Person editedBob = new PersonBuilder(bob).withPhone("88888888").build();
+        hrManager.replacePersons(Map.of(amy, editedAmy, bob, editedBob));
+
+        assertEquals(List.of(editedAmy, editedBob), hrManager.getPersonList());
+        assertEquals(1, interview.getCandidates().size());
+        assertSame(editedAmy, interview.getCandidates().iterator().next());
+    }
+
+    @Test
+    public void undo_cascades_revertsAndRedoesEveryLink() {
+        Person person = new PersonBuilder().build();
+        Position position = person.getPositions().iterator().next();
+        Interview interview = new InterviewBuilder().withPosition(position).build();
+        hrManager.beginBatch();
+        hrManager.addPerson(person);
+        hrManager.addPosition(position);
+        hrManager.addInterview(interview);
+        hrManager.addInterviewToPerson(person, interview);
+        hrManager.addCandidateToInterview(interview, person);
+        hrManager.commitBatch();
+
+        hrManager.beginBatch();
+        hrManager.deletePersonFromInterview(person);
+        hrManager.deleteInterviewFromPerson(interview);
+        hrManager.deletePositionFromPerson(position);
+        hrManager.removePosition(position);
+        hrManager.commitBatch();
+
+        assertTrue(hrManager.undo());
+        assertTrue(person.appliedForPosition(position));
+        assertTrue(person.hasInterview(interview));
+        assertEquals(Status.SCHEDULED, person.getStatus());
+        assertTrue(interview.hasCandidate(person));
+        assertTrue(hrManager.hasPosition(position));
+
+        assertTrue(hrManager.redo());
+        assertTrue(person.getPositions().isEmpty());
+        assertFalse(person.hasInterview(interview));
+        assertEquals(Status.APPLIED, person.getStatus());
+        assertFalse(interview.hasCandidate(person));
+        assertFalse(hrManager.hasPosition(position));
+    }
+
+    @Test
+    public void commitBatch_afterUndo_clearsRedo() {
+        hrManager.beginBatch();
+        hrManager.addPerson(ALICE);
+        hrManager.commitBatch();
+        hrManager.undo();
+        assertTrue(hrManager.canRedo());
+
+        hrManager.beginBatch();
+        hrManager.addPerson(BENSON);
+        hrManager.commitBatch();
+        assertFalse(hrManager.canRedo());
+        assertFalse(hrManager.redo());
+    }
+
+    @Test
+    public void commitBatch_noMutations_notUndoable() {
+        hrManager.beginBatch();
+        hrManager.commitBatch();
+        assertFalse(hrManager.canUndo());
+    }
+
+    @Test
+    public void undo_inBatchThatIsRolledBack_canBeUndoneAgain() {
+        hrManager.beginBatch();
+        hrManager.addPerson(ALICE);
+        hrManager.commitBatch();
+
+        hrManager.beginBatch();
+        assertTrue(hrManager.undo());
+        assertFalse(hrManager.hasPerson(ALICE));
+        hrManager.rollbackBatch();
+
+        assertTrue(hrManager.hasPerson(ALICE));
+        assertFalse(hrManager.canRedo());
+        assertTrue(hrManager.undo());
+        assertFalse(hrManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void undo_inBatchWithOtherMutations_throwsIllegalStateException() {
+        hrManager.beginBatch();
+        hrManager.addPerson(ALICE);
+        hrManager.commitBatch();
+
+        hrManager.beginBatch();
+        hrManager.addPerson(BENSON);
+        assertThrows(IllegalStateException.class, hrManager::undo);
+        hrManager.beginBatch();
+        assertThrows(IllegalStateException.class, hrManager::redo);
+    }
+
+    @Test
+    public void undo_manyBatches_keepsLatestOnly() {
+        for (int i = 0; i < HrManager.HISTORY_LIMIT + 1; i++) {
+            hrManager.beginBatch();
+            hrManager.addPosition(new PositionBuilder().withTitle("Position " + i).build());
+            hrManager.commitBatch();
+        }
+
+        for (int i = 0; i < HrManager.HISTORY_LIMIT; i++) {
+            assertTrue(hrManager.undo());
+        }
+        assertFalse(hrManager.undo());
+        assertEquals(1, hrManager.getPositionList().size());
+    }
+
+    //// snapshots
+
+    @Test
+    public void getSnapshot_afterMutations_unaffectedByLaterMutations() {
+        HrManager typicalHrManager = new HrManager(getTypicalHrManager());
+        HrManagerSnapshot before = typicalHrManager.getSnapshot();
+        int aliceId = before.getPersons().get(0).getId();
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        typicalHrManager.setPerson(ALICE, editedAlice);
+        typicalHrManager.removePerson(BENSON);
+        HrManagerSnapshot after = typicalHrManager.getSnapshot();
+
+        assertEquals(ALICE.getAddress(), before.getPerson(aliceId).get().getAddress());
+        assertEquals(getTypicalHrManager().getPersonList().size(), before.getPersons().size());
+        // an edited person keeps its id
+        assertEquals(editedAlice.getAddress(), after.getPerson(aliceId).get().getAddress());
+        assertEquals(before.getPersons().size() - 1, after.getPersons().size());
+    }
+
+    @Test
+    public void getSnapshot_personsRemovedAndAdded_idsReused() {
+        Person amy = new PersonBuilder().withName("Amy").withEmail("amy@example.com").build();
+        hrManager.addPerson(amy);
+
+        for (int i = 0; i < 100; i++) {
+            Person person = new PersonBuilder().withName("Bob").withEmail("bob" + i + "@example.com").build();
+            hrManager.addPerson(person);
+            hrManager.removePerson(person);
+        }
+        hrManager.removePerson(amy);
+        Person bob = new PersonBuilder().withName("Bob").withEmail("bob@example.com").build();
+        hrManager.addPerson(bob);
+
+        HrManagerSnapshot snapshot = hrManager.getSnapshot();
+        assertEquals(1, snapshot.getPersons().size());
+        // only the ids of Amy and of the person added and removed each time were ever given out
+        int bobId = snapshot.getPersons().get(0).getId();
+        assertTrue(bobId <= 1);
+        assertEquals(bob.getEmail(), snapshot.getPerson(bobId).get().getEmail());
+        assertFalse(snapshot.getPerson(2).isPresent());
+    }
+
+    @Test
+    public void getSnapshot_linkChanges_recorded() {
+        Person person = new PersonBuilder().build();
+        Position position = person.getPositions().iterator().next();
+        Interview interview = new InterviewBuilder().withPosition(position).build();
+        hrManager.addPerson(person);
+        hrManager.addPosition(position);
+        hrManager.addInterview(interview);
+        HrManagerSnapshot before = hrManager.getSnapshot();
+
+        hrManager.addInterviewToPerson(person, interview);
+        hrManager.addCandidateToInterview(interview, person);
+        HrManagerSnapshot after = hrManager.getSnapshot();
+
+        assertEquals(Status.APPLIED, before.getPersons().get(0).getStatus());
+        assertTrue(before.getInterviews().get(0).getCandidateEmails().isEmpty());
+        assertEquals(Status.SCHEDULED, after.getPersons().get(0).getStatus());
+        assertEquals(Set.of(person.getEmail()), after.getInterviews().get(0).getCandidateEmails());
+    }
+
+    @Test
+    public void getSnapshot_linkChangesRolledBack_hiringFunnelCountsRestored() {
+        Person person = new PersonBuilder().build();
+        Position position = person.getPositions().iterator().next();
+        Interview interview = new InterviewBuilder().withPosition(position).build();
+        hrManager.addPerson(person);
+        hrManager.addPosition(position);
+        hrManager.addInterview(interview);
+
+        hrManager.beginBatch();
+        hrManager.addInterviewToPerson(person, interview);
+        hrManager.commitBatch();
+        HiringFunnel scheduled = hrManager.getSnapshot().getHiringFunnel();
+        assertEquals(1, scheduled.getCandidateCount(0, Status.SCHEDULED));
+        assertEquals(1, scheduled.getInterviewCount(interview.getDate()));
+
+        hrManager.beginBatch();
+        hrManager.removeInterviewFromPerson(person, interview);
+        hrManager.removeInterview(interview);
+        hrManager.rollbackBatch();
+        HiringFunnel afterRollback = hrManager.getSnapshot().getHiringFunnel();
+        assertEquals(1, afterRollback.getCandidateCount(0, Status.SCHEDULED));
+        assertEquals(0, afterRollback.getCandidateCount(0, Status.APPLIED));
+        assertEquals(1, afterRollback.getInterviewCount(interview.getDate()));
+    }
+
+    @Test
+    public void getSnapshot_personEditedAndPositionAdded_suggestionsUpdated() {
+        hrManager.addPerson(ALICE);
+        hrManager.addPosition(ADMIN_ASSISTANT);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").withTags(VALID_TAG_HUSBAND).build();
+        hrManager.setPerson(ALICE, editedAlice);
+
+        Suggestions suggestions = hrManager.getSnapshot().getSuggestions();
+        assertEquals(List.of("Alicia Pauline"), suggestions.getNames().complete("ali", 10));
+        assertEquals(List.of(VALID_TAG_HUSBAND), suggestions.getTags().complete("", 10));
+        assertEquals(List.of(ADMIN_ASSISTANT.getTitle().fullTitle),
+                suggestions.getPositionTitles().complete("", 10));
+    }
+
+    @Test
+    public void getSnapshot_duringBatch_showsDataBeforeBatch() {
+        HrManagerSnapshot before = hrManager.getSnapshot();
+        hrManager.beginBatch();
+        hrManager.addPerson(ALICE);
+        hrManager.addPosition(ADMIN_ASSISTANT);
+        assertSame(before, hrManager.getSnapshot());
+        hrManager.commitBatch();
+
+        assertEquals(ALICE.getName(), hrManager.getSnapshot().getPersons().get(0).getName());
+        assertEquals(ADMIN_ASSISTANT.getTitle(), hrManager.getSnapshot().getPositions().get(0).getTitle());
+    }
+
+    @Test
+    public void getSnapshot_afterRollback_sameOrderAsBefore() {
+        HrManager typicalHrManager = new HrManager(getTypicalHrManager());
+        List<Integer> idsBefore = getPersonIds(typicalHrManager.getSnapshot());
+
+        typicalHrManager.beginBatch();
+        typicalHrManager.removePerson(ALICE);
+        typicalHrManager.setPerson(BENSON, new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build());
+        typicalHrManager.rollbackBatch();
+
+        assertEquals(idsBefore, getPersonIds(typicalHrManager.getSnapshot()));
+        assertEquals(BENSON.getAddress(), typicalHrManager.getSnapshot().getPersons().get(1).getAddress());
+    }
+
+    private static List<Integer> getPersonIds(HrManagerSnapshot snapshot) {
+        return snapshot.getPersons().stream().map(PersonRecord::getId).collect(Collectors.toList());
+    }
+
     /**
      * A stub ReadOnlyHrManager whose persons list can violate interface constraints.
      */
@@ -16,13 +16,17 @@ import static seedu.address.testutil.TypicalPositions.BOOKKEEPER;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.interview.PositionTitleContainsKeywordsPredicate;
 import seedu.address.model.person.FindCandidateCommandPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.position.TitleContainsKeywordsPredicate;
 import seedu.address.testutil.HrManagerBuilder;
 
@@ -104,6 +108,29 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getHrManagerInterviewsFilePath());
     }
 
+    @Test
+    public void setHrManager_outsideBatch_pagesRefreshedOnceByPageRefresher() {
+        List<Runnable> pageRefreshes = new ArrayList<>();
+        modelManager.setPageRefresher(pageRefreshes::add);
+        int[] personPageChanges = new int[1];
+        modelManager.getPagedPersonList().getPage()
+                .addListener((ListChangeListener<Person>) change -> personPageChanges[0]++);
+
+        modelManager.setHrManager(new HrManagerBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        assertTrue(modelManager.getPagedPersonList().getPage().isEmpty());
+        assertFalse(pageRefreshes.isEmpty());
+
+        // The pages were copied when the data was put in, so later changes are not taken in.
+        modelManager.beginBatch();
+        modelManager.deletePerson(BENSON);
+        pageRefreshes.forEach(Runnable::run);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getPagedPersonList().getPage());
+        assertEquals(1, personPageChanges[0]);
+        modelManager.rollback();
+        // Data put in outside a batch, such as the data loaded at startup, cannot be undone.
+        assertFalse(modelManager.undo());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasPerson(null));
@@ -167,6 +194,32 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredInterviewList().remove(0));
     }
 
+    @Test
+    public void commit_batchedMutations_pageRefreshedOnCommit() {
+        modelManager.beginBatch();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+        assertTrue(modelManager.getPagedPersonList().getPage().isEmpty());
+
+        modelManager.commit();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getPagedPersonList().getPage());
+    }
+
+    @Test
+    public void rollback_batchedMutations_revertsData() {
+        modelManager.addPosition(ADMIN_ASSISTANT);
+        modelManager.beginBatch();
+        modelManager.deletePosition(ADMIN_ASSISTANT);
+        modelManager.addPerson(ALICE);
+        modelManager.rollback();
+
+        assertEquals(Arrays.asList(ADMIN_ASSISTANT), modelManager.getPagedPositionList().getPage());
+        assertTrue(modelManager.getPagedPersonList().getPage().isEmpty());
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.isInBatch());
+    }
+
     @Test
     public void equals() {
         HrManager hrManager = new HrManagerBuilder()
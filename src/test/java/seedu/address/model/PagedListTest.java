@@ -0,0 +1,163 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PagedListTest {
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3, 4, 5, 6, 7);
+
+    @Test
+    public void constructor_invalidArgs_throwsException() {
+        assertThrows(NullPointerException.class, () -> new PagedList<Integer>(null, 3));
+        assertThrows(IllegalArgumentException.class, () -> new PagedList<>(source, 0));
+    }
+
+    @Test
+    public void constructor_showsFirstPage() {
+        PagedList<Integer> pagedList = new PagedList<>(source, 3);
+        assertEquals(List.of(1, 2, 3), pagedList.getPage());
+        assertEquals(3, pagedList.getPageCount());
+        assertEquals(7, pagedList.getTotalSize());
+        assertTrue(pagedList.hasNextPage());
+        assertFalse(pagedList.hasPreviousPage());
+    }
+
+    @Test
+    public void setPageIndex_validIndex_showsPage() {
+        PagedList<Integer> pagedList = new PagedList<>(source, 3);
+        pagedList.setPageIndex(2);
+        assertEquals(List.of(7), pagedList.getPage());
+        assertEquals(6, pagedList.getOffset());
+        assertFalse(pagedList.hasNextPage());
+        assertTrue(pagedList.hasPreviousPage());
+    }
+
+    @Test
+    public void setPageIndex_outOfRange_throwsIllegalArgumentException() {
+        PagedList<Integer> pagedList = new PagedList<>(source, 3);
+        assertThrows(IllegalArgumentException.class, () -> pagedList.setPageIndex(3));
+        assertThrows(IllegalArgumentException.class, () -> pagedList.setPageIndex(-1));
+    }
+
+    @Test
+    public void setPageSize_keepsFirstElementVisible() {
+        PagedList<Integer> pagedList = new PagedList<>(source, 2);
+        pagedList.setPageIndex(2);
+        pagedList.setPageSize(4);
+        assertEquals(1, pagedList.getPageIndex());
+        assertEquals(List.of(5, 6, 7), pagedList.getPage());
+    }
+
+    @Test
+    public void sourceChanged_pageUpdated() {
+        PagedList<Integer> pagedList = new PagedList<>(source, 3);
+        pagedList.setPageIndex(1);
+        source.add(0, 0);
+        assertEquals(List.of(3, 4, 5), pagedList.getPage());
+
+        // source shrinks below the current page -> last page shown
+        source.remove(2, source.size());
+        assertEquals(0, pagedList.getPageIndex());
+        assertEquals(List.of(0, 1), pagedList.getPage());
+    }
+
+    @Test
+    public void deferRefresh_pageUpdatedOnceOnResume() {
+        PagedList<Integer> pagedList = new PagedList<>(source, 3);
+        int[] changeCount = new int[1];
+        pagedList.getPage().addListener((ListChangeListener<Integer>) change -> changeCount[0]++);
+
+        pagedList.deferRefresh();
+        source.add(0, 0);
+        source.remove(1);
+        source.set(0, 9);
+        assertEquals(List.of(1, 2, 3), pagedList.getPage());
+        assertEquals(0, changeCount[0]);
+
+        pagedList.resumeRefresh();
+        assertEquals(List.of(9, 2, 3), pagedList.getPage());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void resumeRefresh_deferredAgain_pageNotUpdatedUntilLastResume() {
+        PagedList<Integer> pagedList = new PagedList<>(source, 3);
+
+        pagedList.deferRefresh();
+        source.set(0, 9);
+        // The next deferral begins before the first is resumed, as when pages are refreshed on another thread.
+        pagedList.deferRefresh();
+        pagedList.resumeRefresh();
+        source.set(1, 8);
+        assertEquals(List.of(1, 2, 3), pagedList.getPage());
+
+        pagedList.resumeRefresh();
+        assertEquals(List.of(9, 8, 3), pagedList.getPage());
+    }
+
+    @Test
+    public void setRefresher_sourceChangedAfterCopy_refresherSetsCopy() {
+        PagedList<Integer> pagedList = new PagedList<>(source, 3);
+        List<Runnable> refreshes = new ArrayList<>();
+        pagedList.setRefresher(refreshes::add);
+
+        source.set(0, 9);
+        assertEquals(List.of(1, 2, 3), pagedList.getPage());
+        assertEquals(1, refreshes.size());
+
+        // The refresher takes in the elements as they were, without reading the source again.
+        pagedList.deferRefresh();
+        source.set(1, 8);
+        refreshes.get(0).run();
+        assertEquals(List.of(9, 2, 3), pagedList.getPage());
+    }
+
+    @Test
+    public void getPageCopies_elementChangedInPlace_copiedAgainWhenRefreshResumes() {
+        StringBuilder first = new StringBuilder("a");
+        ObservableList<StringBuilder> elements = FXCollections.observableArrayList(first, new StringBuilder("b"));
+        PagedList<StringBuilder> pagedList = new PagedList<>(elements, 3);
+        ObservableList<String> copies = pagedList.getPageCopies(StringBuilder::toString);
+        List<Runnable> refreshes = new ArrayList<>();
+        pagedList.setRefresher(refreshes::add);
+        assertEquals(List.of("a", "b"), copies);
+
+        // The element is changed in place, which the list of elements cannot tell.
+        pagedList.deferRefresh();
+        first.append("c");
+        pagedList.resumeRefresh();
+        first.append("d");
+        assertEquals(List.of("a", "b"), copies);
+
+        // The refresher takes in the copies made when refreshes resumed.
+        refreshes.get(0).run();
+        assertEquals(List.of("ac", "b"), copies);
+        assertThrows(UnsupportedOperationException.class, () -> copies.remove(0));
+    }
+
+    @Test
+    public void emptySource_singleEmptyPage() {
+        PagedList<Integer> pagedList = new PagedList<>(FXCollections.observableArrayList(), 3);
+        assertEquals(1, pagedList.getPageCount());
+        assertTrue(pagedList.getPage().isEmpty());
+        assertFalse(pagedList.hasNextPage());
+    }
+
+    @Test
+    public void getPage_modifyPage_throwsUnsupportedOperationException() {
+        PagedList<Integer> pagedList = new PagedList<>(source, 3);
+        assertThrows(UnsupportedOperationException.class, () -> pagedList.getPage().remove(0));
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.HrManager;
+import seedu.address.testutil.InterviewBuilder;
+
+public class InterviewCalendarTest {
+
+    private static final LocalDate TUESDAY = LocalDate.of(2021, 10, 19);
+    private static final LocalDate MONDAY = TUESDAY.minusDays(1);
+
+    private final Interview tuesdayInterview = interview(TUESDAY, LocalTime.of(10, 0));
+    private final Interview nextWeekInterview = interview(TUESDAY.plusDays(7), LocalTime.of(10, 0));
+
+    private final HrManager hrManager = new HrManager();
+    private final InterviewCalendar calendar = new InterviewCalendar(hrManager.getInterviewList(),
+            hrManager::getInterviewsDuring, TUESDAY);
+
+    @Test
+    public void constructor_showsWeekFromMonday() {
+        assertEquals(MONDAY, calendar.getStartDate());
+        assertEquals(MONDAY.plusDays(6), calendar.getEndDate());
+        assertEquals(InterviewCalendar.DAYS_PER_WEEK, calendar.getDays());
+    }
+
+    @Test
+    public void showNextAndPrevious_movesByPeriod() {
+        hrManager.addInterview(tuesdayInterview);
+        hrManager.addInterview(nextWeekInterview);
+        assertEquals(List.of(tuesdayInterview), calendar.getInterviews());
+
+        calendar.showNext();
+        assertEquals(MONDAY.plusDays(7), calendar.getStartDate());
+        assertEquals(List.of(nextWeekInterview), calendar.getInterviews());
+
+        calendar.showDay(TUESDAY.plusDays(1));
+        assertTrue(calendar.getInterviews().isEmpty());
+        calendar.showPrevious();
+        assertEquals(TUESDAY, calendar.getStartDate());
+        assertEquals(TUESDAY, calendar.getEndDate());
+        assertEquals(List.of(tuesdayInterview), calendar.getInterviews());
+    }
+
+    @Test
+    public void deferRefresh_interviewsUpdatedOnResume() {
+        calendar.deferRefresh();
+        hrManager.addInterview(tuesdayInterview);
+        assertTrue(calendar.getInterviews().isEmpty());
+
+        calendar.resumeRefresh();
+        assertEquals(List.of(tuesdayInterview), calendar.getInterviews());
+    }
+
+    @Test
+    public void getInterviewCount_refreshDeferred_countOfPeriodShown() {
+        hrManager.addInterview(tuesdayInterview);
+        calendar.deferRefresh();
+        calendar.showNext();
+        assertEquals(List.of(tuesdayInterview), calendar.getInterviews());
+        assertEquals(0, calendar.getInterviewCount());
+
+        calendar.showPrevious();
+        assertEquals(1, calendar.getInterviewCount());
+    }
+
+    @Test
+    public void setRefresher_interviewsFoundBeforeHandedOver() {
+        List<Runnable> refreshes = new ArrayList<>();
+        calendar.setRefresher(refreshes::add);
+        hrManager.addInterview(tuesdayInterview);
+        assertTrue(calendar.getInterviews().isEmpty());
+
+        // The refresher takes in the interviews found, without finding them again.
+        calendar.deferRefresh();
+        hrManager.addInterview(interview(TUESDAY, LocalTime.of(15, 0)));
+        refreshes.forEach(Runnable::run);
+        assertEquals(List.of(tuesdayInterview), calendar.getInterviews());
+    }
+
+    private static Interview interview(LocalDate date, LocalTime startTime) {
+        return new InterviewBuilder().withDate(date).withStartTime(startTime).withDuration(Duration.ofHours(1))
+                .build();
+    }
+}
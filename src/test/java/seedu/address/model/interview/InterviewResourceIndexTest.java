@@ -0,0 +1,63 @@
+package seedu.address.model.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.InterviewBuilder;
+
+public class InterviewResourceIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2021, 10, 15);
+
+    private final Interview longMorning = new InterviewBuilder().withDate(DAY).withStartTime(LocalTime.of(9, 0))
+            .withDuration(Duration.ofHours(3)).withRoom("Room A").withInterviewers("Alice").build();
+    private final Interview shortNoon = new InterviewBuilder().withDate(DAY).withStartTime(LocalTime.of(12, 0))
+            .withDuration(Duration.ofMinutes(30)).withRoom("Room B").withInterviewers("Alice", "Bob").build();
+    private final Interview nextDay = new InterviewBuilder().withDate(DAY.plusDays(1))
+            .withStartTime(LocalTime.of(11, 0)).withDuration(Duration.ofMinutes(30)).build();
+
+    @Test
+    public void getInterviewsDuring_overlappingInterviewsFound() {
+        ObservableList<Interview> interviews = FXCollections.observableArrayList(shortNoon, longMorning, nextDay);
+        InterviewResourceIndex index = new InterviewResourceIndex(interviews);
+
+        // started long before the period
+        assertEquals(List.of(longMorning), index.getInterviewsDuring(DAY, LocalTime.of(11, 30),
+                Duration.ofMinutes(30)));
+        assertEquals(List.of(longMorning, shortNoon), index.getInterviewsDuring(DAY, LocalTime.of(11, 59),
+                Duration.ofMinutes(2)));
+        // periods that only touch an interview do not overlap it
+        assertTrue(index.getInterviewsDuring(DAY, LocalTime.of(12, 30), Duration.ofMinutes(30)).isEmpty());
+        assertTrue(index.getInterviewsDuring(DAY.plusDays(1), LocalTime.of(10, 0), Duration.ofHours(1)).isEmpty());
+    }
+
+    @Test
+    public void listChanges_indexUpdated() {
+        ObservableList<Interview> interviews = FXCollections.observableArrayList(longMorning);
+        InterviewResourceIndex index = new InterviewResourceIndex(interviews);
+
+        interviews.add(shortNoon);
+        assertEquals(Set.of(new Interviewer("Alice"), new Interviewer("Bob")), index.getInterviewers());
+        assertEquals(Set.of(new Room("Room A"), new Room("Room B")), index.getRooms());
+
+        interviews.set(1, nextDay);
+        assertEquals(Set.of(new Interviewer("Alice")), index.getInterviewers());
+        assertEquals(Set.of(new Room("Room A")), index.getRooms());
+        assertEquals(List.of(nextDay), index.getInterviewsDuring(DAY.plusDays(1), LocalTime.of(11, 0),
+                Duration.ofMinutes(1)));
+
+        interviews.clear();
+        assertTrue(index.getInterviewers().isEmpty());
+        assertTrue(index.getInterviewsDuring(DAY, LocalTime.of(10, 0), Duration.ofMinutes(1)).isEmpty());
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.model.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.interview.InterviewScheduler.Schedule;
+import seedu.address.model.interview.InterviewScheduler.Slot;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.InterviewBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class InterviewSchedulerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2021, 10, 15);
+    private static final Duration HALF_HOUR = Duration.ofMinutes(30);
+
+    @Test
+    public void constructor_slotsFitWorkingHours() {
+        // 0900-1015 only fits two whole half-hour slots a day
+        assertEquals(4, new InterviewScheduler(DAY, DAY.plusDays(1), LocalTime.of(9, 0), LocalTime.of(10, 15),
+                HALF_HOUR, List.of()).getSlotCount());
+    }
+
+    @Test
+    public void constructor_busyInterviews_slotsLeftOut() {
+        Interview busy = interviewAt(LocalTime.of(9, 15), Duration.ofMinutes(30));
+        // 0900-0930 and 0930-1000 both overlap 0915-0945
+        assertEquals(2, new InterviewScheduler(DAY, DAY, LocalTime.of(9, 0), LocalTime.of(11, 0), HALF_HOUR,
+                List.of(busy)).getSlotCount());
+    }
+
+    @Test
+    public void schedule_candidateInterviews_avoided() {
+        Person busyAtNine = candidate("a@example.com", interviewAt(LocalTime.of(9, 0), HALF_HOUR));
+        Person free = candidate("b@example.com");
+        InterviewScheduler scheduler = new InterviewScheduler(DAY, DAY, LocalTime.of(9, 0), LocalTime.of(10, 0),
+                HALF_HOUR, List.of());
+
+        Schedule schedule = scheduler.schedule(List.of(free, busyAtNine));
+
+        assertEquals(LocalTime.of(9, 30), schedule.getPlacements().get(busyAtNine).getStartTime());
+        assertEquals(LocalTime.of(9, 0), schedule.getPlacements().get(free).getStartTime());
+        assertTrue(schedule.getUnplaced().isEmpty());
+    }
+
+    @Test
+    public void schedule_greedyChoiceBlocksCandidate_candidatesMovedToMakeRoom() {
+        // Placing each candidate in their earliest free slot in turn leaves the third without one.
+        Person first = candidate("a@example.com", interviewAt(LocalTime.of(10, 0), HALF_HOUR));
+        Person second = candidate("b@example.com", interviewAt(LocalTime.of(9, 0), HALF_HOUR));
+        Person third = candidate("c@example.com", interviewAt(LocalTime.of(10, 0), HALF_HOUR));
+        InterviewScheduler scheduler = new InterviewScheduler(DAY, DAY, LocalTime.of(9, 0), LocalTime.of(10, 30),
+                HALF_HOUR, List.of());
+
+        Schedule schedule = scheduler.schedule(List.of(first, second, third));
+
+        assertTrue(schedule.getUnplaced().isEmpty());
+        assertEquals(LocalTime.of(10, 0), schedule.getPlacements().get(second).getStartTime());
+        assertNoSharedSlots(schedule);
+    }
+
+    @Test
+    public void schedule_tooFewSlots_reportsUnplaced() {
+        Person first = candidate("a@example.com");
+        Person second = candidate("b@example.com");
+        Person third = candidate("c@example.com");
+        InterviewScheduler scheduler = new InterviewScheduler(DAY, DAY, LocalTime.of(9, 0), LocalTime.of(10, 0),
+                HALF_HOUR, List.of());
+
+        Schedule schedule = scheduler.schedule(List.of(first, second, third));
+
+        assertEquals(List.of(first, second), new ArrayList<>(schedule.getPlacements().keySet()));
+        assertEquals(List.of(third), schedule.getUnplaced());
+    }
+
+    @Test
+    public void schedule_manyCandidates_placesEveryCandidate() {
+        List<Person> candidates = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalTime busyTime = LocalTime.of(9, 0).plusMinutes(30L * (i % 16));
+            candidates.add(candidate("candidate" + i + "@example.com", interviewAt(busyTime, HALF_HOUR)));
+        }
+        InterviewScheduler scheduler = new InterviewScheduler(DAY, DAY.plusDays(39), LocalTime.of(9, 0),
+                LocalTime.of(17, 0), HALF_HOUR, List.of());
+
+        Schedule schedule = scheduler.schedule(candidates);
+
+        assertEquals(500, schedule.getPlacements().size());
+        assertNoSharedSlots(schedule);
+        for (Map.Entry<Person, Slot> placement : schedule.getPlacements().entrySet()) {
+            Interview busy = placement.getKey().getInterviews().iterator().next();
+            Slot slot = placement.getValue();
+            assertTrue(!slot.getDate().equals(busy.getDate()) || !slot.getStartTime().equals(busy.getStartTime()));
+        }
+    }
+
+    private static void assertNoSharedSlots(Schedule schedule) {
+        Set<Slot> slots = new HashSet<>(schedule.getPlacements().values());
+        assertEquals(schedule.getPlacements().size(), slots.size());
+    }
+
+    private static Interview interviewAt(LocalTime startTime, Duration duration) {
+        return new InterviewBuilder().withDate(DAY).withStartTime(startTime).withDuration(duration).build();
+    }
+
+    private static Person candidate(String email, Interview... interviews) {
+        Person person = new PersonBuilder().withEmail(email).build();
+        for (Interview interview : interviews) {
+            person.addInterview(interview);
+        }
+        return person;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.interview;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.interview.CommandTestUtil.VALID_CANDIDATES_SET;
@@ -18,10 +19,15 @@ import static seedu.address.testutil.TypicalPositions.BOOKKEEPER;
 
 import java.time.Duration;
 import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+import seedu.address.model.position.Title;
 import seedu.address.testutil.InterviewBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class InterviewTest {
 
@@ -141,4 +147,37 @@ public class InterviewTest {
         interview.setStatus(Interview.InterviewStatus.PENDING);
         assertEquals(interview.getStatus(), Interview.InterviewStatus.PENDING);
     }
+
+    @Test
+    public void displayStrings_afterMutation_reflectMutation() {
+        Interview interview = new InterviewBuilder().withPosition(BOOKKEEPER).withCandidates(new HashSet<>()).build();
+        String displayString = interview.getDisplayString();
+        assertSame(displayString, interview.getDisplayString());
+
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        interview.addCandidate(alice);
+        assertTrue(interview.getDisplayString().contains("Alice Pauline"));
+        assertTrue(interview.getCandidateNameString().contains("Alice Pauline"));
+
+        interview.deleteCandidate(alice);
+        assertEquals(displayString, interview.getDisplayString());
+        assertEquals("", interview.getCandidateNameString().trim());
+
+        interview.setStatus(Interview.InterviewStatus.COMPLETED);
+        assertTrue(interview.getDisplayString().contains("COMPLETED"));
+        assertTrue(interview.getDisplayStringWithoutNames().contains("COMPLETED"));
+
+        interview.setPosition(new Position(new Title("Clerk")));
+        assertTrue(interview.getDisplayStringWithoutNames().startsWith("[Clerk"));
+
+        interview.setCandidates(Set.of(alice));
+        assertTrue(interview.getCandidatesNames().contains("Alice Pauline"));
+    }
+
+    @Test
+    public void getCandidates_modification_throwsUnsupportedOperationException() {
+        Interview interview = new InterviewBuilder().withCandidates(new HashSet<>()).build();
+        assertThrows(UnsupportedOperationException.class, () -> interview.getCandidates().add(
+                new PersonBuilder().build()));
+    }
 }
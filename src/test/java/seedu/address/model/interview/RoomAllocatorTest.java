@@ -0,0 +1,133 @@
+package seedu.address.model.interview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.interview.RoomAllocator.Allocation;
+import seedu.address.testutil.InterviewBuilder;
+
+public class RoomAllocatorTest {
+
+    private static final Room ROOM_A = new Room("Room A");
+    private static final Room ROOM_B = new Room("Room B");
+
+    @Test
+    public void allocate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> RoomAllocator.allocate(null, List.of()));
+        assertThrows(NullPointerException.class, () -> RoomAllocator.allocate(List.of(), null));
+    }
+
+    @Test
+    public void allocate_endedInterviewsFreeTheirRooms() {
+        Interview nine = interviewAt(9, 0, 60).build();
+        Interview nineThirty = interviewAt(9, 30, 60).build();
+        // starts as the first interview ends, so it can reuse its room
+        Interview ten = interviewAt(10, 0, 30).build();
+
+        Allocation allocation = RoomAllocator.allocate(List.of(ten, nineThirty, nine), List.of(ROOM_A, ROOM_B));
+
+        assertEquals(2, allocation.getMinimumRooms());
+        assertEquals(ROOM_A, allocation.getAllocations().get(nine));
+        assertEquals(ROOM_B, allocation.getAllocations().get(nineThirty));
+        assertEquals(ROOM_A, allocation.getAllocations().get(ten));
+        assertEquals(List.of(nine, nineThirty, ten), new ArrayList<>(allocation.getAllocations().keySet()));
+        assertTrue(allocation.getUnallocated().isEmpty());
+    }
+
+    @Test
+    public void allocate_notEnoughRooms_unallocatedReported() {
+        Interview first = interviewAt(9, 0, 60).build();
+        Interview second = interviewAt(9, 0, 60).build();
+
+        Allocation allocation = RoomAllocator.allocate(List.of(first, second), List.of(ROOM_A));
+
+        assertEquals(2, allocation.getMinimumRooms());
+        assertEquals(1, allocation.getAllocations().size());
+        assertEquals(1, allocation.getUnallocated().size());
+    }
+
+    @Test
+    public void allocate_laterBookingInRoom_roomNotGivenIfItClashes() {
+        Interview booked = interviewAt(10, 0, 60).withRoom("Room A").build();
+        Interview unbooked = interviewAt(9, 30, 60).build();
+
+        Allocation allocation = RoomAllocator.allocate(List.of(booked, unbooked), List.of(ROOM_B));
+
+        // Room A is free at 0930 but is booked from 1000
+        assertEquals(ROOM_B, allocation.getAllocations().get(unbooked));
+        assertTrue(allocation.getOverbooked().isEmpty());
+    }
+
+    @Test
+    public void allocate_roomsUsedByInterviews_usedForOthers() {
+        Interview booked = interviewAt(9, 0, 30).withRoom("Room A").build();
+        Interview unbooked = interviewAt(9, 30, 30).build();
+
+        assertEquals(ROOM_A, RoomAllocator.allocate(List.of(booked, unbooked), List.of()).getAllocations()
+                .get(unbooked));
+    }
+
+    @Test
+    public void allocate_roomBookedTwice_overbookedReported() {
+        Interview first = interviewAt(9, 0, 60).withRoom("Room A").build();
+        Interview second = interviewAt(9, 45, 30).withRoom("Room A").build();
+
+        Allocation allocation = RoomAllocator.allocate(List.of(first, second), List.of());
+
+        assertEquals(List.of(second), allocation.getOverbooked());
+        assertTrue(allocation.getAllocations().isEmpty());
+    }
+
+    @Test
+    public void allocate_manyInterviews_noRoomShared() {
+        List<Interview> interviews = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            // distinct start times, 300 a day
+            interviews.add(new InterviewBuilder().withDate(LocalDate.of(2021, 10, 15).plusDays(i / 300))
+                    .withStartTime(LocalTime.of(8, 0).plusMinutes(i * 7 % 300))
+                    .withDuration(Duration.ofMinutes(15 + i % 4 * 15)).build());
+        }
+        Set<Room> rooms = new HashSet<>();
+        for (int i = 0; i < 300; i++) {
+            rooms.add(new Room("Room " + i));
+        }
+
+        Allocation allocation = RoomAllocator.allocate(interviews, rooms);
+
+        assertTrue(allocation.getUnallocated().isEmpty());
+        List<Interview> allocated = new ArrayList<>(allocation.getAllocations().keySet());
+        int mostAtOnce = 0;
+        for (Interview interview : allocated) {
+            int atOnce = 0;
+            for (Interview other : allocated) {
+                boolean overlaps = other.getStartEpochMinute() < interview.getEndEpochMinute()
+                        && interview.getStartEpochMinute() < other.getEndEpochMinute();
+                if (other != interview && overlaps) {
+                    assertTrue(allocation.getAllocations().get(interview) != allocation.getAllocations().get(other));
+                }
+                if (other.getStartEpochMinute() <= interview.getStartEpochMinute()
+                        && interview.getStartEpochMinute() < other.getEndEpochMinute()) {
+                    atOnce++;
+                }
+            }
+            mostAtOnce = Math.max(mostAtOnce, atOnce);
+        }
+        assertEquals(mostAtOnce, allocation.getMinimumRooms());
+    }
+
+    private static InterviewBuilder interviewAt(int hour, int minute, int minutes) {
+        return new InterviewBuilder().withStartTime(LocalTime.of(hour, minute))
+                .withDuration(Duration.ofMinutes(minutes));
+    }
+}
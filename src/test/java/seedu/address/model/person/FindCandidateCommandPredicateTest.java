@@ -205,4 +205,16 @@ public class FindCandidateCommandPredicateTest {
                 new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), Arrays.asList("HR-Manager"));
         assertFalse(predicate.test(new PersonBuilder().withPositions(BENSON.getPositionsString()).build()));
     }
+
+    @Test
+    public void test_manyTagKeywords_matchesWholeTags() {
+        List<String> skills = Arrays.asList("java", "python", "sql", "docker", "kubernetes", "react", "go", "rust",
+                "scala", "kotlin");
+        FindCandidateCommandPredicate predicate = new FindCandidateCommandPredicate();
+        predicate.setTagKeywords(skills);
+
+        assertTrue(predicate.test(new PersonBuilder().withTags("excel", "Kotlin").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("javascript", "golang").build()));
+        assertFalse(predicate.test(new PersonBuilder().build()));
+    }
 }
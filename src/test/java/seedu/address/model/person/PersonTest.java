@@ -144,4 +144,23 @@ public class PersonTest {
         //editedAlice now only has BK in its positions
         assertEquals(positions, editedAlice.getPositions());
     }
+
+    @Test
+    public void getPositionsString_afterPositionsChange_reflectsChange() {
+        Person person = new PersonBuilder().withPositions("Accountant").build();
+        assertEquals("Accountant", person.getPositionsString());
+
+        Position clerk = new Position(new Title("Clerk"));
+        person.addPosition(clerk);
+        assertTrue(person.getPositionsString().contains("Clerk"));
+
+        person.deletePosition(clerk);
+        assertEquals("Accountant", person.getPositionsString());
+
+        Set<Position> positions = new HashSet<>(Set.of(clerk));
+        person.setPositions(positions);
+        positions.clear();
+        assertEquals("Clerk", person.getPositionsString());
+        assertEquals(Set.of(clerk), person.getPositions());
+    }
 }
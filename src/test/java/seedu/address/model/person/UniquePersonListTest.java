@@ -12,9 +12,12 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -162,9 +165,80 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void removeIf_matchingPersons_removedInOneChange() {
+        Person carl = new PersonBuilder().withName("Carl").withEmail("carl@example.com").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, carl));
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        List<Person> removed = uniquePersonList.removeIf(person -> person != BOB);
+
+        assertEquals(Arrays.asList(ALICE, carl), removed);
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertTrue(uniquePersonList.getSearchIndex().lookupPhoneticName("Carl").isEmpty());
+        assertTrue(uniquePersonList.removeIf(person -> false).isEmpty());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void insertAt_removedPersons_restoredToTheirPlacesInOneChange() {
+        Person carl = new PersonBuilder().withName("Carl").withEmail("carl@example.com").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, carl));
+        List<Person> removed = uniquePersonList.removeAt(Arrays.asList(0, 2));
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        uniquePersonList.insertAt(Arrays.asList(0, 2), removed);
+
+        assertEquals(Arrays.asList(ALICE, BOB, carl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertFalse(uniquePersonList.getSearchIndex().lookupPhoneticName("Carl").isEmpty());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.insertAt(Arrays.asList(0), Arrays.asList(
+                ALICE)));
+    }
+
+    @Test
+    public void replacePersons_editedPersons_replacedInPlace() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.replacePersons(Map.of(ALICE, editedAlice));
+        assertEquals(Arrays.asList(editedAlice, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replacePersons_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person aliceAsBob = new PersonBuilder(BOB).withName("Alice").build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replacePersons(Map.of(ALICE,
+                aliceAsBob)));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void searchIndex_followsListModifications() {
+        PersonSearchIndex index = uniquePersonList.getSearchIndex();
+        uniquePersonList.add(ALICE);
+        assertEquals(Set.of(ALICE), index.lookupPhoneticName("Alyce"));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertTrue(index.lookupPhoneticName("Alyce").isEmpty());
+        assertEquals(Set.of(renamedAlice), index.lookupPhoneticName("Paulin"));
+
+        uniquePersonList.remove(renamedAlice);
+        assertTrue(index.lookupPhoneticName("Paulin").isEmpty());
+
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(Set.of(BOB), index.lookupPhoneticName("Bob"));
+    }
 }
@@ -0,0 +1,178 @@
+package seedu.address.model.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Status;
+import seedu.address.model.position.Title;
+import seedu.address.testutil.InterviewBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class HiringAggregatesTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final HiringAggregates aggregates = new HiringAggregates(clock);
+
+    @Test
+    public void onPersonChanged_addEditRemove_countsByPositionAndStatus() {
+        PersonRecord alice = person(0, new PersonBuilder().withName("Alice").withPositions("Accountant"));
+        PersonRecord bob = person(1, new PersonBuilder().withName("Bob").withPositions("Accountant", "Cook"));
+        PersonRecord carl = person(2, new PersonBuilder().withName("Carl").withPositions("cook"));
+        aggregates.onPersonChanged(null, alice);
+        aggregates.onPersonChanged(null, bob);
+        aggregates.onPersonChanged(null, carl);
+
+        HiringFunnel funnel = aggregates.getFunnel();
+        assertEquals(List.of(new Title("Accountant"), new Title("Cook")), funnel.getPositionTitles());
+        assertEquals(2, funnel.getCandidateCount(0, Status.APPLIED));
+        // titles are told apart ignoring case
+        assertEquals(2, funnel.getCandidateCount(1, Status.APPLIED));
+        assertEquals(3, funnel.getCandidateCount(Status.APPLIED));
+
+        PersonRecord rejectedAlice = person(0, new PersonBuilder().withName("Alice").withPositions("Accountant")
+                .withStatus("Rejected"));
+        aggregates.onPersonChanged(alice, rejectedAlice);
+        aggregates.onPersonChanged(bob, null);
+        aggregates.onPersonChanged(carl, null);
+
+        funnel = aggregates.getFunnel();
+        // positions no candidate applies for any more are left out
+        assertEquals(List.of(new Title("Accountant")), funnel.getPositionTitles());
+        assertEquals(0, funnel.getCandidateCount(0, Status.APPLIED));
+        assertEquals(1, funnel.getCandidateCount(0, Status.REJECTED));
+        assertEquals(0, funnel.getCandidateCount(Status.APPLIED));
+        assertEquals(1, funnel.getCandidateCount(Status.REJECTED));
+    }
+
+    @Test
+    public void onInterviewChanged_interviewsInDifferentWeeks_countedByWeek() {
+        // 18 Oct 2021 is a Monday
+        LocalDate monday = LocalDate.of(2021, 10, 18);
+        InterviewRecord sunday = interview(0, monday.minusDays(1));
+        InterviewRecord thisWeek = interview(1, monday);
+        InterviewRecord laterWeek = interview(2, monday.plusWeeks(5));
+        InterviewRecord earlierWeek = interview(3, monday.minusWeeks(5));
+        aggregates.onInterviewChanged(null, thisWeek);
+        aggregates.onInterviewChanged(null, laterWeek);
+        aggregates.onInterviewChanged(null, earlierWeek);
+        aggregates.onInterviewChanged(null, sunday);
+        aggregates.onInterviewChanged(null, interview(4, monday.plusDays(6)));
+
+        HiringFunnel funnel = aggregates.getFunnel();
+        assertEquals(2, funnel.getInterviewCount(monday.plusDays(3)));
+        assertEquals(1, funnel.getInterviewCount(monday.minusDays(1)));
+        assertEquals(1, funnel.getInterviewCount(monday.plusWeeks(5)));
+        assertEquals(1, funnel.getInterviewCount(monday.minusWeeks(5)));
+        assertEquals(0, funnel.getInterviewCount(monday.plusWeeks(2)));
+        assertEquals(0, funnel.getInterviewCount(monday.plusYears(10)));
+
+        aggregates.onInterviewChanged(thisWeek, interview(1, monday.plusWeeks(2)));
+        funnel = aggregates.getFunnel();
+        assertEquals(1, funnel.getInterviewCount(monday));
+        assertEquals(1, funnel.getInterviewCount(monday.plusWeeks(2)));
+    }
+
+    @Test
+    public void onPersonChanged_scheduledThenUnscheduled_timeToScheduleCountedAndTakenBack() {
+        PersonRecord applied = person(0, new PersonBuilder());
+        PersonRecord scheduled = person(0, new PersonBuilder().withStatus("Scheduled"));
+        aggregates.onPersonChanged(null, applied);
+        clock.advance(Duration.ofHours(3));
+        aggregates.onPersonChanged(applied, scheduled);
+
+        HiringFunnel funnel = aggregates.getFunnel();
+        assertEquals(0, funnel.getTimeToScheduleCount(0));
+        assertEquals(1, funnel.getTimeToScheduleCount(1));
+
+        aggregates.onPersonChanged(scheduled, applied);
+        assertEquals(0, aggregates.getFunnel().getTimeToScheduleCount(1));
+
+        // the time is measured from when the candidate was first seen applying
+        clock.advance(Duration.ofDays(7));
+        aggregates.onPersonChanged(applied, scheduled);
+        assertEquals(1, aggregates.getFunnel().getTimeToScheduleCount(3));
+    }
+
+    @Test
+    public void forgetCandidate_idGivenToNewCandidate_timeMeasuredFromNewCandidate() {
+        PersonRecord applied = person(0, new PersonBuilder());
+        aggregates.onPersonChanged(null, applied);
+        clock.advance(Duration.ofDays(7));
+        aggregates.onPersonChanged(applied, null);
+        aggregates.forgetCandidate(0);
+
+        PersonRecord newApplied = person(0, new PersonBuilder().withEmail("new@example.com"));
+        PersonRecord newScheduled = person(0, new PersonBuilder().withEmail("new@example.com").withStatus("Scheduled"));
+        aggregates.onPersonChanged(null, newApplied);
+        clock.advance(Duration.ofMinutes(30));
+        aggregates.onPersonChanged(newApplied, newScheduled);
+
+        assertEquals(1, aggregates.getFunnel().getTimeToScheduleCount(0));
+        assertEquals(0, aggregates.getFunnel().getTimeToScheduleCount(3));
+    }
+
+    @Test
+    public void onPersonChanged_manyCandidates_arraysGrow() {
+        for (int id = 0; id < 100; id++) {
+            aggregates.onPersonChanged(null, person(id, new PersonBuilder().withEmail("c" + id + "@example.com")
+                    .withPositions("Position " + id)));
+        }
+        HiringFunnel funnel = aggregates.getFunnel();
+        assertEquals(100, funnel.getPositionTitles().size());
+        assertEquals(1, funnel.getCandidateCount(99, Status.APPLIED));
+        assertEquals(100, funnel.getCandidateCount(Status.APPLIED));
+    }
+
+    @Test
+    public void getFunnel_unchanged_sameFunnel() {
+        aggregates.onPersonChanged(null, person(0, new PersonBuilder()));
+        HiringFunnel funnel = aggregates.getFunnel();
+        assertSame(funnel, aggregates.getFunnel());
+    }
+
+    private static PersonRecord person(int id, PersonBuilder builder) {
+        Person person = builder.build();
+        return PersonRecord.of(id, person);
+    }
+
+    private static InterviewRecord interview(int id, LocalDate date) {
+        return InterviewRecord.of(id, new InterviewBuilder().withDate(date).build());
+    }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2021-10-18T09:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.storage.JsonAdaptedInterview.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 import static seedu.address.testutil.TypicalPositions.ADMIN_ASSISTANT;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -13,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.interview.Interview;
 import seedu.address.model.interview.Interview.InterviewStatus;
+import seedu.address.model.interview.Interviewer;
+import seedu.address.model.interview.Room;
 import seedu.address.model.position.Position;
 import seedu.address.model.position.Title;
 
@@ -29,6 +34,8 @@ class JsonAdaptedInterviewTest {
     private static final String VALID_DURATION = "120";
     private static final String VALID_POSITION = ADMIN_ASSISTANT.getTitle().fullTitle;
     private static final InterviewStatus VALID_INTERVIEW_STATUS_PENDING = InterviewStatus.PENDING;
+    private static final String VALID_ROOM = "Meeting Room 2";
+    private static final List<String> VALID_INTERVIEWERS = List.of("Jane Tan", "Raj Kumar");
     private static final Set<String> VALID_CANDIDATE_ID_SET = getTypicalPersons().stream()
             .map(p -> String.valueOf(p.hashCode())).collect(Collectors.toSet());
 
@@ -36,7 +43,7 @@ class JsonAdaptedInterviewTest {
     public void toModelType_invalidPositionName_throwsIllegalValueException() {
         JsonAdaptedInterview interview =
                 new JsonAdaptedInterview(INVALID_TITLE, VALID_CANDIDATE_ID_SET,
-                        VALID_DATE, VALID_TIME, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING);
+                        VALID_DATE, VALID_TIME, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING, null, null);
         String expectedMessage = Title.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -45,7 +52,7 @@ class JsonAdaptedInterviewTest {
     public void toModelType_nullPositionName_throwsIllegalValueException() {
         JsonAdaptedInterview interview =
                 new JsonAdaptedInterview(null, VALID_CANDIDATE_ID_SET,
-                        VALID_DATE, VALID_TIME, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING);
+                        VALID_DATE, VALID_TIME, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Position.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -54,7 +61,8 @@ class JsonAdaptedInterviewTest {
     public void toModelType_invalidDateFormat_throwsIllegalValueException() {
         JsonAdaptedInterview interview =
                 new JsonAdaptedInterview(VALID_POSITION, VALID_CANDIDATE_ID_SET,
-                        INVALID_DATE_WRONG_ORDER, VALID_TIME, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING);
+                        INVALID_DATE_WRONG_ORDER, VALID_TIME, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING,
+                        null, null);
         String expectedMessage = Interview.MESSAGE_DATE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -63,7 +71,8 @@ class JsonAdaptedInterviewTest {
     public void toModelType_invalidDate_throwsIllegalValueException() {
         JsonAdaptedInterview interview =
                 new JsonAdaptedInterview(VALID_POSITION, VALID_CANDIDATE_ID_SET,
-                        INVALID_DATE_NOT_A_DATE, VALID_TIME, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING);
+                        INVALID_DATE_NOT_A_DATE, VALID_TIME, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING,
+                        null, null);
         String expectedMessage = Interview.MESSAGE_DATE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -72,7 +81,7 @@ class JsonAdaptedInterviewTest {
     public void toModelType_nullDate_throwsIllegalValueException() {
         JsonAdaptedInterview interview =
                 new JsonAdaptedInterview(VALID_POSITION, VALID_CANDIDATE_ID_SET,
-                        null, VALID_TIME, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING);
+                        null, VALID_TIME, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "date");
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -81,7 +90,7 @@ class JsonAdaptedInterviewTest {
     public void toModelType_invalidTimeFormat_throwsIllegalValueException() {
         JsonAdaptedInterview interview =
                 new JsonAdaptedInterview(VALID_POSITION, VALID_CANDIDATE_ID_SET,
-                        VALID_DATE, INVALID_TIME_HAS_COLON, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING);
+                        VALID_DATE, INVALID_TIME_HAS_COLON, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING, null, null);
         String expectedMessage = Interview.MESSAGE_TIME_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -90,7 +99,8 @@ class JsonAdaptedInterviewTest {
     public void toModelType_invalidTime_throwsIllegalValueException() {
         JsonAdaptedInterview interview =
                 new JsonAdaptedInterview(VALID_POSITION, VALID_CANDIDATE_ID_SET,
-                        VALID_DATE, INVALID_TIME_NOT_A_TIME, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING);
+                        VALID_DATE, INVALID_TIME_NOT_A_TIME, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING,
+                        null, null);
         String expectedMessage = Interview.MESSAGE_TIME_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -99,7 +109,7 @@ class JsonAdaptedInterviewTest {
     public void toModelType_nullTime_throwsIllegalValueException() {
         JsonAdaptedInterview interview =
                 new JsonAdaptedInterview(VALID_POSITION, VALID_CANDIDATE_ID_SET,
-                        VALID_DATE, null, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING);
+                        VALID_DATE, null, VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "time");
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -108,7 +118,8 @@ class JsonAdaptedInterviewTest {
     public void toModelType_invalidDurationFormat_throwsIllegalValueException() {
         JsonAdaptedInterview interview =
                 new JsonAdaptedInterview(VALID_POSITION, VALID_CANDIDATE_ID_SET,
-                        VALID_DATE, VALID_TIME, INVALID_DURATION_NOT_NUMBER, VALID_INTERVIEW_STATUS_PENDING);
+                        VALID_DATE, VALID_TIME, INVALID_DURATION_NOT_NUMBER, VALID_INTERVIEW_STATUS_PENDING,
+                        null, null);
         String expectedMessage = Interview.MESSAGE_DURATION_CONSTRAINTS_NOT_A_NUMBER;
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -117,7 +128,7 @@ class JsonAdaptedInterviewTest {
     public void toModelType_invalidDuration_throwsIllegalValueException() {
         JsonAdaptedInterview interview =
                 new JsonAdaptedInterview(VALID_POSITION, VALID_CANDIDATE_ID_SET,
-                        VALID_DATE, VALID_TIME, INVALID_DURATION_NEGATIVE, VALID_INTERVIEW_STATUS_PENDING);
+                        VALID_DATE, VALID_TIME, INVALID_DURATION_NEGATIVE, VALID_INTERVIEW_STATUS_PENDING, null, null);
         String expectedMessage = Interview.MESSAGE_DURATION_CONSTRAINTS_INVALID_NUMBER;
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
@@ -126,16 +137,44 @@ class JsonAdaptedInterviewTest {
     public void toModelType_nullDuration_throwsIllegalValueException() {
         JsonAdaptedInterview interview =
                 new JsonAdaptedInterview(VALID_POSITION, VALID_CANDIDATE_ID_SET,
-                        VALID_DATE, VALID_TIME, null, VALID_INTERVIEW_STATUS_PENDING);
+                        VALID_DATE, VALID_TIME, null, VALID_INTERVIEW_STATUS_PENDING, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "duration");
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
 
+    @Test
+    public void toModelType_roomAndInterviewers_success() throws Exception {
+        JsonAdaptedInterview interview =
+                new JsonAdaptedInterview(VALID_POSITION, VALID_CANDIDATE_ID_SET, VALID_DATE, VALID_TIME,
+                        VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING, VALID_ROOM, VALID_INTERVIEWERS);
+        Interview modelInterview = interview.toModelType();
+        assertEquals(Optional.of(new Room(VALID_ROOM)), modelInterview.getRoom());
+        assertEquals(Set.of(new Interviewer("Jane Tan"), new Interviewer("Raj Kumar")),
+                modelInterview.getInterviewers());
+
+        JsonAdaptedInterview savedInterview = new JsonAdaptedInterview(modelInterview);
+        assertEquals(modelInterview.getRoom(), savedInterview.toModelType().getRoom());
+        assertEquals(modelInterview.getInterviewers(), savedInterview.toModelType().getInterviewers());
+    }
+
+    @Test
+    public void toModelType_invalidRoomOrInterviewer_throwsIllegalValueException() {
+        JsonAdaptedInterview invalidRoom =
+                new JsonAdaptedInterview(VALID_POSITION, VALID_CANDIDATE_ID_SET, VALID_DATE, VALID_TIME,
+                        VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING, " ", VALID_INTERVIEWERS);
+        assertThrows(IllegalValueException.class, Room.MESSAGE_CONSTRAINTS, invalidRoom::toModelType);
+
+        JsonAdaptedInterview invalidInterviewer =
+                new JsonAdaptedInterview(VALID_POSITION, VALID_CANDIDATE_ID_SET, VALID_DATE, VALID_TIME,
+                        VALID_DURATION, VALID_INTERVIEW_STATUS_PENDING, VALID_ROOM, List.of("J@ne"));
+        assertThrows(IllegalValueException.class, Interviewer.MESSAGE_CONSTRAINTS, invalidInterviewer::toModelType);
+    }
+
     @Test
     public void toModelType_nullStatus_throwsIllegalValueException() {
         JsonAdaptedInterview interview =
                 new JsonAdaptedInterview(VALID_POSITION, VALID_CANDIDATE_ID_SET,
-                        VALID_DATE, VALID_TIME, VALID_DURATION, null);
+                        VALID_DATE, VALID_TIME, VALID_DURATION, null, null, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, InterviewStatus.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, interview::toModelType);
     }
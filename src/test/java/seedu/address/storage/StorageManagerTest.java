@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.address.testutil.TypicalPersons.getTypicalHrManager;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,7 +28,8 @@ public class StorageManagerTest {
         JsonHrManagerStorage hrManagerStorage = new JsonHrManagerStorage(getTempFilePath("abc"),
                 getTempFilePath("abp"), getTempFilePath("abi"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
-        storageManager = new StorageManager(hrManagerStorage, userPrefsStorage);
+        TextCommandHistoryStorage commandHistoryStorage = new TextCommandHistoryStorage(getTempFilePath("history"));
+        storageManager = new StorageManager(hrManagerStorage, userPrefsStorage, commandHistoryStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -61,6 +63,14 @@ public class StorageManagerTest {
         assertEquals(original, new HrManager(retrieved));
     }
 
+    @Test
+    public void commandHistoryReadAppend() throws Exception {
+        // More extensive testing of command history storage is done in {@link TextCommandHistoryStorageTest} class.
+        storageManager.appendCommandHistory("list_c");
+        storageManager.appendCommandHistory("find_c name=alice");
+        assertEquals(List.of("list_c", "find_c name=alice"), storageManager.readCommandHistory());
+    }
+
     @Test
     public void getHrManagerCandidatesFilePath() {
         assertNotNull(storageManager.getHrManagerCandidatesFilePath());
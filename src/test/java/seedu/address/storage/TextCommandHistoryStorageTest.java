@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TextCommandHistoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readCommandHistory_missingFile_emptyResult() throws Exception {
+        assertEquals(List.of(), new TextCommandHistoryStorage(testFolder.resolve("missing.txt")).readCommandHistory());
+    }
+
+    @Test
+    public void appendCommandHistory_missingFolder_createdAndAppended() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("history.txt");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath);
+        storage.appendCommandHistory("list_c");
+        storage.appendCommandHistory("find_c name=Alex Yeoh");
+        assertEquals(List.of("list_c", "find_c name=Alex Yeoh"), storage.readCommandHistory());
+
+        // the commands already saved are kept by a new storage of the same file
+        new TextCommandHistoryStorage(filePath).appendCommandHistory("undo");
+        assertEquals(List.of("list_c", "find_c name=Alex Yeoh", "undo"), storage.readCommandHistory());
+        assertEquals(3, Files.readAllLines(filePath).size());
+    }
+
+    @Test
+    public void appendCommandHistory_multipleLines_throwsIllegalArgumentException() {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(testFolder.resolve("history.txt"));
+        assertThrows(IllegalArgumentException.class, () -> storage.appendCommandHistory("list_c\nlist_p"));
+        assertThrows(NullPointerException.class, () -> storage.appendCommandHistory(null));
+    }
+}
@@ -3,10 +3,14 @@ package seedu.address.testutil;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.Interviewer;
+import seedu.address.model.interview.Room;
 import seedu.address.model.person.Person;
 import seedu.address.model.position.Position;
 
@@ -22,6 +26,8 @@ public class InterviewBuilder {
     private LocalTime startTime = LocalTime.of(10, 0);
     private Duration duration = Duration.ofHours(1);
     private Interview.InterviewStatus status = Interview.InterviewStatus.PENDING;
+    private Room room;
+    private Set<Interviewer> interviewers = new HashSet<>();
 
     /**
      * Creates a {@code InterviewBuilder} with the default details.
@@ -38,6 +44,8 @@ public class InterviewBuilder {
         startTime = interviewToCopy.getStartTime();
         duration = interviewToCopy.getDuration();
         status = interviewToCopy.getStatus();
+        room = interviewToCopy.getRoom().orElse(null);
+        interviewers = new HashSet<>(interviewToCopy.getInterviewers());
     }
 
     /**
@@ -88,8 +96,25 @@ public class InterviewBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Room} of the {@code Interview} that we are building.
+     */
+    public InterviewBuilder withRoom(String room) {
+        this.room = new Room(room);
+        return this;
+    }
+
+    /**
+     * Parses the {@code interviewers} into a {@code Set<Interviewer>} and set it to the {@code Interview}
+     * that we are building.
+     */
+    public InterviewBuilder withInterviewers(String... interviewers) {
+        this.interviewers = Arrays.stream(interviewers).map(Interviewer::new).collect(Collectors.toSet());
+        return this;
+    }
+
     public Interview build() {
-        return new Interview(position, candidates, localDate, startTime, duration, status);
+        return new Interview(position, candidates, localDate, startTime, duration, status, room, interviewers);
     }
 
 }
@@ -1,17 +1,31 @@
 package seedu.address.testutil;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
+import seedu.address.model.PagedList;
 import seedu.address.model.ReadOnlyHrManager;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.interview.Interview;
+import seedu.address.model.interview.InterviewCalendar;
+import seedu.address.model.interview.Interviewer;
+import seedu.address.model.interview.Room;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.position.Position;
+import seedu.address.model.snapshot.HrManagerSnapshot;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -123,11 +137,31 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateSortedPositionList(Comparator<Position> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public PagedList<Position> getPagedPositionList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deletePerson(Person target) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Person> deletePersons(Predicate<Person> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         throw new AssertionError("This method should not be called.");
@@ -143,6 +177,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateSortedPersonList(Comparator<Person> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public PagedList<Person> getPagedPersonList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     public void deletePositionFromPerson(Position p) {
         throw new AssertionError("This method should not be called.");
     }
@@ -184,6 +228,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateSortedInterviewList(Comparator<Interview> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public PagedList<Interview> getPagedInterviewList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public InterviewCalendar getInterviewCalendar() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     public void deleteInterviewFromPerson(Interview i) {
         throw new AssertionError("This method should not be called.");
     }
@@ -191,4 +250,104 @@ public class ModelStub implements Model {
     public void deletePersonFromInterview(Person p) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public PersonSearchIndex getPersonSearchIndex() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addPositionToPerson(Person person, Position position) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void removePositionFromPerson(Person person, Position position) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addInterviewToPerson(Person person, Interview interview) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void removeInterviewFromPerson(Person person, Interview interview) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addCandidateToInterview(Interview interview, Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void removeCandidateFromInterview(Interview interview, Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setInterviewCandidates(Interview interview, Set<Person> candidates) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setInterviewPosition(Interview interview, Position position) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Interview> getInterviewsDuring(LocalDate date, LocalTime startTime, Duration duration) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Interviewer> getInterviewers() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Room> getRooms() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void beginBatch() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commit() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void rollback() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isInBatch() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setPageRefresher(Executor executor) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean undo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean redo() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public HrManagerSnapshot getSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
 }
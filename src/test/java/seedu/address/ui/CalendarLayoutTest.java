@@ -0,0 +1,82 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.interview.Interview;
+import seedu.address.testutil.InterviewBuilder;
+
+public class CalendarLayoutTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2021, 10, 18);
+
+    @Test
+    public void constructor_noInterviews_showsWorkingDay() {
+        CalendarLayout layout = new CalendarLayout(MONDAY, 7, List.of());
+        assertTrue(layout.getBlocks().isEmpty());
+        assertEquals(CalendarLayout.DEFAULT_FIRST_MINUTE, layout.getFirstMinute());
+        assertEquals(CalendarLayout.DEFAULT_LAST_MINUTE, layout.getLastMinute());
+    }
+
+    @Test
+    public void constructor_overlappingInterviews_placedInLanes() {
+        Interview first = interview(MONDAY, LocalTime.of(10, 0), 60);
+        Interview second = interview(MONDAY, LocalTime.of(10, 30), 60);
+        Interview third = interview(MONDAY, LocalTime.of(11, 0), 30);
+        Interview later = interview(MONDAY, LocalTime.of(14, 0), 30);
+        Interview tuesday = interview(MONDAY.plusDays(1), LocalTime.of(10, 0), 60);
+
+        List<CalendarLayout.Block> blocks = new CalendarLayout(MONDAY, 7,
+                List.of(later, third, second, first, tuesday)).getBlocks();
+
+        assertEquals(5, blocks.size());
+        assertBlock(blocks.get(0), first, 0, 0, 2);
+        assertBlock(blocks.get(1), second, 0, 1, 2);
+        // The first interview has ended, so the third takes its lane.
+        assertBlock(blocks.get(2), third, 0, 0, 2);
+        assertBlock(blocks.get(3), later, 0, 0, 1);
+        assertBlock(blocks.get(4), tuesday, 1, 0, 1);
+    }
+
+    @Test
+    public void constructor_interviewPastMidnight_splitAcrossDays() {
+        Interview lateNight = interview(MONDAY, LocalTime.of(23, 30), 60);
+        Interview beforePeriod = interview(MONDAY.minusDays(1), LocalTime.of(10, 0), 60);
+        Interview afterPeriod = interview(MONDAY.plusDays(1), LocalTime.of(10, 0), 60);
+
+        CalendarLayout layout = new CalendarLayout(MONDAY, 2, List.of(beforePeriod, lateNight, afterPeriod));
+        List<CalendarLayout.Block> blocks = layout.getBlocks();
+
+        assertEquals(3, blocks.size());
+        assertEquals(23 * 60 + 30, blocks.get(0).getStartMinute());
+        assertEquals(24 * 60, blocks.get(0).getEndMinute());
+        assertEquals(0, blocks.get(1).getStartMinute());
+        assertEquals(30, blocks.get(1).getEndMinute());
+        assertEquals(1, blocks.get(1).getDay());
+        assertSame(afterPeriod, blocks.get(2).getInterview());
+        // The hours shown stretch to fit the interviews outside the working day.
+        assertEquals(0, layout.getFirstMinute());
+        assertEquals(24 * 60, layout.getLastMinute());
+    }
+
+    private static void assertBlock(CalendarLayout.Block block, Interview interview, int day, int lane,
+            int laneCount) {
+        assertSame(interview, block.getInterview());
+        assertEquals(day, block.getDay());
+        assertEquals(lane, block.getLane());
+        assertEquals(laneCount, block.getLaneCount());
+    }
+
+    private static Interview interview(LocalDate date, LocalTime startTime, int minutes) {
+        return new InterviewBuilder().withDate(date).withStartTime(startTime)
+                .withDuration(Duration.ofMinutes(minutes)).build();
+    }
+}
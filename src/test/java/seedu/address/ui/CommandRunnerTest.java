@@ -0,0 +1,173 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandResult;
+import seedu.address.logic.candidate.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CommandRunnerTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        worker.shutdownNow();
+    }
+
+    @Test
+    public void submit_success_completesWithResult() throws Exception {
+        CommandRunner runner = new CommandRunner(commandText -> result(commandText), worker, Runnable::run);
+
+        CommandResult result = await(runner.submit("list_c").toCompletableFuture());
+
+        assertEquals(result("list_c"), result);
+        assertFalse(runner.runningProperty().get());
+    }
+
+    @Test
+    public void submit_commandFails_completesExceptionally() throws Exception {
+        CommandRunner runner = new CommandRunner(commandText -> {
+            throw new ParseException("invalid");
+        }, worker, Runnable::run);
+
+        Throwable error = awaitError(runner.submit("invalid").toCompletableFuture());
+
+        assertTrue(error instanceof ParseException);
+        assertEquals("invalid", error.getMessage());
+        assertFalse(runner.runningProperty().get());
+    }
+
+    @Test
+    public void submit_error_completesExceptionallyAndStopsRunning() throws Exception {
+        CommandRunner runner = new CommandRunner(commandText -> {
+            throw new AssertionError();
+        }, worker, Runnable::run);
+
+        Throwable error = awaitError(runner.submit("list_c").toCompletableFuture());
+
+        assertTrue(error instanceof AssertionError);
+        assertFalse(runner.runningProperty().get());
+    }
+
+    @Test
+    public void submit_whileRunning_isRunning() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CommandRunner runner = new CommandRunner(commandText -> {
+            awaitUninterruptibly(release);
+            return result(commandText);
+        }, worker, Runnable::run);
+
+        CompletableFuture<CommandResult> result = runner.submit("list_c").toCompletableFuture();
+        assertTrue(runner.runningProperty().get());
+
+        release.countDown();
+        await(result);
+        assertFalse(runner.runningProperty().get());
+    }
+
+    @Test
+    public void cancel_runningCommand_completesWithCancelledMessage() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CommandRunner runner = new CommandRunner(commandText -> {
+            started.countDown();
+            blockUntilInterrupted();
+            throw new CancellationException();
+        }, worker, Runnable::run);
+
+        CompletableFuture<CommandResult> result = runner.submit("delete_c 1").toCompletableFuture();
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        runner.cancel();
+
+        Throwable error = awaitError(result);
+        assertTrue(error instanceof CommandException);
+        assertEquals(CommandRunner.MESSAGE_CANCELLED, error.getMessage());
+    }
+
+    @Test
+    public void cancel_beforeCommandStarts_cancelsCommand() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        worker.execute(() -> awaitUninterruptibly(release));
+        CommandRunner runner = new CommandRunner(commandText -> {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+            return result(commandText);
+        }, worker, Runnable::run);
+
+        CompletableFuture<CommandResult> result = runner.submit("list_c").toCompletableFuture();
+        runner.cancel();
+        release.countDown();
+
+        assertEquals(CommandRunner.MESSAGE_CANCELLED, awaitError(result).getMessage());
+    }
+
+    @Test
+    public void submit_afterCancel_runsNextCommand() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CommandRunner runner = new CommandRunner(commandText -> {
+            if (commandText.equals("slow")) {
+                started.countDown();
+                blockUntilInterrupted();
+                throw new CancellationException();
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+            return result(commandText);
+        }, worker, Runnable::run);
+
+        CompletableFuture<CommandResult> slow = runner.submit("slow").toCompletableFuture();
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        runner.cancel();
+        awaitError(slow);
+
+        assertEquals(result("list_c"), await(runner.submit("list_c").toCompletableFuture()));
+    }
+
+    private static CommandResult result(String commandText) {
+        return new CommandResult(commandText, CommandResult.CommandType.GENERAL);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void blockUntilInterrupted() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static CommandResult await(CompletableFuture<CommandResult> result) throws Exception {
+        return result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static Throwable awaitError(CompletableFuture<CommandResult> result) throws Exception {
+        try {
+            result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        throw new AssertionError("The command should have failed.");
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class FrameStatsTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    @Test
+    public void getFramesPerSecond_noFrames_zero() {
+        FrameStats stats = new FrameStats();
+        assertEquals(0, stats.getFramesPerSecond());
+        assertEquals(0, stats.getAverageMillis());
+        assertEquals(0, stats.getMaxMillis());
+    }
+
+    @Test
+    public void record_steadyFrames_figuresOfFrames() {
+        FrameStats stats = new FrameStats();
+        for (int i = 0; i < 10; i++) {
+            stats.record(20 * MILLIS);
+        }
+        assertEquals(50, stats.getFramesPerSecond(), 1e-9);
+        assertEquals(20, stats.getAverageMillis(), 1e-9);
+        assertEquals(20, stats.getMaxMillis(), 1e-9);
+        assertEquals(0, stats.getSlowFrameCount());
+    }
+
+    @Test
+    public void record_moreFramesThanWindow_oldFramesDropped() {
+        FrameStats stats = new FrameStats();
+        stats.record(250 * MILLIS);
+        for (int i = 0; i < FrameStats.WINDOW_SIZE; i++) {
+            stats.record(10 * MILLIS);
+        }
+        assertEquals(100, stats.getFramesPerSecond(), 1e-9);
+        assertEquals(10, stats.getMaxMillis(), 1e-9);
+        // slow frames are counted over all time
+        assertEquals(1, stats.getSlowFrameCount());
+    }
+}
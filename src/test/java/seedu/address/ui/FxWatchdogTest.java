@@ -0,0 +1,63 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+public class FxWatchdogTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    private final Queue<Runnable> uiTasks = new ArrayDeque<>();
+    private long now;
+    private final FxWatchdog watchdog = new FxWatchdog(uiTasks::add, Thread.currentThread(), () -> "list_c",
+            FxWatchdog.DEFAULT_THRESHOLD_MILLIS, () -> now);
+
+    @Test
+    public void check_uiThreadAnswers_noStall() {
+        for (int i = 0; i < 10; i++) {
+            watchdog.check();
+            now += FxWatchdog.CHECK_INTERVAL_MILLIS * MILLIS;
+            runUiTasks();
+            watchdog.check();
+        }
+        assertEquals(0, watchdog.getStallCount());
+        assertEquals(0, watchdog.getLongestStallMillis());
+    }
+
+    @Test
+    public void check_uiThreadBlocked_stallCountedOnceAndTimed() {
+        watchdog.check();
+        for (int i = 0; i < 10; i++) {
+            now += FxWatchdog.CHECK_INTERVAL_MILLIS * MILLIS;
+            watchdog.check();
+        }
+        assertEquals(1, watchdog.getStallCount());
+        // the stall has not ended yet
+        assertEquals(0, watchdog.getLongestStallMillis());
+
+        runUiTasks();
+        watchdog.check();
+        assertEquals(1, watchdog.getStallCount());
+        assertEquals(1000, watchdog.getLongestStallMillis());
+    }
+
+    @Test
+    public void check_shortDelay_notAStall() {
+        watchdog.check();
+        now += (FxWatchdog.DEFAULT_THRESHOLD_MILLIS - 1) * MILLIS;
+        watchdog.check();
+        runUiTasks();
+        watchdog.check();
+        assertEquals(0, watchdog.getStallCount());
+    }
+
+    private void runUiTasks() {
+        while (!uiTasks.isEmpty()) {
+            uiTasks.poll().run();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import seedu.address.logic.CommandResult.CommandType;
+import seedu.address.ui.ViewStateController.Panel;
+
+public class ViewStateControllerTest {
+
+    private static final Path CANDIDATES_FILE = Paths.get("data", "candidates.json");
+    private static final Path POSITIONS_FILE = Paths.get("data", "positions.json");
+    private static final Path INTERVIEWS_FILE = Paths.get("data", "interviews.json");
+
+    private final Map<Panel, PanelStub> panels = new EnumMap<>(Panel.class);
+    private final Map<Panel, StackPane> placeholders = new EnumMap<>(Panel.class);
+    private ViewStateController viewState;
+
+    @BeforeEach
+    public void setUp() {
+        viewState = new ViewStateController(CANDIDATES_FILE, POSITIONS_FILE, INTERVIEWS_FILE);
+        for (Panel panel : Panel.values()) {
+            panels.put(panel, new PanelStub());
+            placeholders.put(panel, new StackPane());
+            viewState.attach(panel, panels.get(panel), placeholders.get(panel));
+        }
+    }
+
+    @Test
+    public void handle_findThenList_updatesTitleInPlace() {
+        viewState.handle(CommandType.FIND_C);
+        assertEquals("Candidates (filtered)", viewState.titleProperty(Panel.CANDIDATES).get());
+        assertEquals("Positions", viewState.titleProperty(Panel.POSITIONS).get());
+        assertEquals(1, panels.get(Panel.CANDIDATES).refreshCount);
+
+        viewState.handle(CommandType.LIST_C);
+        assertEquals("Candidates", viewState.titleProperty(Panel.CANDIDATES).get());
+        assertEquals(2, panels.get(Panel.CANDIDATES).refreshCount);
+    }
+
+    @Test
+    public void handle_list_showsSaveLocationOfList() {
+        viewState.handle(CommandType.LIST_P);
+        assertEquals(Paths.get(".").resolve(POSITIONS_FILE).toString(), viewState.saveLocationProperty().get());
+        viewState.handle(CommandType.FIND_I);
+        assertEquals(Paths.get(".").resolve(INTERVIEWS_FILE).toString(), viewState.saveLocationProperty().get());
+    }
+
+    @Test
+    public void handle_position_refreshesAffectedPanelsOnly() {
+        viewState.handle(CommandType.INTERVIEW);
+        assertEquals(0, panels.get(Panel.POSITIONS).refreshCount);
+        assertEquals(1, panels.get(Panel.CANDIDATES).refreshCount);
+        assertEquals(1, panels.get(Panel.INTERVIEWS).refreshCount);
+
+        viewState.handle(CommandType.POSITION);
+        for (PanelStub panel : panels.values()) {
+            assertTrue(panel.refreshCount > 0);
+        }
+    }
+
+    @Test
+    public void handle_calendarThenList_swapsCalendarWithInterviewList() {
+        PanelStub calendar = new PanelStub();
+        viewState.attachCalendar(calendar);
+
+        viewState.handle(CommandType.CALENDAR);
+        assertSame(calendar.getRoot(), placeholders.get(Panel.INTERVIEWS).getChildren().get(0));
+        assertEquals("Interview Calendar", viewState.titleProperty(Panel.INTERVIEWS).get());
+        assertEquals(1, calendar.refreshCount);
+
+        viewState.handle(CommandType.INTERVIEW);
+        assertEquals(2, calendar.refreshCount);
+        assertEquals(0, panels.get(Panel.INTERVIEWS).refreshCount);
+
+        viewState.handle(CommandType.LIST_I);
+        assertEquals(1, placeholders.get(Panel.INTERVIEWS).getChildren().size());
+        assertSame(panels.get(Panel.INTERVIEWS).getRoot(), placeholders.get(Panel.INTERVIEWS).getChildren().get(0));
+        assertEquals("Interviews", viewState.titleProperty(Panel.INTERVIEWS).get());
+    }
+
+    @Test
+    public void handle_dashboardThenOtherCommands_dashboardRedrawnUntilPositionsListed() {
+        PanelStub dashboard = new PanelStub();
+        viewState.attachDashboard(dashboard);
+
+        viewState.handle(CommandType.DASHBOARD);
+        assertSame(dashboard.getRoot(), placeholders.get(Panel.POSITIONS).getChildren().get(0));
+        assertEquals("Hiring Dashboard", viewState.titleProperty(Panel.POSITIONS).get());
+        assertEquals(1, dashboard.refreshCount);
+
+        viewState.handle(CommandType.CANDIDATE);
+        assertEquals(2, dashboard.refreshCount);
+        assertEquals(0, panels.get(Panel.POSITIONS).refreshCount);
+
+        viewState.handle(CommandType.FIND_P);
+        assertSame(panels.get(Panel.POSITIONS).getRoot(), placeholders.get(Panel.POSITIONS).getChildren().get(0));
+        assertEquals("Positions (filtered)", viewState.titleProperty(Panel.POSITIONS).get());
+        viewState.handle(CommandType.CANDIDATE);
+        assertEquals(2, dashboard.refreshCount);
+    }
+
+    @Test
+    public void handle_manyCommands_nodeCountStaysFlat() {
+        CommandType[] commandTypes = CommandType.values();
+        for (int i = 0; i < 10_000; i++) {
+            viewState.handle(commandTypes[i % commandTypes.length]);
+        }
+
+        for (Panel panel : Panel.values()) {
+            assertEquals(1, placeholders.get(panel).getChildren().size());
+            assertSame(panels.get(panel).getRoot(), placeholders.get(panel).getChildren().get(0));
+            assertEquals(0, panels.get(panel).getRoot().getChildren().size());
+        }
+    }
+
+    /**
+     * A list panel that only counts how often it is redrawn.
+     */
+    private static class PanelStub implements DisplayListPanel<Node> {
+        private final Pane root = new Pane();
+        private int refreshCount;
+
+        @Override
+        public Pane getRoot() {
+            return root;
+        }
+
+        @Override
+        public void refresh() {
+            refreshCount++;
+        }
+    }
+}